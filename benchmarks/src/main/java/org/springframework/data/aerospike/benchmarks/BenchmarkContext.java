@@ -0,0 +1,52 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.benchmarks;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.aerospike.configuration.impl.AerospikeConfigurationsImpl;
+import org.springframework.data.aerospike.mapper.EntityMapper;
+import org.springframework.data.aerospike.mapper.EntityStructureReader;
+import org.springframework.data.aerospike.metrics.impl.MetricsRegistryImpl;
+import org.springframework.data.aerospike.serializer.impl.FSTSerializer;
+
+/**
+ * Creates the application context of the mapping benchmarks. Only the beans
+ * on the mapping path are registered: configurations, metrics, serializer,
+ * structure reader and mapper, with an {@link OfflineClient} in place of the
+ * real client. The {@link org.springframework.data.aerospike.logger.PerformanceLogger}
+ * aspect isn't registered so the benchmarks measure the mapper alone.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public final class BenchmarkContext {
+	private BenchmarkContext() {
+	}
+
+	/**
+	 * 
+	 * @return a refreshed context; the caller closes it.
+	 */
+	public static AnnotationConfigApplicationContext create() {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.register(AerospikeConfigurationsImpl.class, MetricsRegistryImpl.class, FSTSerializer.class, EntityStructureReader.class,
+				EntityMapper.class, OfflineClient.class);
+		context.refresh();
+		return context;
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.benchmarks;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.aerospike.exceptions.AerospikeException;
+import org.springframework.data.aerospike.exceptions.AerospikeRecordTooLargeException;
+import org.springframework.data.aerospike.mapper.EntityMapper;
+import org.springframework.data.aerospike.mapper.EntityStructure;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+
+/**
+ * Throughput of the {@link EntityMapper} hot paths: entity to bins on writes,
+ * record to entity on single and batch reads, and key creation. Records are
+ * built from the bins of the mapper itself, with integers widened to longs as
+ * the server returns them.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityMapperBenchmark {
+	@Param({ "NARROW", "MEDIUM", "WIDE" })
+	private EntityShape							shape;
+	/**
+	 * Records of a batch read.
+	 */
+	@Param({ "100" })
+	private int									batchSize;
+
+	private AnnotationConfigApplicationContext	context;
+	private EntityMapper						mapper;
+	private EntityStructure						structure;
+	private Class<? extends Serializable>		entityClass;
+	private Serializable						entity;
+	private Object								primaryKey;
+	private Record								record;
+	private Integer[]							batchKeys;
+	private Record[]							batchRecords;
+
+	@Setup
+	public void setUp() throws AerospikeException {
+		context = BenchmarkContext.create();
+		mapper = context.getBean(EntityMapper.class);
+		entityClass = shape.getEntityClass();
+		structure = mapper.getEntityStructure(entityClass);
+		entity = shape.create(1);
+		primaryKey = mapper.getPrimaryKey(structure, entity);
+		record = toRecord(mapper.getBins(entity));
+		batchKeys = new Integer[batchSize];
+		batchRecords = new Record[batchSize];
+		for (int i = 0; i < batchSize; i++) {
+			batchKeys[i] = Integer.valueOf(i);
+			batchRecords[i] = toRecord(mapper.getBins(shape.create(i)));
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public Bin[] getBins() throws AerospikeRecordTooLargeException {
+		return mapper.getBins(entity);
+	}
+
+	@Benchmark
+	public Serializable reverseMapRecord() {
+		return mapper.reverseMap(record, entityClass);
+	}
+
+	@Benchmark
+	public Map<Integer, Serializable> reverseMapBatch() {
+		return mapper.reverseMap(batchKeys, batchRecords, entityClass);
+	}
+
+	@Benchmark
+	public Key createKey() {
+		return mapper.createKey(structure.getNameSpace(), structure.getSet(), primaryKey);
+	}
+
+	/**
+	 * 
+	 * @param bins
+	 * @return the record the server would return for the given bins.
+	 */
+	private static Record toRecord(Bin[] bins) {
+		Map<String, Object> values = new HashMap<String, Object>(bins.length);
+		for (Bin bin : bins) {
+			Object value = bin.value.getObject();
+			values.put(bin.name, value instanceof Integer ? Long.valueOf((Integer) value) : value);
+		}
+		return new Record(values, 1, 0);
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.benchmarks;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Entities the benchmarks run with, from narrow ones stored in native bins
+ * only to wide ones with serialized collections and nested objects.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public enum EntityShape {
+	NARROW(NarrowEntity.class, "name") {
+		@Override
+		public Serializable key(int id) {
+			return Integer.valueOf(id);
+		}
+
+		@Override
+		public Serializable queryValue(int id) {
+			return "narrow-" + id;
+		}
+
+		@Override
+		public Serializable create(int id) {
+			NarrowEntity entity = new NarrowEntity();
+			entity.setId(id);
+			entity.setName("narrow-" + id);
+			entity.setUpdatedAt(TIMESTAMP + id);
+			entity.setStatus(id % 4);
+			return entity;
+		}
+	},
+	MEDIUM(MediumEntity.class, "name") {
+		@Override
+		public Serializable key(int id) {
+			return Long.valueOf(id);
+		}
+
+		@Override
+		public Serializable queryValue(int id) {
+			return "medium-" + id;
+		}
+
+		@Override
+		public Serializable create(int id) {
+			MediumEntity entity = new MediumEntity();
+			entity.setId(id);
+			entity.setName("medium-" + id);
+			entity.setEmail("user" + id + "@example.com");
+			entity.setCity("city-" + id % 100);
+			entity.setAge(20 + id % 50);
+			entity.setScore(id * 7);
+			entity.setCreatedAt(TIMESTAMP);
+			entity.setUpdatedAt(TIMESTAMP + id);
+			Map<String, String> attributes = new HashMap<String, String>();
+			for (int i = 0; i < 8; i++) {
+				attributes.put("attribute-" + i, "value-" + id + "-" + i);
+			}
+			entity.setAttributes(attributes);
+			List<Long> friendIds = new ArrayList<Long>();
+			for (int i = 0; i < 16; i++) {
+				friendIds.add(Long.valueOf(id + i));
+			}
+			entity.setFriendIds(friendIds);
+			entity.setBalance(id * 1.5);
+			entity.setActive(id % 2 == 0);
+			return entity;
+		}
+	},
+	WIDE(WideEntity.class, "title") {
+		@Override
+		public Serializable key(int id) {
+			return "wide-" + id;
+		}
+
+		@Override
+		public Serializable queryValue(int id) {
+			return "Title of item " + id;
+		}
+
+		@Override
+		public Serializable create(int id) {
+			WideEntity entity = new WideEntity();
+			entity.setId("wide-" + id);
+			entity.setTitle("Title of item " + id);
+			entity.setDescription("Short description of item " + id);
+			entity.setCategory("category-" + id % 20);
+			entity.setBrand("brand-" + id % 50);
+			entity.setCurrency("EUR");
+			entity.setCountry("DE");
+			StringBuilder description = new StringBuilder();
+			for (int i = 0; i < 20; i++) {
+				description.append("Detailed description line ").append(i).append(" of item ").append(id).append(". ");
+			}
+			entity.setDetailedDescription(description.toString());
+			entity.setCreatedAt(TIMESTAMP);
+			entity.setUpdatedAt(TIMESTAMP + id);
+			entity.setViewCount(id * 31L);
+			entity.setOrderCount(id * 3L);
+			entity.setPrice(999 + id);
+			entity.setStock(id % 1000);
+			entity.setRating(id % 5);
+			entity.setWeight(250 + id % 750);
+			byte[] thumbnail = new byte[512];
+			Arrays.fill(thumbnail, (byte) id);
+			entity.setThumbnail(thumbnail);
+			Map<Long, String> data = new HashMap<Long, String>();
+			for (int i = 0; i < 16; i++) {
+				data.put(Long.valueOf(i), "data-" + id + "-" + i);
+			}
+			entity.setData(data);
+			List<String> tags = new ArrayList<String>();
+			for (int i = 0; i < 8; i++) {
+				tags.add("tag-" + (id + i) % 64);
+			}
+			entity.setTags(tags);
+			Set<Long> relatedIds = new HashSet<Long>();
+			for (int i = 1; i <= 12; i++) {
+				relatedIds.add(Long.valueOf(id + i));
+			}
+			entity.setRelatedIds(relatedIds);
+			entity.setDiscount(0.15);
+			entity.setPublished(true);
+			entity.setLaunchDate(new Date(TIMESTAMP));
+			entity.setWarehouse(address(id));
+			List<Address> stores = new ArrayList<Address>();
+			for (int i = 0; i < 4; i++) {
+				stores.add(address(id + i));
+			}
+			entity.setStores(stores);
+			return entity;
+		}
+	};
+
+	/**
+	 * Fixed timestamp so that every run maps the same data.
+	 */
+	private static final long					TIMESTAMP	= 1500000000000L;
+	private final Class<? extends Serializable>	entityClass;
+	/**
+	 * Indexed field with a distinct value for every id.
+	 */
+	private final String						queryField;
+
+	private EntityShape(Class<? extends Serializable> entityClass, String queryField) {
+		this.entityClass = entityClass;
+		this.queryField = queryField;
+	}
+
+	public Class<? extends Serializable> getEntityClass() {
+		return entityClass;
+	}
+
+	public String getQueryField() {
+		return queryField;
+	}
+
+	/**
+	 * 
+	 * @param id
+	 * @return a new entity of this shape with the given id.
+	 */
+	public abstract Serializable create(int id);
+
+	/**
+	 * 
+	 * @param id
+	 * @return primary key of the entity created with the given id.
+	 */
+	public abstract Serializable key(int id);
+
+	/**
+	 * 
+	 * @param id
+	 * @return value of the {@link #getQueryField() query field} of the entity
+	 *         created with the given id.
+	 */
+	public abstract Serializable queryValue(int id);
+
+	/**
+	 * 
+	 * @param id
+	 * @return a new address, distinct for every id.
+	 */
+	static Address address(int id) {
+		Address address = new Address();
+		address.setStreet(id + " Main Street");
+		address.setCity("city-" + id % 100);
+		address.setZip(String.valueOf(10000 + id % 90000));
+		address.setLatitude(52.52 + id % 100 / 1000.0);
+		address.setLongitude(13.40 + id % 100 / 1000.0);
+		return address;
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.benchmarks;
+
+import java.io.Serializable;
+
+import org.springframework.data.aerospike.annotations.AerospikeEntity;
+import org.springframework.data.aerospike.annotations.AerospikeIndex;
+import org.springframework.data.aerospike.annotations.AerospikeKey;
+
+import com.aerospike.client.query.IndexType;
+
+/**
+ * Entity with a few bins, all of them stored natively.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@AerospikeEntity(nameSpace = "bench", setName = "narrow")
+public class NarrowEntity implements Serializable {
+	@AerospikeKey
+	private int		id;
+	@AerospikeIndex(name = "bench_narrow_name", indexType = IndexType.STRING)
+	private String	name;
+	private long	updatedAt;
+	private int		status;
+
+	public int getId() {
+		return id;
+	}
+
+	public void setId(int id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public long getUpdatedAt() {
+		return updatedAt;
+	}
+
+	public void setUpdatedAt(long updatedAt) {
+		this.updatedAt = updatedAt;
+	}
+
+	public int getStatus() {
+		return status;
+	}
+
+	public void setStatus(int status) {
+		this.status = status;
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.benchmarks;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.aerospike.client.Client;
+import org.springframework.data.aerospike.client.RecordCursor;
+import org.springframework.data.aerospike.mapper.EntityMapper;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.client.query.Statement;
+
+/**
+ * {@link Client} that never connects to a cluster. It only hands out the
+ * {@link EntityMapper}, which is all the mapping benchmarks need.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class OfflineClient implements Client {
+	@Autowired
+	private EntityMapper		mapper;
+
+	private final WritePolicy	writePolicy	= new WritePolicy();
+
+	@Override
+	public EntityMapper getEntityMapper() {
+		return mapper;
+	}
+
+	@Override
+	public IAerospikeClient getAerospikeClient() {
+		throw new UnsupportedOperationException("Benchmarks don't connect to aerospike");
+	}
+
+	@Override
+	public void reloadAerospikePolicies() {
+	}
+
+	@Override
+	public void initialize() {
+	}
+
+	@Override
+	public WritePolicy getDefaultWritePolicy() {
+		return writePolicy;
+	}
+
+	@Override
+	public RecordCursor query(QueryPolicy policy, Statement statement) {
+		throw new UnsupportedOperationException("Benchmarks don't connect to aerospike");
+	}
+}
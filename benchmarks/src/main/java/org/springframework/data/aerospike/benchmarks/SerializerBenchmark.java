@@ -0,0 +1,113 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.aerospike.exceptions.SerializationException;
+import org.springframework.data.aerospike.serializer.Serializer;
+import org.springframework.data.aerospike.serializer.impl.FSTSerializer;
+
+/**
+ * Throughput of {@link FSTSerializer} on the kinds of values the mapper
+ * serializes: maps, lists of nested objects and single nested objects, each
+ * with a growing number of elements.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializerBenchmark {
+	/**
+	 * map: Map of Long to String, list: List of {@link Address}, object: a
+	 * {@link WideEntity} with that many stores.
+	 */
+	@Param({ "map", "list", "object" })
+	private String		payload;
+	@Param({ "8", "128" })
+	private int			elements;
+
+	private Serializer	serializer;
+	private Object		value;
+	private byte[]		data;
+
+	@Setup
+	public void setUp() throws SerializationException {
+		serializer = new FSTSerializer();
+		value = createPayload();
+		data = serializer.doSerialize(Object.class, value);
+	}
+
+	@Benchmark
+	public byte[] serialize() throws SerializationException {
+		return serializer.doSerialize(Object.class, value);
+	}
+
+	@Benchmark
+	public Object deserialize() throws SerializationException {
+		return serializer.doDeserialize(data, Object.class);
+	}
+
+	@Benchmark
+	public Object roundTrip() throws SerializationException {
+		return serializer.doDeserialize(serializer.doSerialize(Object.class, value), Object.class);
+	}
+
+	private Object createPayload() {
+		if ("map".equals(payload)) {
+			Map<Long, String> map = new HashMap<Long, String>(elements * 2);
+			for (int i = 0; i < elements; i++) {
+				map.put(Long.valueOf(i), "value-" + i);
+			}
+			return map;
+		}
+		WideEntity entity = (WideEntity) EntityShape.WIDE.create(elements);
+		List<Address> stores = new ArrayList<Address>(elements);
+		for (int i = 0; i < elements; i++) {
+			stores.add(EntityShape.address(i));
+		}
+		if ("list".equals(payload)) {
+			return stores;
+		}
+		if ("object".equals(payload)) {
+			entity.setStores(stores);
+			return entity;
+		}
+		throw new IllegalArgumentException("Unknown payload: " + payload);
+	}
+}
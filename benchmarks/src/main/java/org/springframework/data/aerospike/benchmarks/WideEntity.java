@@ -0,0 +1,268 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.benchmarks;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.aerospike.annotations.AerospikeEntity;
+import org.springframework.data.aerospike.annotations.AerospikeIndex;
+import org.springframework.data.aerospike.annotations.AerospikeKey;
+
+import com.aerospike.client.query.IndexType;
+
+/**
+ * Entity with two dozen bins, a third of them serialized, including nested
+ * objects. One field name is longer than a bin name can be and is shortened.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@AerospikeEntity(nameSpace = "bench", setName = "wide")
+public class WideEntity implements Serializable {
+	@AerospikeKey
+	private String				id;
+	@AerospikeIndex(name = "bench_wide_title", indexType = IndexType.STRING)
+	private String				title;
+	private String				description;
+	private String				category;
+	private String				brand;
+	private String				currency;
+	private String				country;
+	private String				detailedDescription;
+	private long				createdAt;
+	private long				updatedAt;
+	private long				viewCount;
+	private long				orderCount;
+	private int					price;
+	private int					stock;
+	private int					rating;
+	private int					weight;
+	private byte[]				thumbnail;
+	private Map<Long, String>	data;
+	private List<String>		tags;
+	private Set<Long>			relatedIds;
+	private double				discount;
+	private boolean				published;
+	private Date				launchDate;
+	private Address				warehouse;
+	private List<Address>		stores;
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public void setDescription(String description) {
+		this.description = description;
+	}
+
+	public String getCategory() {
+		return category;
+	}
+
+	public void setCategory(String category) {
+		this.category = category;
+	}
+
+	public String getBrand() {
+		return brand;
+	}
+
+	public void setBrand(String brand) {
+		this.brand = brand;
+	}
+
+	public String getCurrency() {
+		return currency;
+	}
+
+	public void setCurrency(String currency) {
+		this.currency = currency;
+	}
+
+	public String getCountry() {
+		return country;
+	}
+
+	public void setCountry(String country) {
+		this.country = country;
+	}
+
+	public String getDetailedDescription() {
+		return detailedDescription;
+	}
+
+	public void setDetailedDescription(String detailedDescription) {
+		this.detailedDescription = detailedDescription;
+	}
+
+	public long getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(long createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	public long getUpdatedAt() {
+		return updatedAt;
+	}
+
+	public void setUpdatedAt(long updatedAt) {
+		this.updatedAt = updatedAt;
+	}
+
+	public long getViewCount() {
+		return viewCount;
+	}
+
+	public void setViewCount(long viewCount) {
+		this.viewCount = viewCount;
+	}
+
+	public long getOrderCount() {
+		return orderCount;
+	}
+
+	public void setOrderCount(long orderCount) {
+		this.orderCount = orderCount;
+	}
+
+	public int getPrice() {
+		return price;
+	}
+
+	public void setPrice(int price) {
+		this.price = price;
+	}
+
+	public int getStock() {
+		return stock;
+	}
+
+	public void setStock(int stock) {
+		this.stock = stock;
+	}
+
+	public int getRating() {
+		return rating;
+	}
+
+	public void setRating(int rating) {
+		this.rating = rating;
+	}
+
+	public int getWeight() {
+		return weight;
+	}
+
+	public void setWeight(int weight) {
+		this.weight = weight;
+	}
+
+	public byte[] getThumbnail() {
+		return thumbnail;
+	}
+
+	public void setThumbnail(byte[] thumbnail) {
+		this.thumbnail = thumbnail;
+	}
+
+	public Map<Long, String> getData() {
+		return data;
+	}
+
+	public void setData(Map<Long, String> data) {
+		this.data = data;
+	}
+
+	public List<String> getTags() {
+		return tags;
+	}
+
+	public void setTags(List<String> tags) {
+		this.tags = tags;
+	}
+
+	public Set<Long> getRelatedIds() {
+		return relatedIds;
+	}
+
+	public void setRelatedIds(Set<Long> relatedIds) {
+		this.relatedIds = relatedIds;
+	}
+
+	public double getDiscount() {
+		return discount;
+	}
+
+	public void setDiscount(double discount) {
+		this.discount = discount;
+	}
+
+	public boolean isPublished() {
+		return published;
+	}
+
+	public void setPublished(boolean published) {
+		this.published = published;
+	}
+
+	public Date getLaunchDate() {
+		return launchDate;
+	}
+
+	public void setLaunchDate(Date launchDate) {
+		this.launchDate = launchDate;
+	}
+
+	public Address getWarehouse() {
+		return warehouse;
+	}
+
+	public void setWarehouse(Address warehouse) {
+		this.warehouse = warehouse;
+	}
+
+	public List<Address> getStores() {
+		return stores;
+	}
+
+	public void setStores(List<Address> stores) {
+		this.stores = stores;
+	}
+}
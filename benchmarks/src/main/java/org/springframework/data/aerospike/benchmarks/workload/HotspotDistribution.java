@@ -0,0 +1,56 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.benchmarks.workload;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A hot set of the records gets a given share of the operations, e.g. 20% of
+ * the records get 80% of them. Records are picked uniformly within the hot
+ * set and within the rest. The hot set is the lowest ids.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+class HotspotDistribution implements KeyDistribution {
+	private final int		records;
+	private final int		hotRecords;
+	private final double	hotOperationFraction;
+
+	/**
+	 * 
+	 * @param records
+	 * @param hotSetFraction
+	 *            share of the records in the hot set, between 0 and 1.
+	 * @param hotOperationFraction
+	 *            share of the operations on the hot set, between 0 and 1.
+	 */
+	HotspotDistribution(int records, double hotSetFraction, double hotOperationFraction) {
+		this.records = records;
+		this.hotRecords = Math.max(1, Math.min(records, (int) (records * hotSetFraction)));
+		this.hotOperationFraction = hotOperationFraction;
+	}
+
+	@Override
+	public int next(ThreadLocalRandom random) {
+		if (hotRecords == records || random.nextDouble() < hotOperationFraction) {
+			return random.nextInt(hotRecords);
+		}
+		return hotRecords + random.nextInt(records - hotRecords);
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.benchmarks.workload;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks the ids of the records a workload operation works on, among the ids
+ * loaded before the run.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public interface KeyDistribution {
+	/**
+	 * 
+	 * @param random
+	 *            of the calling thread
+	 * @return an id from 0 to the number of records, excluded.
+	 */
+	public int next(ThreadLocalRandom random);
+}
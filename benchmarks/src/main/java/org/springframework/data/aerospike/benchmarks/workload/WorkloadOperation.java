@@ -0,0 +1,100 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.benchmarks.workload;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.data.aerospike.benchmarks.EntityShape;
+import org.springframework.data.aerospike.exceptions.AerospikeException;
+import org.springframework.data.aerospike.operations.AerospikeOperations;
+
+/**
+ * Operations a workload mixes, each on records picked by the
+ * {@link KeyDistribution} of the workload.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public enum WorkloadOperation {
+	/**
+	 * Read of a record by primary key.
+	 */
+	READ {
+		@Override
+		public void execute(AerospikeOperations operations, WorkloadOptions options, KeyDistribution distribution, ThreadLocalRandom random)
+				throws AerospikeException {
+			EntityShape shape = options.getShape();
+			operations.get(shape.key(distribution.next(random)), shape.getEntityClass());
+		}
+	},
+	/**
+	 * Write of a whole record, created from its id.
+	 */
+	WRITE {
+		@Override
+		public void execute(AerospikeOperations operations, WorkloadOptions options, KeyDistribution distribution, ThreadLocalRandom random)
+				throws AerospikeException {
+			operations.put(options.getShape().create(distribution.next(random)));
+		}
+	},
+	/**
+	 * Batch read of {@link WorkloadOptions#getBatchSize()} records.
+	 */
+	BATCH {
+		@Override
+		public void execute(AerospikeOperations operations, WorkloadOptions options, KeyDistribution distribution, ThreadLocalRandom random)
+				throws AerospikeException {
+			EntityShape shape = options.getShape();
+			Serializable first = shape.key(distribution.next(random));
+			// Batch keys must be of the key type of the entity
+			Serializable[] keys = (Serializable[]) Array.newInstance(first.getClass(), options.getBatchSize());
+			keys[0] = first;
+			for (int i = 1; i < keys.length; i++) {
+				keys[i] = shape.key(distribution.next(random));
+			}
+			operations.get(keys, shape.getEntityClass());
+		}
+	},
+	/**
+	 * Equality query on the indexed query field of the entity, matching one
+	 * record.
+	 */
+	QUERY {
+		@Override
+		public void execute(AerospikeOperations operations, WorkloadOptions options, KeyDistribution distribution, ThreadLocalRandom random)
+				throws AerospikeException {
+			EntityShape shape = options.getShape();
+			operations.query(shape.getEntityClass(), shape.getQueryField(), shape.queryValue(distribution.next(random)));
+		}
+	};
+
+	/**
+	 * Runs the operation once.
+	 * 
+	 * @param operations
+	 * @param options
+	 * @param distribution
+	 * @param random
+	 *            of the calling thread
+	 * @throws AerospikeException
+	 */
+	public abstract void execute(AerospikeOperations operations, WorkloadOptions options, KeyDistribution distribution,
+			ThreadLocalRandom random) throws AerospikeException;
+}
@@ -0,0 +1,244 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.benchmarks.workload;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.data.aerospike.benchmarks.EntityShape;
+
+/**
+ * Settings of a workload run, read from name=value arguments. Names are
+ * those of the fields below; unknown names and bad values are rejected.
+ * 
+ * <pre>
+ * shape=MEDIUM records=100000 threads=32 duration=120 mix=read:70,write:20,batch:5,query:5 distribution=zipfian
+ * </pre>
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class WorkloadOptions {
+	private EntityShape									shape					= EntityShape.NARROW;
+	/**
+	 * Records loaded before the run; operations pick ids below it.
+	 */
+	private int											records					= 100000;
+	private int											threads					= 16;
+	/**
+	 * Seconds measured, after the warmup.
+	 */
+	private int											duration				= 60;
+	/**
+	 * Seconds run before measuring.
+	 */
+	private int											warmup					= 10;
+	/**
+	 * Seconds between two reports.
+	 */
+	private int											reportInterval			= 5;
+	/**
+	 * Whether to write all the records and create the indexes before the
+	 * run. Can be skipped when running again on the same cluster.
+	 */
+	private boolean										load					= true;
+	private DistributionType							distribution			= DistributionType.UNIFORM;
+	private double										zipfianConstant			= 0.99;
+	private double										hotSetFraction			= 0.2;
+	private double										hotOperationFraction	= 0.8;
+	/**
+	 * Records of a batch read.
+	 */
+	private int											batchSize				= 10;
+	/**
+	 * Relative weight of the operations.
+	 */
+	private final Map<WorkloadOperation, Integer>		mix						= new EnumMap<WorkloadOperation, Integer>(
+																						WorkloadOperation.class);
+	private WorkloadOperation[]							mixOperations;
+	/**
+	 * Running sum of the weights of {@link #mixOperations}.
+	 */
+	private int[]										mixWeights;
+
+	public static WorkloadOptions parse(String[] args) {
+		WorkloadOptions options = new WorkloadOptions();
+		options.setMix("read:50,write:50");
+		for (String arg : args) {
+			int separator = arg.indexOf('=');
+			if (separator <= 0) {
+				throw new IllegalArgumentException("Expected name=value, found: " + arg);
+			}
+			options.set(arg.substring(0, separator).trim(), arg.substring(separator + 1).trim());
+		}
+		if (options.records <= 0 || options.threads <= 0 || options.duration <= 0 || options.warmup < 0 || options.reportInterval <= 0
+				|| options.batchSize <= 0) {
+			throw new IllegalArgumentException("records, threads, duration, reportInterval and batchSize must be positive");
+		}
+		if (options.zipfianConstant <= 0 || options.zipfianConstant >= 1) {
+			throw new IllegalArgumentException("zipfianConstant must be between 0 and 1, found: " + options.zipfianConstant);
+		}
+		return options;
+	}
+
+	private void set(String name, String value) {
+		try {
+			if ("shape".equals(name)) {
+				shape = EntityShape.valueOf(value.toUpperCase());
+			} else if ("records".equals(name)) {
+				records = Integer.parseInt(value);
+			} else if ("threads".equals(name)) {
+				threads = Integer.parseInt(value);
+			} else if ("duration".equals(name)) {
+				duration = Integer.parseInt(value);
+			} else if ("warmup".equals(name)) {
+				warmup = Integer.parseInt(value);
+			} else if ("reportInterval".equals(name)) {
+				reportInterval = Integer.parseInt(value);
+			} else if ("load".equals(name)) {
+				load = Boolean.parseBoolean(value);
+			} else if ("distribution".equals(name)) {
+				distribution = DistributionType.valueOf(value.toUpperCase());
+			} else if ("zipfianConstant".equals(name)) {
+				zipfianConstant = Double.parseDouble(value);
+			} else if ("hotSetFraction".equals(name)) {
+				hotSetFraction = Double.parseDouble(value);
+			} else if ("hotOperationFraction".equals(name)) {
+				hotOperationFraction = Double.parseDouble(value);
+			} else if ("batchSize".equals(name)) {
+				batchSize = Integer.parseInt(value);
+			} else if ("mix".equals(name)) {
+				setMix(value);
+			} else {
+				throw new IllegalArgumentException("Unknown option: " + name);
+			}
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid value: " + value + " of option: " + name, e);
+		}
+	}
+
+	/**
+	 * 
+	 * @param value
+	 *            operation:weight pairs separated by commas.
+	 */
+	private void setMix(String value) {
+		mix.clear();
+		for (String entry : value.split(",")) {
+			String[] parts = entry.trim().split(":");
+			if (parts.length != 2) {
+				throw new IllegalArgumentException("Expected operation:weight in mix, found: " + entry);
+			}
+			int weight = Integer.parseInt(parts[1].trim());
+			if (weight < 0) {
+				throw new IllegalArgumentException("Weight of " + parts[0] + " must not be negative");
+			}
+			if (weight > 0) {
+				mix.put(WorkloadOperation.valueOf(parts[0].trim().toUpperCase()), weight);
+			}
+		}
+		if (mix.isEmpty()) {
+			throw new IllegalArgumentException("Mix has no operation: " + value);
+		}
+		List<WorkloadOperation> operations = new ArrayList<WorkloadOperation>(mix.keySet());
+		mixOperations = operations.toArray(new WorkloadOperation[operations.size()]);
+		mixWeights = new int[mixOperations.length];
+		int sum = 0;
+		for (int i = 0; i < mixOperations.length; i++) {
+			sum += mix.get(mixOperations[i]);
+			mixWeights[i] = sum;
+		}
+	}
+
+	/**
+	 * 
+	 * @param random
+	 *            of the calling thread
+	 * @return next operation to run as per the mix.
+	 */
+	public WorkloadOperation nextOperation(ThreadLocalRandom random) {
+		int value = random.nextInt(mixWeights[mixWeights.length - 1]);
+		for (int i = 0; i < mixWeights.length; i++) {
+			if (value < mixWeights[i]) {
+				return mixOperations[i];
+			}
+		}
+		return mixOperations[mixOperations.length - 1];
+	}
+
+	public EntityShape getShape() {
+		return shape;
+	}
+
+	public int getRecords() {
+		return records;
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	public int getDuration() {
+		return duration;
+	}
+
+	public int getWarmup() {
+		return warmup;
+	}
+
+	public int getReportInterval() {
+		return reportInterval;
+	}
+
+	public boolean isLoad() {
+		return load;
+	}
+
+	public DistributionType getDistribution() {
+		return distribution;
+	}
+
+	public double getZipfianConstant() {
+		return zipfianConstant;
+	}
+
+	public double getHotSetFraction() {
+		return hotSetFraction;
+	}
+
+	public double getHotOperationFraction() {
+		return hotOperationFraction;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public Map<WorkloadOperation, Integer> getMix() {
+		return mix;
+	}
+
+	@Override
+	public String toString() {
+		return "shape=" + shape + " records=" + records + " threads=" + threads + " duration=" + duration + " warmup=" + warmup
+				+ " distribution=" + distribution + " batchSize=" + batchSize + " mix=" + mix;
+	}
+}
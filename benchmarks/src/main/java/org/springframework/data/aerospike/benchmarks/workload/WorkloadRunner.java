@@ -0,0 +1,220 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.benchmarks.workload;
+
+import java.io.Serializable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.aerospike.client.Client;
+import org.springframework.data.aerospike.exceptions.AerospikeException;
+import org.springframework.data.aerospike.mapper.EntityMapper;
+import org.springframework.data.aerospike.mapper.EntityStructure;
+import org.springframework.data.aerospike.mapper.EntityStructure.Index;
+import org.springframework.data.aerospike.operations.AerospikeOperations;
+
+import com.aerospike.client.ResultCode;
+
+/**
+ * Runs a YCSB style workload through {@link AerospikeOperations}: loads the
+ * records, then runs a mix of reads, writes, batch reads and queries from a
+ * number of threads for a fixed time, reporting throughput and latency
+ * percentiles per operation every few seconds and for the whole run.
+ * <p>
+ * The library is set up as an application would, by scanning its package,
+ * so the run goes through the real mapping and operations layers. It runs
+ * against the cluster of aerospike.config, or against the in-memory
+ * stand-in if aerospike.inMemory.enabled is set, e.g. in an external file:
+ * 
+ * <pre>
+ * java -Daerospike.config.externalFile=workload.config -cp target/benchmarks.jar \
+ * 		org.springframework.data.aerospike.benchmarks.workload.WorkloadRunner shape=WIDE threads=32 mix=read:90,write:10
+ * </pre>
+ * 
+ * See {@link WorkloadOptions} for the arguments.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public final class WorkloadRunner {
+	private static final Logger		LOGGER	= LoggerFactory.getLogger(WorkloadRunner.class);
+	private final WorkloadOptions		options;
+	private final AerospikeOperations	operations;
+	private final KeyDistribution		distribution;
+	private final WorkloadStats			stats	= new WorkloadStats();
+
+	private WorkloadRunner(WorkloadOptions options, AerospikeOperations operations) {
+		this.options = options;
+		this.operations = operations;
+		this.distribution = options.getDistribution().create(options);
+	}
+
+	public static void main(String[] args) throws AerospikeException, InterruptedException {
+		WorkloadOptions options = WorkloadOptions.parse(args);
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext("org.springframework.data.aerospike");
+		try {
+			LOGGER.info("Running workload: {} with client: {}", options, context.getBean(Client.class).getClass().getSimpleName());
+			WorkloadRunner runner = new WorkloadRunner(options, context.getBean(AerospikeOperations.class));
+			if (options.isLoad()) {
+				runner.load();
+				if (options.getMix().containsKey(WorkloadOperation.QUERY)) {
+					runner.createIndex(context.getBean(EntityMapper.class));
+				}
+			}
+			runner.run();
+		} finally {
+			context.close();
+		}
+	}
+
+	/**
+	 * Writes all the records from the threads of the workload.
+	 * 
+	 * @throws IllegalStateException
+	 *             if any record can't be written.
+	 * @throws InterruptedException
+	 */
+	private void load() throws InterruptedException {
+		long start = System.nanoTime();
+		final AtomicInteger nextId = new AtomicInteger();
+		final AtomicLong failures = new AtomicLong();
+		ExecutorService loaders = newThreadPool("workload-load-");
+		for (int i = 0; i < options.getThreads(); i++) {
+			loaders.execute(new Runnable() {
+				@Override
+				public void run() {
+					for (int id = nextId.getAndIncrement(); id < options.getRecords(); id = nextId.getAndIncrement()) {
+						try {
+							operations.put(options.getShape().create(id));
+						} catch (Exception e) {
+							if (failures.getAndIncrement() == 0) {
+								LOGGER.error("Failed to load record: {}", id, e);
+							}
+						}
+					}
+				}
+			});
+		}
+		loaders.shutdown();
+		loaders.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		if (failures.get() > 0) {
+			throw new IllegalStateException(failures.get() + " of " + options.getRecords() + " records could not be loaded");
+		}
+		LOGGER.info("Loaded {} records in {}ms", options.getRecords(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+	}
+
+	/**
+	 * Creates the index the queries run on, if it doesn't exist yet. A
+	 * cluster builds the index in the background; queries run before it is
+	 * ready fail, which the warmup is meant to absorb.
+	 * 
+	 * @param mapper
+	 * @throws AerospikeException
+	 */
+	private void createIndex(EntityMapper mapper) throws AerospikeException {
+		Class<? extends Serializable> clazz = options.getShape().getEntityClass();
+		EntityStructure structure = mapper.getEntityStructure(clazz);
+		String field = options.getShape().getQueryField();
+		Index index = structure.getSecondaryIndexes().get(field);
+		try {
+			operations.addIndex(null, structure.getNameSpace(), structure.getSet(), structure.getBinName(field), index.getIndexName(),
+					index.getIndexType());
+			LOGGER.info("Created index: {} on bin: {}", index.getIndexName(), structure.getBinName(field));
+		} catch (com.aerospike.client.AerospikeException e) {
+			if (e.getResultCode() != ResultCode.INDEX_FOUND) {
+				throw e;
+			}
+			LOGGER.info("Index: {} already exists", index.getIndexName());
+		}
+	}
+
+	/**
+	 * Runs the mix for the warmup, then measures it for the duration of the
+	 * workload.
+	 * 
+	 * @throws InterruptedException
+	 */
+	private void run() throws InterruptedException {
+		final AtomicBoolean running = new AtomicBoolean(true);
+		ExecutorService workers = newThreadPool("workload-");
+		for (int i = 0; i < options.getThreads(); i++) {
+			workers.execute(new Runnable() {
+				@Override
+				public void run() {
+					ThreadLocalRandom random = ThreadLocalRandom.current();
+					while (running.get()) {
+						WorkloadOperation operation = options.nextOperation(random);
+						long start = System.nanoTime();
+						try {
+							operation.execute(operations, options, distribution, random);
+							stats.succeeded(operation, System.nanoTime() - start);
+						} catch (Exception e) {
+							stats.failed(operation);
+						}
+					}
+				}
+			});
+		}
+		try {
+			if (options.getWarmup() > 0) {
+				LOGGER.info("Warming up for {}s", options.getWarmup());
+				TimeUnit.SECONDS.sleep(options.getWarmup());
+			}
+			stats.reset();
+			long start = System.nanoTime();
+			long end = start + TimeUnit.SECONDS.toNanos(options.getDuration());
+			long intervalStart = start;
+			while (intervalStart < end) {
+				long intervalEnd = Math.min(end, intervalStart + TimeUnit.SECONDS.toNanos(options.getReportInterval()));
+				TimeUnit.NANOSECONDS.sleep(intervalEnd - System.nanoTime());
+				long now = System.nanoTime();
+				stats.reportInterval(TimeUnit.NANOSECONDS.toSeconds(now - start), now - intervalStart);
+				intervalStart = now;
+			}
+			running.set(false);
+			workers.shutdown();
+			workers.awaitTermination(1, TimeUnit.MINUTES);
+			stats.reportTotal(intervalStart - start);
+		} finally {
+			running.set(false);
+			workers.shutdownNow();
+		}
+	}
+
+	private ExecutorService newThreadPool(final String prefix) {
+		return Executors.newFixedThreadPool(options.getThreads(), new ThreadFactory() {
+			private final AtomicInteger	counter	= new AtomicInteger();
+
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.benchmarks.workload;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.aerospike.logger.LatencyHistogram;
+import org.springframework.data.aerospike.logger.LatencySnapshot;
+
+/**
+ * Latencies and failures per operation of a workload, for the current report
+ * interval and for the whole run. Recording takes no lock; an interval is
+ * reset after it is reported, so a few operations recorded meanwhile may be
+ * missed in it, not in the totals.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class WorkloadStats {
+	private static final Logger							LOGGER	= LoggerFactory.getLogger(WorkloadStats.class);
+	private final Map<WorkloadOperation, OperationStats>	stats	= new EnumMap<WorkloadOperation, OperationStats>(
+																		WorkloadOperation.class);
+
+	public WorkloadStats() {
+		for (WorkloadOperation operation : WorkloadOperation.values()) {
+			stats.put(operation, new OperationStats());
+		}
+	}
+
+	/**
+	 * 
+	 * @param operation
+	 * @param nanos
+	 *            latency of a successful operation
+	 */
+	public void succeeded(WorkloadOperation operation, long nanos) {
+		OperationStats operationStats = stats.get(operation);
+		operationStats.interval.record(nanos);
+		operationStats.total.record(nanos);
+	}
+
+	public void failed(WorkloadOperation operation) {
+		OperationStats operationStats = stats.get(operation);
+		operationStats.intervalFailures.increment();
+		operationStats.failures.increment();
+	}
+
+	/**
+	 * Clears the stats, at the end of the warmup.
+	 */
+	public void reset() {
+		for (OperationStats operationStats : stats.values()) {
+			operationStats.interval.reset();
+			operationStats.total.reset();
+			operationStats.intervalFailures.reset();
+			operationStats.failures.reset();
+		}
+	}
+
+	/**
+	 * Logs throughput and latencies of the operations run in the interval
+	 * and starts the next interval.
+	 * 
+	 * @param elapsed
+	 *            seconds since the measurement started
+	 * @param intervalNanos
+	 *            length of the interval
+	 */
+	public void reportInterval(long elapsed, long intervalNanos) {
+		for (Map.Entry<WorkloadOperation, OperationStats> entry : stats.entrySet()) {
+			OperationStats operationStats = entry.getValue();
+			LatencySnapshot latencies = operationStats.interval.snapshot();
+			operationStats.interval.reset();
+			long failures = operationStats.intervalFailures.sumThenReset();
+			if (latencies.getCount() > 0 || failures > 0) {
+				LOGGER.info("[{}s] {}: {} ops/s, failures = {}, {}", elapsed, entry.getKey(), perSecond(latencies.getCount(), intervalNanos),
+						failures, latencies);
+			}
+		}
+	}
+
+	/**
+	 * Logs throughput and latencies of the whole measurement.
+	 * 
+	 * @param nanos
+	 *            length of the measurement
+	 */
+	public void reportTotal(long nanos) {
+		long operations = 0;
+		for (Map.Entry<WorkloadOperation, OperationStats> entry : stats.entrySet()) {
+			OperationStats operationStats = entry.getValue();
+			LatencySnapshot latencies = operationStats.total.snapshot();
+			long failures = operationStats.failures.sum();
+			operations += latencies.getCount();
+			if (latencies.getCount() > 0 || failures > 0) {
+				LOGGER.info("[total] {}: {} ops/s, failures = {}, {}", entry.getKey(), perSecond(latencies.getCount(), nanos), failures,
+						latencies);
+			}
+		}
+		LOGGER.info("[total] all: {} ops/s", perSecond(operations, nanos));
+	}
+
+	private static long perSecond(long count, long nanos) {
+		return nanos > 0 ? count * 1000000000L / nanos : 0;
+	}
+
+	private static class OperationStats {
+		private final LatencyHistogram	interval			= new LatencyHistogram();
+		private final LatencyHistogram	total				= new LatencyHistogram();
+		private final LongAdder			intervalFailures	= new LongAdder();
+		private final LongAdder			failures			= new LongAdder();
+	}
+}
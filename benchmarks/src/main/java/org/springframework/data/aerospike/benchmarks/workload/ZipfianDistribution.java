@@ -0,0 +1,105 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.benchmarks.workload;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Zipfian popularity: the record of rank i is picked with a probability
+ * proportional to 1 / i^constant. Ranks are drawn with the algorithm of Gray
+ * et al. ("Quickly generating billion-record synthetic databases"), as YCSB
+ * does, and spread over the ids by a hash so that the popular records aren't
+ * the lowest ids.
+ * <p>
+ * Setup computes the zeta constant over all the records, linear in their
+ * number; drawing is constant time.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+class ZipfianDistribution implements KeyDistribution {
+	private static final long	FNV_OFFSET_BASIS	= 0xCBF29CE484222325L;
+	private static final long	FNV_PRIME			= 1099511628211L;
+	private final int			records;
+	private final double		zetan;
+	private final double		alpha;
+	private final double		eta;
+	private final double		halfPowConstant;
+
+	/**
+	 * 
+	 * @param records
+	 * @param constant
+	 *            skew, 0.99 in YCSB; higher is more skewed. Must be below 1.
+	 */
+	ZipfianDistribution(int records, double constant) {
+		this.records = records;
+		this.zetan = zeta(records, constant);
+		this.alpha = 1.0 / (1.0 - constant);
+		this.eta = (1 - Math.pow(2.0 / records, 1 - constant)) / (1 - zeta(2, constant) / zetan);
+		this.halfPowConstant = 1 + Math.pow(0.5, constant);
+	}
+
+	@Override
+	public int next(ThreadLocalRandom random) {
+		return scramble(rank(random.nextDouble()));
+	}
+
+	/**
+	 * 
+	 * @param u
+	 *            uniform between 0 and 1
+	 * @return rank from 0, the most popular, to the number of records,
+	 *         excluded.
+	 */
+	private int rank(double u) {
+		double uz = u * zetan;
+		if (uz < 1.0) {
+			return 0;
+		}
+		if (uz < halfPowConstant) {
+			return Math.min(1, records - 1);
+		}
+		return Math.min(records - 1, (int) (records * Math.pow(eta * u - eta + 1, alpha)));
+	}
+
+	/**
+	 * 
+	 * @param rank
+	 * @return id of the record of the given rank, the FNV-1a hash of the rank
+	 *         over the ids.
+	 */
+	private int scramble(int rank) {
+		long hash = FNV_OFFSET_BASIS;
+		long value = rank;
+		for (int i = 0; i < 4; i++) {
+			hash ^= value & 0xFF;
+			hash *= FNV_PRIME;
+			value >>>= 8;
+		}
+		return (int) ((hash & Long.MAX_VALUE) % records);
+	}
+
+	private static double zeta(int n, double constant) {
+		double sum = 0;
+		for (int i = 1; i <= n; i++) {
+			sum += 1 / Math.pow(i, constant);
+		}
+		return sum;
+	}
+}
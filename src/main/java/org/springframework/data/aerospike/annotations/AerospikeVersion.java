@@ -0,0 +1,39 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.annotations;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an int or long field which holds the generation of the record the
+ * entity was read from. The field is not stored as a bin. Writes of an entity
+ * having this field succeed only if the record has not been modified since it
+ * was read, and a zero version means the record must not exist yet. The field
+ * can't also be the {@link AerospikeKey}.
+ * 
+ * @author    fanendra
+ * @createdOn 19-Oct-2026
+ * @since     
+ */
+@Target(FIELD)
+@Retention(RUNTIME)
+public @interface AerospikeVersion {
+
+}
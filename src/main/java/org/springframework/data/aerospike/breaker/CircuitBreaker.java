@@ -0,0 +1,88 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.breaker;
+
+import java.util.List;
+
+/**
+ * Tracks the failures of the calls to each namespace and set and opens the
+ * circuit once the failure rate crosses the threshold, so calls fail fast
+ * instead of each waiting for the policy timeout. Only failures caused by the
+ * cluster being unreachable, overloaded or timing out are counted; errors such
+ * as generation mismatch are successful calls for the circuit.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public interface CircuitBreaker {
+	/**
+	 *
+	 * @param namespace
+	 * @param set
+	 * @return whether a call on the given set may be sent to the cluster.
+	 */
+	public boolean isCallPermitted(String namespace, String set);
+
+	public void onSuccess(String namespace, String set);
+
+	/**
+	 * Records a failed call. Errors which don't indicate an unhealthy cluster
+	 * are recorded as success.
+	 *
+	 * @param namespace
+	 * @param set
+	 * @param error
+	 */
+	public void onError(String namespace, String set, Throwable error);
+
+	/**
+	 * Ends a permitted call which ended without a result from the cluster,
+	 * e.g. rejected by the concurrency limiter or failed on the client. A
+	 * trial call of a half open circuit gives its slot back.
+	 *
+	 * @param namespace
+	 * @param set
+	 */
+	public void onAbandoned(String namespace, String set);
+
+	/**
+	 * Counts a call rejected by the caller because the state of the circuit
+	 * was {@link CircuitState#OPEN}, without calling
+	 * {@link #isCallPermitted(String, String)}.
+	 *
+	 * @param namespace
+	 * @param set
+	 */
+	public void onRejected(String namespace, String set);
+
+	/**
+	 *
+	 * @param namespace
+	 * @param set
+	 * @return state the next call finds the circuit in. An open circuit
+	 *         reports half open once its open duration has elapsed, the next
+	 *         permitted call moves it there.
+	 */
+	public CircuitState getState(String namespace, String set);
+
+	/**
+	 *
+	 * @return state of the circuits used so far.
+	 */
+	public List<CircuitStats> getStats();
+}
@@ -0,0 +1,39 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.breaker;
+
+/**
+ * States of a circuit.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public enum CircuitState {
+	/**
+	 * Calls go through and their outcome is counted.
+	 */
+	CLOSED,
+	/**
+	 * Calls are rejected without contacting the cluster.
+	 */
+	OPEN,
+	/**
+	 * A few trial calls go through to decide whether to close again.
+	 */
+	HALF_OPEN;
+}
@@ -0,0 +1,80 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.breaker;
+
+/**
+ * Point in time state of the circuit of a namespace and set.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class CircuitStats {
+	private final String		namespace;
+	private final String		set;
+	private final CircuitState	state;
+	/**
+	 * Calls and failures in the current window.
+	 */
+	private final long			calls;
+	private final long			failures;
+	/**
+	 * Calls rejected since startup.
+	 */
+	private final long			rejections;
+
+	public CircuitStats(String namespace, String set, CircuitState state, long calls, long failures, long rejections) {
+		this.namespace = namespace;
+		this.set = set;
+		this.state = state;
+		this.calls = calls;
+		this.failures = failures;
+		this.rejections = rejections;
+	}
+
+	public String getNamespace() {
+		return namespace;
+	}
+
+	public String getSet() {
+		return set;
+	}
+
+	public CircuitState getState() {
+		return state;
+	}
+
+	public long getCalls() {
+		return calls;
+	}
+
+	public long getFailures() {
+		return failures;
+	}
+
+	public long getRejections() {
+		return rejections;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("CircuitStats [namespace=").append(namespace).append(", set=").append(set).append(", state=").append(state)
+				.append(", calls=").append(calls).append(", failures=").append(failures).append(", rejections=").append(rejections).append("]");
+		return builder.toString();
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.breaker.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.aerospike.breaker.CircuitState;
+import org.springframework.data.aerospike.breaker.CircuitStats;
+import org.springframework.data.aerospike.configuration.CircuitBreakerPolicy;
+
+/**
+ * Circuit of a single namespace and set. Calls and failures are counted in a
+ * fixed window which is reset once it elapses. State transitions are CAS on
+ * the state so only one thread logs and resets a transition.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+class Circuit {
+	private static final Logger					LOGGER			= LoggerFactory.getLogger(Circuit.class);
+
+	private final String						namespace;
+	private final String						set;
+	private final CircuitBreakerPolicy			policy;
+	private final long							windowNanos;
+	private final long							openDurationNanos;
+	private final AtomicReference<CircuitState>	state			= new AtomicReference<CircuitState>(CircuitState.CLOSED);
+	private final AtomicLong					calls			= new AtomicLong();
+	private final AtomicLong					failures		= new AtomicLong();
+	private final AtomicLong					rejections		= new AtomicLong();
+	private final AtomicInteger					trialCalls		= new AtomicInteger();
+	private final AtomicInteger					trialSuccesses	= new AtomicInteger();
+	private volatile long						windowStart		= System.nanoTime();
+	private volatile long						openedAt;
+
+	Circuit(String namespace, String set, CircuitBreakerPolicy policy) {
+		this.namespace = namespace;
+		this.set = set;
+		this.policy = policy;
+		this.windowNanos = TimeUnit.MILLISECONDS.toNanos(policy.getWindow());
+		this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(policy.getOpenDuration());
+	}
+
+	boolean isCallPermitted() {
+		CircuitState current = state.get();
+		if (current == CircuitState.CLOSED) {
+			return true;
+		}
+		if (current == CircuitState.OPEN) {
+			if (System.nanoTime() - openedAt < openDurationNanos) {
+				rejections.incrementAndGet();
+				return false;
+			}
+			if (state.compareAndSet(CircuitState.OPEN, CircuitState.HALF_OPEN)) {
+				trialCalls.set(0);
+				trialSuccesses.set(0);
+				LOGGER.info("Circuit of set: {} of namespace: {} is half open. Sending trial calls", set, namespace);
+			}
+		}
+		// Counts only the permitted trials so abandoned ones can give their slot back
+		int trials = trialCalls.get();
+		while (trials < policy.getHalfOpenCalls()) {
+			if (trialCalls.compareAndSet(trials, trials + 1)) {
+				return true;
+			}
+			trials = trialCalls.get();
+		}
+		rejections.incrementAndGet();
+		return false;
+	}
+
+	void onSuccess() {
+		CircuitState current = state.get();
+		if (current == CircuitState.HALF_OPEN) {
+			if (trialSuccesses.incrementAndGet() >= policy.getHalfOpenCalls() && state.compareAndSet(CircuitState.HALF_OPEN, CircuitState.CLOSED)) {
+				resetWindow(System.nanoTime());
+				LOGGER.info("Circuit of set: {} of namespace: {} is closed", set, namespace);
+			}
+		} else if (current == CircuitState.CLOSED) {
+			rollWindow();
+			calls.incrementAndGet();
+		}
+	}
+
+	void onFailure() {
+		CircuitState current = state.get();
+		if (current == CircuitState.HALF_OPEN) {
+			open(CircuitState.HALF_OPEN);
+		} else if (current == CircuitState.CLOSED) {
+			rollWindow();
+			long windowCalls = calls.incrementAndGet();
+			long windowFailures = failures.incrementAndGet();
+			if (windowCalls >= policy.getMinimumCalls() && windowFailures * 100 >= windowCalls * policy.getFailureRateThreshold()) {
+				open(CircuitState.CLOSED);
+			}
+		}
+	}
+
+	/**
+	 * Gives back the slot of a trial call which ended without an outcome, so
+	 * the half open circuit doesn't wait for it forever.
+	 */
+	void onAbandoned() {
+		if (state.get() == CircuitState.HALF_OPEN) {
+			trialCalls.decrementAndGet();
+		}
+	}
+
+	private void open(CircuitState from) {
+		if (state.compareAndSet(from, CircuitState.OPEN)) {
+			openedAt = System.nanoTime();
+			LOGGER.warn("Circuit of set: {} of namespace: {} is open for {}ms. Failures: {} of {} calls", set, namespace, policy.getOpenDuration(),
+					failures.get(), calls.get());
+		}
+	}
+
+	private void rollWindow() {
+		long now = System.nanoTime();
+		if (now - windowStart >= windowNanos) {
+			synchronized (this) {
+				if (now - windowStart >= windowNanos) {
+					resetWindow(now);
+				}
+			}
+		}
+	}
+
+	private void resetWindow(long now) {
+		calls.set(0);
+		failures.set(0);
+		windowStart = now;
+	}
+
+	/**
+	 * Counts a call rejected by the caller on seeing the circuit open.
+	 */
+	void onRejected() {
+		rejections.incrementAndGet();
+	}
+
+	/**
+	 *
+	 * @return state the next call finds the circuit in: an open circuit is
+	 *         half open once its open duration has elapsed.
+	 */
+	CircuitState getState() {
+		CircuitState current = state.get();
+		if (current == CircuitState.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+			return CircuitState.HALF_OPEN;
+		}
+		return current;
+	}
+
+	CircuitStats getStats() {
+		return new CircuitStats(namespace, set, state.get(), calls.get(), failures.get(), rejections.get());
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.breaker.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.aerospike.breaker.CircuitBreaker;
+import org.springframework.data.aerospike.breaker.CircuitState;
+import org.springframework.data.aerospike.breaker.CircuitStats;
+import org.springframework.data.aerospike.configuration.AerospikeConfigurations;
+import org.springframework.data.aerospike.configuration.CircuitBreakerPolicy;
+import org.springframework.stereotype.Service;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.ResultCode;
+
+/**
+ * Keeps a {@link Circuit} per namespace and set. When disabled all the calls
+ * are permitted and nothing is tracked.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@Service("circuitBreaker")
+public class CircuitBreakerImpl implements CircuitBreaker {
+	private static final Logger													LOGGER		= LoggerFactory.getLogger(CircuitBreaker.class);
+
+	@Autowired
+	private AerospikeConfigurations												aerospikeConfigurations;
+
+	private CircuitBreakerPolicy												policy		= CircuitBreakerPolicy.DISABLED;
+	/**
+	 * Circuits by namespace and set.
+	 */
+	private final ConcurrentHashMap<String, ConcurrentHashMap<String, Circuit>>	circuits	= new ConcurrentHashMap<String, ConcurrentHashMap<String, Circuit>>();
+
+	@PostConstruct
+	public void initialize() {
+		policy = aerospikeConfigurations.circuitBreakerPolicy();
+		if (policy.isEnabled()) {
+			LOGGER.info("Circuit breaker enabled with failure rate threshold: {}%, minimum calls: {}, window: {}ms, open duration: {}ms",
+					policy.getFailureRateThreshold(), policy.getMinimumCalls(), policy.getWindow(), policy.getOpenDuration());
+		}
+	}
+
+	@Override
+	public boolean isCallPermitted(String namespace, String set) {
+		return !policy.isEnabled() || getCircuit(namespace, set).isCallPermitted();
+	}
+
+	@Override
+	public void onSuccess(String namespace, String set) {
+		if (policy.isEnabled()) {
+			getCircuit(namespace, set).onSuccess();
+		}
+	}
+
+	@Override
+	public void onError(String namespace, String set, Throwable error) {
+		if (!policy.isEnabled()) {
+			return;
+		}
+		if (isClusterFailure(error)) {
+			getCircuit(namespace, set).onFailure();
+		} else {
+			getCircuit(namespace, set).onSuccess();
+		}
+	}
+
+	@Override
+	public void onAbandoned(String namespace, String set) {
+		if (policy.isEnabled()) {
+			getCircuit(namespace, set).onAbandoned();
+		}
+	}
+
+	@Override
+	public void onRejected(String namespace, String set) {
+		if (policy.isEnabled()) {
+			getCircuit(namespace, set).onRejected();
+		}
+	}
+
+	@Override
+	public CircuitState getState(String namespace, String set) {
+		return policy.isEnabled() ? getCircuit(namespace, set).getState() : CircuitState.CLOSED;
+	}
+
+	@Override
+	public List<CircuitStats> getStats() {
+		List<CircuitStats> stats = new ArrayList<CircuitStats>();
+		for (ConcurrentHashMap<String, Circuit> namespaceCircuits : circuits.values()) {
+			for (Circuit circuit : namespaceCircuits.values()) {
+				stats.add(circuit.getStats());
+			}
+		}
+		return stats;
+	}
+
+	/**
+	 * 
+	 * @param error
+	 * @return whether the error indicates the cluster being unreachable,
+	 *         overloaded or slow.
+	 */
+	private boolean isClusterFailure(Throwable error) {
+		if (!(error instanceof AerospikeException)) {
+			return false;
+		}
+		switch (((AerospikeException) error).getResultCode()) {
+		case ResultCode.TIMEOUT:
+		case ResultCode.SERVER_NOT_AVAILABLE:
+		case ResultCode.INVALID_NODE_ERROR:
+		case ResultCode.SERVER_ERROR:
+		case ResultCode.DEVICE_OVERLOAD:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	private Circuit getCircuit(String namespace, String set) {
+		ConcurrentHashMap<String, Circuit> namespaceCircuits = circuits.get(namespace);
+		if (namespaceCircuits == null) {
+			ConcurrentHashMap<String, Circuit> newCircuits = new ConcurrentHashMap<String, Circuit>();
+			namespaceCircuits = circuits.putIfAbsent(namespace, newCircuits);
+			if (namespaceCircuits == null) {
+				namespaceCircuits = newCircuits;
+			}
+		}
+		Circuit circuit = namespaceCircuits.get(set);
+		if (circuit == null) {
+			Circuit newCircuit = new Circuit(namespace, set, policy);
+			circuit = namespaceCircuits.putIfAbsent(set, newCircuit);
+			if (circuit == null) {
+				circuit = newCircuit;
+			}
+		}
+		return circuit;
+	}
+}
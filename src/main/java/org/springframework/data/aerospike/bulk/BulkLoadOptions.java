@@ -0,0 +1,192 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.bulk;
+
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Options of a {@link BulkLoader} run. Defaults load a CSV file with a header
+ * line, with 16 parallel writes and no rate limit.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class BulkLoadOptions {
+	private FileFormat					format				= FileFormat.CSV;
+	private Charset						charset				= Charset.forName("UTF-8");
+	private char						delimiter			= ',';
+	/**
+	 * Whether the first line of a CSV file holds the column names.
+	 */
+	private boolean						header				= true;
+	/**
+	 * Column names of a CSV file without header line.
+	 */
+	private String[]					columns;
+	/**
+	 * Column name to java field name for the columns not named as the fields.
+	 */
+	private final Map<String, String>	columnMapping		= new HashMap<String, String>();
+	/**
+	 * Maximum number of concurrent writes.
+	 */
+	private int							parallelism			= 16;
+	/**
+	 * Target rate of writes. Zero means no limit.
+	 */
+	private int							recordsPerSecond;
+	/**
+	 * File in which progress is saved. No checkpoints are taken if null.
+	 */
+	private Path						checkpointFile;
+	/**
+	 * Number of lines read between two checkpoints.
+	 */
+	private int							checkpointInterval	= 10000;
+	/**
+	 * Millis between two throughput reports in log.
+	 */
+	private long						reportInterval		= 10000;
+	/**
+	 * Failed records tolerated before the load is aborted. Negative means no
+	 * limit.
+	 */
+	private long						maxErrors			= 0;
+
+	public BulkLoadOptions format(FileFormat format) {
+		this.format = format;
+		return this;
+	}
+
+	public BulkLoadOptions charset(Charset charset) {
+		this.charset = charset;
+		return this;
+	}
+
+	public BulkLoadOptions delimiter(char delimiter) {
+		this.delimiter = delimiter;
+		return this;
+	}
+
+	/**
+	 * Sets the column names of a CSV file without header line.
+	 *
+	 * @param columns
+	 * @return
+	 */
+	public BulkLoadOptions columns(String... columns) {
+		this.columns = columns;
+		this.header = false;
+		return this;
+	}
+
+	/**
+	 * Maps a column (or JSON property) to the java field of the entity with a
+	 * different name.
+	 *
+	 * @param column
+	 * @param field
+	 * @return
+	 */
+	public BulkLoadOptions mapColumn(String column, String field) {
+		columnMapping.put(column, field);
+		return this;
+	}
+
+	public BulkLoadOptions parallelism(int parallelism) {
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	public BulkLoadOptions recordsPerSecond(int recordsPerSecond) {
+		this.recordsPerSecond = recordsPerSecond;
+		return this;
+	}
+
+	public BulkLoadOptions checkpointFile(Path checkpointFile) {
+		this.checkpointFile = checkpointFile;
+		return this;
+	}
+
+	public BulkLoadOptions checkpointInterval(int checkpointInterval) {
+		this.checkpointInterval = checkpointInterval;
+		return this;
+	}
+
+	public BulkLoadOptions reportInterval(long reportInterval) {
+		this.reportInterval = reportInterval;
+		return this;
+	}
+
+	public BulkLoadOptions maxErrors(long maxErrors) {
+		this.maxErrors = maxErrors;
+		return this;
+	}
+
+	public FileFormat getFormat() {
+		return format;
+	}
+
+	public Charset getCharset() {
+		return charset;
+	}
+
+	public char getDelimiter() {
+		return delimiter;
+	}
+
+	public boolean isHeader() {
+		return header;
+	}
+
+	public String[] getColumns() {
+		return columns;
+	}
+
+	public Map<String, String> getColumnMapping() {
+		return Collections.unmodifiableMap(columnMapping);
+	}
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	public int getRecordsPerSecond() {
+		return recordsPerSecond;
+	}
+
+	public Path getCheckpointFile() {
+		return checkpointFile;
+	}
+
+	public int getCheckpointInterval() {
+		return checkpointInterval;
+	}
+
+	public long getReportInterval() {
+		return reportInterval;
+	}
+
+	public long getMaxErrors() {
+		return maxErrors;
+	}
+}
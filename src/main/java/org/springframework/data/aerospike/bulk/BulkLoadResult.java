@@ -0,0 +1,98 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.bulk;
+
+/**
+ * Outcome of a {@link BulkLoader} run.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class BulkLoadResult {
+	/**
+	 * Lines read from the file in this run, excluding the lines skipped on
+	 * resume.
+	 */
+	private final long	linesRead;
+	/**
+	 * Records successfully written.
+	 */
+	private final long	recordsWritten;
+	/**
+	 * Versioned records found already present, written by an interrupted run
+	 * after its last checkpoint. Counted neither as written nor as failed.
+	 */
+	private final long	recordsDuplicate;
+	/**
+	 * Records which couldn't be parsed, converted or written.
+	 */
+	private final long	recordsFailed;
+	/**
+	 * Line after which this run has resumed. Zero if the load started from the
+	 * beginning of the file.
+	 */
+	private final long	resumedAfterLine;
+	private final long	elapsedMillis;
+
+	public BulkLoadResult(long linesRead, long recordsWritten, long recordsDuplicate, long recordsFailed, long resumedAfterLine, long elapsedMillis) {
+		this.linesRead = linesRead;
+		this.recordsWritten = recordsWritten;
+		this.recordsDuplicate = recordsDuplicate;
+		this.recordsFailed = recordsFailed;
+		this.resumedAfterLine = resumedAfterLine;
+		this.elapsedMillis = elapsedMillis;
+	}
+
+	public long getLinesRead() {
+		return linesRead;
+	}
+
+	public long getRecordsWritten() {
+		return recordsWritten;
+	}
+
+	public long getRecordsDuplicate() {
+		return recordsDuplicate;
+	}
+
+	public long getRecordsFailed() {
+		return recordsFailed;
+	}
+
+	public long getResumedAfterLine() {
+		return resumedAfterLine;
+	}
+
+	public long getElapsedMillis() {
+		return elapsedMillis;
+	}
+
+	public double getRecordsPerSecond() {
+		return elapsedMillis > 0 ? recordsWritten * 1000.0 / elapsedMillis : recordsWritten;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("BulkLoadResult [linesRead=").append(linesRead).append(", recordsWritten=").append(recordsWritten).append(", recordsDuplicate=")
+				.append(recordsDuplicate).append(", recordsFailed=")
+				.append(recordsFailed).append(", resumedAfterLine=").append(resumedAfterLine).append(", elapsedMillis=").append(elapsedMillis)
+				.append("]");
+		return builder.toString();
+	}
+}
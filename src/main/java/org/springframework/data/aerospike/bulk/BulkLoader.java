@@ -0,0 +1,58 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.bulk;
+
+import java.io.Serializable;
+import java.nio.file.Path;
+
+import org.springframework.data.aerospike.exceptions.AerospikeException;
+
+/**
+ * Loads entities from large local files. The file is streamed line by line so
+ * it is never held in memory. Columns (CSV) or properties (JSON lines) are
+ * mapped to the entity fields by java field name, unless mapped otherwise
+ * through {@link BulkLoadOptions#mapColumn(String, String)}.
+ *
+ * <pre>
+ * BulkLoadResult result = bulkLoader.load(Paths.get("/data/users.csv"), User.class,
+ * 		new BulkLoadOptions().parallelism(32).recordsPerSecond(20000).checkpointFile(Paths.get("/data/users.checkpoint")));
+ * </pre>
+ *
+ * If a checkpoint file is given, progress is saved to it periodically and a
+ * subsequent load of the same file resumes after the last checkpointed line.
+ * The checkpoint file is removed once the load completes. Lines written after
+ * the last checkpoint are sent again on resume; versioned entities, which are
+ * created only if absent, are then counted as duplicates instead of failures.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public interface BulkLoader {
+	/**
+	 * Loads the entities of the given class from the file.
+	 *
+	 * @param file
+	 * @param clazz
+	 * @param options
+	 * @return
+	 * @throws AerospikeException
+	 *             if the file can't be read or the load is aborted because of
+	 *             too many failed records.
+	 */
+	public BulkLoadResult load(Path file, Class<? extends Serializable> clazz, BulkLoadOptions options) throws AerospikeException;
+}
@@ -0,0 +1,38 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.bulk;
+
+/**
+ * Formats of the files which can be loaded through {@link BulkLoader}.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public enum FileFormat {
+	/**
+	 * Delimited values, one record per line. Fields may be quoted with double
+	 * quotes; a quote inside a quoted field is escaped by doubling it. Quoted
+	 * fields can't span lines.
+	 */
+	CSV,
+	/**
+	 * One flat JSON object per line. Nested objects and arrays are not
+	 * supported.
+	 */
+	JSON_LINES;
+}
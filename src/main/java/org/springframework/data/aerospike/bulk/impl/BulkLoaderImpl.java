@@ -0,0 +1,347 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.bulk.impl;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.aerospike.bulk.BulkLoadOptions;
+import org.springframework.data.aerospike.bulk.BulkLoadResult;
+import org.springframework.data.aerospike.bulk.BulkLoader;
+import org.springframework.data.aerospike.bulk.FileFormat;
+import org.springframework.data.aerospike.exceptions.AerospikeBulkLoadException;
+import org.springframework.data.aerospike.exceptions.AerospikeException;
+import org.springframework.data.aerospike.exceptions.AerospikeOptimisticLockingException;
+import org.springframework.data.aerospike.mapper.EntityMapper;
+import org.springframework.data.aerospike.mapper.EntityStructure;
+import org.springframework.data.aerospike.mapper.PersistableField;
+import org.springframework.data.aerospike.operations.AerospikeOperations;
+import org.springframework.stereotype.Service;
+
+import com.aerospike.client.ResultCode;
+
+/**
+ * Reads the file on the calling thread and hands every line to a pool of
+ * writers which parse, convert and put the entity. A semaphore bounds the
+ * lines in flight so the reader never gets far ahead of the writers and memory
+ * use stays constant irrespective of the file size.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@Service("bulkLoader")
+public class BulkLoaderImpl implements BulkLoader {
+	private static final Logger			LOGGER				= LoggerFactory.getLogger(BulkLoader.class);
+
+	@Autowired
+	private AerospikeOperations			aerospikeOperations;
+
+	@Autowired
+	private EntityMapper				entityMapper;
+
+	private final ConversionService		conversionService	= new DefaultConversionService();
+
+	@Override
+	public BulkLoadResult load(Path file, Class<? extends Serializable> clazz, BulkLoadOptions options) throws AerospikeException {
+		final EntityStructure structure = entityMapper.getEntityStructure(clazz);
+		final Load load = new Load(file, clazz, structure, options);
+		CheckpointFile checkpointFile = options.getCheckpointFile() != null ? new CheckpointFile(options.getCheckpointFile(), file) : null;
+		long resumeAfterLine = checkpointFile != null ? checkpointFile.read() : 0;
+		if (resumeAfterLine > 0) {
+			LOGGER.info("Resuming bulk load of file: {} for class: {} after line: {}", file, clazz.getName(), resumeAfterLine);
+		}
+		long start = System.currentTimeMillis();
+		CheckpointTracker tracker = new CheckpointTracker(resumeAfterLine);
+		RateLimiter rateLimiter = options.getRecordsPerSecond() > 0 ? new RateLimiter(options.getRecordsPerSecond()) : null;
+		Semaphore inFlight = new Semaphore(options.getParallelism() * 4);
+		ExecutorService writers = Executors.newFixedThreadPool(options.getParallelism(), new ThreadFactory() {
+			private final AtomicInteger	counter	= new AtomicInteger();
+
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "aerospike-bulk-load-" + counter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		long lineNumber = 0;
+		long linesRead = 0;
+		long lastReport = start;
+		long lastReportWritten = 0;
+		BufferedReader reader = null;
+		try {
+			reader = Files.newBufferedReader(file, options.getCharset());
+			if (options.getFormat() == FileFormat.CSV && !options.isHeader()) {
+				load.columns = options.getColumns();
+			}
+			String line;
+			while (!load.aborted && (line = reader.readLine()) != null) {
+				lineNumber++;
+				if (options.getFormat() == FileFormat.CSV) {
+					// Quoted values may span lines, the record ends on its last line
+					String next;
+					while (!CsvLineParser.isComplete(line, options.getDelimiter()) && (next = reader.readLine()) != null) {
+						lineNumber++;
+						line = line + "\n" + next;
+					}
+				}
+				if (options.getFormat() == FileFormat.CSV && load.columns == null) {
+					load.columns = CsvLineParser.parse(line, options.getDelimiter()).toArray(new String[0]);
+					load.logUnmappedColumns();
+					tracker.skip(lineNumber);
+					continue;
+				}
+				if (lineNumber <= resumeAfterLine || line.trim().isEmpty()) {
+					tracker.skip(lineNumber);
+					continue;
+				}
+				linesRead++;
+				if (rateLimiter != null) {
+					rateLimiter.acquire();
+				}
+				inFlight.acquire();
+				tracker.start(lineNumber);
+				writers.execute(new LineWriter(load, tracker, inFlight, line, lineNumber));
+				if (checkpointFile != null && linesRead % options.getCheckpointInterval() == 0) {
+					checkpointFile.write(tracker.getCheckpoint());
+				}
+				long now = System.currentTimeMillis();
+				if (now - lastReport >= options.getReportInterval()) {
+					long written = load.written.get();
+					LOGGER.info("Bulk load of file: {} for class: {} at line: {}, written: {}, failed: {}, throughput: {} records/sec", file,
+							clazz.getName(), lineNumber, written, load.failed.get(), (written - lastReportWritten) * 1000 / (now - lastReport));
+					lastReport = now;
+					lastReportWritten = written;
+				}
+			}
+		} catch (IOException e) {
+			load.abort("Failed to read file: " + file + " at line: " + lineNumber, e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			load.abort("Interrupted while loading file: " + file + " at line: " + lineNumber, e);
+		} catch (IllegalArgumentException e) {
+			load.abort("Invalid header in file: " + file, e);
+		} finally {
+			closeQuietly(reader);
+			writers.shutdown();
+			awaitTermination(writers);
+		}
+		BulkLoadResult result = new BulkLoadResult(linesRead, load.written.get(), load.duplicates.get(), load.failed.get(), resumeAfterLine,
+				System.currentTimeMillis() - start);
+		if (checkpointFile != null) {
+			if (load.aborted) {
+				checkpointFile.write(tracker.getCheckpoint());
+			} else {
+				checkpointFile.delete();
+			}
+		}
+		if (load.aborted) {
+			LOGGER.error("Aborted bulk load of file: {} for class: {}. {}", file, clazz.getName(), result);
+			throw new AerospikeBulkLoadException(load.abortMessage + ". " + result, load.abortCause);
+		}
+		LOGGER.info("Completed bulk load of file: {} for class: {}. {} records/sec. {}", file, clazz.getName(), (long) result.getRecordsPerSecond(),
+				result);
+		return result;
+	}
+
+	private void awaitTermination(ExecutorService executor) {
+		try {
+			while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+				LOGGER.info("Waiting for bulk load writes to complete");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void closeQuietly(Closeable closeable) {
+		if (closeable != null) {
+			try {
+				closeable.close();
+			} catch (IOException e) {
+				LOGGER.debug("Failed to close {}", closeable, e);
+			}
+		}
+	}
+
+	/**
+	 * State of a single load shared by the reader and the writers.
+	 */
+	private class Load {
+		private final Path							file;
+		private final Class<? extends Serializable>	clazz;
+		private final BulkLoadOptions				options;
+		/**
+		 * Persistable fields by java field name.
+		 */
+		private final Map<String, PersistableField>	fields		= new HashMap<String, PersistableField>();
+		private final AtomicLong					written		= new AtomicLong();
+		private final AtomicLong					duplicates	= new AtomicLong();
+		private final AtomicLong					failed		= new AtomicLong();
+		private volatile String[]					columns;
+		private volatile boolean					aborted;
+		private volatile String						abortMessage;
+		private volatile Throwable					abortCause;
+
+		private Load(Path file, Class<? extends Serializable> clazz, EntityStructure structure, BulkLoadOptions options) {
+			this.file = file;
+			this.clazz = clazz;
+			this.options = options;
+			for (PersistableField field : structure.getPersistableFields()) {
+				fields.put(field.getField().getName(), field);
+			}
+		}
+
+		private synchronized void abort(String message, Throwable cause) {
+			if (!aborted) {
+				abortMessage = message;
+				abortCause = cause;
+				aborted = true;
+			}
+		}
+
+		private PersistableField getField(String column) {
+			String fieldName = options.getColumnMapping().get(column);
+			return fields.get(fieldName != null ? fieldName : column);
+		}
+
+		private void logUnmappedColumns() {
+			for (String column : columns) {
+				if (getField(column) == null) {
+					LOGGER.warn("Column: {} of file: {} is not mapped to any field of class: {} and will be skipped", column, file,
+							clazz.getName());
+				}
+			}
+		}
+
+		/**
+		 * Parses the line into column name to value map.
+		 *
+		 * @param line
+		 * @return
+		 */
+		private Map<String, Object> parse(String line) {
+			if (options.getFormat() == FileFormat.JSON_LINES) {
+				return JsonLineParser.parse(line);
+			}
+			List<String> values = CsvLineParser.parse(line, options.getDelimiter());
+			if (values.size() != columns.length) {
+				throw new IllegalArgumentException("Expected " + columns.length + " values but found " + values.size() + " in "
+						+ Arrays.toString(columns));
+			}
+			Map<String, Object> record = new LinkedHashMap<String, Object>();
+			for (int i = 0; i < columns.length; i++) {
+				record.put(columns[i], values.get(i));
+			}
+			return record;
+		}
+
+		private Serializable createEntity(Map<String, Object> record) throws Exception {
+			Serializable entity = clazz.newInstance();
+			for (Map.Entry<String, Object> value : record.entrySet()) {
+				PersistableField field = getField(value.getKey());
+				if (field != null && value.getValue() != null) {
+					field.getSetter().invoke(entity, conversionService.convert(value.getValue(), field.getType()));
+				}
+			}
+			return entity;
+		}
+	}
+
+	/**
+	 * Writes a single line of the file.
+	 */
+	private class LineWriter implements Runnable {
+		private final Load				load;
+		private final CheckpointTracker	tracker;
+		private final Semaphore			inFlight;
+		private final String			line;
+		private final long				lineNumber;
+
+		private LineWriter(Load load, CheckpointTracker tracker, Semaphore inFlight, String line, long lineNumber) {
+			this.load = load;
+			this.tracker = tracker;
+			this.inFlight = inFlight;
+			this.line = line;
+			this.lineNumber = lineNumber;
+		}
+
+		@Override
+		public void run() {
+			try {
+				if (load.aborted) {
+					return;
+				}
+				aerospikeOperations.put(load.createEntity(load.parse(line)));
+				load.written.incrementAndGet();
+				tracker.complete(lineNumber);
+			} catch (AerospikeOptimisticLockingException e) {
+				if (isKeyExists(e)) {
+					// Versioned entities are created only if absent, this line was
+					// written by a previous run after its last checkpoint
+					load.duplicates.incrementAndGet();
+					tracker.complete(lineNumber);
+				} else {
+					failed(e);
+				}
+			} catch (Exception e) {
+				failed(e);
+			} finally {
+				inFlight.release();
+			}
+		}
+
+		private void failed(Exception e) {
+			long failed = load.failed.incrementAndGet();
+			long maxErrors = load.options.getMaxErrors();
+			if (maxErrors >= 0 && failed > maxErrors) {
+				// Line stays pending so checkpoint never moves past it
+				load.abort("Failed to load line: " + lineNumber + " of file: " + load.file, e);
+			} else {
+				LOGGER.warn("Skipping line: {} of file: {}", lineNumber, load.file, e);
+				tracker.complete(lineNumber);
+			}
+		}
+
+		private boolean isKeyExists(AerospikeOptimisticLockingException e) {
+			return e.getCause() instanceof com.aerospike.client.AerospikeException
+					&& ((com.aerospike.client.AerospikeException) e.getCause()).getResultCode() == ResultCode.KEY_EXISTS_ERROR;
+		}
+	}
+}
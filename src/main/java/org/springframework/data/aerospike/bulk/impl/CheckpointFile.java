@@ -0,0 +1,136 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.bulk.impl;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.aerospike.bulk.BulkLoader;
+import org.springframework.data.aerospike.exceptions.AerospikeBulkLoadException;
+
+/**
+ * Checkpoint of a load saved in a properties file: the absolute path of the
+ * file being loaded and the line up to which all the lines are done.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+final class CheckpointFile {
+	private static final Logger	LOGGER			= LoggerFactory.getLogger(BulkLoader.class);
+	private static final String	CHECKPOINT_FILE	= "file";
+	private static final String	CHECKPOINT_LINE	= "line";
+
+	private final Path			checkpointFile;
+	private final Path			file;
+
+	/**
+	 *
+	 * @param checkpointFile
+	 * @param file
+	 *            being loaded.
+	 */
+	CheckpointFile(Path checkpointFile, Path file) {
+		this.checkpointFile = checkpointFile;
+		this.file = file;
+	}
+
+	/**
+	 * Returns the line after which a previous load of the file has stopped.
+	 *
+	 * @return
+	 * @throws AerospikeBulkLoadException
+	 *             if the checkpoint can't be read or belongs to a different
+	 *             file.
+	 */
+	long read() throws AerospikeBulkLoadException {
+		if (!Files.exists(checkpointFile)) {
+			return 0;
+		}
+		Properties checkpoint = new Properties();
+		BufferedReader reader = null;
+		try {
+			reader = Files.newBufferedReader(checkpointFile, Charset.forName("UTF-8"));
+			checkpoint.load(reader);
+		} catch (IOException e) {
+			throw new AerospikeBulkLoadException("Failed to read checkpoint file: " + checkpointFile, e);
+		} finally {
+			closeQuietly(reader);
+		}
+		if (!file.toAbsolutePath().toString().equals(checkpoint.getProperty(CHECKPOINT_FILE))) {
+			throw new AerospikeBulkLoadException("Checkpoint file: " + checkpointFile + " belongs to file: "
+					+ checkpoint.getProperty(CHECKPOINT_FILE));
+		}
+		try {
+			return Long.parseLong(checkpoint.getProperty(CHECKPOINT_LINE, "0"));
+		} catch (NumberFormatException e) {
+			throw new AerospikeBulkLoadException("Invalid line in checkpoint file: " + checkpointFile, e);
+		}
+	}
+
+	/**
+	 * Writes the checkpoint to a temporary file which then replaces the
+	 * checkpoint file so a crash never leaves a partial checkpoint.
+	 *
+	 * @param line
+	 */
+	void write(long line) {
+		Properties checkpoint = new Properties();
+		checkpoint.setProperty(CHECKPOINT_FILE, file.toAbsolutePath().toString());
+		checkpoint.setProperty(CHECKPOINT_LINE, String.valueOf(line));
+		Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+		BufferedWriter writer = null;
+		try {
+			writer = Files.newBufferedWriter(temp, Charset.forName("UTF-8"));
+			checkpoint.store(writer, null);
+			writer.close();
+			writer = null;
+			Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			LOGGER.error("Failed to write checkpoint file: {} at line: {}", checkpointFile, line, e);
+		} finally {
+			closeQuietly(writer);
+		}
+	}
+
+	void delete() {
+		try {
+			Files.deleteIfExists(checkpointFile);
+		} catch (IOException e) {
+			LOGGER.error("Failed to delete checkpoint file: {}", checkpointFile, e);
+		}
+	}
+
+	private void closeQuietly(Closeable closeable) {
+		if (closeable != null) {
+			try {
+				closeable.close();
+			} catch (IOException e) {
+				LOGGER.debug("Failed to close {}", closeable, e);
+			}
+		}
+	}
+}
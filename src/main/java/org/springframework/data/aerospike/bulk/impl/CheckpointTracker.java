@@ -0,0 +1,74 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.bulk.impl;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Tracks the lines being written in parallel to find the line up to which all
+ * the lines are done. Lines are started in file order by the reading thread
+ * and completed by the writers in any order.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+final class CheckpointTracker {
+	private final ConcurrentSkipListSet<Long>	pending	= new ConcurrentSkipListSet<Long>();
+	private volatile long						lastStarted;
+
+	CheckpointTracker(long resumeAfterLine) {
+		this.lastStarted = resumeAfterLine;
+	}
+
+	void start(long line) {
+		pending.add(line);
+		lastStarted = line;
+	}
+
+	/**
+	 * Marks a line which doesn't need to be written, e.g. header or blank
+	 * line.
+	 *
+	 * @param line
+	 */
+	void skip(long line) {
+		lastStarted = line;
+	}
+
+	void complete(long line) {
+		pending.remove(line);
+	}
+
+	/**
+	 * Returns the line up to which all the lines are done.
+	 *
+	 * @return
+	 */
+	long getCheckpoint() {
+		long checkpoint = lastStarted;
+		if (!pending.isEmpty()) {
+			try {
+				checkpoint = Math.min(checkpoint, pending.first() - 1);
+			} catch (NoSuchElementException e) {
+				// Completed concurrently
+			}
+		}
+		return checkpoint;
+	}
+}
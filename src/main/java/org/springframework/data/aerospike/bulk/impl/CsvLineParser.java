@@ -0,0 +1,111 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.bulk.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a delimited line into values. Values may be enclosed in double quotes
+ * in which case delimiters are part of the value and a doubled quote stands
+ * for a single quote. Empty unquoted values are returned as null. A quoted
+ * value may hold line breaks, the lines of such a record are joined by the
+ * reader before parsing.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+final class CsvLineParser {
+
+	private CsvLineParser() {
+	}
+
+	/**
+	 *
+	 * @param line
+	 * @param delimiter
+	 * @return
+	 * @throws IllegalArgumentException
+	 *             if a quoted value isn't closed.
+	 */
+	static List<String> parse(String line, char delimiter) {
+		List<String> values = new ArrayList<String>();
+		StringBuilder value = new StringBuilder();
+		boolean quoted = false;
+		boolean inQuotes = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (inQuotes) {
+				if (c == '"') {
+					if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+						value.append('"');
+						i++;
+					} else {
+						inQuotes = false;
+					}
+				} else {
+					value.append(c);
+				}
+			} else if (c == delimiter) {
+				values.add(quoted || value.length() > 0 ? value.toString() : null);
+				value.setLength(0);
+				quoted = false;
+			} else if (c == '"' && value.length() == 0 && !quoted) {
+				quoted = true;
+				inQuotes = true;
+			} else {
+				value.append(c);
+			}
+		}
+		if (inQuotes) {
+			throw new IllegalArgumentException("Unterminated quoted value");
+		}
+		values.add(quoted || value.length() > 0 ? value.toString() : null);
+		return values;
+	}
+
+	/**
+	 *
+	 * @param line
+	 * @param delimiter
+	 * @return false if the line ends within a quoted value, i.e. the value
+	 *         continues on the next line of the file.
+	 */
+	static boolean isComplete(String line, char delimiter) {
+		boolean inQuotes = false;
+		boolean valueStart = true;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (inQuotes) {
+				if (c == '"') {
+					if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+						i++;
+					} else {
+						inQuotes = false;
+					}
+				}
+			} else if (c == delimiter) {
+				valueStart = true;
+			} else {
+				inQuotes = c == '"' && valueStart;
+				valueStart = false;
+			}
+		}
+		return !inQuotes;
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.bulk.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parses a line holding a flat JSON object into property name to value map.
+ * Strings are returned as String, integral numbers as Long, other numbers as
+ * Double and true/false as Boolean. Nested objects and arrays are rejected.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+final class JsonLineParser {
+	private final String	line;
+	private int				position;
+
+	private JsonLineParser(String line) {
+		this.line = line;
+	}
+
+	/**
+	 *
+	 * @param line
+	 * @return
+	 * @throws IllegalArgumentException
+	 *             if the line isn't a flat JSON object.
+	 */
+	static Map<String, Object> parse(String line) {
+		return new JsonLineParser(line).parseObject();
+	}
+
+	private Map<String, Object> parseObject() {
+		Map<String, Object> values = new LinkedHashMap<String, Object>();
+		expect('{');
+		if (peek() == '}') {
+			position++;
+			return values;
+		}
+		while (true) {
+			expect('"');
+			String name = parseString();
+			expect(':');
+			values.put(name, parseValue());
+			char c = next();
+			if (c == '}') {
+				break;
+			}
+			if (c != ',') {
+				throw error("Expected , or }");
+			}
+		}
+		if (peek() != 0) {
+			throw error("Unexpected content after object");
+		}
+		return values;
+	}
+
+	private Object parseValue() {
+		char c = peek();
+		if (c == '"') {
+			position++;
+			return parseString();
+		}
+		if (c == '{' || c == '[') {
+			throw error("Nested values are not supported");
+		}
+		if (line.startsWith("null", position)) {
+			position += 4;
+			return null;
+		}
+		if (line.startsWith("true", position)) {
+			position += 4;
+			return Boolean.TRUE;
+		}
+		if (line.startsWith("false", position)) {
+			position += 5;
+			return Boolean.FALSE;
+		}
+		return parseNumber();
+	}
+
+	private Object parseNumber() {
+		int start = position;
+		boolean integral = true;
+		while (position < line.length()) {
+			char c = line.charAt(position);
+			if (c == '.' || c == 'e' || c == 'E') {
+				integral = false;
+			} else if (!(c == '-' || c == '+' || Character.isDigit(c))) {
+				break;
+			}
+			position++;
+		}
+		String number = line.substring(start, position);
+		try {
+			return integral ? (Object) Long.valueOf(number) : (Object) Double.valueOf(number);
+		} catch (NumberFormatException e) {
+			throw error("Invalid value " + number);
+		}
+	}
+
+	/**
+	 * Parses a string whose opening quote has been consumed.
+	 *
+	 * @return
+	 */
+	private String parseString() {
+		StringBuilder value = new StringBuilder();
+		while (position < line.length()) {
+			char c = line.charAt(position++);
+			if (c == '"') {
+				return value.toString();
+			}
+			if (c != '\\') {
+				value.append(c);
+				continue;
+			}
+			if (position >= line.length()) {
+				break;
+			}
+			char escaped = line.charAt(position++);
+			switch (escaped) {
+			case 'b':
+				value.append('\b');
+				break;
+			case 'f':
+				value.append('\f');
+				break;
+			case 'n':
+				value.append('\n');
+				break;
+			case 'r':
+				value.append('\r');
+				break;
+			case 't':
+				value.append('\t');
+				break;
+			case 'u':
+				if (position + 4 > line.length()) {
+					throw error("Invalid unicode escape");
+				}
+				try {
+					value.append((char) Integer.parseInt(line.substring(position, position + 4), 16));
+				} catch (NumberFormatException e) {
+					throw error("Invalid unicode escape");
+				}
+				position += 4;
+				break;
+			default:
+				value.append(escaped);
+			}
+		}
+		throw error("Unterminated string");
+	}
+
+	private void expect(char expected) {
+		if (next() != expected) {
+			throw error("Expected " + expected);
+		}
+	}
+
+	/**
+	 * Returns next non whitespace character and consumes it.
+	 *
+	 * @return
+	 */
+	private char next() {
+		char c = peek();
+		if (c != 0) {
+			position++;
+		}
+		return c;
+	}
+
+	/**
+	 * Returns next non whitespace character without consuming it or 0 at the
+	 * end of line.
+	 *
+	 * @return
+	 */
+	private char peek() {
+		while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+			position++;
+		}
+		return position < line.length() ? line.charAt(position) : 0;
+	}
+
+	private IllegalArgumentException error(String message) {
+		return new IllegalArgumentException(message + " at position " + position);
+	}
+}
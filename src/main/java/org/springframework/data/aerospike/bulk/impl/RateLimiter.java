@@ -0,0 +1,47 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.bulk.impl;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces the permits evenly to achieve the target rate. Unused permits are not
+ * accumulated so a paused caller doesn't cause a burst later. Not thread safe;
+ * meant to be used by the thread reading the file.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+final class RateLimiter {
+	private final long	intervalNanos;
+	private long		nextPermitNanos;
+
+	RateLimiter(int permitsPerSecond) {
+		this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+		this.nextPermitNanos = System.nanoTime();
+	}
+
+	void acquire() throws InterruptedException {
+		long now = System.nanoTime();
+		long wait = nextPermitNanos - now;
+		nextPermitNanos = Math.max(nextPermitNanos, now) + intervalNanos;
+		if (wait > 0) {
+			TimeUnit.NANOSECONDS.sleep(wait);
+		}
+	}
+}
@@ -0,0 +1,267 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.aerospike.client.Client;
+import org.springframework.data.aerospike.configuration.PolicyUtils;
+import org.springframework.data.aerospike.exceptions.SerializationException;
+import org.springframework.data.aerospike.serializer.Serializer;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.ScanCallback;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.ScanPolicy;
+import com.aerospike.client.policy.WritePolicy;
+
+/**
+ * {@link Cache} stored in an aerospike set named as the cache. Values are
+ * serialized with the configured {@link Serializer} into a single bin and
+ * expire as per the write policy of the cache. String, Integer, Long and
+ * byte[] keys are used as is; other keys are converted through toString()
+ * which hence should be stable across nodes (as it is for
+ * {@code SimpleKey} of simple arguments).
+ * <p>
+ * With the local tier enabled, values are returned from a per-node map for a
+ * short time and the same instance is returned to all the callers, so cached
+ * values must not be modified.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class AerospikeCache implements Cache {
+	private static final Logger	LOGGER		= LoggerFactory.getLogger(AerospikeCache.class);
+	/**
+	 * Bin holding serialized value.
+	 */
+	private static final String	VALUE_BIN	= "value";
+	/**
+	 * Bin marking a cached null since bins can't hold null.
+	 */
+	private static final String	NULL_BIN	= "null";
+
+	private final String		name;
+	private final String		namespace;
+	private final Client		client;
+	private final Serializer	serializer;
+	private final Policy		readPolicy;
+	private final BatchPolicy	batchPolicy;
+	private final WritePolicy	writePolicy;
+	/**
+	 * Write policy of {@link #putIfAbsent(Object, Object)}.
+	 */
+	private final WritePolicy	createPolicy;
+	/**
+	 * Null if local tier is disabled.
+	 */
+	private final LocalCache	localCache;
+
+	AerospikeCache(String name, String namespace, Client client, Serializer serializer, Policy readPolicy, BatchPolicy batchPolicy,
+			WritePolicy writePolicy, LocalCache localCache) {
+		this.name = name;
+		this.namespace = namespace;
+		this.client = client;
+		this.serializer = serializer;
+		this.readPolicy = readPolicy;
+		this.batchPolicy = batchPolicy;
+		this.writePolicy = writePolicy;
+		this.createPolicy = PolicyUtils.copy(writePolicy);
+		this.createPolicy.recordExistsAction = RecordExistsAction.CREATE_ONLY;
+		this.localCache = localCache;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return client.getAerospikeClient();
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		if (localCache != null) {
+			LocalCache.Entry entry = localCache.get(key);
+			if (entry != null) {
+				return new SimpleValueWrapper(entry.getValue());
+			}
+		}
+		Record record = client.getAerospikeClient().get(readPolicy, createKey(key), VALUE_BIN, NULL_BIN);
+		if (record == null) {
+			return null;
+		}
+		Object value = toValue(record);
+		if (localCache != null) {
+			localCache.put(key, value);
+		}
+		return new SimpleValueWrapper(value);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		Object value = wrapper != null ? wrapper.get() : null;
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException("Cached value of key: " + key + " in cache: " + name + " is not of type: " + type.getName());
+		}
+		return (T) value;
+	}
+
+	/**
+	 * Returns the cached values of the given keys read through a single batch
+	 * request. Keys which are not cached are absent in the returned map.
+	 *
+	 * @param keys
+	 * @return
+	 */
+	public Map<Object, Object> getAll(Collection<?> keys) {
+		Map<Object, Object> values = new LinkedHashMap<Object, Object>(keys.size() * 2);
+		List<Object> missing = new ArrayList<Object>(keys.size());
+		for (Object key : keys) {
+			LocalCache.Entry entry = localCache != null ? localCache.get(key) : null;
+			if (entry != null) {
+				values.put(key, entry.getValue());
+			} else {
+				missing.add(key);
+			}
+		}
+		if (missing.isEmpty()) {
+			return values;
+		}
+		Key[] batchKeys = new Key[missing.size()];
+		for (int i = 0; i < batchKeys.length; i++) {
+			batchKeys[i] = createKey(missing.get(i));
+		}
+		Record[] records = client.getAerospikeClient().get(batchPolicy, batchKeys, VALUE_BIN, NULL_BIN);
+		for (int i = 0; records != null && i < records.length; i++) {
+			if (records[i] != null) {
+				Object value = toValue(records[i]);
+				values.put(missing.get(i), value);
+				if (localCache != null) {
+					localCache.put(missing.get(i), value);
+				}
+			}
+		}
+		return values;
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		client.getAerospikeClient().put(writePolicy, createKey(key), toBin(value));
+		if (localCache != null) {
+			localCache.put(key, value);
+		}
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		try {
+			client.getAerospikeClient().put(createPolicy, createKey(key), toBin(value));
+		} catch (com.aerospike.client.AerospikeException e) {
+			if (e.getResultCode() != ResultCode.KEY_EXISTS_ERROR) {
+				throw e;
+			}
+			Record record = client.getAerospikeClient().get(readPolicy, createKey(key), VALUE_BIN, NULL_BIN);
+			// Existing entry may have expired in between
+			return record != null ? new SimpleValueWrapper(toValue(record)) : putIfAbsent(key, value);
+		}
+		if (localCache != null) {
+			localCache.put(key, value);
+		}
+		return null;
+	}
+
+	@Override
+	public void evict(Object key) {
+		if (localCache != null) {
+			localCache.remove(key);
+		}
+		client.getAerospikeClient().delete(writePolicy, createKey(key));
+	}
+
+	/**
+	 * Removes all the entries by scanning the set. Local tiers of other nodes
+	 * keep serving their entries till those expire.
+	 */
+	@Override
+	public void clear() {
+		if (localCache != null) {
+			localCache.clear();
+		}
+		ScanPolicy scanPolicy = new ScanPolicy();
+		scanPolicy.includeBinData = false;
+		client.getAerospikeClient().scanAll(scanPolicy, namespace, name, new ScanCallback() {
+			@Override
+			public void scanCallback(Key key, Record record) throws com.aerospike.client.AerospikeException {
+				client.getAerospikeClient().delete(writePolicy, key);
+			}
+		});
+		LOGGER.info("Cleared cache: {}", name);
+	}
+
+	private Key createKey(Object key) {
+		if (key instanceof String) {
+			return new Key(namespace, name, (String) key);
+		} else if (key instanceof Integer || key instanceof Long) {
+			return new Key(namespace, name, ((Number) key).longValue());
+		} else if (key instanceof byte[]) {
+			return new Key(namespace, name, (byte[]) key);
+		}
+		return new Key(namespace, name, String.valueOf(key));
+	}
+
+	private Bin toBin(Object value) {
+		if (value == null) {
+			return new Bin(NULL_BIN, 1);
+		}
+		try {
+			return new Bin(VALUE_BIN, serializer.doSerialize(value.getClass(), value));
+		} catch (SerializationException e) {
+			throw new IllegalArgumentException("Failed to serialize value of type: " + value.getClass().getName() + " for cache: " + name, e);
+		}
+	}
+
+	private Object toValue(Record record) {
+		byte[] data = record.bins != null ? (byte[]) record.bins.get(VALUE_BIN) : null;
+		if (data == null) {
+			return null;
+		}
+		try {
+			return serializer.doDeserialize(data, Object.class);
+		} catch (SerializationException e) {
+			throw new IllegalStateException("Failed to deserialize value from cache: " + name, e);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.aerospike.client.Client;
+import org.springframework.data.aerospike.configuration.AerospikeConfigurations;
+import org.springframework.data.aerospike.serializer.Serializer;
+import org.springframework.stereotype.Service;
+
+/**
+ * {@link CacheManager} creating {@link AerospikeCache}s in the configured
+ * namespace. Enable with {@code <cache:annotation-driven
+ * cache-manager="aerospikeCacheManager"/>} to use {@code @Cacheable} on top of
+ * aerospike.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@Service("aerospikeCacheManager")
+public class AerospikeCacheManager implements CacheManager {
+	private static final Logger									LOGGER	= LoggerFactory.getLogger(AerospikeCacheManager.class);
+
+	@Autowired
+	private Client												client;
+
+	@Autowired
+	private Serializer											serializer;
+
+	@Autowired
+	private AerospikeConfigurations								aerospikeConfigurations;
+
+	private final ConcurrentHashMap<String, AerospikeCache>	caches	= new ConcurrentHashMap<String, AerospikeCache>();
+
+	@PostConstruct
+	public void initialize() {
+		for (String name : aerospikeConfigurations.getCacheNames()) {
+			getCache(name);
+		}
+	}
+
+	@Override
+	public AerospikeCache getCache(String name) {
+		AerospikeCache cache = caches.get(name);
+		if (cache == null) {
+			AerospikeCache newCache = createCache(name);
+			cache = caches.putIfAbsent(name, newCache);
+			if (cache == null) {
+				cache = newCache;
+				LOGGER.info("Created cache: {} in namespace: {}", name, aerospikeConfigurations.getCacheNamespace());
+			}
+		}
+		return cache;
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		return Collections.unmodifiableSet(caches.keySet());
+	}
+
+	private AerospikeCache createCache(String name) {
+		int localMaxEntries = aerospikeConfigurations.getCacheLocalMaxEntries();
+		LocalCache localCache = localMaxEntries > 0 ? new LocalCache(localMaxEntries, aerospikeConfigurations.getCacheLocalTimeToLive()) : null;
+		return new AerospikeCache(name, aerospikeConfigurations.getCacheNamespace(), client, serializer, aerospikeConfigurations.readPolicy(),
+				aerospikeConfigurations.batchPolicy(), aerospikeConfigurations.cacheWritePolicy(name), localCache);
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local tier of an {@link AerospikeCache}, also used to keep recently read
+ * entities for reads while the circuit is open. Entries are served for a short
+ * time to live so changes made through other nodes become visible once it
+ * elapses. Size is bounded approximately; when full, expired entries are
+ * dropped first and then arbitrary entries.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class LocalCache {
+	private final ConcurrentHashMap<Object, Entry>	entries;
+	private final int								maxEntries;
+	private final long								timeToLiveNanos;
+
+	public LocalCache(int maxEntries, int timeToLiveMillis) {
+		this.entries = new ConcurrentHashMap<Object, Entry>(Math.min(maxEntries, 1024));
+		this.maxEntries = maxEntries;
+		this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLiveMillis);
+	}
+
+	/**
+	 * Returns the live entry of the given key or null.
+	 *
+	 * @param key
+	 * @return
+	 */
+	public Entry get(Object key) {
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.isExpired(System.nanoTime())) {
+			entries.remove(key, entry);
+			return null;
+		}
+		return entry;
+	}
+
+	public void put(Object key, Object value) {
+		if (entries.size() >= maxEntries) {
+			evict();
+		}
+		entries.put(key, new Entry(value, System.nanoTime() + timeToLiveNanos));
+	}
+
+	public void remove(Object key) {
+		entries.remove(key);
+	}
+
+	public void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * Brings the size down to 90% of the maximum.
+	 */
+	private void evict() {
+		long now = System.nanoTime();
+		int target = maxEntries * 9 / 10;
+		for (Iterator<Map.Entry<Object, Entry>> iterator = entries.entrySet().iterator(); iterator.hasNext();) {
+			if (iterator.next().getValue().isExpired(now)) {
+				iterator.remove();
+			}
+		}
+		for (Iterator<Object> iterator = entries.keySet().iterator(); iterator.hasNext() && entries.size() > target;) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	public static class Entry {
+		private final Object	value;
+		private final long		expiresAt;
+
+		Entry(Object value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+
+		public Object getValue() {
+			return value;
+		}
+
+		public boolean isExpired(long now) {
+			return now - expiresAt > 0;
+		}
+	}
+}
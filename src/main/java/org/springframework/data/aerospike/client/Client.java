@@ -18,8 +18,10 @@ package org.springframework.data.aerospike.client;
 
 import org.springframework.data.aerospike.mapper.EntityMapper;
 
-import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.policy.QueryPolicy;
 import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.client.query.Statement;
 
 /**
  * @author    fanendra
@@ -28,8 +30,18 @@ import com.aerospike.client.policy.WritePolicy;
  */
 public interface Client {
 	public EntityMapper getEntityMapper();
-	public AerospikeClient getAerospikeClient();
+	public IAerospikeClient getAerospikeClient();
 	public void reloadAerospikePolicies();
 	public void initialize();
 	public WritePolicy getDefaultWritePolicy();
+
+	/**
+	 * Runs a secondary index query.
+	 * 
+	 * @param policy
+	 *            null for the default query policy.
+	 * @param statement
+	 * @return records found; the caller closes the cursor.
+	 */
+	public RecordCursor query(QueryPolicy policy, Statement statement);
 }
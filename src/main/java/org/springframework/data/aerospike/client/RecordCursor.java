@@ -0,0 +1,50 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.client;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.query.RecordSet;
+
+/**
+ * Records returned by a query, read one at a time. It is the
+ * {@link RecordSet} of the aerospike client for a cluster, and a plain list
+ * for the in-memory stand-in whose record sets can't be created outside the
+ * client.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public interface RecordCursor {
+	/**
+	 * Moves to the next record.
+	 * 
+	 * @return false if there are no more records.
+	 */
+	public boolean next();
+
+	public Key getKey();
+
+	public Record getRecord();
+
+	/**
+	 * Stops the query if it hasn't completed yet. Safe to call more than
+	 * once.
+	 */
+	public void close();
+}
@@ -16,17 +16,28 @@
  */
 package org.springframework.data.aerospike.client.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.annotation.PostConstruct;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.data.aerospike.client.Client;
+import org.springframework.data.aerospike.client.RecordCursor;
 import org.springframework.data.aerospike.configuration.AerospikeConfigurations;
+import org.springframework.data.aerospike.configuration.EntityPolicies;
 import org.springframework.data.aerospike.mapper.EntityMapper;
 import org.springframework.data.aerospike.mapper.EntityStructure;
 import org.springframework.stereotype.Service;
 
 import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.policy.QueryPolicy;
 import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.client.query.Statement;
 
 
 /**
@@ -35,7 +46,9 @@ import com.aerospike.client.policy.WritePolicy;
  * @since
  */
 @Service("client")
+@Conditional(ClusterClientCondition.class)
 public class ClientImpl implements Client {
+	private static final Logger		LOGGER	= LoggerFactory.getLogger(ClientImpl.class);
 	/**
 	 * Aerospike client to connect and query aerospike cluster/database.
 	 */
@@ -57,18 +70,31 @@ public class ClientImpl implements Client {
 		// spring-aerospike.xml
 	}
 	
+	/**
+	 * Reloads the configurations and replaces the policies of all the
+	 * entities. Policies of all the entities are resolved before any of them
+	 * is published; each entity then switches to its new policies with a
+	 * single write. Nothing changes if the configuration files can't be read.
+	 */
 	@Override
-	public void reloadAerospikePolicies() {
-		aerospikeConfigurations.reloadPolicyConfig();
-		for(EntityStructure structure : mapper.getAllEntitiesStructure()) {
-			structure.setBatchPolicy(aerospikeConfigurations.clazzBatchPolicy(structure.getClazzName()));
-			structure.setWritePolicy(aerospikeConfigurations.clazzWritePolicy(structure.getClazzName()));
-			structure.setPolicy(aerospikeConfigurations.clazzWritePolicy(structure.getClazzName()));
+	public synchronized void reloadAerospikePolicies() {
+		if (!aerospikeConfigurations.reloadPolicyConfig()) {
+			LOGGER.warn("Aerospike configurations could not be reloaded. Policies are not changed");
+			return;
+		}
+		List<EntityStructure> structures = new ArrayList<EntityStructure>(mapper.getAllEntitiesStructure());
+		List<EntityPolicies> policies = new ArrayList<EntityPolicies>(structures.size());
+		for (EntityStructure structure : structures) {
+			policies.add(aerospikeConfigurations.clazzPolicies(structure.getClazzName()));
 		}
+		for (int i = 0; i < structures.size(); i++) {
+			structures.get(i).setPolicies(policies.get(i));
+		}
+		LOGGER.info("Policies of {} entities reloaded", structures.size());
 	}
 
 	@Override
-	public AerospikeClient getAerospikeClient() {
+	public IAerospikeClient getAerospikeClient() {
 		return aerospikeClient;
 	}
 
@@ -81,4 +107,9 @@ public class ClientImpl implements Client {
 	public WritePolicy getDefaultWritePolicy() {
 		return aerospikeClient.writePolicyDefault;
 	}
+
+	@Override
+	public RecordCursor query(QueryPolicy policy, Statement statement) {
+		return new RecordSetCursor(aerospikeClient.query(policy, statement));
+	}
 }
@@ -0,0 +1,162 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.client.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.aerospike.client.Client;
+import org.springframework.data.aerospike.configuration.AerospikeConfigurations;
+import org.springframework.data.aerospike.configuration.WarmupPolicy;
+import org.springframework.data.aerospike.mapper.EntityMapper;
+import org.springframework.data.aerospike.mapper.EntityStructure;
+import org.springframework.stereotype.Service;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.cluster.Connection;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.policy.Policy;
+
+/**
+ * Warms up the client at startup as per {@link WarmupPolicy}: opens the
+ * minimum connections of every node and returns them to the pool of the
+ * node, then reads the structures of the configured entities and issues a few
+ * exists calls against each of their namespaces. Startup is blocked till the
+ * warm-up completes. Failures only leave the pools colder and are logged.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@Service("connectionWarmer")
+public class ConnectionWarmer {
+	private static final Logger		LOGGER		= LoggerFactory.getLogger(ConnectionWarmer.class);
+	/**
+	 * Set of the keys read during warm-up. Keys don't need to exist.
+	 */
+	private static final String		WARMUP_SET	= "warmup";
+
+	@Autowired
+	private Client					client;
+
+	@Autowired
+	private EntityMapper			entityMapper;
+
+	@Autowired
+	private AerospikeConfigurations	aerospikeConfigurations;
+
+	private volatile boolean		warm;
+
+	@PostConstruct
+	public void initialize() {
+		WarmupPolicy policy = aerospikeConfigurations.warmupPolicy();
+		if (!policy.isEnabled()) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		int connections = openConnections(policy);
+		int reads = warmNamespaces(policy);
+		warm = true;
+		LOGGER.info("Aerospike client warm: {} connections opened, {} reads done in {}ms", connections, reads, System.currentTimeMillis() - start);
+	}
+
+	/**
+	 * 
+	 * @return whether the warm-up has completed.
+	 */
+	public boolean isWarm() {
+		return warm;
+	}
+
+	/**
+	 * Opens connections to every node, all held at once so the pool has to
+	 * create new ones, and then returns them to the pool.
+	 *
+	 * @param policy
+	 * @return number of connections opened.
+	 */
+	private int openConnections(WarmupPolicy policy) {
+		int opened = 0;
+		if (policy.getMinConnsPerNode() <= 0) {
+			return opened;
+		}
+		for (Node node : client.getAerospikeClient().getNodes()) {
+			List<Connection> connections = new ArrayList<Connection>(policy.getMinConnsPerNode());
+			try {
+				for (int i = 0; i < policy.getMinConnsPerNode(); i++) {
+					connections.add(node.getConnection(policy.getTimeout()));
+				}
+			} catch (AerospikeException e) {
+				LOGGER.warn("Failed to open connection to node: {} after {} connections. Error was: {}", node.getName(), connections.size(),
+						e.getMessage());
+			} finally {
+				for (Connection connection : connections) {
+					node.putConnection(connection);
+				}
+			}
+			LOGGER.debug("Opened {} connections to node: {}", connections.size(), node.getName());
+			opened += connections.size();
+		}
+		return opened;
+	}
+
+	/**
+	 * Reads the structures of the warm-up entities and issues exists calls
+	 * against their namespaces. Keys are different so the reads are spread
+	 * over the partitions and hence over the nodes.
+	 *
+	 * @param policy
+	 * @return number of reads done.
+	 */
+	private int warmNamespaces(WarmupPolicy policy) {
+		Set<String> namespaces = new LinkedHashSet<String>();
+		for (String entity : policy.getEntities()) {
+			try {
+				EntityStructure structure = entityMapper.getEntityStructure(Class.forName(entity, true, Thread.currentThread()
+						.getContextClassLoader()));
+				namespaces.add(structure.getNameSpace());
+			} catch (Exception e) {
+				LOGGER.warn("Failed to read structure of warm-up entity: {}. Error was: {}", entity, e.getMessage());
+			}
+		}
+		Policy readPolicy = new Policy();
+		readPolicy.timeout = policy.getTimeout();
+		readPolicy.maxRetries = 0;
+		IAerospikeClient aerospikeClient = client.getAerospikeClient();
+		int reads = 0;
+		for (String namespace : namespaces) {
+			for (int i = 0; i < policy.getReadsPerNamespace(); i++) {
+				try {
+					aerospikeClient.exists(readPolicy, new Key(namespace, WARMUP_SET, i));
+					reads++;
+				} catch (AerospikeException e) {
+					LOGGER.warn("Warm-up read on namespace: {} failed. Error was: {}", namespace, e.getMessage());
+				}
+			}
+		}
+		return reads;
+	}
+}
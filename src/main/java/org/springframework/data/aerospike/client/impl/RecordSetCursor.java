@@ -0,0 +1,58 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.client.impl;
+
+import org.springframework.data.aerospike.client.RecordCursor;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.query.RecordSet;
+
+/**
+ * {@link RecordCursor} over the {@link RecordSet} of a query on the cluster.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class RecordSetCursor implements RecordCursor {
+	private final RecordSet	recordSet;
+
+	public RecordSetCursor(RecordSet recordSet) {
+		this.recordSet = recordSet;
+	}
+
+	@Override
+	public boolean next() {
+		return recordSet.next();
+	}
+
+	@Override
+	public Key getKey() {
+		return recordSet.getKey();
+	}
+
+	@Override
+	public Record getRecord() {
+		return recordSet.getRecord();
+	}
+
+	@Override
+	public void close() {
+		recordSet.close();
+	}
+}
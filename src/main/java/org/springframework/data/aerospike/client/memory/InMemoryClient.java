@@ -0,0 +1,100 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.client.memory;
+
+import java.lang.reflect.Proxy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.data.aerospike.client.RecordCursor;
+import org.springframework.data.aerospike.client.impl.ClientImpl;
+import org.springframework.data.aerospike.configuration.AerospikeConfigurations;
+import org.springframework.data.aerospike.configuration.InMemoryPolicy;
+import org.springframework.stereotype.Service;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.client.query.Statement;
+
+/**
+ * {@link ClientImpl} keeping the records in an {@link InMemoryStore} instead
+ * of an aerospike cluster, for tests and benchmarks. Registered in place of
+ * {@link ClientImpl} when aerospike.inMemory.enabled is true; entity
+ * mapping, policies and operations are the same as with a cluster.
+ * <p>
+ * {@link #getAerospikeClient()} is a proxy running the commands on the store.
+ * Aggregations, udf and scans by node are not supported as they need a
+ * cluster. Latency and failures injected into the commands are re-read by
+ * {@link #reloadAerospikePolicies()}.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@Service("client")
+@Conditional(InMemoryClientCondition.class)
+public class InMemoryClient extends ClientImpl {
+	private static final Logger		LOGGER	= LoggerFactory.getLogger(InMemoryClient.class);
+	@Autowired
+	private AerospikeConfigurations	aerospikeConfigurations;
+	private InMemoryStore			store;
+	private IAerospikeClient		aerospikeClient;
+	private WritePolicy				writePolicyDefault;
+
+	@Override
+	public void initialize() {
+		InMemoryPolicy policy = aerospikeConfigurations.inMemoryPolicy();
+		store = new InMemoryStore(policy);
+		writePolicyDefault = aerospikeConfigurations.clientPolicy().writePolicyDefault;
+		aerospikeClient = (IAerospikeClient) Proxy.newProxyInstance(IAerospikeClient.class.getClassLoader(),
+				new Class<?>[] { IAerospikeClient.class }, new InMemoryCommandHandler(store, writePolicyDefault));
+		LOGGER.info("Using in-memory aerospike client, latency: {}us (+{}us), failures: {}%", policy.getLatency(),
+				policy.getLatencyJitter(), policy.getFailurePercent());
+	}
+
+	@Override
+	public synchronized void reloadAerospikePolicies() {
+		super.reloadAerospikePolicies();
+		store.setPolicy(aerospikeConfigurations.inMemoryPolicy());
+	}
+
+	@Override
+	public IAerospikeClient getAerospikeClient() {
+		return aerospikeClient;
+	}
+
+	@Override
+	public WritePolicy getDefaultWritePolicy() {
+		return writePolicyDefault;
+	}
+
+	@Override
+	public RecordCursor query(QueryPolicy policy, Statement statement) {
+		return new ListRecordCursor(store.query(statement));
+	}
+
+	/**
+	 * 
+	 * @return store holding the records, to clear or inspect it.
+	 */
+	public InMemoryStore getStore() {
+		return store;
+	}
+}
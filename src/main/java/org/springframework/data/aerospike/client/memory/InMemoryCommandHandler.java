@@ -0,0 +1,146 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.client.memory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.ScanCallback;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.InfoPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.ScanPolicy;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.client.query.IndexType;
+
+/**
+ * Runs the commands called on an {@link IAerospikeClient} proxy on an
+ * {@link InMemoryStore}. Methods of the client are told apart by name and
+ * parameter count. Methods which need a cluster (udf, aggregation, scans by
+ * node and so on) throw {@link UnsupportedOperationException}.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+class InMemoryCommandHandler implements InvocationHandler {
+	private final InMemoryStore	store;
+	private final Policy		readPolicyDefault	= new Policy();
+	private final WritePolicy	writePolicyDefault;
+	private final ScanPolicy	scanPolicyDefault	= new ScanPolicy();
+	private final QueryPolicy	queryPolicyDefault	= new QueryPolicy();
+	private final BatchPolicy	batchPolicyDefault	= new BatchPolicy();
+	private final InfoPolicy	infoPolicyDefault	= new InfoPolicy();
+
+	/**
+	 *
+	 * @param store
+	 * @param writePolicyDefault
+	 *            used for the commands called without a write policy.
+	 */
+	InMemoryCommandHandler(InMemoryStore store, WritePolicy writePolicyDefault) {
+		this.store = store;
+		this.writePolicyDefault = writePolicyDefault != null ? writePolicyDefault : new WritePolicy();
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		String name = method.getName();
+		int count = args != null ? args.length : 0;
+		if (method.getDeclaringClass() == Object.class) {
+			if ("equals".equals(name)) {
+				return proxy == args[0];
+			} else if ("hashCode".equals(name)) {
+				return System.identityHashCode(proxy);
+			}
+			return "InMemoryAerospikeClient@" + Integer.toHexString(System.identityHashCode(proxy));
+		}
+		if (count > 1 && !(args[1] instanceof Key) && !(args[1] instanceof Key[]) && !(args[1] instanceof String)) {
+			// Batch reads of BatchRead lists, udf registration and so on
+			throw new UnsupportedOperationException(method + " is not supported by the in-memory aerospike client");
+		}
+		if ("put".equals(name)) {
+			store.put(writePolicy(args[0]), (Key) args[1], (Bin[]) args[2]);
+			return null;
+		} else if ("append".equals(name)) {
+			store.append(writePolicy(args[0]), (Key) args[1], (Bin[]) args[2]);
+			return null;
+		} else if ("prepend".equals(name)) {
+			store.prepend(writePolicy(args[0]), (Key) args[1], (Bin[]) args[2]);
+			return null;
+		} else if ("add".equals(name)) {
+			store.add(writePolicy(args[0]), (Key) args[1], (Bin[]) args[2]);
+			return null;
+		} else if ("touch".equals(name)) {
+			store.touch(writePolicy(args[0]), (Key) args[1]);
+			return null;
+		} else if ("delete".equals(name)) {
+			return store.delete(writePolicy(args[0]), (Key) args[1]);
+		} else if ("operate".equals(name)) {
+			return store.operate(writePolicy(args[0]), (Key) args[1], (Operation[]) args[2]);
+		} else if ("exists".equals(name)) {
+			return args[1] instanceof Key[] ? store.exists((Key[]) args[1]) : store.exists((Key) args[1]);
+		} else if ("get".equals(name)) {
+			String[] binNames = count > 2 ? (String[]) args[2] : null;
+			return args[1] instanceof Key[] ? store.get((Key[]) args[1], binNames) : store.get((Key) args[1], binNames);
+		} else if ("getHeader".equals(name)) {
+			return args[1] instanceof Key[] ? store.getHeader((Key[]) args[1]) : store.getHeader((Key) args[1]);
+		} else if ("scanAll".equals(name)) {
+			store.scanAll((String) args[1], (String) args[2], (ScanCallback) args[3], (String[]) args[4]);
+			return null;
+		} else if ("createIndex".equals(name) && count == 6) {
+			store.createIndex((String) args[1], (String) args[2], (String) args[3], (String) args[4], (IndexType) args[5]);
+			// Index is ready as soon as it is created, nothing to wait for
+			return null;
+		} else if ("dropIndex".equals(name)) {
+			store.dropIndex((String) args[1], (String) args[count - 1]);
+			return null;
+		} else if ("isConnected".equals(name)) {
+			return true;
+		} else if ("close".equals(name)) {
+			return null;
+		} else if ("getNodes".equals(name)) {
+			return new Node[0];
+		} else if ("getNodeNames".equals(name)) {
+			return new ArrayList<String>();
+		} else if ("getReadPolicyDefault".equals(name)) {
+			return readPolicyDefault;
+		} else if ("getWritePolicyDefault".equals(name)) {
+			return writePolicyDefault;
+		} else if ("getScanPolicyDefault".equals(name)) {
+			return scanPolicyDefault;
+		} else if ("getQueryPolicyDefault".equals(name)) {
+			return queryPolicyDefault;
+		} else if ("getBatchPolicyDefault".equals(name)) {
+			return batchPolicyDefault;
+		} else if ("getInfoPolicyDefault".equals(name)) {
+			return infoPolicyDefault;
+		}
+		throw new UnsupportedOperationException(method + " is not supported by the in-memory aerospike client");
+	}
+
+	private WritePolicy writePolicy(Object policy) {
+		return policy != null ? (WritePolicy) policy : writePolicyDefault;
+	}
+}
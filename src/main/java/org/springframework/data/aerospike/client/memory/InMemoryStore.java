@@ -0,0 +1,647 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.client.memory;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.data.aerospike.configuration.InMemoryPolicy;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.ScanCallback;
+import com.aerospike.client.Value;
+import com.aerospike.client.policy.GenerationPolicy;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.client.query.Filter;
+import com.aerospike.client.query.IndexType;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.Statement;
+
+/**
+ * Records kept in memory by namespace and digest, with the server behaviour
+ * the library relies on:
+ * <ul>
+ * <li>generation starting at 1 and incremented by every write, checked as
+ * per the generation policy of the write.</li>
+ * <li>expiration in seconds, -1 never expires and -2 keeps the current one.
+ * The namespace default (0) is taken as never expiring. Expired records are
+ * dropped when they are next accessed.</li>
+ * <li>record exists actions, bins with null values removed and records
+ * without bins deleted.</li>
+ * <li>operate with put, add, append, prepend, touch and reads applied in
+ * order.</li>
+ * <li>equality and range queries on bins with a secondary index, failing with
+ * {@link ResultCode#INDEX_NOTFOUND} otherwise.</li>
+ * </ul>
+ * Integers are stored as longs as the server does. Writes of a record are
+ * serialized by a lock stripe of its digest; reads take no lock.
+ * <p>
+ * Every command first waits and may fail as per the {@link InMemoryPolicy},
+ * which can be replaced while the store is used.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class InMemoryStore {
+	private static final WritePolicy													DEFAULT_WRITE_POLICY	= new WritePolicy();
+	private static final int															LOCK_STRIPES			= 256;
+	/**
+	 * Fields of {@link Filter} holding the bin name and the bounds. Filter
+	 * has no accessors for them.
+	 */
+	private static final Field															FILTER_NAME				= filterField("name");
+	private static final Field															FILTER_BEGIN			= filterField("begin");
+	private static final Field															FILTER_END				= filterField("end");
+	/**
+	 * Records by digest by namespace.
+	 */
+	private final ConcurrentHashMap<String, ConcurrentHashMap<ByteBuffer, StoredRecord>>	namespaces				= new ConcurrentHashMap<String, ConcurrentHashMap<ByteBuffer, StoredRecord>>();
+	/**
+	 * Secondary indexes by name by namespace.
+	 */
+	private final ConcurrentHashMap<String, ConcurrentHashMap<String, StoredIndex>>		indexes					= new ConcurrentHashMap<String, ConcurrentHashMap<String, StoredIndex>>();
+	private final Object[]																locks					= new Object[LOCK_STRIPES];
+	private volatile InMemoryPolicy														policy;
+
+	public InMemoryStore(InMemoryPolicy policy) {
+		this.policy = policy;
+		for (int i = 0; i < locks.length; i++) {
+			locks[i] = new Object();
+		}
+	}
+
+	public InMemoryPolicy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * Replaces the latency and failures injected into the commands from now
+	 * on.
+	 *
+	 * @param policy
+	 */
+	public void setPolicy(InMemoryPolicy policy) {
+		this.policy = policy;
+	}
+
+	/**
+	 * Removes all the records and indexes.
+	 */
+	public void clear() {
+		namespaces.clear();
+		indexes.clear();
+	}
+
+	/**
+	 *
+	 * @param namespace
+	 * @param set
+	 *            null for all the sets of the namespace.
+	 * @return number of records in the given set, including the expired ones
+	 *         not accessed since they expired.
+	 */
+	public int size(String namespace, String set) {
+		int size = 0;
+		for (StoredRecord record : getRecords(namespace).values()) {
+			if (set == null || set.equals(record.getKey().setName)) {
+				size++;
+			}
+		}
+		return size;
+	}
+
+	public void put(WritePolicy policy, Key key, Bin... bins) {
+		Operation[] operations = new Operation[bins.length];
+		for (int i = 0; i < bins.length; i++) {
+			operations[i] = Operation.put(bins[i]);
+		}
+		operate(policy, key, operations);
+	}
+
+	public void append(WritePolicy policy, Key key, Bin... bins) {
+		Operation[] operations = new Operation[bins.length];
+		for (int i = 0; i < bins.length; i++) {
+			operations[i] = Operation.append(bins[i]);
+		}
+		operate(policy, key, operations);
+	}
+
+	public void prepend(WritePolicy policy, Key key, Bin... bins) {
+		Operation[] operations = new Operation[bins.length];
+		for (int i = 0; i < bins.length; i++) {
+			operations[i] = Operation.prepend(bins[i]);
+		}
+		operate(policy, key, operations);
+	}
+
+	public void add(WritePolicy policy, Key key, Bin... bins) {
+		Operation[] operations = new Operation[bins.length];
+		for (int i = 0; i < bins.length; i++) {
+			operations[i] = Operation.add(bins[i]);
+		}
+		operate(policy, key, operations);
+	}
+
+	public void touch(WritePolicy policy, Key key) {
+		operate(policy, key, Operation.touch());
+	}
+
+	public boolean delete(WritePolicy policy, Key key) {
+		injectFaults();
+		WritePolicy writePolicy = policy != null ? policy : DEFAULT_WRITE_POLICY;
+		ConcurrentHashMap<ByteBuffer, StoredRecord> records = getRecords(key.namespace);
+		ByteBuffer digest = ByteBuffer.wrap(key.digest);
+		synchronized (getLock(digest)) {
+			StoredRecord current = getLive(records, digest, System.currentTimeMillis());
+			if (current == null) {
+				return false;
+			}
+			checkGeneration(writePolicy, current, key);
+			records.remove(digest);
+			return true;
+		}
+	}
+
+	public boolean exists(Key key) {
+		injectFaults();
+		return getLive(key) != null;
+	}
+
+	public boolean[] exists(Key[] keys) {
+		injectFaults();
+		boolean[] existing = new boolean[keys.length];
+		for (int i = 0; i < keys.length; i++) {
+			existing[i] = getLive(keys[i]) != null;
+		}
+		return existing;
+	}
+
+	/**
+	 *
+	 * @param key
+	 * @param binNames
+	 *            bins to read, all if null or empty.
+	 * @return the record or null if it doesn't exist.
+	 */
+	public Record get(Key key, String... binNames) {
+		injectFaults();
+		StoredRecord record = getLive(key);
+		return record != null ? record.toRecord(binNames) : null;
+	}
+
+	public Record getHeader(Key key) {
+		injectFaults();
+		StoredRecord record = getLive(key);
+		return record != null ? record.toHeader() : null;
+	}
+
+	/**
+	 * Batch read; the records are in the order of the keys, null for the
+	 * ones which don't exist.
+	 *
+	 * @param keys
+	 * @param binNames
+	 * @return
+	 */
+	public Record[] get(Key[] keys, String... binNames) {
+		injectFaults();
+		Record[] records = new Record[keys.length];
+		for (int i = 0; i < keys.length; i++) {
+			StoredRecord record = getLive(keys[i]);
+			records[i] = record != null ? record.toRecord(binNames) : null;
+		}
+		return records;
+	}
+
+	public Record[] getHeader(Key[] keys) {
+		injectFaults();
+		Record[] records = new Record[keys.length];
+		for (int i = 0; i < keys.length; i++) {
+			StoredRecord record = getLive(keys[i]);
+			records[i] = record != null ? record.toHeader() : null;
+		}
+		return records;
+	}
+
+	/**
+	 * Applies the operations in order on the record of the given key. Reads
+	 * see the writes before them.
+	 *
+	 * @param policy
+	 * @param key
+	 * @param operations
+	 * @return record with the bins read, null if only reads were asked and
+	 *         the record doesn't exist.
+	 */
+	public Record operate(WritePolicy policy, Key key, Operation... operations) {
+		injectFaults();
+		WritePolicy writePolicy = policy != null ? policy : DEFAULT_WRITE_POLICY;
+		boolean write = false;
+		for (Operation operation : operations) {
+			if (operation.type != Operation.Type.READ && operation.type != Operation.Type.READ_HEADER) {
+				write = true;
+			}
+		}
+		ConcurrentHashMap<ByteBuffer, StoredRecord> records = getRecords(key.namespace);
+		ByteBuffer digest = ByteBuffer.wrap(key.digest);
+		if (!write) {
+			StoredRecord current = getLive(records, digest, System.currentTimeMillis());
+			return current != null ? apply(current, new HashMap<String, Object>(current.getBins()), operations, current) : null;
+		}
+		synchronized (getLock(digest)) {
+			long now = System.currentTimeMillis();
+			StoredRecord current = getLive(records, digest, now);
+			checkWrite(writePolicy, current, key, operations);
+			RecordExistsAction action = writePolicy.recordExistsAction;
+			boolean replace = action == RecordExistsAction.REPLACE || action == RecordExistsAction.REPLACE_ONLY;
+			Map<String, Object> bins = current == null || replace ? new HashMap<String, Object>() : new HashMap<String, Object>(
+					current.getBins());
+			StoredRecord updated = new StoredRecord(key, bins, current != null ? current.getGeneration() + 1 : 1, getExpiresAt(writePolicy,
+					current, now));
+			Record result = apply(updated, bins, operations, current);
+			if (bins.isEmpty()) {
+				records.remove(digest);
+			} else {
+				records.put(digest, updated);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Passes every live record of the given set to the callback. Stops at
+	 * the first exception of the callback, which is thrown to the caller.
+	 *
+	 * @param namespace
+	 * @param set
+	 *            null or empty for all the sets of the namespace.
+	 * @param callback
+	 * @param binNames
+	 */
+	public void scanAll(String namespace, String set, ScanCallback callback, String... binNames) {
+		injectFaults();
+		long now = System.currentTimeMillis();
+		for (StoredRecord record : getRecords(namespace).values()) {
+			if ((set == null || set.isEmpty() || set.equals(record.getKey().setName)) && !record.isExpired(now)) {
+				callback.scanCallback(record.getKey(), record.toRecord(binNames));
+			}
+		}
+	}
+
+	public void createIndex(String namespace, String set, String indexName, String binName, IndexType indexType) {
+		injectFaults();
+		StoredIndex index = new StoredIndex(set, binName, indexType);
+		if (getIndexes(namespace).putIfAbsent(indexName, index) != null) {
+			throw new AerospikeException(ResultCode.INDEX_FOUND, "Index: " + indexName + " already exists");
+		}
+	}
+
+	public void dropIndex(String namespace, String indexName) {
+		injectFaults();
+		getIndexes(namespace).remove(indexName);
+	}
+
+	/**
+	 * Runs the query of the given statement. Its filter, if any, must be on
+	 * an indexed bin of the set. Predicate expressions aren't evaluated.
+	 *
+	 * @param statement
+	 * @return records found.
+	 */
+	public List<KeyRecord> query(Statement statement) {
+		if (statement.getPredExp() != null && statement.getPredExp().length > 0) {
+			throw new UnsupportedOperationException("Predicate expressions are not evaluated by the in-memory store");
+		}
+		injectFaults();
+		String namespace = statement.getNamespace();
+		String set = statement.getSetName();
+		Filter filter = statement.getFilters() != null && statement.getFilters().length > 0 ? statement.getFilters()[0] : null;
+		String binName = null;
+		Object begin = null;
+		Object end = null;
+		if (filter != null) {
+			binName = (String) getFilterValue(filter, FILTER_NAME);
+			begin = getValue((Value) getFilterValue(filter, FILTER_BEGIN));
+			end = getValue((Value) getFilterValue(filter, FILTER_END));
+			checkIndex(namespace, set, binName);
+		}
+		List<KeyRecord> found = new ArrayList<KeyRecord>();
+		long now = System.currentTimeMillis();
+		for (StoredRecord record : getRecords(namespace).values()) {
+			if ((set == null || set.isEmpty() || set.equals(record.getKey().setName)) && !record.isExpired(now)
+					&& (filter == null || matches(record.getBins().get(binName), begin, end))) {
+				found.add(new KeyRecord(record.getKey(), record.toRecord(statement.getBinNames())));
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Waits for the configured latency and fails the command for the
+	 * configured percentage.
+	 *
+	 * @throws AerospikeException
+	 *             with the configured result code for the failed commands.
+	 */
+	private void injectFaults() {
+		InMemoryPolicy current = policy;
+		if (current.getLatency() > 0 || current.getLatencyJitter() > 0) {
+			long micros = current.getLatency();
+			if (current.getLatencyJitter() > 0) {
+				micros += ThreadLocalRandom.current().nextInt(current.getLatencyJitter() + 1);
+			}
+			LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(micros));
+		}
+		if (current.getFailurePercent() > 0 && ThreadLocalRandom.current().nextInt(100) < current.getFailurePercent()) {
+			throw new AerospikeException(current.getFailureResultCode(), "Failure injected by the in-memory store");
+		}
+	}
+
+	/**
+	 * Applies the operations on the given bins.
+	 *
+	 * @param record
+	 *            the bins belong to, whose generation and expiration are
+	 *            returned.
+	 * @param bins
+	 * @param operations
+	 * @param current
+	 *            record before the operations, null if it didn't exist.
+	 * @return record with the bins read.
+	 */
+	private Record apply(StoredRecord record, Map<String, Object> bins, Operation[] operations, StoredRecord current) {
+		Map<String, Object> read = null;
+		for (Operation operation : operations) {
+			switch (operation.type) {
+			case READ:
+				read = read != null ? read : new HashMap<String, Object>();
+				if (operation.binName == null) {
+					read.putAll(bins);
+				} else if (bins.containsKey(operation.binName)) {
+					read.put(operation.binName, bins.get(operation.binName));
+				}
+				break;
+			case WRITE:
+				Object value = getValue(operation.binValue);
+				if (value == null) {
+					bins.remove(operation.binName);
+				} else {
+					bins.put(operation.binName, value);
+				}
+				break;
+			case ADD:
+				Object increment = getValue(operation.binValue);
+				Object number = bins.get(operation.binName);
+				if (!(increment instanceof Long) || (number != null && !(number instanceof Long))) {
+					throw new AerospikeException(ResultCode.BIN_TYPE_ERROR, "Bin: " + operation.binName + " is not an integer");
+				}
+				bins.put(operation.binName, (number != null ? (Long) number : 0L) + (Long) increment);
+				break;
+			case APPEND:
+			case PREPEND:
+				Object text = getValue(operation.binValue);
+				Object existing = bins.get(operation.binName);
+				if (!(text instanceof String) || (existing != null && !(existing instanceof String))) {
+					throw new AerospikeException(ResultCode.BIN_TYPE_ERROR, "Bin: " + operation.binName + " is not a string");
+				}
+				String previous = existing != null ? (String) existing : "";
+				bins.put(operation.binName, operation.type == Operation.Type.APPEND ? previous + text : text + previous);
+				break;
+			default:
+				// Header read and touch don't change bins
+				break;
+			}
+		}
+		return new Record(read, record.getGeneration(), record.getExpiration());
+	}
+
+	/**
+	 * Checks the record exists action and generation policy of a write.
+	 *
+	 * @param policy
+	 * @param current
+	 * @param key
+	 * @param operations
+	 */
+	private void checkWrite(WritePolicy policy, StoredRecord current, Key key, Operation[] operations) {
+		RecordExistsAction action = policy.recordExistsAction;
+		if (current == null) {
+			// Touching is all the writes do, whatever is read along
+			boolean touch = false;
+			for (Operation operation : operations) {
+				if (operation.type == Operation.Type.TOUCH) {
+					touch = true;
+				} else if (operation.type != Operation.Type.READ && operation.type != Operation.Type.READ_HEADER) {
+					touch = false;
+					break;
+				}
+			}
+			if (touch || action == RecordExistsAction.UPDATE_ONLY || action == RecordExistsAction.REPLACE_ONLY) {
+				throw new AerospikeException(ResultCode.KEY_NOT_FOUND_ERROR, "Record of key: " + key + " doesn't exist");
+			}
+			return;
+		}
+		if (action == RecordExistsAction.CREATE_ONLY) {
+			throw new AerospikeException(ResultCode.KEY_EXISTS_ERROR, "Record of key: " + key + " already exists");
+		}
+		checkGeneration(policy, current, key);
+	}
+
+	private void checkGeneration(WritePolicy policy, StoredRecord current, Key key) {
+		if ((policy.generationPolicy == GenerationPolicy.EXPECT_GEN_EQUAL && policy.generation != current.getGeneration())
+				|| (policy.generationPolicy == GenerationPolicy.EXPECT_GEN_GT && policy.generation <= current.getGeneration())) {
+			throw new AerospikeException(ResultCode.GENERATION_ERROR, "Generation of record of key: " + key + " is "
+					+ current.getGeneration() + ", expected: " + policy.generation);
+		}
+	}
+
+	/**
+	 *
+	 * @param policy
+	 * @param current
+	 * @param now
+	 * @return millis the written record expires at, 0 if never.
+	 */
+	private long getExpiresAt(WritePolicy policy, StoredRecord current, long now) {
+		if (policy.expiration == -2) {
+			return current != null ? current.getExpiresAt() : 0;
+		}
+		return policy.expiration > 0 ? now + TimeUnit.SECONDS.toMillis(policy.expiration) : 0;
+	}
+
+	/**
+	 *
+	 * @param namespace
+	 * @param set
+	 * @param binName
+	 * @throws AerospikeException
+	 *             if there is no index on the bin.
+	 */
+	private void checkIndex(String namespace, String set, String binName) {
+		for (StoredIndex index : getIndexes(namespace).values()) {
+			if (index.getBinName().equals(binName) && (index.getSet() == null || index.getSet().equals(set))) {
+				return;
+			}
+		}
+		throw new AerospikeException(ResultCode.INDEX_NOTFOUND, "No index on bin: " + binName + " of set: " + set + " in namespace: "
+				+ namespace);
+	}
+
+	/**
+	 *
+	 * @param value
+	 * @param begin
+	 * @param end
+	 *            null for an equality filter.
+	 * @return whether the bin value matches the filter.
+	 */
+	private boolean matches(Object value, Object begin, Object end) {
+		if (value == null) {
+			return false;
+		}
+		if (end != null && !end.equals(begin) && value instanceof Long && begin instanceof Long && end instanceof Long) {
+			return (Long) value >= (Long) begin && (Long) value <= (Long) end;
+		}
+		return value instanceof byte[] && begin instanceof byte[] ? Arrays.equals((byte[]) value, (byte[]) begin) : value.equals(begin);
+	}
+
+	/**
+	 *
+	 * @param value
+	 * @return value as stored by the server: integers as longs.
+	 */
+	private Object getValue(Value value) {
+		Object object = value != null ? value.getObject() : null;
+		if (object instanceof Integer || object instanceof Short || object instanceof Byte) {
+			return ((Number) object).longValue();
+		}
+		return object;
+	}
+
+	private StoredRecord getLive(Key key) {
+		return getLive(getRecords(key.namespace), ByteBuffer.wrap(key.digest), System.currentTimeMillis());
+	}
+
+	/**
+	 *
+	 * @param records
+	 * @param digest
+	 * @param now
+	 * @return the record of the digest or null if it doesn't exist or has
+	 *         expired, in which case it is removed.
+	 */
+	private StoredRecord getLive(ConcurrentHashMap<ByteBuffer, StoredRecord> records, ByteBuffer digest, long now) {
+		StoredRecord record = records.get(digest);
+		if (record != null && record.isExpired(now)) {
+			records.remove(digest, record);
+			return null;
+		}
+		return record;
+	}
+
+	private ConcurrentHashMap<ByteBuffer, StoredRecord> getRecords(String namespace) {
+		ConcurrentHashMap<ByteBuffer, StoredRecord> records = namespaces.get(namespace);
+		if (records == null) {
+			ConcurrentHashMap<ByteBuffer, StoredRecord> newRecords = new ConcurrentHashMap<ByteBuffer, StoredRecord>();
+			records = namespaces.putIfAbsent(namespace, newRecords);
+			if (records == null) {
+				records = newRecords;
+			}
+		}
+		return records;
+	}
+
+	private ConcurrentHashMap<String, StoredIndex> getIndexes(String namespace) {
+		ConcurrentHashMap<String, StoredIndex> namespaceIndexes = indexes.get(namespace);
+		if (namespaceIndexes == null) {
+			ConcurrentHashMap<String, StoredIndex> newIndexes = new ConcurrentHashMap<String, StoredIndex>();
+			namespaceIndexes = indexes.putIfAbsent(namespace, newIndexes);
+			if (namespaceIndexes == null) {
+				namespaceIndexes = newIndexes;
+			}
+		}
+		return namespaceIndexes;
+	}
+
+	private Object getLock(ByteBuffer digest) {
+		return locks[(digest.hashCode() & Integer.MAX_VALUE) % locks.length];
+	}
+
+	private static Object getFilterValue(Filter filter, Field field) {
+		if (field == null) {
+			throw new UnsupportedOperationException("Filters of this aerospike client can't be read by the in-memory store");
+		}
+		try {
+			return field.get(filter);
+		} catch (IllegalAccessException e) {
+			throw new UnsupportedOperationException("Filters of this aerospike client can't be read by the in-memory store", e);
+		}
+	}
+
+	private static Field filterField(String name) {
+		try {
+			Field field = Filter.class.getDeclaredField(name);
+			field.setAccessible(true);
+			return field;
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Secondary index of a bin of a set.
+	 */
+	private static class StoredIndex {
+		private final String	set;
+		private final String	binName;
+		private final IndexType	indexType;
+
+		StoredIndex(String set, String binName, IndexType indexType) {
+			this.set = set;
+			this.binName = binName;
+			this.indexType = indexType;
+		}
+
+		String getSet() {
+			return set;
+		}
+
+		String getBinName() {
+			return binName;
+		}
+
+		IndexType getIndexType() {
+			return indexType;
+		}
+	}
+}
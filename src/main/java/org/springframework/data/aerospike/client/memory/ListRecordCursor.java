@@ -0,0 +1,65 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.client.memory;
+
+import java.util.List;
+
+import org.springframework.data.aerospike.client.RecordCursor;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.query.KeyRecord;
+
+/**
+ * {@link RecordCursor} over the records found by a query of
+ * {@link InMemoryStore}.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+class ListRecordCursor implements RecordCursor {
+	private final List<KeyRecord>	records;
+	private int						index	= -1;
+
+	ListRecordCursor(List<KeyRecord> records) {
+		this.records = records;
+	}
+
+	@Override
+	public boolean next() {
+		if (index < records.size()) {
+			index++;
+		}
+		return index < records.size();
+	}
+
+	@Override
+	public Key getKey() {
+		return records.get(index).key;
+	}
+
+	@Override
+	public Record getRecord() {
+		return records.get(index).record;
+	}
+
+	@Override
+	public void close() {
+		index = records.size();
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.client.memory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+
+/**
+ * Record held by {@link InMemoryStore}. Never modified; a write replaces the
+ * record as a whole so readers don't need a lock.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+class StoredRecord {
+	/**
+	 * Seconds from the unix epoch to 2010-01-01, the epoch the server counts
+	 * expiration of records from.
+	 */
+	private static final long			CITRUSLEAF_EPOCH	= 1262304000L;
+	private final Key					key;
+	private final Map<String, Object>	bins;
+	private final int					generation;
+	/**
+	 * Millis since the unix epoch the record expires at, 0 if it never
+	 * expires.
+	 */
+	private final long					expiresAt;
+
+	StoredRecord(Key key, Map<String, Object> bins, int generation, long expiresAt) {
+		this.key = key;
+		this.bins = bins;
+		this.generation = generation;
+		this.expiresAt = expiresAt;
+	}
+
+	Key getKey() {
+		return key;
+	}
+
+	Map<String, Object> getBins() {
+		return bins;
+	}
+
+	int getGeneration() {
+		return generation;
+	}
+
+	long getExpiresAt() {
+		return expiresAt;
+	}
+
+	boolean isExpired(long now) {
+		return expiresAt > 0 && expiresAt <= now;
+	}
+
+	/**
+	 * 
+	 * @param binNames
+	 *            bins to return, all if null or empty.
+	 * @return record as returned by the client, with a copy of the bins.
+	 */
+	Record toRecord(String... binNames) {
+		Map<String, Object> values;
+		if (binNames == null || binNames.length == 0) {
+			values = new HashMap<String, Object>(bins);
+		} else {
+			values = new HashMap<String, Object>(binNames.length * 2);
+			for (String binName : binNames) {
+				Object value = bins.get(binName);
+				if (value != null) {
+					values.put(binName, value);
+				}
+			}
+		}
+		return new Record(values, generation, getExpiration());
+	}
+
+	/**
+	 * 
+	 * @return record with generation and expiration only.
+	 */
+	Record toHeader() {
+		return new Record(null, generation, getExpiration());
+	}
+
+	/**
+	 * 
+	 * @return expiration in seconds since the server epoch, 0 if the record
+	 *         never expires.
+	 */
+	int getExpiration() {
+		return expiresAt > 0 ? (int) (expiresAt / 1000 - CITRUSLEAF_EPOCH) : 0;
+	}
+}
@@ -31,9 +31,35 @@ public interface AerospikeConfigurations {
 
 	public void loadConfig();
 	/**
-	 * Reloads file again to refresh {@link #configProperties}.
+	 * Reloads file again to refresh {@link #configProperties}. The
+	 * configurations are replaced only if the files have been read
+	 * completely.
+	 * 
+	 * @return whether the configurations have been replaced.
+	 */
+	public boolean reloadPolicyConfig();
+
+	/**
+	 * 
+	 * @return path of the file overriding the classpath configurations or
+	 *         null if not configured.
+	 */
+	public String getExternalConfigFile();
+
+	/**
+	 * 
+	 * @return whether the external configuration file is watched for changes
+	 *         and policies are reloaded on change.
 	 */
-	public void reloadPolicyConfig();
+	public boolean isConfigWatchEnabled();
+
+	/**
+	 * 
+	 * @return millis to wait after a change of the external configuration
+	 *         file before reloading, so a file being written is read once
+	 *         complete.
+	 */
+	public int getConfigWatchDelay();
 
 	/**
 	 * 
@@ -43,6 +69,149 @@ public interface AerospikeConfigurations {
 
 	public Host[] getAerospikeHosts();
 
+	/**
+	 * Returns the classpath resources of the lua modules which should be
+	 * registered with the cluster at startup. Built-in modules are always
+	 * included.
+	 * 
+	 * @return
+	 */
+	public String[] getUdfModules();
+
+	/**
+	 * 
+	 * @return whether udf modules registration at startup is disabled.
+	 */
+	public boolean isUdfRegistrationSkipped();
+
+	/**
+	 * Returns the backoff to be used between retries of read-modify-write
+	 * operations failed due to concurrent modification of versioned entities.
+	 * 
+	 * @return
+	 */
+	public BackoffPolicy optimisticLockingBackoff();
+
+	/**
+	 * 
+	 * @return whether writes and removes inside a Spring transaction are
+	 *         deferred till commit.
+	 */
+	public boolean isUnitOfWorkEnabled();
+
+	/**
+	 * 
+	 * @return maximum number of threads running hedged reads and their
+	 *         primary reads.
+	 */
+	public int getHedgedReadThreads();
+
+	/**
+	 * 
+	 * @return number of threads writing the changes of a unit of work in
+	 *         parallel at commit.
+	 */
+	public int getUnitOfWorkFlushThreads();
+
+	/**
+	 * 
+	 * @return namespace holding the sets of the caches.
+	 */
+	public String getCacheNamespace();
+
+	/**
+	 * 
+	 * @return names of the caches created at startup. Other caches are
+	 *         created when first requested.
+	 */
+	public String[] getCacheNames();
+
+	/**
+	 * Returns the write policy of the given cache. Expiration is read from
+	 * cacheName.writePolicy.expiration, falling back to the default write
+	 * policy. Entries replace the record and ignore its generation.
+	 * 
+	 * @param cacheName
+	 * @return
+	 */
+	public WritePolicy cacheWritePolicy(String cacheName);
+
+	/**
+	 * 
+	 * @return maximum entries in the local tier of each cache. Zero disables
+	 *         the local tier.
+	 */
+	public int getCacheLocalMaxEntries();
+
+	/**
+	 * 
+	 * @return millis for which an entry is served from the local tier.
+	 */
+	public int getCacheLocalTimeToLive();
+
+	/**
+	 * 
+	 * @return settings of the adaptive concurrency limit of operations.
+	 */
+	public LimiterPolicy concurrencyLimiterPolicy();
+
+	/**
+	 * 
+	 * @return settings of the circuit breakers of the sets.
+	 */
+	public CircuitBreakerPolicy circuitBreakerPolicy();
+
+	/**
+	 * 
+	 * @return settings of the connection warm-up at startup.
+	 */
+	public WarmupPolicy warmupPolicy();
+
+	/**
+	 * 
+	 * @return whether metrics per entity class and operation are collected.
+	 */
+	public boolean isMetricsEnabled();
+
+	/**
+	 * 
+	 * @return one in these many calls of the methods of classes annotated
+	 *         with PerformanceMonitor is measured. 0 disables the aspect.
+	 */
+	public int getPerformanceMonitorSampleRate();
+
+	/**
+	 * 
+	 * @return size check of the records on write.
+	 */
+	public RecordSizePolicy recordSizePolicy();
+
+	/**
+	 * 
+	 * @return thresholds and rate of the slow operation log.
+	 */
+	public SlowLogPolicy slowLogPolicy();
+
+	/**
+	 * 
+	 * @return whether the in-memory stand-in is used in place of a cluster,
+	 *         and the latency and failures it injects.
+	 */
+	public InMemoryPolicy inMemoryPolicy();
+
+	/**
+	 * 
+	 * @return whether the metrics are exposed as MBeans.
+	 */
+	public boolean isMetricsJmxEnabled();
+
+	/**
+	 * 
+	 * @return one in these many operations of a thread has its time broken
+	 *         down into phases. 0 disables the breakdown.
+	 */
+	public int getPhaseSampleRate();
+
 	/**
 	 * 
 	 * @param clazzName
@@ -55,6 +224,15 @@ public interface AerospikeConfigurations {
 	 * @return
 	 */
 	public Policy readPolicy();
+
+	/**
+	 * Returns hedged read settings for the given class. Class specific values
+	 * override the default readPolicy.hedge* values.
+	 * 
+	 * @param clazzName
+	 * @return
+	 */
+	public HedgePolicy clazzHedgePolicy(String clazzName);
 	/**
 	 * 
 	 * @param clazzName
@@ -73,6 +251,15 @@ public interface AerospikeConfigurations {
 	 */
 	public BatchPolicy clazzBatchPolicy(String clazzName);
 
+	/**
+	 * Resolves all the policies of the given class from the current
+	 * configurations.
+	 * 
+	 * @param clazzName
+	 * @return
+	 */
+	public EntityPolicies clazzPolicies(String clazzName);
+
 	/**
 	 * 
 	 * @return
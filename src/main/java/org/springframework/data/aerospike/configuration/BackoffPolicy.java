@@ -0,0 +1,77 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.configuration;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Bounded exponential backoff with jitter between retries of an operation.
+ * The delay before retry n is a random value between half and full of
+ * min(maxDelay, baseDelay * 2^n) so concurrent writers retrying on the same
+ * record spread out instead of colliding again.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class BackoffPolicy {
+	/**
+	 * Maximum number of retries after the first attempt.
+	 */
+	private final int	maxRetries;
+	/**
+	 * Delay in millis before the first retry.
+	 */
+	private final long	baseDelay;
+	/**
+	 * Upper bound of the delay in millis.
+	 */
+	private final long	maxDelay;
+
+	public BackoffPolicy(int maxRetries, long baseDelay, long maxDelay) {
+		this.maxRetries = maxRetries;
+		this.baseDelay = baseDelay;
+		this.maxDelay = maxDelay;
+	}
+
+	public int getMaxRetries() {
+		return maxRetries;
+	}
+
+	public long getBaseDelay() {
+		return baseDelay;
+	}
+
+	public long getMaxDelay() {
+		return maxDelay;
+	}
+
+	/**
+	 * Returns the delay in millis before the given retry (starting with 0).
+	 * 
+	 * @param retry
+	 * @return
+	 */
+	public long delay(int retry) {
+		long delay = Math.min(maxDelay, baseDelay << Math.min(retry, 30));
+		if (delay <= 1) {
+			return delay;
+		}
+		long half = delay / 2;
+		return half + ThreadLocalRandom.current().nextLong(delay - half + 1);
+	}
+}
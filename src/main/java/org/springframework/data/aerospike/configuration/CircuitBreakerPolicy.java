@@ -0,0 +1,103 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.configuration;
+
+/**
+ * Settings of the circuit breakers guarding the sets and of the stale
+ * entities kept for reads while a circuit is open.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class CircuitBreakerPolicy {
+	public static final CircuitBreakerPolicy	DISABLED	= new CircuitBreakerPolicy(false, 0, 0, 0, 0, 0, 0, 0);
+	private final boolean						enabled;
+	/**
+	 * Percentage of failed calls within the window which opens the circuit.
+	 */
+	private final int							failureRateThreshold;
+	/**
+	 * Calls needed within the window before the failure rate is evaluated.
+	 */
+	private final int							minimumCalls;
+	/**
+	 * Millis over which calls are counted.
+	 */
+	private final long							window;
+	/**
+	 * Millis the circuit stays open before trial calls are let through.
+	 */
+	private final long							openDuration;
+	/**
+	 * Successful trial calls needed to close the circuit.
+	 */
+	private final int							halfOpenCalls;
+	/**
+	 * Entities kept per class for reads while the circuit is open. Zero
+	 * disables stale reads.
+	 */
+	private final int							staleMaxEntries;
+	/**
+	 * Millis for which a read entity may be served as stale.
+	 */
+	private final int							staleMaxAge;
+
+	public CircuitBreakerPolicy(boolean enabled, int failureRateThreshold, int minimumCalls, long window, long openDuration, int halfOpenCalls,
+			int staleMaxEntries, int staleMaxAge) {
+		this.enabled = enabled;
+		this.failureRateThreshold = failureRateThreshold;
+		this.minimumCalls = minimumCalls;
+		this.window = window;
+		this.openDuration = openDuration;
+		this.halfOpenCalls = halfOpenCalls;
+		this.staleMaxEntries = staleMaxEntries;
+		this.staleMaxAge = staleMaxAge;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public int getFailureRateThreshold() {
+		return failureRateThreshold;
+	}
+
+	public int getMinimumCalls() {
+		return minimumCalls;
+	}
+
+	public long getWindow() {
+		return window;
+	}
+
+	public long getOpenDuration() {
+		return openDuration;
+	}
+
+	public int getHalfOpenCalls() {
+		return halfOpenCalls;
+	}
+
+	public int getStaleMaxEntries() {
+		return staleMaxEntries;
+	}
+
+	public int getStaleMaxAge() {
+		return staleMaxAge;
+	}
+}
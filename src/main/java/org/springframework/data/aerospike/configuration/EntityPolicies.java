@@ -0,0 +1,64 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.configuration;
+
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.WritePolicy;
+
+/**
+ * Snapshot of the policies of an entity class resolved from a single version
+ * of the configuration. A reload builds a new snapshot and publishes it as a
+ * whole, so an operation never sees the read policy of one version and the
+ * write policy of another. The policies are shared and must never be
+ * modified; see {@link PolicyUtils}.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public final class EntityPolicies {
+	public static final EntityPolicies	NONE	= new EntityPolicies(null, null, null, HedgePolicy.DISABLED);
+
+	private final Policy				readPolicy;
+	private final WritePolicy			writePolicy;
+	private final BatchPolicy			batchPolicy;
+	private final HedgePolicy			hedgePolicy;
+
+	public EntityPolicies(Policy readPolicy, WritePolicy writePolicy, BatchPolicy batchPolicy, HedgePolicy hedgePolicy) {
+		this.readPolicy = readPolicy;
+		this.writePolicy = writePolicy;
+		this.batchPolicy = batchPolicy;
+		this.hedgePolicy = hedgePolicy;
+	}
+
+	public Policy getReadPolicy() {
+		return readPolicy;
+	}
+
+	public WritePolicy getWritePolicy() {
+		return writePolicy;
+	}
+
+	public BatchPolicy getBatchPolicy() {
+		return batchPolicy;
+	}
+
+	public HedgePolicy getHedgePolicy() {
+		return hedgePolicy;
+	}
+}
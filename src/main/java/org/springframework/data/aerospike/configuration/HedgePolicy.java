@@ -0,0 +1,63 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.configuration;
+
+/**
+ * Hedged read settings of an entity class. When enabled, a get which hasn't
+ * completed within the hedge delay is sent again to another replica and the
+ * first response is used. The budget caps the hedged reads to a percentage of
+ * all the reads of the class so hedging can't double the load of a slow
+ * cluster.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class HedgePolicy {
+	public static final HedgePolicy	DISABLED	= new HedgePolicy(false, 0, 0);
+	/**
+	 * Whether reads of the class are hedged.
+	 */
+	private final boolean			enabled;
+	/**
+	 * Delay in millis after which the hedged read is sent. Zero means the
+	 * observed 95th percentile read latency of the class is used.
+	 */
+	private final int				delay;
+	/**
+	 * Maximum hedged reads as percentage of all the reads.
+	 */
+	private final int				budgetPercent;
+
+	public HedgePolicy(boolean enabled, int delay, int budgetPercent) {
+		this.enabled = enabled;
+		this.delay = delay;
+		this.budgetPercent = budgetPercent;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public int getDelay() {
+		return delay;
+	}
+
+	public int getBudgetPercent() {
+		return budgetPercent;
+	}
+}
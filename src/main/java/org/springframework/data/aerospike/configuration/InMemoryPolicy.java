@@ -0,0 +1,76 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.configuration;
+
+/**
+ * Settings of the in-memory stand-in used in place of a cluster in tests and
+ * benchmarks: whether it is used at all, and the latency and failures
+ * injected into every command so load and resilience tests see something
+ * closer to a network.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class InMemoryPolicy {
+	public static final InMemoryPolicy	DISABLED	= new InMemoryPolicy(false, 0, 0, 0, 0);
+	private final boolean				enabled;
+	/**
+	 * Micros every command waits before it is executed.
+	 */
+	private final int					latency;
+	/**
+	 * Upper bound in micros of the random wait added to {@link #latency}.
+	 */
+	private final int					latencyJitter;
+	/**
+	 * Percentage of the commands failed instead of executed.
+	 */
+	private final int					failurePercent;
+	/**
+	 * Result code of the injected failures.
+	 */
+	private final int					failureResultCode;
+
+	public InMemoryPolicy(boolean enabled, int latency, int latencyJitter, int failurePercent, int failureResultCode) {
+		this.enabled = enabled;
+		this.latency = latency;
+		this.latencyJitter = latencyJitter;
+		this.failurePercent = failurePercent;
+		this.failureResultCode = failureResultCode;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public int getLatency() {
+		return latency;
+	}
+
+	public int getLatencyJitter() {
+		return latencyJitter;
+	}
+
+	public int getFailurePercent() {
+		return failurePercent;
+	}
+
+	public int getFailureResultCode() {
+		return failureResultCode;
+	}
+}
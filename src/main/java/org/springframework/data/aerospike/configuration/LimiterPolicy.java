@@ -0,0 +1,79 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.configuration;
+
+/**
+ * Settings of the adaptive concurrency limit applied to the operations of
+ * every namespace and operation type.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class LimiterPolicy {
+	public static final LimiterPolicy	DISABLED	= new LimiterPolicy(false, 0, 0, 0, 0, 0);
+	private final boolean				enabled;
+	/**
+	 * Limit of concurrent operations to start with.
+	 */
+	private final int					initialLimit;
+	private final int					minLimit;
+	private final int					maxLimit;
+	/**
+	 * Percentage of the baseline (no load) latency up to which latency is
+	 * considered healthy. Latency above it reduces the limit.
+	 */
+	private final int					latencyTolerance;
+	/**
+	 * Millis a caller waits for a free slot once the limit is reached before
+	 * being rejected. Zero rejects immediately.
+	 */
+	private final long					maxQueueWait;
+
+	public LimiterPolicy(boolean enabled, int initialLimit, int minLimit, int maxLimit, int latencyTolerance, long maxQueueWait) {
+		this.enabled = enabled;
+		this.initialLimit = initialLimit;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.latencyTolerance = latencyTolerance;
+		this.maxQueueWait = maxQueueWait;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public int getInitialLimit() {
+		return initialLimit;
+	}
+
+	public int getMinLimit() {
+		return minLimit;
+	}
+
+	public int getMaxLimit() {
+		return maxLimit;
+	}
+
+	public int getLatencyTolerance() {
+		return latencyTolerance;
+	}
+
+	public long getMaxQueueWait() {
+		return maxQueueWait;
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.configuration;
+
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.WritePolicy;
+
+/**
+ * Copies aerospike policies. Policies resolved for a class are shared by all
+ * the operations on that class, so they should never be modified; a copy is
+ * needed whenever a single operation has to differ from the class policy.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public final class PolicyUtils {
+
+	private PolicyUtils() {
+	}
+
+	/**
+	 * 
+	 * @param policy
+	 * @return
+	 */
+	public static Policy copy(Policy policy) {
+		Policy copy = new Policy();
+		copyPolicy(policy, copy);
+		return copy;
+	}
+
+	/**
+	 * 
+	 * @param policy
+	 * @return
+	 */
+	public static WritePolicy copy(WritePolicy policy) {
+		WritePolicy copy = new WritePolicy();
+		copyPolicy(policy, copy);
+		copy.recordExistsAction = policy.recordExistsAction;
+		copy.generationPolicy = policy.generationPolicy;
+		copy.commitLevel = policy.commitLevel;
+		copy.generation = policy.generation;
+		copy.expiration = policy.expiration;
+		copy.sendKey = policy.sendKey;
+		return copy;
+	}
+
+	/**
+	 * 
+	 * @param policy
+	 * @return
+	 */
+	public static BatchPolicy copy(BatchPolicy policy) {
+		BatchPolicy copy = new BatchPolicy();
+		copyPolicy(policy, copy);
+		copy.maxConcurrentThreads = policy.maxConcurrentThreads;
+		return copy;
+	}
+
+	/**
+	 * Copies the fields common to all the policies.
+	 * 
+	 * @param from
+	 * @param to
+	 */
+	private static void copyPolicy(Policy from, Policy to) {
+		to.priority = from.priority;
+		to.consistencyLevel = from.consistencyLevel;
+		to.replica = from.replica;
+		to.timeout = from.timeout;
+		to.maxRetries = from.maxRetries;
+		to.sleepBetweenRetries = from.sleepBetweenRetries;
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.configuration;
+
+/**
+ * Settings of the size check of records on write. The size is estimated by
+ * the mapper from the encoded bins, so it is checked before the write is
+ * sent and before the server rejects it for exceeding its write block.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class RecordSizePolicy {
+	public static final RecordSizePolicy	DISABLED	= new RecordSizePolicy(false, 0, 0, false, 0);
+	private final boolean					enabled;
+	/**
+	 * Size in bytes a record must not cross, usually the write-block-size of
+	 * the namespace.
+	 */
+	private final int						limit;
+	/**
+	 * Percentage of the limit above which a warning is logged.
+	 */
+	private final int						warnPercent;
+	/**
+	 * Whether records above the limit are rejected instead of only logged.
+	 */
+	private final boolean					reject;
+	/**
+	 * Number of the largest bins named in a warning.
+	 */
+	private final int						largestBins;
+
+	public RecordSizePolicy(boolean enabled, int limit, int warnPercent, boolean reject, int largestBins) {
+		this.enabled = enabled;
+		this.limit = limit;
+		this.warnPercent = warnPercent;
+		this.reject = reject;
+		this.largestBins = largestBins;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public int getLimit() {
+		return limit;
+	}
+
+	public int getWarnPercent() {
+		return warnPercent;
+	}
+
+	/**
+	 * 
+	 * @return size in bytes above which a warning is logged.
+	 */
+	public long getWarnSize() {
+		return (long) limit * warnPercent / 100;
+	}
+
+	public boolean isReject() {
+		return reject;
+	}
+
+	public int getLargestBins() {
+		return largestBins;
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.configuration;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.aerospike.operations.OperationType;
+
+/**
+ * Settings of the slow operation log: a threshold per operation type and the
+ * maximum number of slow operations logged per second.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class SlowLogPolicy {
+	public static final SlowLogPolicy	DISABLED	= new SlowLogPolicy(false, new long[OperationType.values().length], 0);
+	private final boolean				enabled;
+	/**
+	 * Threshold in millis by operation type ordinal.
+	 */
+	private final long[]				thresholds;
+	/**
+	 * Slow operations logged per second at most; the others are counted and
+	 * reported with the next one logged.
+	 */
+	private final int					maxPerSecond;
+
+	public SlowLogPolicy(boolean enabled, long[] thresholds, int maxPerSecond) {
+		this.enabled = enabled;
+		this.thresholds = thresholds;
+		this.maxPerSecond = maxPerSecond;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 
+	 * @param type
+	 * @return threshold in millis of the given operation type.
+	 */
+	public long getThreshold(OperationType type) {
+		return thresholds[type.ordinal()];
+	}
+
+	/**
+	 * 
+	 * @param type
+	 * @return threshold in nanos of the given operation type.
+	 */
+	public long getThresholdNanos(OperationType type) {
+		return TimeUnit.MILLISECONDS.toNanos(thresholds[type.ordinal()]);
+	}
+
+	public int getMaxPerSecond() {
+		return maxPerSecond;
+	}
+}
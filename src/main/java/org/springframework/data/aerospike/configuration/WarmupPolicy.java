@@ -0,0 +1,75 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.configuration;
+
+/**
+ * Settings of the warm-up done at startup so the first requests after a
+ * deploy don't pay for opening the connections.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class WarmupPolicy {
+	public static final WarmupPolicy	DISABLED	= new WarmupPolicy(false, 0, 0, new String[0], 0);
+	private final boolean				enabled;
+	/**
+	 * Connections opened to every node and left in its pool.
+	 */
+	private final int					minConnsPerNode;
+	/**
+	 * Lightweight reads issued against each namespace of the warm-up entities.
+	 */
+	private final int					readsPerNamespace;
+	/**
+	 * Entity classes whose structures are read and whose namespaces are
+	 * warmed up.
+	 */
+	private final String[]				entities;
+	/**
+	 * Timeout in millis of opening a connection and of each read.
+	 */
+	private final int					timeout;
+
+	public WarmupPolicy(boolean enabled, int minConnsPerNode, int readsPerNamespace, String[] entities, int timeout) {
+		this.enabled = enabled;
+		this.minConnsPerNode = minConnsPerNode;
+		this.readsPerNamespace = readsPerNamespace;
+		this.entities = entities;
+		this.timeout = timeout;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public int getMinConnsPerNode() {
+		return minConnsPerNode;
+	}
+
+	public int getReadsPerNamespace() {
+		return readsPerNamespace;
+	}
+
+	public String[] getEntities() {
+		return entities;
+	}
+
+	public int getTimeout() {
+		return timeout;
+	}
+}
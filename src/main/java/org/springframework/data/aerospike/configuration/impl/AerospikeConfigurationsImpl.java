@@ -16,20 +16,33 @@
  */
 package org.springframework.data.aerospike.configuration.impl;
 
-import java.io.FileNotFoundException;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.LinkedHashSet;
 import java.util.Properties;
+import java.util.Set;
 
 import javax.annotation.PostConstruct;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.aerospike.configuration.AerospikeConfigurations;
+import org.springframework.data.aerospike.configuration.BackoffPolicy;
+import org.springframework.data.aerospike.configuration.CircuitBreakerPolicy;
+import org.springframework.data.aerospike.configuration.EntityPolicies;
+import org.springframework.data.aerospike.configuration.HedgePolicy;
+import org.springframework.data.aerospike.configuration.InMemoryPolicy;
+import org.springframework.data.aerospike.configuration.LimiterPolicy;
+import org.springframework.data.aerospike.configuration.RecordSizePolicy;
+import org.springframework.data.aerospike.configuration.SlowLogPolicy;
+import org.springframework.data.aerospike.configuration.WarmupPolicy;
 import org.springframework.data.aerospike.exceptions.PropertyNotFoundException;
+import org.springframework.data.aerospike.operations.OperationType;
 import org.springframework.stereotype.Service;
 
 import com.aerospike.client.Host;
+import com.aerospike.client.ResultCode;
 import com.aerospike.client.policy.BatchPolicy;
 import com.aerospike.client.policy.ClientPolicy;
 import com.aerospike.client.policy.GenerationPolicy;
@@ -60,11 +73,44 @@ public class AerospikeConfigurationsImpl implements AerospikeConfigurations {
 	private static final String	AEROSPIKE_TIMEOUT				= "aerospike.timeout";
 	private static final String	AEROSPIKE_MAX_THREAD			= "aerospike.maxThreads";
 	private static final String	AEROSPIKE_MAX_SOCKETS_IDLE		= "aerospike.maxSocketIdle";
+	private static final String	AEROSPIKE_MIN_CONNS_PER_NODE	= "aerospike.minConnsPerNode";
+	private static final String	WARMUP							= "aerospike.warmup.";
+	private static final String	METRICS_ENABLED					= "aerospike.metrics.enabled";
+	private static final String	PERFORMANCE_MONITOR_SAMPLE_RATE	= "aerospike.performanceMonitor.sampleRate";
+	private static final String	RECORD_SIZE						= "aerospike.recordSize.";
+	private static final String	SLOW_LOG						= "aerospike.slowLog.";
+	private static final String	IN_MEMORY						= "aerospike.inMemory.";
+	private static final String	METRICS_JMX						= "aerospike.metrics.jmx";
+	private static final String	METRICS_PHASE_SAMPLE_RATE		= "aerospike.metrics.phaseSampleRate";
 	private static final String	AEROSPIKE_TEND_INTERVAL			= "aerospike.tendInterval";
 	private static final String	AEROSPIKE_FAIL_IF_NOT_CONNECTED	= "aerospike.failIfNotConnected";
 	private static final String	AEROSPIKE_SHARED_THREAD_POOL	= "aerospike.sharedThreadPool";
+	private static final String	AEROSPIKE_REQUEST_PROLE_REPLICAS	= "aerospike.requestProleReplicas";
+	private static final String	AEROSPIKE_UDF_MODULES			= "aerospike.udf.modules";
+	private static final String	AEROSPIKE_UDF_SKIP_REGISTRATION	= "aerospike.udf.skipRegistration";
+	private static final String	OPTIMISTIC_LOCKING				= "aerospike.optimisticLocking.";
+	private static final String	HEDGED_READS_THREADS			= "aerospike.hedgedReads.threads";
+	private static final String	UNIT_OF_WORK_ENABLED			= "aerospike.unitOfWork.enabled";
+	private static final String	UNIT_OF_WORK_FLUSH_THREADS		= "aerospike.unitOfWork.flushThreads";
+	private static final String	CACHE_NAMESPACE					= "aerospike.cache.namespace";
+	private static final String	CACHE_NAMES						= "aerospike.cache.names";
+	private static final String	CACHE_LOCAL_MAX_ENTRIES			= "aerospike.cache.local.maxEntries";
+	private static final String	CACHE_LOCAL_TIME_TO_LIVE		= "aerospike.cache.local.timeToLive";
+	private static final String	LIMITER							= "aerospike.limiter.";
+	private static final String	CIRCUIT_BREAKER					= "aerospike.circuitBreaker.";
+	private static final String	CONFIG_EXTERNAL_FILE			= "aerospike.config.externalFile";
+	private static final String	CONFIG_WATCH					= "aerospike.config.watch";
+	private static final String	CONFIG_WATCH_DELAY				= "aerospike.config.watchDelay";
+	/**
+	 * Lua modules shipped with this library.
+	 */
+	private static final String	BUILT_IN_UDF_MODULES			= "udf/aggregations.lua";
 
-	private final Properties	configProperties				= new Properties();
+	/**
+	 * Replaced as a whole on reload so readers never see a partially loaded
+	 * file.
+	 */
+	private volatile Properties	configProperties				= new Properties();
 
 	private String				configFile = "aerospike.config";
 
@@ -78,25 +124,82 @@ public class AerospikeConfigurationsImpl implements AerospikeConfigurations {
 	}
 
 	/**
-	 * Refreshes the configurations in {@link #configProperties} from the file.
+	 * Refreshes the configurations in {@link #configProperties} from the
+	 * classpath file, overridden by the external file if one is configured,
+	 * in the classpath file or else as a system property.
+	 * The configurations are kept as they are if any of the files can't be
+	 * read.
+	 * 
+	 * @return whether the configurations have been replaced.
 	 */
-	private void loadFile() {
-		try {
-			LOGGER.info("Reading aerospike configurations from file: {}", configFile);
-			InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(configFile);
-			configProperties.load(in);
-		} catch (FileNotFoundException e) {
-			LOGGER.error("Failed to read aerospike.config file. Default settings will be used", e);
-		} catch (IOException e) {
-			LOGGER.error("Failed to read aerospike.config file. Default settings will be used", e);
+	private boolean loadFile() {
+		Properties properties = new Properties();
+		LOGGER.info("Reading aerospike configurations from file: {}", configFile);
+		InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(configFile);
+		if (in == null) {
+			LOGGER.error("Aerospike configuration file: {} not found in classpath. Default settings will be used", configFile);
+		} else {
+			try {
+				properties.load(in);
+			} catch (IOException e) {
+				LOGGER.error("Failed to read aerospike.config file. Configurations are not changed", e);
+				return false;
+			} finally {
+				close(in);
+			}
+		}
+		String externalFile = properties.getProperty(CONFIG_EXTERNAL_FILE);
+		if ((externalFile == null || externalFile.trim().isEmpty()) && System.getProperty(CONFIG_EXTERNAL_FILE) != null) {
+			// Same file for every run of an application without repackaging it
+			externalFile = System.getProperty(CONFIG_EXTERNAL_FILE);
+			properties.setProperty(CONFIG_EXTERNAL_FILE, externalFile);
+		}
+		if (externalFile != null && !externalFile.trim().isEmpty()) {
+			LOGGER.info("Reading aerospike configurations from external file: {}", externalFile);
+			InputStream externalIn = null;
+			try {
+				externalIn = new FileInputStream(externalFile.trim());
+				properties.load(externalIn);
+			} catch (IOException e) {
+				LOGGER.error("Failed to read aerospike configuration file: {}. Configurations are not changed", externalFile, e);
+				return false;
+			} finally {
+				close(externalIn);
+			}
+		}
+		configProperties = properties;
+		return true;
+	}
+
+	private void close(InputStream in) {
+		if (in != null) {
+			try {
+				in.close();
+			} catch (IOException e) {
+				LOGGER.warn("Failed to close aerospike configuration file", e);
+			}
 		}
 	}
 
 	/**
 	 * Reloads file again to refresh {@link #configProperties}.
 	 */
-	public void reloadPolicyConfig() {
-		loadFile();
+	public boolean reloadPolicyConfig() {
+		return loadFile();
+	}
+
+	public String getExternalConfigFile() {
+		String externalFile = configProperties.getProperty(CONFIG_EXTERNAL_FILE);
+		return externalFile != null && !externalFile.trim().isEmpty() ? externalFile.trim() : null;
+	}
+
+	public boolean isConfigWatchEnabled() {
+		return readBooleanProperty(CONFIG_WATCH);
+	}
+
+	public int getConfigWatchDelay() {
+		int delay = readIntegerProperty(CONFIG_WATCH_DELAY);
+		return delay != ERROR_INT_VALUE ? delay : 500;
 	}
 
 	/**
@@ -111,6 +214,7 @@ public class AerospikeConfigurationsImpl implements AerospikeConfigurations {
 		//
 		clientPolicy.failIfNotConnected = readBooleanProperty(AEROSPIKE_FAIL_IF_NOT_CONNECTED);
 		clientPolicy.sharedThreadPool = readBooleanProperty(AEROSPIKE_SHARED_THREAD_POOL);
+		clientPolicy.requestProleReplicas = readBooleanProperty(AEROSPIKE_REQUEST_PROLE_REPLICAS);
 		//
 		int maxSocketIdle = readIntegerProperty(AEROSPIKE_MAX_SOCKETS_IDLE);
 		clientPolicy.maxSocketIdle = maxSocketIdle != ERROR_INT_VALUE ? maxSocketIdle : clientPolicy.maxSocketIdle;
@@ -133,6 +237,100 @@ public class AerospikeConfigurationsImpl implements AerospikeConfigurations {
 		return clientPolicy;
 	}
 
+	/**
+	 * Reads the warm-up settings. Connections per node are capped at
+	 * aerospike.maxThreads, the size of the connection pool of a node;
+	 * connections beyond it would be closed when returned to the pool.
+	 * 
+	 * @return
+	 */
+	public WarmupPolicy warmupPolicy() {
+		if (!readBooleanProperty(WARMUP + "enabled")) {
+			return WarmupPolicy.DISABLED;
+		}
+		int minConnsPerNode = readIntegerProperty(AEROSPIKE_MIN_CONNS_PER_NODE);
+		int maxThreads = readIntegerProperty(AEROSPIKE_MAX_THREAD);
+		minConnsPerNode = minConnsPerNode != ERROR_INT_VALUE ? minConnsPerNode : 0;
+		if (maxThreads != ERROR_INT_VALUE && minConnsPerNode > maxThreads) {
+			LOGGER.warn("aerospike.minConnsPerNode: {} is more than aerospike.maxThreads: {}. Using: {}", minConnsPerNode, maxThreads, maxThreads);
+			minConnsPerNode = maxThreads;
+		}
+		int readsPerNamespace = readIntegerProperty(WARMUP + "readsPerNamespace");
+		int timeout = readIntegerProperty(WARMUP + "timeout");
+		Set<String> entities = new LinkedHashSet<String>();
+		String configuredEntities = readTextProperty(WARMUP + "entities");
+		if (configuredEntities != ERROR_STRING_VALUE) {
+			for (String entity : configuredEntities.split(",")) {
+				if (!entity.trim().isEmpty()) {
+					entities.add(entity.trim());
+				}
+			}
+		}
+		return new WarmupPolicy(true, minConnsPerNode, readsPerNamespace != ERROR_INT_VALUE ? readsPerNamespace : 10,
+				entities.toArray(new String[entities.size()]), timeout != ERROR_INT_VALUE ? timeout : 1000);
+	}
+
+	public RecordSizePolicy recordSizePolicy() {
+		if (!readBooleanProperty(RECORD_SIZE + "enabled")) {
+			return RecordSizePolicy.DISABLED;
+		}
+		int limit = readIntegerProperty(RECORD_SIZE + "limit");
+		int warnPercent = readIntegerProperty(RECORD_SIZE + "warnPercent");
+		int largestBins = readIntegerProperty(RECORD_SIZE + "largestBins");
+		return new RecordSizePolicy(true, limit != ERROR_INT_VALUE ? limit : 1024 * 1024, warnPercent != ERROR_INT_VALUE ? warnPercent : 80,
+				readBooleanProperty(RECORD_SIZE + "reject"), largestBins != ERROR_INT_VALUE ? largestBins : 3);
+	}
+
+	public SlowLogPolicy slowLogPolicy() {
+		if (!readBooleanProperty(SLOW_LOG + "enabled")) {
+			return SlowLogPolicy.DISABLED;
+		}
+		OperationType[] types = OperationType.values();
+		long[] thresholds = new long[types.length];
+		for (OperationType type : types) {
+			// Property of the type e.g. aerospike.slowLog.threshold.batchRead
+			StringBuilder name = new StringBuilder(SLOW_LOG + "threshold.");
+			for (String part : type.name().toLowerCase().split("_")) {
+				name.append(name.charAt(name.length() - 1) == '.' ? part : Character.toUpperCase(part.charAt(0)) + part.substring(1));
+			}
+			int threshold = readIntegerProperty(name.toString(), SLOW_LOG + "threshold");
+			thresholds[type.ordinal()] = threshold != ERROR_INT_VALUE ? threshold : 500;
+		}
+		int maxPerSecond = readIntegerProperty(SLOW_LOG + "maxPerSecond");
+		return new SlowLogPolicy(true, thresholds, maxPerSecond != ERROR_INT_VALUE ? maxPerSecond : 10);
+	}
+
+	public InMemoryPolicy inMemoryPolicy() {
+		if (!readBooleanProperty(IN_MEMORY + "enabled")) {
+			return InMemoryPolicy.DISABLED;
+		}
+		int latency = readIntegerProperty(IN_MEMORY + "latency");
+		int latencyJitter = readIntegerProperty(IN_MEMORY + "latencyJitter");
+		int failurePercent = readIntegerProperty(IN_MEMORY + "failurePercent");
+		int failureResultCode = readIntegerProperty(IN_MEMORY + "failureResultCode");
+		return new InMemoryPolicy(true, latency != ERROR_INT_VALUE ? latency : 0, latencyJitter != ERROR_INT_VALUE ? latencyJitter : 0,
+				failurePercent != ERROR_INT_VALUE ? failurePercent : 0, failureResultCode != ERROR_INT_VALUE ? failureResultCode
+						: ResultCode.TIMEOUT);
+	}
+
+	public int getPerformanceMonitorSampleRate() {
+		int sampleRate = readIntegerProperty(PERFORMANCE_MONITOR_SAMPLE_RATE);
+		return sampleRate != ERROR_INT_VALUE && sampleRate >= 0 ? sampleRate : 1;
+	}
+
+	public boolean isMetricsEnabled() {
+		return readBooleanProperty(METRICS_ENABLED);
+	}
+
+	public boolean isMetricsJmxEnabled() {
+		return readBooleanProperty(METRICS_JMX);
+	}
+
+	public int getPhaseSampleRate() {
+		int sampleRate = readIntegerProperty(METRICS_PHASE_SAMPLE_RATE);
+		return sampleRate != ERROR_INT_VALUE && sampleRate >= 0 ? sampleRate : 100;
+	}
+
 	public Host[] getAerospikeHosts() {
 		String[] hostsCluster = readTextProperty(AEROSPIKE_HOSTS).split(",");
 		Host[] hosts = new Host[hostsCluster.length];
@@ -143,6 +341,115 @@ public class AerospikeConfigurationsImpl implements AerospikeConfigurations {
 		return hosts;
 	}
 
+	public String[] getUdfModules() {
+		Set<String> modules = new LinkedHashSet<String>();
+		modules.add(BUILT_IN_UDF_MODULES);
+		String configuredModules = readTextProperty(AEROSPIKE_UDF_MODULES);
+		if (configuredModules != ERROR_STRING_VALUE) {
+			for (String module : configuredModules.split(",")) {
+				if (!module.trim().isEmpty()) {
+					modules.add(module.trim());
+				}
+			}
+		}
+		return modules.toArray(new String[modules.size()]);
+	}
+
+	public boolean isUdfRegistrationSkipped() {
+		return readBooleanProperty(AEROSPIKE_UDF_SKIP_REGISTRATION);
+	}
+
+	public BackoffPolicy optimisticLockingBackoff() {
+		int maxRetries = readIntegerProperty(OPTIMISTIC_LOCKING + "maxRetries");
+		int baseDelay = readIntegerProperty(OPTIMISTIC_LOCKING + "baseDelay");
+		int maxDelay = readIntegerProperty(OPTIMISTIC_LOCKING + "maxDelay");
+		return new BackoffPolicy(maxRetries != ERROR_INT_VALUE ? maxRetries : 5, baseDelay != ERROR_INT_VALUE ? baseDelay : 5,
+				maxDelay != ERROR_INT_VALUE ? maxDelay : 100);
+	}
+
+	public boolean isUnitOfWorkEnabled() {
+		return readBooleanProperty(UNIT_OF_WORK_ENABLED);
+	}
+
+	public int getHedgedReadThreads() {
+		int threads = readIntegerProperty(HEDGED_READS_THREADS);
+		return threads != ERROR_INT_VALUE && threads > 0 ? threads : 32;
+	}
+
+	public int getUnitOfWorkFlushThreads() {
+		int flushThreads = readIntegerProperty(UNIT_OF_WORK_FLUSH_THREADS);
+		return flushThreads != ERROR_INT_VALUE ? flushThreads : 16;
+	}
+
+	public String getCacheNamespace() {
+		String namespace = readTextProperty(CACHE_NAMESPACE);
+		return namespace != ERROR_STRING_VALUE && !namespace.trim().isEmpty() ? namespace.trim() : "test";
+	}
+
+	public String[] getCacheNames() {
+		Set<String> names = new LinkedHashSet<String>();
+		String configuredNames = readTextProperty(CACHE_NAMES);
+		if (configuredNames != ERROR_STRING_VALUE) {
+			for (String name : configuredNames.split(",")) {
+				if (!name.trim().isEmpty()) {
+					names.add(name.trim());
+				}
+			}
+		}
+		return names.toArray(new String[names.size()]);
+	}
+
+	public WritePolicy cacheWritePolicy(String cacheName) {
+		WritePolicy policy = writePolicy();
+		int expiration = readIntegerProperty(cacheName + "." + WRITE_POLICY + "expiration", WRITE_POLICY + "expiration");
+		policy.expiration = expiration != ERROR_INT_VALUE ? expiration : policy.expiration;
+		// A cache entry is always written as a whole, whatever its previous bins and generation
+		policy.recordExistsAction = RecordExistsAction.REPLACE;
+		policy.generationPolicy = GenerationPolicy.NONE;
+		return policy;
+	}
+
+	public int getCacheLocalMaxEntries() {
+		int maxEntries = readIntegerProperty(CACHE_LOCAL_MAX_ENTRIES);
+		return maxEntries != ERROR_INT_VALUE ? maxEntries : 0;
+	}
+
+	public int getCacheLocalTimeToLive() {
+		int timeToLive = readIntegerProperty(CACHE_LOCAL_TIME_TO_LIVE);
+		return timeToLive != ERROR_INT_VALUE ? timeToLive : 1000;
+	}
+
+	public LimiterPolicy concurrencyLimiterPolicy() {
+		if (!readBooleanProperty(LIMITER + "enabled")) {
+			return LimiterPolicy.DISABLED;
+		}
+		int initialLimit = readIntegerProperty(LIMITER + "initialLimit");
+		int minLimit = readIntegerProperty(LIMITER + "minLimit");
+		int maxLimit = readIntegerProperty(LIMITER + "maxLimit");
+		int latencyTolerance = readIntegerProperty(LIMITER + "latencyTolerance");
+		int maxQueueWait = readIntegerProperty(LIMITER + "maxQueueWait");
+		return new LimiterPolicy(true, initialLimit != ERROR_INT_VALUE ? initialLimit : 64, minLimit != ERROR_INT_VALUE ? minLimit : 8,
+				maxLimit != ERROR_INT_VALUE ? maxLimit : 512, latencyTolerance != ERROR_INT_VALUE ? latencyTolerance : 200,
+				maxQueueWait != ERROR_INT_VALUE ? maxQueueWait : 10);
+	}
+
+	public CircuitBreakerPolicy circuitBreakerPolicy() {
+		if (!readBooleanProperty(CIRCUIT_BREAKER + "enabled")) {
+			return CircuitBreakerPolicy.DISABLED;
+		}
+		int failureRateThreshold = readIntegerProperty(CIRCUIT_BREAKER + "failureRateThreshold");
+		int minimumCalls = readIntegerProperty(CIRCUIT_BREAKER + "minimumCalls");
+		int window = readIntegerProperty(CIRCUIT_BREAKER + "window");
+		int openDuration = readIntegerProperty(CIRCUIT_BREAKER + "openDuration");
+		int halfOpenCalls = readIntegerProperty(CIRCUIT_BREAKER + "halfOpenCalls");
+		int staleMaxEntries = readIntegerProperty(CIRCUIT_BREAKER + "stale.maxEntries");
+		int staleMaxAge = readIntegerProperty(CIRCUIT_BREAKER + "stale.maxAge");
+		return new CircuitBreakerPolicy(true, failureRateThreshold != ERROR_INT_VALUE ? failureRateThreshold : 50,
+				minimumCalls != ERROR_INT_VALUE ? minimumCalls : 20, window != ERROR_INT_VALUE ? window : 10000,
+				openDuration != ERROR_INT_VALUE ? openDuration : 5000, halfOpenCalls != ERROR_INT_VALUE ? halfOpenCalls : 5,
+				staleMaxEntries != ERROR_INT_VALUE ? staleMaxEntries : 10000, staleMaxAge != ERROR_INT_VALUE ? staleMaxAge : 600000);
+	}
+
 	/**
 	 * 
 	 * @param clazzName
@@ -186,6 +493,25 @@ public class AerospikeConfigurationsImpl implements AerospikeConfigurations {
 		return policy;
 	}
 
+	/**
+	 * Reads hedged read settings of the given class. Each setting falls back
+	 * to the default readPolicy value if not defined for the class.
+	 * 
+	 * @param clazzName
+	 * @return
+	 */
+	public HedgePolicy clazzHedgePolicy(String clazzName) {
+		String enabledProperty = clazzName + "." + READ_POLICY + "hedgedReads";
+		boolean enabled = configProperties.containsKey(enabledProperty) ? readBooleanProperty(enabledProperty)
+				: readBooleanProperty(READ_POLICY + "hedgedReads");
+		if (!enabled) {
+			return HedgePolicy.DISABLED;
+		}
+		int delay = readIntegerProperty(clazzName + "." + READ_POLICY + "hedgeDelay", READ_POLICY + "hedgeDelay");
+		int budgetPercent = readIntegerProperty(clazzName + "." + READ_POLICY + "hedgeBudgetPercent", READ_POLICY + "hedgeBudgetPercent");
+		return new HedgePolicy(true, delay != ERROR_INT_VALUE ? delay : 0, budgetPercent != ERROR_INT_VALUE ? budgetPercent : 5);
+	}
+
 	/**
 	 * 
 	 * @param clazzName
@@ -250,6 +576,10 @@ public class AerospikeConfigurationsImpl implements AerospikeConfigurations {
 		return batchPolicy(clazzName);
 	}
 
+	public EntityPolicies clazzPolicies(String clazzName) {
+		return new EntityPolicies(clazzReadPolicy(clazzName), clazzWritePolicy(clazzName), clazzBatchPolicy(clazzName), clazzHedgePolicy(clazzName));
+	}
+
 	/**
 	 * 
 	 * @return
@@ -341,6 +671,20 @@ public class AerospikeConfigurationsImpl implements AerospikeConfigurations {
 		return -1001;
 	}
 
+	/**
+	 * Reads the first property which is defined from the given properties.
+	 * 
+	 * @param propertyName
+	 * @param defaultPropertyName
+	 * @return
+	 */
+	private int readIntegerProperty(String propertyName, String defaultPropertyName) {
+		if (configProperties.containsKey(propertyName)) {
+			return readIntegerProperty(propertyName);
+		}
+		return configProperties.containsKey(defaultPropertyName) ? readIntegerProperty(defaultPropertyName) : ERROR_INT_VALUE;
+	}
+
 	/**
 	 * 
 	 * @param propertyName
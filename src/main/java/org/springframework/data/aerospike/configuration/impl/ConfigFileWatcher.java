@@ -0,0 +1,154 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.configuration.impl;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.aerospike.client.Client;
+import org.springframework.data.aerospike.configuration.AerospikeConfigurations;
+import org.springframework.stereotype.Service;
+
+/**
+ * Watches the external configuration file and reloads the entity policies
+ * whenever it changes. Changes are coalesced: after the first change the
+ * watcher waits for the configured delay, drains the further events and
+ * reloads once. Editors which replace the file by rename are handled since
+ * the directory of the file is watched.
+ * <p>
+ * Only the policies of the entities are reloaded. Client, cache, limiter and
+ * circuit breaker settings are read at startup.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@Service("configFileWatcher")
+public class ConfigFileWatcher {
+	private static final Logger		LOGGER	= LoggerFactory.getLogger(ConfigFileWatcher.class);
+
+	@Autowired
+	private AerospikeConfigurations	aerospikeConfigurations;
+
+	@Autowired
+	private Client					client;
+
+	private WatchService			watchService;
+	private Thread					watcher;
+
+	@PostConstruct
+	public void initialize() {
+		String externalFile = aerospikeConfigurations.getExternalConfigFile();
+		if (externalFile == null || !aerospikeConfigurations.isConfigWatchEnabled()) {
+			return;
+		}
+		final Path file = Paths.get(externalFile).toAbsolutePath();
+		final long delay = aerospikeConfigurations.getConfigWatchDelay();
+		try {
+			watchService = FileSystems.getDefault().newWatchService();
+			file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+		} catch (IOException e) {
+			LOGGER.error("Failed to watch aerospike configuration file: {}. Policies won't be reloaded on change", file, e);
+			return;
+		}
+		watcher = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				watch(file, delay);
+			}
+		}, "aerospike-config-watcher");
+		watcher.setDaemon(true);
+		watcher.start();
+		LOGGER.info("Watching aerospike configuration file: {} for changes", file);
+	}
+
+	/**
+	 * Waits for changes of the file till the watch service is closed.
+	 *
+	 * @param file
+	 * @param delay
+	 */
+	private void watch(Path file, long delay) {
+		try {
+			while (true) {
+				WatchKey key = watchService.take();
+				boolean changed = isChanged(key, file);
+				if (!changed) {
+					continue;
+				}
+				// Let the writer finish and coalesce the events of the same change
+				Thread.sleep(delay);
+				while ((key = watchService.poll(0, TimeUnit.MILLISECONDS)) != null) {
+					isChanged(key, file);
+				}
+				LOGGER.info("Aerospike configuration file: {} changed. Reloading policies", file);
+				try {
+					client.reloadAerospikePolicies();
+				} catch (RuntimeException e) {
+					LOGGER.error("Failed to reload policies from aerospike configuration file: {}", file, e);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ClosedWatchServiceException e) {
+			LOGGER.debug("Stopped watching aerospike configuration file: {}", file);
+		}
+	}
+
+	/**
+	 * Consumes the events of the given key and resets it.
+	 *
+	 * @param key
+	 * @param file
+	 * @return whether any of the events is about the given file.
+	 */
+	private boolean isChanged(WatchKey key, Path file) {
+		boolean changed = false;
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(event.context())) {
+				changed = true;
+			}
+		}
+		key.reset();
+		return changed;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (watchService != null) {
+			try {
+				watchService.close();
+			} catch (IOException e) {
+				LOGGER.warn("Failed to close watch service of aerospike configuration file", e);
+			}
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.configuration.impl;
+
+import org.springframework.beans.PropertyValue;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.TypedStringValue;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.data.aerospike.configuration.AerospikeConfigurations;
+
+/**
+ * Base of the conditions which depend on the configurations. Conditions are
+ * evaluated before any bean exists, so the configurations are read here on
+ * their own, from the config file set on the {@link AerospikeConfigurationsImpl}
+ * bean definition of the context if there is one, else from the default file.
+ * The external file is picked up the same way as by the bean.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public abstract class ConfigurationsCondition implements Condition {
+
+	@Override
+	public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+		AerospikeConfigurationsImpl configurations = new AerospikeConfigurationsImpl();
+		String configFile = getConfigFile(context);
+		if (configFile != null) {
+			configurations.setConfigFile(configFile);
+		}
+		configurations.loadConfig();
+		return matches(configurations);
+	}
+
+	/**
+	 * 
+	 * @param configurations
+	 * @return whether the condition matches with the given configurations.
+	 */
+	protected abstract boolean matches(AerospikeConfigurations configurations);
+
+	/**
+	 * 
+	 * @param context
+	 * @return config file set on the configurations bean definition, null if
+	 *         not set.
+	 */
+	private String getConfigFile(ConditionContext context) {
+		BeanDefinitionRegistry registry = context.getRegistry();
+		for (String name : registry.getBeanDefinitionNames()) {
+			BeanDefinition definition = registry.getBeanDefinition(name);
+			if (!AerospikeConfigurationsImpl.class.getName().equals(definition.getBeanClassName())) {
+				continue;
+			}
+			PropertyValue property = definition.getPropertyValues().getPropertyValue("configFile");
+			if (property != null && property.getValue() != null) {
+				Object value = property.getValue();
+				String configFile = value instanceof TypedStringValue ? ((TypedStringValue) value).getValue() : value.toString();
+				return context.getEnvironment().resolvePlaceholders(configFile);
+			}
+		}
+		return null;
+	}
+}
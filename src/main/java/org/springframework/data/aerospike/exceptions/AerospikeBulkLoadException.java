@@ -0,0 +1,41 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.exceptions;
+
+/**
+ * Thrown when a bulk load can't read its input or is aborted because too many
+ * records have failed. Progress up to the last checkpoint is retained.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class AerospikeBulkLoadException extends AerospikeException {
+	/**
+	 * 
+	 */
+	private static final long	serialVersionUID	= 1L;
+
+	public AerospikeBulkLoadException(String message) {
+		super(message);
+	}
+
+	public AerospikeBulkLoadException(String message, Throwable t) {
+		super(message, t);
+	}
+
+}
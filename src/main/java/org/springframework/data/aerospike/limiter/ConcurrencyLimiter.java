@@ -0,0 +1,69 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.limiter;
+
+import java.util.List;
+
+import org.springframework.data.aerospike.exceptions.AerospikeLimitExceededException;
+import org.springframework.data.aerospike.operations.OperationType;
+
+/**
+ * Caps the operations in flight per namespace and operation type. The cap
+ * adapts to the latency observed: it grows slowly while latency stays close
+ * to the no-load latency and is cut multiplicatively once latency rises above
+ * the tolerance, so a slow cluster sheds load at the application instead of
+ * piling threads up on client sockets.
+ *
+ * <pre>
+ * Permit permit = concurrencyLimiter.acquire(namespace, OperationType.READ);
+ * try {
+ * 	// operation
+ * } finally {
+ * 	permit.release();
+ * }
+ * </pre>
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public interface ConcurrencyLimiter {
+	/**
+	 * Acquires a slot, waiting briefly if the limit has been reached.
+	 *
+	 * @param namespace
+	 * @param type
+	 * @return
+	 * @throws AerospikeLimitExceededException
+	 *             if no slot became free within the configured wait.
+	 */
+	public Permit acquire(String namespace, OperationType type) throws AerospikeLimitExceededException;
+
+	/**
+	 *
+	 * @return current state of the limits used so far.
+	 */
+	public List<LimiterStats> getStats();
+
+	/**
+	 *
+	 * @param namespace
+	 * @param type
+	 * @return current state of the limit, null if it hasn't been used.
+	 */
+	public LimiterStats getStats(String namespace, OperationType type);
+}
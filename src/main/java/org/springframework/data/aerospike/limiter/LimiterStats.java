@@ -0,0 +1,83 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.limiter;
+
+import org.springframework.data.aerospike.operations.OperationType;
+
+/**
+ * Point in time state of the limit of a namespace and operation type.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class LimiterStats {
+	private final String		namespace;
+	private final OperationType	operationType;
+	private final int			limit;
+	private final int			inFlight;
+	/**
+	 * Operations rejected since startup.
+	 */
+	private final long			rejections;
+	/**
+	 * No-load latency in nanos the observed latency is compared with.
+	 */
+	private final long			baselineLatency;
+
+	public LimiterStats(String namespace, OperationType operationType, int limit, int inFlight, long rejections, long baselineLatency) {
+		this.namespace = namespace;
+		this.operationType = operationType;
+		this.limit = limit;
+		this.inFlight = inFlight;
+		this.rejections = rejections;
+		this.baselineLatency = baselineLatency;
+	}
+
+	public String getNamespace() {
+		return namespace;
+	}
+
+	public OperationType getOperationType() {
+		return operationType;
+	}
+
+	public int getLimit() {
+		return limit;
+	}
+
+	public int getInFlight() {
+		return inFlight;
+	}
+
+	public long getRejections() {
+		return rejections;
+	}
+
+	public long getBaselineLatency() {
+		return baselineLatency;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("LimiterStats [namespace=").append(namespace).append(", operationType=").append(operationType).append(", limit=")
+				.append(limit).append(", inFlight=").append(inFlight).append(", rejections=").append(rejections).append(", baselineLatency=")
+				.append(baselineLatency).append("]");
+		return builder.toString();
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.limiter;
+
+/**
+ * Slot of an operation within the concurrency limit. Must be released once
+ * the operation completes, successfully or not.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public interface Permit {
+	/**
+	 * Frees the slot and feeds the latency of the operation to the limit.
+	 */
+	public void release();
+
+	/**
+	 * Frees the slot of an operation which has not been sent to the cluster,
+	 * e.g. rejected by the circuit breaker. Its latency says nothing about
+	 * the cluster so the limit is left as it is.
+	 */
+	public void cancel();
+}
@@ -0,0 +1,209 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.limiter.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.aerospike.configuration.LimiterPolicy;
+import org.springframework.data.aerospike.exceptions.AerospikeLimitExceededException;
+import org.springframework.data.aerospike.limiter.LimiterStats;
+import org.springframework.data.aerospike.limiter.Permit;
+import org.springframework.data.aerospike.operations.OperationType;
+
+/**
+ * AIMD limit of a single namespace and operation type. Latency of every
+ * operation is compared with the baseline, a slowly moving minimum of recent
+ * latencies. Latency within tolerance grows the limit by 1/limit (about one
+ * per round of operations) as long as the limit is actually being used;
+ * latency beyond tolerance cuts it by 10%, at most once per round trip.
+ * <p>
+ * Acquisition is a CAS on the in-flight counter; the lock is used only by
+ * callers waiting for a slot. The minimum and the sample count of the
+ * baseline window are atomic, so exactly one caller closes a window. Limit
+ * and baseline are updated without locking; a lost update only delays
+ * adaptation by a sample.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+class AdaptiveLimit {
+	private static final Logger		LOGGER			= LoggerFactory.getLogger(AdaptiveLimit.class);
+	/**
+	 * Samples over which the minimum latency is taken to move the baseline.
+	 */
+	private static final int		BASELINE_WINDOW	= 500;
+	private static final double		DECREASE_FACTOR	= 0.9;
+	private static final long		MIN_DECREASE_GAP	= TimeUnit.MILLISECONDS.toNanos(1);
+
+	private final String			namespace;
+	private final OperationType		type;
+	private final LimiterPolicy		policy;
+	private final AtomicInteger		inFlight		= new AtomicInteger();
+	private final AtomicLong		rejections		= new AtomicLong();
+	private final ReentrantLock		lock			= new ReentrantLock();
+	private final Condition			available		= lock.newCondition();
+	private final AtomicInteger		waiters			= new AtomicInteger();
+	private volatile double			limit;
+	private volatile long			baseline		= Long.MAX_VALUE;
+	private volatile long			lastDecrease;
+	private final AtomicLong		windowMin		= new AtomicLong(Long.MAX_VALUE);
+	private final AtomicInteger		windowSamples	= new AtomicInteger();
+
+	AdaptiveLimit(String namespace, OperationType type, LimiterPolicy policy) {
+		this.namespace = namespace;
+		this.type = type;
+		this.policy = policy;
+		this.limit = policy.getInitialLimit();
+	}
+
+	Permit acquire() throws AerospikeLimitExceededException {
+		if (tryAcquire() || awaitSlot()) {
+			return new LimitPermit(System.nanoTime());
+		}
+		rejections.incrementAndGet();
+		throw new AerospikeLimitExceededException("Concurrency limit: " + (int) limit + " reached for " + type + " operations on namespace: "
+				+ namespace);
+	}
+
+	private boolean tryAcquire() {
+		while (true) {
+			int current = inFlight.get();
+			if (current >= (int) limit) {
+				return false;
+			}
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	private boolean awaitSlot() {
+		long remaining = TimeUnit.MILLISECONDS.toNanos(policy.getMaxQueueWait());
+		if (remaining <= 0) {
+			return false;
+		}
+		waiters.incrementAndGet();
+		lock.lock();
+		try {
+			while (!tryAcquire()) {
+				if (remaining <= 0) {
+					return false;
+				}
+				remaining = available.awaitNanos(remaining);
+			}
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} finally {
+			lock.unlock();
+			waiters.decrementAndGet();
+		}
+	}
+
+	private void release(long latency) {
+		int current = inFlight.decrementAndGet();
+		adapt(latency, current + 1);
+		signalWaiter();
+	}
+
+	private void cancel() {
+		inFlight.decrementAndGet();
+		signalWaiter();
+	}
+
+	private void signalWaiter() {
+		if (waiters.get() > 0) {
+			lock.lock();
+			try {
+				available.signal();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Adjusts the limit for the latency of an operation completed with the
+	 * given number of operations in flight.
+	 *
+	 * @param latency
+	 * @param concurrency
+	 */
+	private void adapt(long latency, int concurrency) {
+		updateBaseline(latency);
+		double current = limit;
+		if (latency * 100 > baseline * policy.getLatencyTolerance()) {
+			long now = System.nanoTime();
+			if (now - lastDecrease >= Math.max(latency, MIN_DECREASE_GAP)) {
+				lastDecrease = now;
+				limit = Math.max(policy.getMinLimit(), current * DECREASE_FACTOR);
+				if ((int) limit != (int) current) {
+					LOGGER.debug("Reduced limit of {} operations on namespace: {} to {}. Latency: {}ns, baseline: {}ns", type, namespace,
+							(int) limit, latency, baseline);
+				}
+			}
+		} else if (concurrency * 2 >= current) {
+			limit = Math.min(policy.getMaxLimit(), current + 1 / current);
+		}
+	}
+
+	private void updateBaseline(long latency) {
+		if (latency < baseline) {
+			baseline = latency;
+		}
+		long min;
+		while (latency < (min = windowMin.get()) && !windowMin.compareAndSet(min, latency)) {
+			// Retry with the minimum set by another caller
+		}
+		if (windowSamples.incrementAndGet() == BASELINE_WINDOW) {
+			// Let the baseline drift up slowly if the cluster has become slower for good
+			min = windowMin.getAndSet(Long.MAX_VALUE);
+			windowSamples.set(0);
+			baseline = (baseline * 3 + min) / 4;
+		}
+	}
+
+	LimiterStats getStats() {
+		return new LimiterStats(namespace, type, (int) limit, inFlight.get(), rejections.get(), baseline != Long.MAX_VALUE ? baseline : 0);
+	}
+
+	private class LimitPermit implements Permit {
+		private final long	start;
+
+		private LimitPermit(long start) {
+			this.start = start;
+		}
+
+		@Override
+		public void release() {
+			AdaptiveLimit.this.release(System.nanoTime() - start);
+		}
+
+		@Override
+		public void cancel() {
+			AdaptiveLimit.this.cancel();
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.limiter.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.aerospike.configuration.AerospikeConfigurations;
+import org.springframework.data.aerospike.configuration.LimiterPolicy;
+import org.springframework.data.aerospike.exceptions.AerospikeLimitExceededException;
+import org.springframework.data.aerospike.limiter.ConcurrencyLimiter;
+import org.springframework.data.aerospike.limiter.LimiterStats;
+import org.springframework.data.aerospike.limiter.Permit;
+import org.springframework.data.aerospike.metrics.MetricsRegistry;
+import org.springframework.data.aerospike.operations.OperationType;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps an {@link AdaptiveLimit} per namespace and operation type. When
+ * disabled every acquisition returns a shared no-op permit. Limits are added
+ * to the {@link MetricsRegistry} as they are created.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@Service("concurrencyLimiter")
+public class ConcurrencyLimiterImpl implements ConcurrencyLimiter {
+	private static final Logger									LOGGER		= LoggerFactory.getLogger(ConcurrencyLimiter.class);
+	private static final Permit									NO_LIMIT	= new Permit() {
+																				@Override
+																				public void release() {
+																				}
+
+																				@Override
+																				public void cancel() {
+																				}
+																			};
+
+	@Autowired
+	private AerospikeConfigurations								aerospikeConfigurations;
+	@Autowired
+	private MetricsRegistry										metricsRegistry;
+
+	private LimiterPolicy										policy		= LimiterPolicy.DISABLED;
+	/**
+	 * Limits of a namespace indexed by operation type ordinal.
+	 */
+	private final ConcurrentHashMap<String, AdaptiveLimit[]>	limits		= new ConcurrentHashMap<String, AdaptiveLimit[]>();
+
+	@PostConstruct
+	public void initialize() {
+		policy = aerospikeConfigurations.concurrencyLimiterPolicy();
+		if (policy.isEnabled()) {
+			LOGGER.info("Concurrency limiter enabled with initial limit: {}, range: [{}, {}], latency tolerance: {}%", policy.getInitialLimit(),
+					policy.getMinLimit(), policy.getMaxLimit(), policy.getLatencyTolerance());
+		}
+	}
+
+	@Override
+	public Permit acquire(String namespace, OperationType type) throws AerospikeLimitExceededException {
+		if (!policy.isEnabled()) {
+			return NO_LIMIT;
+		}
+		return getLimits(namespace)[type.ordinal()].acquire();
+	}
+
+	@Override
+	public List<LimiterStats> getStats() {
+		List<LimiterStats> stats = new ArrayList<LimiterStats>();
+		for (AdaptiveLimit[] namespaceLimits : limits.values()) {
+			for (AdaptiveLimit limit : namespaceLimits) {
+				stats.add(limit.getStats());
+			}
+		}
+		return stats;
+	}
+
+	@Override
+	public LimiterStats getStats(String namespace, OperationType type) {
+		AdaptiveLimit[] namespaceLimits = limits.get(namespace);
+		return namespaceLimits != null ? namespaceLimits[type.ordinal()].getStats() : null;
+	}
+
+	private AdaptiveLimit[] getLimits(String namespace) {
+		AdaptiveLimit[] namespaceLimits = limits.get(namespace);
+		if (namespaceLimits == null) {
+			AdaptiveLimit[] newLimits = new AdaptiveLimit[OperationType.values().length];
+			for (OperationType type : OperationType.values()) {
+				newLimits[type.ordinal()] = new AdaptiveLimit(namespace, type, policy);
+			}
+			namespaceLimits = limits.putIfAbsent(namespace, newLimits);
+			if (namespaceLimits == null) {
+				namespaceLimits = newLimits;
+				for (OperationType type : OperationType.values()) {
+					metricsRegistry.addLimit(namespace, type, this);
+				}
+			}
+		}
+		return namespaceLimits;
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.logger;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log-linear histogram of latencies in nanos with a fixed number of buckets.
+ * Every power of two is split into {@link #SUB_BUCKETS} linear buckets, so a
+ * recorded value is off by at most 1/16th of it. Values above ~18 minutes are
+ * counted in the last bucket.
+ * <p>
+ * Recording is a single atomic increment; reads are not atomic with respect
+ * to concurrent recording, which is fine for reporting.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class LatencyHistogram {
+	private static final int		SUB_BUCKET_BITS	= 4;
+	private static final int		SUB_BUCKETS		= 1 << SUB_BUCKET_BITS;
+	/**
+	 * Highest power of two covered.
+	 */
+	private static final int		MAX_EXPONENT	= 40;
+	static final int				BUCKETS			= (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+	private final AtomicLongArray	counts			= new AtomicLongArray(BUCKETS);
+
+	public void record(long nanos) {
+		counts.incrementAndGet(index(nanos));
+	}
+
+	public void reset() {
+		for (int i = 0; i < BUCKETS; i++) {
+			counts.set(i, 0);
+		}
+	}
+
+	/**
+	 * Percentiles of the latencies recorded since the histogram was created
+	 * or reset.
+	 *
+	 * @return
+	 */
+	public LatencySnapshot snapshot() {
+		long[] merged = new long[BUCKETS];
+		addTo(merged);
+		return snapshot(merged);
+	}
+
+	/**
+	 * Adds the counts of this histogram to the given counts.
+	 *
+	 * @param into
+	 */
+	void addTo(long[] into) {
+		for (int i = 0; i < BUCKETS; i++) {
+			into[i] += counts.get(i);
+		}
+	}
+
+	/**
+	 *
+	 * @param counts
+	 *            per bucket
+	 * @return count and percentiles of the given counts.
+	 */
+	static LatencySnapshot snapshot(long[] counts) {
+		long total = 0;
+		for (long count : counts) {
+			total += count;
+		}
+		return new LatencySnapshot(total, valueAt(counts, total, 50), valueAt(counts, total, 95), valueAt(counts, total, 99), valueAt(
+				counts, total, 99.9));
+	}
+
+	static int index(long nanos) {
+		if (nanos < SUB_BUCKETS) {
+			return nanos < 0 ? 0 : (int) nanos;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+		if (exponent > MAX_EXPONENT) {
+			return BUCKETS - 1;
+		}
+		int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 *
+	 * @param index
+	 * @return highest value counted in the bucket of the given index.
+	 */
+	static long highestValue(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		return lowestValue(index + 1) - 1;
+	}
+
+	private static long lowestValue(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+	}
+
+	/**
+	 * Returns the value at the given percentile of the given counts.
+	 *
+	 * @param counts
+	 * @param total
+	 *            sum of the counts
+	 * @param percentile
+	 *            between 0 and 100
+	 * @return
+	 */
+	static long valueAt(long[] counts, long total, double percentile) {
+		if (total == 0) {
+			return 0;
+		}
+		long rank = (long) Math.ceil(total * percentile / 100);
+		long seen = 0;
+		for (int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if (seen >= rank && counts[i] > 0) {
+				return highestValue(i);
+			}
+		}
+		return highestValue(counts.length - 1);
+	}
+}
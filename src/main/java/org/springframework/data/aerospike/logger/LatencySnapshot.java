@@ -0,0 +1,74 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.logger;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Count and percentiles in nanos of the latencies recorded in a
+ * {@link LatencyHistogram} or in the windows covered by a
+ * {@link RollingLatencyHistogram}.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class LatencySnapshot {
+	private final long	count;
+	private final long	p50;
+	private final long	p95;
+	private final long	p99;
+	private final long	p999;
+
+	public LatencySnapshot(long count, long p50, long p95, long p99, long p999) {
+		this.count = count;
+		this.p50 = p50;
+		this.p95 = p95;
+		this.p99 = p99;
+		this.p999 = p999;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public long getP50() {
+		return p50;
+	}
+
+	public long getP95() {
+		return p95;
+	}
+
+	public long getP99() {
+		return p99;
+	}
+
+	public long getP999() {
+		return p999;
+	}
+
+	@Override
+	public String toString() {
+		return "cnt = " + count + ", p50 = " + micros(p50) + "us, p95 = " + micros(p95) + "us, p99 = " + micros(p99) + "us, p999 = "
+				+ micros(p999) + "us";
+	}
+
+	private static long micros(long nanos) {
+		return TimeUnit.NANOSECONDS.toMicros(nanos);
+	}
+}
@@ -16,28 +16,77 @@
  */
 package org.springframework.data.aerospike.logger;
 
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.data.aerospike.configuration.AerospikeConfigurations;
 import org.springframework.stereotype.Component;
 
 /**
+ * Measures the methods of {@link PerformanceMonitor} classes. Counters are
+ * {@link LongAdder}s and latencies go to a {@link RollingLatencyHistogram} per
+ * method, so recording takes no lock and memory per method is constant.
+ * Percentiles over the last minute are logged per method every
+ * {@link #STAT_LOG_INTERVAL} millis.
+ * <p>
+ * One in aerospike.performanceMonitor.sampleRate calls is measured; the
+ * others only pay for the sampling decision. Stats are looked up by the
+ * {@link Method} of the join point, so no signature string is built per
+ * call. With a sample rate of 0 the aspect isn't registered at all, see
+ * {@link PerformanceMonitorCondition}.
+ * 
  * @author fanendra
  * @createdOn 13-Nov-2014
  * @since
  */
 @Aspect
 @Component
+@Conditional(PerformanceMonitorCondition.class)
 public class PerformanceLogger {
 	private static final Logger								LOGGER					= LoggerFactory.getLogger(PerformanceLogger.class);
-	private static ConcurrentHashMap<String, MethodStats>	methodStats				= new ConcurrentHashMap<String, MethodStats>();
-	private static long										statLogFrequency		= 1000;
-	private static long										methodWarningThreshold	= 500;
+	private static final ConcurrentHashMap<Method, MethodStats>	methodStats			= new ConcurrentHashMap<Method, MethodStats>();
+	/**
+	 * Millis between two logs of the stats of a method.
+	 */
+	private static final long								STAT_LOG_INTERVAL		= 60000;
+	/**
+	 * Latencies are kept for {@link #WINDOWS} windows of
+	 * {@link #WINDOW_MILLIS} each.
+	 */
+	private static final int								WINDOWS					= 6;
+	private static final long								WINDOW_MILLIS			= 10000;
+	private static final long								methodWarningThreshold	= TimeUnit.MILLISECONDS.toNanos(500);
+
+	@Autowired
+	private AerospikeConfigurations							aerospikeConfigurations;
+	/**
+	 * One in these many calls is measured.
+	 */
+	private int												sampleRate				= 1;
+
+	@PostConstruct
+	public void initialize() {
+		sampleRate = Math.max(1, aerospikeConfigurations.getPerformanceMonitorSampleRate());
+		LOGGER.info("Measuring one in {} calls of @PerformanceMonitor methods", sampleRate);
+	}
 
 	@Pointcut("within(@org.springframework.data.aerospike.logger.PerformanceMonitor *)")
 	public void logPerformance() {
@@ -45,59 +94,132 @@ public class PerformanceLogger {
 
 	@Around("logPerformance()")
 	public Object profile(ProceedingJoinPoint joinPoint) throws Throwable {
-		long start = System.currentTimeMillis();
+		if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+			return joinPoint.proceed();
+		}
+		long start = System.nanoTime();
 		try {
 			return joinPoint.proceed();
 		} finally {
-			long time = System.currentTimeMillis() - start;
+			long time = System.nanoTime() - start;
+			MethodSignature signature = (MethodSignature) joinPoint.getSignature();
 			if (LOGGER.isDebugEnabled()) {
-				LOGGER.debug("{}, execution time: {}ms", joinPoint.getSignature(), time);
+				LOGGER.debug("{}, execution time: {}us", signature, TimeUnit.NANOSECONDS.toMicros(time));
 			}
-			updateStats(joinPoint.getSignature().toLongString(), time);
+			updateStats(signature, time);
+		}
+	}
+
+	/**
+	 * Returns the stats of all the methods measured till now by method
+	 * signature.
+	 * 
+	 * @return
+	 */
+	public static Map<String, MethodStats> getMethodStats() {
+		Map<String, MethodStats> stats = new HashMap<String, MethodStats>();
+		for (MethodStats method : methodStats.values()) {
+			stats.put(method.getMethodName(), method);
 		}
+		return Collections.unmodifiableMap(stats);
 	}
 
 	/**
-	 * Logs the method stats at defined frequency.
+	 * Records the elapsed time and logs the method stats at defined interval.
 	 * 
-	 * @param methodName
+	 * @param signature
 	 * @param elapsedTime
+	 *            in nanos
 	 */
-	private void updateStats(String methodName, long elapsedTime) {
-		MethodStats stats = methodStats.get(methodName);
+	private void updateStats(MethodSignature signature, long elapsedTime) {
+		Method method = signature.getMethod();
+		MethodStats stats = methodStats.get(method);
 		if (stats == null) {
-			stats = new MethodStats(methodName);
-			methodStats.put(methodName, stats);
-		}
-		stats.count++;
-		stats.totalTime += elapsedTime;
-		if (elapsedTime > stats.maxTime) {
-			stats.maxTime = elapsedTime;
+			MethodStats newStats = new MethodStats(signature.toLongString());
+			stats = methodStats.putIfAbsent(method, newStats);
+			if (stats == null) {
+				stats = newStats;
+			}
 		}
+		stats.record(elapsedTime);
+		String methodName = stats.getMethodName();
 
 		if (elapsedTime > methodWarningThreshold) {
-			LOGGER.warn("method warning: {}, cnt = {}, lastTime = {}, maxTime = {}", methodName, stats.count, elapsedTime, stats.maxTime);
+			LOGGER.warn("method warning: {}, lastTime = {}ms, maxTime = {}ms", methodName, TimeUnit.NANOSECONDS.toMillis(elapsedTime),
+					TimeUnit.NANOSECONDS.toMillis(stats.getMaxTime()));
 		}
-
-		if (stats.count % statLogFrequency == 0) {
-			long avgTime = stats.totalTime / stats.count;
-			long runningAvg = (stats.totalTime - stats.lastTotalTime) / statLogFrequency;
-			LOGGER.info("method: {}, cnt = {}, lastTime = {}, avgTime = {}, runningAvg = {}, maxTime = {}", methodName, stats.count, elapsedTime,
-					avgTime, runningAvg, stats.maxTime);
-			// reset the last total time
-			stats.lastTotalTime = stats.totalTime;
+		if (stats.isLogDue()) {
+			LOGGER.info("method: {}, sampled cnt = {} (1 in {}), avgTime = {}us, maxTime = {}us, last {}s: {}", methodName, stats.getCount(),
+					sampleRate, TimeUnit.NANOSECONDS.toMicros(stats.getAverageTime()), TimeUnit.NANOSECONDS.toMicros(stats.getMaxTime()),
+					WINDOWS * WINDOW_MILLIS / 1000, stats.getLatencies());
 		}
 	}
 
-	class MethodStats {
-		public String	methodName;
-		public long		count;
-		public long		totalTime;
-		public long		lastTotalTime;
-		public long		maxTime;
+	/**
+	 * Counters and latencies of the sampled calls of a method. Times are in
+	 * nanos.
+	 */
+	public static class MethodStats {
+		private final String					methodName;
+		private final LongAdder					count		= new LongAdder();
+		private final LongAdder					totalTime	= new LongAdder();
+		private final AtomicLong				maxTime		= new AtomicLong();
+		private final RollingLatencyHistogram	latencies	= new RollingLatencyHistogram(WINDOWS, WINDOW_MILLIS);
+		private final AtomicLong				nextLog		= new AtomicLong(System.nanoTime()
+																	+ TimeUnit.MILLISECONDS.toNanos(STAT_LOG_INTERVAL));
 
-		public MethodStats(String methodName) {
+		MethodStats(String methodName) {
 			this.methodName = methodName;
 		}
+
+		void record(long elapsedTime) {
+			count.increment();
+			totalTime.add(elapsedTime);
+			latencies.record(elapsedTime);
+			long max = maxTime.get();
+			while (elapsedTime > max && !maxTime.compareAndSet(max, elapsedTime)) {
+				max = maxTime.get();
+			}
+		}
+
+		/**
+		 * 
+		 * @return whether the caller should log the stats; true for only one
+		 *         caller per interval.
+		 */
+		boolean isLogDue() {
+			long next = nextLog.get();
+			long now = System.nanoTime();
+			return now - next >= 0 && nextLog.compareAndSet(next, now + TimeUnit.MILLISECONDS.toNanos(STAT_LOG_INTERVAL));
+		}
+
+		public String getMethodName() {
+			return methodName;
+		}
+
+		public long getCount() {
+			return count.sum();
+		}
+
+		public long getTotalTime() {
+			return totalTime.sum();
+		}
+
+		public long getAverageTime() {
+			long calls = count.sum();
+			return calls > 0 ? totalTime.sum() / calls : 0;
+		}
+
+		public long getMaxTime() {
+			return maxTime.get();
+		}
+
+		/**
+		 * 
+		 * @return percentiles of the latencies of the last minute.
+		 */
+		public LatencySnapshot getLatencies() {
+			return latencies.snapshot();
+		}
 	}
 }
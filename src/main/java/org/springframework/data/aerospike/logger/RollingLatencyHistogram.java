@@ -0,0 +1,94 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.logger;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencies of the last few windows. Each window has its own
+ * {@link LatencyHistogram} in a fixed ring, reset when the ring wraps around
+ * to it, so memory is constant and old latencies age out. Only the first
+ * recording in a new window takes a lock, to reset the slot.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class RollingLatencyHistogram {
+	private final Slot[]	slots;
+	private final long		windowNanos;
+	/**
+	 * Windows are counted from here; nanoTime itself may be negative.
+	 */
+	private final long		origin;
+
+	/**
+	 * 
+	 * @param windows
+	 *            number of windows covered
+	 * @param windowMillis
+	 *            length of a window
+	 */
+	public RollingLatencyHistogram(int windows, long windowMillis) {
+		// One more slot than covered, which is being reset for the next window
+		this.slots = new Slot[windows + 1];
+		for (int i = 0; i < slots.length; i++) {
+			slots[i] = new Slot();
+		}
+		this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+		this.origin = System.nanoTime();
+	}
+
+	public void record(long nanos) {
+		long window = currentWindow();
+		Slot slot = slots[(int) (window % slots.length)];
+		if (slot.window != window) {
+			synchronized (slot) {
+				if (slot.window != window) {
+					slot.histogram.reset();
+					slot.window = window;
+				}
+			}
+		}
+		slot.histogram.record(nanos);
+	}
+
+	/**
+	 * Merges the windows which are still covered into a snapshot.
+	 *
+	 * @return
+	 */
+	public LatencySnapshot snapshot() {
+		long window = currentWindow();
+		long[] counts = new long[LatencyHistogram.BUCKETS];
+		for (Slot slot : slots) {
+			if (window - slot.window < slots.length - 1) {
+				slot.histogram.addTo(counts);
+			}
+		}
+		return LatencyHistogram.snapshot(counts);
+	}
+
+	private long currentWindow() {
+		return (System.nanoTime() - origin) / windowNanos;
+	}
+
+	private static class Slot {
+		private final LatencyHistogram	histogram	= new LatencyHistogram();
+		private volatile long			window		= -1;
+	}
+}
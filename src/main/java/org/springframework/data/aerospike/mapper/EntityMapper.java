@@ -25,23 +25,35 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import javax.annotation.PostConstruct;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.aerospike.annotations.AerospikeEntity;
 import org.springframework.data.aerospike.annotations.AerospikeTransient;
+import org.springframework.data.aerospike.client.RecordCursor;
+import org.springframework.data.aerospike.configuration.AerospikeConfigurations;
+import org.springframework.data.aerospike.configuration.RecordSizePolicy;
 import org.springframework.data.aerospike.exceptions.AerospikeIncompatibleEntityException;
 import org.springframework.data.aerospike.exceptions.AerospikePrimaryKeyNotDefinedException;
+import org.springframework.data.aerospike.exceptions.AerospikeRecordTooLargeException;
 import org.springframework.data.aerospike.logger.PerformanceMonitor;
+import org.springframework.data.aerospike.metrics.MetricsRegistry;
+import org.springframework.data.aerospike.metrics.OperationContext;
+import org.springframework.data.aerospike.metrics.OperationPhase;
+import org.springframework.data.aerospike.metrics.jfr.FlightRecorderEvents;
 import org.springframework.data.aerospike.serializer.Serializer;
 import org.springframework.stereotype.Service;
 
 import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
 import com.aerospike.client.Record;
-import com.aerospike.client.query.RecordSet;
+import com.aerospike.client.Value;
 
 /**
  * Holds aerospike mapping related information for all Aerospike persistable
@@ -61,6 +73,16 @@ import com.aerospike.client.query.RecordSet;
 @SuppressWarnings({ "rawtypes", "unchecked" })
 public class EntityMapper {
 	private static final Logger											LOGGER				= LoggerFactory.getLogger(EntityMapper.class);
+	/**
+	 * Approximate storage overhead of a record and of each of its bins, added
+	 * to the encoded bins while estimating the size of a record.
+	 */
+	private static final int											RECORD_OVERHEAD		= 64;
+	private static final int											BIN_OVERHEAD		= 12;
+	/**
+	 * Minimum interval between the oversize warnings of a class.
+	 */
+	private static final long											WARN_INTERVAL		= TimeUnit.MINUTES.toMillis(1);
 	/**
 	 * Map to hold class structure of all the Aerospike persistable classes.
 	 */
@@ -78,11 +100,28 @@ public class EntityMapper {
 
 	@Autowired
 	private Serializer													serializer;
+
+	@Autowired
+	private MetricsRegistry												metricsRegistry;
+
+	@Autowired
+	private AerospikeConfigurations										aerospikeConfigurations;
+
+	private RecordSizePolicy											recordSizePolicy	= RecordSizePolicy.DISABLED;
+	/**
+	 * Time in millis of the last oversize warning of each class.
+	 */
+	private final ConcurrentHashMap<String, Long>						sizeWarnings		= new ConcurrentHashMap<String, Long>();
 	/**
 	 * Puts lock in order to read the structure only once.
 	 */
 	private Lock														structureLock		= new ReentrantLock();
 
+	@PostConstruct
+	public void initialize() {
+		recordSizePolicy = aerospikeConfigurations.recordSizePolicy();
+	}
+
 	/**
 	 * 
 	 */
@@ -206,6 +245,50 @@ public class EntityMapper {
 		return null;
 	}
 
+	/**
+	 * Returns the version (expected record generation) of the given entity.
+	 * Returns -1 if the entity doesn't have a version field.
+	 * 
+	 * @param structure
+	 * @param entity
+	 * @return
+	 */
+	public int getVersion(EntityStructure structure, Serializable entity) {
+		PersistableField versionField = structure.getVersionField();
+		if (versionField != null) {
+			try {
+				Object version = versionField.getGetter().invoke(entity);
+				return version != null ? ((Number) version).intValue() : 0;
+			} catch (Exception e) {
+				LOGGER.error("Error while reading version of class: {}", structure.getClazzName(), e);
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Sets the version (record generation) on the given entity if the entity
+	 * has a version field.
+	 * 
+	 * @param structure
+	 * @param entity
+	 * @param generation
+	 */
+	public void setVersion(EntityStructure structure, Object entity, int generation) {
+		PersistableField versionField = structure.getVersionField();
+		if (versionField != null) {
+			try {
+				if (Long.TYPE == versionField.getType() || Long.class == versionField.getType()) {
+					versionField.getSetter().invoke(entity, Long.valueOf(generation));
+				} else {
+					versionField.getSetter().invoke(entity, Integer.valueOf(generation));
+				}
+			} catch (Exception e) {
+				LOGGER.error("Error while setting version of class: {}", structure.getClazzName(), e);
+			}
+		}
+	}
+
 	/**
 	 * 
 	 * @param clazz
@@ -215,6 +298,30 @@ public class EntityMapper {
 		return getFirstKeyField(clazz);
 	}
 
+	/**
+	 * Creates the {@link Key} of the record with the given primary key in the
+	 * given namespace and set. Integer, long, string and byte array keys are
+	 * stored as they are, any other key as a {@link Value}.
+	 * 
+	 * @param namespace
+	 * @param set
+	 * @param key
+	 * @return
+	 */
+	public Key createKey(String namespace, String set, Object key) {
+		if (key instanceof Integer) {
+			return new Key(namespace, set, (Integer) key);
+		} else if (key instanceof Long) {
+			return new Key(namespace, set, (Long) key);
+		} else if (key instanceof String) {
+			return new Key(namespace, set, (String) key);
+		} else if (key instanceof byte[]) {
+			return new Key(namespace, set, (byte[]) key);
+		} else {
+			return new Key(namespace, set, Value.get(key));
+		}
+	}
+
 	/**
 	 * Returns bins for the passed entity. The bins will not contain any field
 	 * which are annotated with {@link AerospikeTransient}.
@@ -223,21 +330,100 @@ public class EntityMapper {
 	 * @return
 	 */
 	@PerformanceMonitor
-	public Bin[] getBins(Serializable entity) {
+	public Bin[] getBins(Serializable entity) throws AerospikeRecordTooLargeException {
 		EntityStructure structure = entityStructure.get(entity.getClass());
 		if (structure != null) {
-			// Get all settable fields count. Iterate and get the value from
-			// specific entity.
-			Bin[] bins = new Bin[structure.getPersistableFields().size()];
-			int cntr = 0;
-			for (PersistableField field : structure.getPersistableFields()) {
-				bins[cntr++] = prepareBin(entity, field);
+			OperationPhase previous = OperationContext.enter(OperationPhase.MAPPING);
+			Object event = FlightRecorderEvents.beginMapping();
+			try {
+				// Get all settable fields count. Iterate and get the value from
+				// specific entity.
+				Bin[] bins = new Bin[structure.getPersistableFields().size()];
+				int cntr = 0;
+				long serializedBytes = 0;
+				for (PersistableField field : structure.getPersistableFields()) {
+					Bin bin = prepareBin(entity, field);
+					if (bin != null && field.isSerializerRequired() && bin.value.getObject() instanceof byte[]) {
+						serializedBytes += ((byte[]) bin.value.getObject()).length;
+					}
+					bins[cntr++] = bin;
+				}
+				metricsRegistry.recordWrite(structure.getClazzName(), bins.length, serializedBytes);
+				FlightRecorderEvents.operationBytes(serializedBytes);
+				FlightRecorderEvents.commitMapping(event, structure.getClazzName(), "toBins", bins.length, serializedBytes);
+				if (recordSizePolicy.isEnabled()) {
+					checkRecordSize(structure, bins);
+				}
+				return bins;
+			} finally {
+				OperationContext.enter(previous);
 			}
-			return bins;
 		}
 		return null;
 	}
 
+	/**
+	 * Estimates the size of the record of the given bins and records it. If
+	 * the record crosses the warning size a warning naming its largest bins is
+	 * logged, and if it crosses the limit it is rejected when so configured.
+	 * 
+	 * @param structure
+	 * @param bins
+	 * @throws AerospikeRecordTooLargeException
+	 */
+	private void checkRecordSize(EntityStructure structure, Bin[] bins) throws AerospikeRecordTooLargeException {
+		int[] binBytes = new int[bins.length];
+		long recordBytes = RECORD_OVERHEAD;
+		for (int i = 0; i < bins.length; i++) {
+			if (bins[i] != null) {
+				binBytes[i] = BIN_OVERHEAD + bins[i].name.length() + bins[i].value.estimateSize();
+				recordBytes += binBytes[i];
+			}
+		}
+		metricsRegistry.recordSize(structure.getClazzName(), bins, binBytes, recordBytes);
+		if (recordBytes < recordSizePolicy.getWarnSize()) {
+			return;
+		}
+		boolean reject = recordSizePolicy.isReject() && recordBytes > recordSizePolicy.getLimit();
+		metricsRegistry.recordOversize(structure.getClazzName(), reject);
+		if (reject) {
+			throw new AerospikeRecordTooLargeException("Record of class: " + structure.getClazzName() + " of size: " + recordBytes
+					+ " bytes is above the limit: " + recordSizePolicy.getLimit() + ". Largest bins: " + largestBins(bins, binBytes));
+		}
+		long now = System.currentTimeMillis();
+		Long lastWarning = sizeWarnings.get(structure.getClazzName());
+		if (lastWarning == null ? sizeWarnings.putIfAbsent(structure.getClazzName(), now) == null : now - lastWarning >= WARN_INTERVAL
+				&& sizeWarnings.replace(structure.getClazzName(), lastWarning, now)) {
+			LOGGER.warn("Record of class: {} of size: {} bytes is {}% of the limit: {}. Largest bins: {}", structure.getClazzName(), recordBytes,
+					recordBytes * 100 / recordSizePolicy.getLimit(), recordSizePolicy.getLimit(), largestBins(bins, binBytes));
+		}
+	}
+
+	/**
+	 * 
+	 * @param bins
+	 * @param binBytes
+	 * @return names and sizes of the largest bins, largest first.
+	 */
+	private String largestBins(Bin[] bins, int[] binBytes) {
+		StringBuilder largest = new StringBuilder();
+		boolean[] named = new boolean[bins.length];
+		for (int n = 0; n < recordSizePolicy.getLargestBins(); n++) {
+			int max = -1;
+			for (int i = 0; i < bins.length; i++) {
+				if (bins[i] != null && !named[i] && (max < 0 || binBytes[i] > binBytes[max])) {
+					max = i;
+				}
+			}
+			if (max < 0) {
+				break;
+			}
+			named[max] = true;
+			largest.append(largest.length() == 0 ? "" : ", ").append(bins[max].name).append(": ").append(binBytes[max]);
+		}
+		return largest.toString();
+	}
+
 	/**
 	 * Creates {@link Bin} for the passed field for the given entity. The name
 	 * for the bin will be the programmatic name of the field in class.
@@ -253,14 +439,18 @@ public class EntityMapper {
 			Method getter = field.getGetter();
 			Object value = getter.invoke(entity);
 			if (value != null && field.isSerializerRequired()) {
-				value = serializer.doSerialize(Object.class, value);
+				OperationPhase previous = OperationContext.enter(OperationPhase.SERIALIZATION);
+				Object event = FlightRecorderEvents.beginSerialization();
+				try {
+					value = serializer.doSerialize(Object.class, value);
+				} finally {
+					OperationContext.enter(previous);
+				}
+				FlightRecorderEvents.commitSerialization(event, structure.getClazzName(), field.getField().getName(), false,
+						value != null ? ((byte[]) value).length : 0);
 			}
 			//Handle field name length restriction
-			String fieldName = field.getField().getName();
-			if(fieldName.length() > 14) {
-				fieldName = structure.getFieldShortName().get(fieldName);
-			}
-			bin = new Bin(fieldName, value);
+			bin = new Bin(structure.getBinName(field.getField().getName()), value);
 		} catch (Exception e) {
 			LOGGER.error("Failed to created bin from field {} of the class {}", field.getField().getName(), entity.getClass(), e);
 		} finally {
@@ -270,23 +460,43 @@ public class EntityMapper {
 	}
 
 	/**
-	 * Creates entities from the given {@link RecordSet} for the passed class.
+	 * Creates entities from the given {@link RecordCursor} for the passed class.
 	 * 
-	 * @param record
+	 * @param cursor
+	 * @param clazz
+	 * @return
+	 */
+	@PerformanceMonitor
+	public <T extends Serializable> List<T> reverseMap(RecordCursor cursor, Class clazz) {
+		return reverseMap(cursor, clazz, 0);
+	}
+
+	/**
+	 * Creates at most limit entities from the given {@link RecordCursor} for
+	 * the passed class. Once the limit is reached the cursor is closed so the
+	 * remaining records are not consumed. A limit less than or equal to zero
+	 * means all the records will be read.
+	 * 
+	 * @param cursor
 	 * @param clazz
+	 * @param limit
 	 * @return
 	 */
 	@PerformanceMonitor
-	public <T extends Serializable> List<T> reverseMap(RecordSet recordSet, Class clazz) {
-		List<T> values = new ArrayList<T>();
+	public <T extends Serializable> List<T> reverseMap(RecordCursor cursor, Class clazz, int limit) {
+		if (cursor == null) {
+			return Collections.EMPTY_LIST;
+		}
+		List<T> values = limit > 0 ? new ArrayList<T>(limit) : new ArrayList<T>();
 		try {
-			while (recordSet != null && recordSet.next()) {
-				T value = (T) reverseMap(recordSet.getRecord(), clazz);
+			while ((limit <= 0 || values.size() < limit) && cursor.next()) {
+				T value = (T) reverseMap(cursor.getRecord(), clazz);
 				values.add(value);
 			}
 		} finally {
-			recordSet.close();
+			cursor.close();
 		}
+		metricsRegistry.recordQuery(clazz.getName(), values.size());
 		if (values.isEmpty()) {
 			return Collections.EMPTY_LIST;
 		}
@@ -344,27 +554,47 @@ public class EntityMapper {
 	 */
 	private Object prepareObject(Record record, Class clazz) {
 		Object object = null;
+		OperationPhase previous = OperationContext.enter(OperationPhase.MAPPING);
+		Object event = FlightRecorderEvents.beginMapping();
 		try {
 			object = clazz.newInstance();
 			EntityStructure structure = entityStructure.get(clazz);
+			if (record.bins == null) {
+				// Header only, e.g. operate with touches only: no field has been read
+				setVersion(structure, object, record.generation);
+				return object;
+			}
+			long deserializedBytes = 0;
 			for (PersistableField field : structure.getPersistableFields()) {
 				//Handle field name length restriction
-				String fieldName = field.getField().getName();
-				if(fieldName.length() > 14) {
-					fieldName = structure.getFieldShortName().get(fieldName);
-				}
-				Object fieldValue = record.bins.get(fieldName);
+				Object fieldValue = record.bins.get(structure.getBinName(field.getField().getName()));
 				if (fieldValue != null) {
 					if (field.isSerializerRequired()) {
-						fieldValue = serializer.doDeserialize((byte[]) fieldValue, Object.class);
+						int bytes = ((byte[]) fieldValue).length;
+						deserializedBytes += bytes;
+						OperationContext.enter(OperationPhase.DESERIALIZATION);
+						Object serializationEvent = FlightRecorderEvents.beginSerialization();
+						try {
+							fieldValue = serializer.doDeserialize((byte[]) fieldValue, Object.class);
+						} finally {
+							OperationContext.enter(OperationPhase.MAPPING);
+						}
+						FlightRecorderEvents.commitSerialization(serializationEvent, structure.getClazzName(), field.getField().getName(), true, bytes);
+					} else if (fieldValue instanceof Long && (Integer.TYPE == field.getType() || Integer.class == field.getType())) {
+						// Integers are always returned as Long by aerospike
+						fieldValue = ((Long) fieldValue).intValue();
 					}
 					field.getSetter().invoke(object, fieldValue);
 				}
 			}
+			setVersion(structure, object, record.generation);
+			metricsRegistry.recordRead(structure.getClazzName(), record.bins.size(), deserializedBytes);
+			FlightRecorderEvents.operationBytes(deserializedBytes);
+			FlightRecorderEvents.commitMapping(event, structure.getClazzName(), "fromRecord", record.bins.size(), deserializedBytes);
 		} catch (Exception e) {
 			LOGGER.error("Failed to reverse map class {}", clazz.getName(), e);
 		} finally {
-
+			OperationContext.enter(previous);
 		}
 		return object;
 	}
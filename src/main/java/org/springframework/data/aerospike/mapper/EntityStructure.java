@@ -24,6 +24,9 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.springframework.data.aerospike.annotations.AerospikeTransient;
+import org.springframework.data.aerospike.annotations.AerospikeVersion;
+import org.springframework.data.aerospike.configuration.EntityPolicies;
+import org.springframework.data.aerospike.configuration.HedgePolicy;
 
 import com.aerospike.client.Key;
 import com.aerospike.client.policy.BatchPolicy;
@@ -56,6 +59,11 @@ public class EntityStructure {
 	 * Primary key for this class.
 	 */
 	private PersistableField		primaryKey;
+	/**
+	 * Field annotated with {@link AerospikeVersion} which holds the generation
+	 * of the record. It is not part of {@link #persistableFields}.
+	 */
+	private PersistableField		versionField;
 	/**
 	 * The fields list which will form the {@link Key}.
 	 */
@@ -75,17 +83,10 @@ public class EntityStructure {
 	 */
 	private List<PersistableField>	persistableFields		= new ArrayList<PersistableField>();
 	/**
-	 * Default policy to use for this entity for write operations.
-	 */
-	private WritePolicy				writePolicy;
-	/**
-	 * Default read policy for this entity for read operations.
+	 * Read, write, batch and hedge policies of this entity. Replaced as a
+	 * whole when the configuration is reloaded.
 	 */
-	private Policy					policy;
-	/**
-	 * Default policy to use for batch operations related to this entity.
-	 */
-	private BatchPolicy				batchPolicy;
+	private volatile EntityPolicies	policies				= EntityPolicies.NONE;
 	/**
 	 * Holds information whether structure for the class has been initialized.
 	 */
@@ -140,6 +141,35 @@ public class EntityStructure {
 		this.fieldShortName = fieldShortName;
 	}
 
+	/**
+	 * Returns the bin name for the given field name. Bin name is the field
+	 * name itself unless it has been shortened due to bin name length
+	 * restriction.
+	 *
+	 * @param fieldName
+	 * @return
+	 */
+	public String getBinName(String fieldName) {
+		String shortName = fieldShortName.get(fieldName);
+		return shortName != null ? shortName : fieldName;
+	}
+
+	/**
+	 * Returns the {@link PersistableField} for the given field name or null if
+	 * field is not persisted for this entity.
+	 *
+	 * @param fieldName
+	 * @return
+	 */
+	public PersistableField getPersistableField(String fieldName) {
+		for (PersistableField field : persistableFields) {
+			if (field.getField().getName().equals(fieldName)) {
+				return field;
+			}
+		}
+		return null;
+	}
+
 	public Map<String, Index> getSecondaryIndexes() {
 		return secondaryIndexes;
 	}
@@ -148,12 +178,21 @@ public class EntityStructure {
 		this.secondaryIndexes = secondaryIndexes;
 	}
 
-	public WritePolicy getWritePolicy() {
-		return writePolicy;
+	public EntityPolicies getPolicies() {
+		return policies;
 	}
 
-	public void setWritePolicy(WritePolicy writePolicy) {
-		this.writePolicy = writePolicy;
+	public void setPolicies(EntityPolicies policies) {
+		this.policies = policies;
+	}
+
+	/**
+	 * Default policy to use for this entity for write operations.
+	 * 
+	 * @return
+	 */
+	public WritePolicy getWritePolicy() {
+		return policies.getWritePolicy();
 	}
 
 	public List<PersistableField> getPersistableFields() {
@@ -164,20 +203,31 @@ public class EntityStructure {
 		this.persistableFields = persistableFields;
 	}
 
+	/**
+	 * Default read policy for this entity for read operations.
+	 * 
+	 * @return
+	 */
 	public Policy getPolicy() {
-		return policy;
-	}
-
-	public void setPolicy(Policy policy) {
-		this.policy = policy;
+		return policies.getReadPolicy();
 	}
 
+	/**
+	 * Default policy to use for batch operations related to this entity.
+	 * 
+	 * @return
+	 */
 	public BatchPolicy getBatchPolicy() {
-		return batchPolicy;
+		return policies.getBatchPolicy();
 	}
 
-	public void setBatchPolicy(BatchPolicy batchPolicy) {
-		this.batchPolicy = batchPolicy;
+	/**
+	 * Hedged read settings for this entity.
+	 * 
+	 * @return
+	 */
+	public HedgePolicy getHedgePolicy() {
+		return policies.getHedgePolicy();
 	}
 
 	public PersistableField getPrimaryKey() {
@@ -187,6 +237,14 @@ public class EntityStructure {
 	public void setPrimaryKey(PersistableField primaryKey) {
 		this.primaryKey = primaryKey;
 	}
+
+	public PersistableField getVersionField() {
+		return versionField;
+	}
+
+	public void setVersionField(PersistableField versionField) {
+		this.versionField = versionField;
+	}
 	
 	public boolean isStructureInitialized() {
 		return structureInitialized;
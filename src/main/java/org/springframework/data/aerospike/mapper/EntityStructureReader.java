@@ -32,6 +32,7 @@ import org.springframework.data.aerospike.annotations.AerospikeEntity;
 import org.springframework.data.aerospike.annotations.AerospikeIndex;
 import org.springframework.data.aerospike.annotations.AerospikeKey;
 import org.springframework.data.aerospike.annotations.AerospikeTransient;
+import org.springframework.data.aerospike.annotations.AerospikeVersion;
 import org.springframework.data.aerospike.client.Client;
 import org.springframework.data.aerospike.configuration.AerospikeConfigurations;
 import org.springframework.data.aerospike.exceptions.AerospikeException;
@@ -137,6 +138,22 @@ public class EntityStructureReader {
 					persistableField.setSetter(property.getWriteMethod());
 					persistableField.setGetter(property.getReadMethod());
 					persistableField.setType(field.getType());
+					// Version field holds record generation and is not stored as bin
+					if (field.isAnnotationPresent(AerospikeVersion.class)) {
+						// Generation changes on every write, it can't identify the record
+						if (isKey) {
+							throw new AerospikeIncompatibleEntityException("@AerospikeVersion field: " + field.getName() + " of class: "
+									+ clazz.getName() + " can't be annotated with @AerospikeKey");
+						}
+						if (!(Integer.TYPE == field.getType() || Long.TYPE == field.getType() || Integer.class == field.getType() || Long.class == field
+								.getType())) {
+							throw new AerospikeIncompatibleEntityException("@AerospikeVersion field: " + field.getName() + " of class: "
+									+ clazz.getName() + " should be int or long");
+						}
+						LOGGER.info("Found version field: {} for class: {}", field.getName(), clazz.getName());
+						structure.setVersionField(persistableField);
+						continue;
+					}
 					structure.getPersistableFields().add(persistableField);
 					//If field is key field set it as primary key for the class.
 					if (isKey) {
@@ -189,9 +206,7 @@ public class EntityStructureReader {
 	public void reloadClazzPolicies(Class clazz) throws AerospikeException {
 		EntityStructure structure = client.getEntityMapper().getEntityStructure(clazz);
 		if (structure != null) {
-			structure.setBatchPolicy(policyConfigurations.clazzBatchPolicy(clazz.getName()));
-			structure.setPolicy(policyConfigurations.clazzReadPolicy(clazz.getName()));
-			structure.setWritePolicy(policyConfigurations.clazzWritePolicy(clazz.getName()));
+			structure.setPolicies(policyConfigurations.clazzPolicies(clazz.getName()));
 		}
 	}
 }
@@ -0,0 +1,68 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Encoded sizes of one bin of the records written for an entity class.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class BinSizeStats {
+	private final String		binName;
+	private final LongAdder		count		= new LongAdder();
+	private final LongAdder		totalBytes	= new LongAdder();
+	private final AtomicLong	maxBytes	= new AtomicLong();
+
+	BinSizeStats(String binName) {
+		this.binName = binName;
+	}
+
+	void record(long bytes) {
+		count.increment();
+		totalBytes.add(bytes);
+		long max;
+		do {
+			max = maxBytes.get();
+			if (bytes <= max) {
+				return;
+			}
+		} while (!maxBytes.compareAndSet(max, bytes));
+	}
+
+	public String getBinName() {
+		return binName;
+	}
+
+	public long getMeanBytes() {
+		long writes = count.sum();
+		return writes > 0 ? totalBytes.sum() / writes : 0;
+	}
+
+	public long getMaxBytes() {
+		return maxBytes.get();
+	}
+
+	@Override
+	public String toString() {
+		return binName + "(mean: " + getMeanBytes() + ", max: " + getMaxBytes() + ")";
+	}
+}
@@ -0,0 +1,334 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.aerospike.logger.LatencySnapshot;
+import org.springframework.data.aerospike.logger.RollingLatencyHistogram;
+import org.springframework.data.aerospike.operations.OperationType;
+
+import com.aerospike.client.Bin;
+
+/**
+ * Metrics of an entity class. Stats of an operation type and counters of a
+ * result code are created on first use and reported to the listener so
+ * exporters can register them.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class EntityMetrics {
+	private final String									clazzName;
+	private final MetricsListener							listener;
+	private final AtomicReferenceArray<OperationStats>		operations			= new AtomicReferenceArray<OperationStats>(
+																						OperationType.values().length);
+	private final AtomicReferenceArray<PhaseStats>			phases				= new AtomicReferenceArray<PhaseStats>(
+																						OperationPhase.values().length);
+	private final LongAdder									phaseSamples		= new LongAdder();
+	private final ConcurrentHashMap<Integer, LongAdder>	errorsByResultCode	= new ConcurrentHashMap<Integer, LongAdder>();
+	private final LongAdder									queries				= new LongAdder();
+	private final LongAdder									recordsReturned		= new LongAdder();
+	private final LongAdder									recordsRead			= new LongAdder();
+	private final LongAdder									binsRead			= new LongAdder();
+	private final LongAdder									bytesDeserialized	= new LongAdder();
+	private final LongAdder									recordsWritten		= new LongAdder();
+	private final LongAdder									binsWritten			= new LongAdder();
+	private final LongAdder									bytesSerialized		= new LongAdder();
+	/**
+	 * Estimated sizes in bytes of the records written in the last minute.
+	 */
+	private final RollingLatencyHistogram					recordSizes			= new RollingLatencyHistogram(6, 10000);
+	private final AtomicLong								maxRecordBytes		= new AtomicLong();
+	private final ConcurrentHashMap<String, BinSizeStats>	binSizes			= new ConcurrentHashMap<String, BinSizeStats>();
+	private final LongAdder									oversizeRecords		= new LongAdder();
+	private final LongAdder									rejectedRecords		= new LongAdder();
+
+	public EntityMetrics(String clazzName, MetricsListener listener) {
+		this.clazzName = clazzName;
+		this.listener = listener;
+	}
+
+	public void recordOperation(OperationType type, long nanos) {
+		getOperationStats(type).record(nanos, false);
+	}
+
+	public void recordError(OperationType type, long nanos, int resultCode) {
+		getOperationStats(type).record(nanos, true);
+		LongAdder errors = errorsByResultCode.get(resultCode);
+		if (errors == null) {
+			LongAdder newErrors = new LongAdder();
+			errors = errorsByResultCode.putIfAbsent(resultCode, newErrors);
+			if (errors == null) {
+				errors = newErrors;
+				listener.resultCodeAdded(this, resultCode, errors);
+			}
+		}
+		errors.increment();
+	}
+
+	public void recordQuery(int records) {
+		queries.increment();
+		recordsReturned.add(records);
+	}
+
+	public void recordRead(int bins, long deserializedBytes) {
+		recordsRead.increment();
+		binsRead.add(bins);
+		bytesDeserialized.add(deserializedBytes);
+	}
+
+	public void recordWrite(int bins, long serializedBytes) {
+		recordsWritten.increment();
+		binsWritten.add(bins);
+		bytesSerialized.add(serializedBytes);
+	}
+
+	/**
+	 * 
+	 * @param bins
+	 *            bins of the record written
+	 * @param binBytes
+	 *            encoded size of each of the bins
+	 * @param recordBytes
+	 *            estimated size of the record
+	 */
+	public void recordSize(Bin[] bins, int[] binBytes, long recordBytes) {
+		recordSizes.record(recordBytes);
+		long max;
+		do {
+			max = maxRecordBytes.get();
+		} while (recordBytes > max && !maxRecordBytes.compareAndSet(max, recordBytes));
+		for (int i = 0; i < bins.length; i++) {
+			if (bins[i] != null) {
+				getBinSizeStats(bins[i].name).record(binBytes[i]);
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * @param rejected
+	 *            whether the record was rejected or only warned about.
+	 */
+	public void recordOversize(boolean rejected) {
+		oversizeRecords.increment();
+		if (rejected) {
+			rejectedRecords.increment();
+		}
+	}
+
+	private BinSizeStats getBinSizeStats(String binName) {
+		BinSizeStats stats = binSizes.get(binName);
+		if (stats == null) {
+			BinSizeStats newStats = new BinSizeStats(binName);
+			stats = binSizes.putIfAbsent(binName, newStats);
+			if (stats == null) {
+				stats = newStats;
+			}
+		}
+		return stats;
+	}
+
+	/**
+	 * Adds the phases of a sampled operation. Phases which the operation
+	 * didn't enter are skipped so they don't drag the percentiles down.
+	 * 
+	 * @param context
+	 */
+	public void recordPhases(OperationContext context) {
+		phaseSamples.increment();
+		for (OperationPhase phase : OperationPhase.values()) {
+			long nanos = context.getNanos(phase);
+			if (nanos > 0) {
+				getPhaseStats(phase).record(nanos);
+			}
+		}
+	}
+
+	private PhaseStats getPhaseStats(OperationPhase phase) {
+		PhaseStats stats = phases.get(phase.ordinal());
+		if (stats == null) {
+			PhaseStats newStats = new PhaseStats();
+			if (phases.compareAndSet(phase.ordinal(), null, newStats)) {
+				return newStats;
+			}
+			stats = phases.get(phase.ordinal());
+		}
+		return stats;
+	}
+
+	/**
+	 * 
+	 * @param phase
+	 * @return stats of the given phase or null if no sampled operation has
+	 *         entered it.
+	 */
+	public PhaseStats findPhaseStats(OperationPhase phase) {
+		return phases.get(phase.ordinal());
+	}
+
+	/**
+	 * 
+	 * @return operations whose phases have been sampled.
+	 */
+	public long getPhaseSamples() {
+		return phaseSamples.sum();
+	}
+
+	/**
+	 * 
+	 * @param phase
+	 * @return mean nanos spent in the given phase per sampled operation.
+	 */
+	public long getPhaseMeanNanos(OperationPhase phase) {
+		long samples = phaseSamples.sum();
+		PhaseStats stats = phases.get(phase.ordinal());
+		return samples > 0 && stats != null ? stats.getTotalNanos() / samples : 0;
+	}
+
+	/**
+	 * Returns the stats of the given operation type, creating them on first
+	 * use.
+	 * 
+	 * @param type
+	 * @return
+	 */
+	public OperationStats getOperationStats(OperationType type) {
+		OperationStats stats = operations.get(type.ordinal());
+		if (stats == null) {
+			OperationStats newStats = new OperationStats();
+			if (operations.compareAndSet(type.ordinal(), null, newStats)) {
+				listener.operationAdded(this, type, newStats);
+				return newStats;
+			}
+			stats = operations.get(type.ordinal());
+		}
+		return stats;
+	}
+
+	/**
+	 * 
+	 * @param type
+	 * @return stats of the given operation type or null if no such operation
+	 *         has been done.
+	 */
+	public OperationStats findOperationStats(OperationType type) {
+		return operations.get(type.ordinal());
+	}
+
+	public String getClazzName() {
+		return clazzName;
+	}
+
+	/**
+	 * 
+	 * @return failed operations by aerospike result code.
+	 */
+	public Map<Integer, Long> getErrorsByResultCode() {
+		Map<Integer, Long> errors = new HashMap<Integer, Long>();
+		for (Entry<Integer, LongAdder> entry : errorsByResultCode.entrySet()) {
+			errors.put(entry.getKey(), entry.getValue().sum());
+		}
+		return Collections.unmodifiableMap(errors);
+	}
+
+	public long getQueries() {
+		return queries.sum();
+	}
+
+	public long getRecordsReturned() {
+		return recordsReturned.sum();
+	}
+
+	public long getRecordsRead() {
+		return recordsRead.sum();
+	}
+
+	public long getBinsRead() {
+		return binsRead.sum();
+	}
+
+	public long getBytesDeserialized() {
+		return bytesDeserialized.sum();
+	}
+
+	public long getRecordsWritten() {
+		return recordsWritten.sum();
+	}
+
+	public long getBinsWritten() {
+		return binsWritten.sum();
+	}
+
+	public long getBytesSerialized() {
+		return bytesSerialized.sum();
+	}
+
+	/**
+	 * 
+	 * @return percentiles of the estimated sizes in bytes of the records
+	 *         written in the last minute.
+	 */
+	public LatencySnapshot getRecordSizes() {
+		return recordSizes.snapshot();
+	}
+
+	public long getMaxRecordBytes() {
+		return maxRecordBytes.get();
+	}
+
+	/**
+	 * 
+	 * @return records written above the warning size, including the rejected
+	 *         ones.
+	 */
+	public long getOversizeRecords() {
+		return oversizeRecords.sum();
+	}
+
+	public long getRejectedRecords() {
+		return rejectedRecords.sum();
+	}
+
+	/**
+	 * 
+	 * @param count
+	 * @return at most count bins with the largest maximum size.
+	 */
+	public List<BinSizeStats> getLargestBins(int count) {
+		List<BinSizeStats> bins = new ArrayList<BinSizeStats>(binSizes.values());
+		Collections.sort(bins, new Comparator<BinSizeStats>() {
+			@Override
+			public int compare(BinSizeStats bin1, BinSizeStats bin2) {
+				return Long.compare(bin2.getMaxBytes(), bin1.getMaxBytes());
+			}
+		});
+		return bins.size() > count ? bins.subList(0, count) : bins;
+	}
+}
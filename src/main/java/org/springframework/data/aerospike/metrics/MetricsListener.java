@@ -0,0 +1,48 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.aerospike.limiter.ConcurrencyLimiter;
+import org.springframework.data.aerospike.operations.OperationType;
+
+/**
+ * Notified of the metrics created on first use so exporters can register
+ * them. Called on the thread of the operation, so implementations should be
+ * quick.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public interface MetricsListener {
+	public void entityAdded(EntityMetrics metrics);
+
+	public void operationAdded(EntityMetrics metrics, OperationType type, OperationStats stats);
+
+	public void resultCodeAdded(EntityMetrics metrics, int resultCode, LongAdder errors);
+
+	/**
+	 * 
+	 * @param namespace
+	 * @param type
+	 * @param limiter
+	 *            holding the concurrency limit of the namespace and type.
+	 */
+	public void limitAdded(String namespace, OperationType type, ConcurrencyLimiter limiter);
+}
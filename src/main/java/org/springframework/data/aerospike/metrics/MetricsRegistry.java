@@ -0,0 +1,145 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.metrics;
+
+import java.util.Collection;
+
+import org.springframework.data.aerospike.limiter.ConcurrencyLimiter;
+import org.springframework.data.aerospike.operations.OperationType;
+
+import com.aerospike.client.Bin;
+
+/**
+ * Collects metrics per entity class and operation type. Fed by the
+ * operations and the entity mapper; exported through JMX and, optionally,
+ * Micrometer. Concurrency limits are exported along with them.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public interface MetricsRegistry {
+	/**
+	 * 
+	 * @param clazzName
+	 * @param type
+	 * @param nanos
+	 *            latency of the operation
+	 */
+	public void recordOperation(String clazzName, OperationType type, long nanos);
+
+	/**
+	 * 
+	 * @param clazzName
+	 * @param type
+	 * @param nanos
+	 *            latency of the operation
+	 * @param resultCode
+	 *            aerospike result code of the failure
+	 */
+	public void recordError(String clazzName, OperationType type, long nanos, int resultCode);
+
+	/**
+	 * 
+	 * @param clazzName
+	 * @param records
+	 *            entities returned by a query
+	 */
+	public void recordQuery(String clazzName, int records);
+
+	/**
+	 * 
+	 * @param clazzName
+	 * @param bins
+	 *            bins of the record mapped to an entity
+	 * @param deserializedBytes
+	 *            bytes of the bins deserialized
+	 */
+	public void recordRead(String clazzName, int bins, long deserializedBytes);
+
+	/**
+	 * 
+	 * @param clazzName
+	 * @param bins
+	 *            bins created from an entity
+	 * @param serializedBytes
+	 *            bytes of the fields serialized
+	 */
+	public void recordWrite(String clazzName, int bins, long serializedBytes);
+
+	/**
+	 * 
+	 * @param clazzName
+	 * @param bins
+	 *            bins of the record written
+	 * @param binBytes
+	 *            encoded size of each of the bins
+	 * @param recordBytes
+	 *            estimated size of the record
+	 */
+	public void recordSize(String clazzName, Bin[] bins, int[] binBytes, long recordBytes);
+
+	/**
+	 * 
+	 * @param clazzName
+	 * @param rejected
+	 *            whether the record above the size limit was rejected.
+	 */
+	public void recordOversize(String clazzName, boolean rejected);
+
+	/**
+	 * Begins breaking down the time of an operation into phases if it is
+	 * sampled. See {@link OperationContext}.
+	 * 
+	 * @param clazzName
+	 * @param type
+	 * @return whether the operation is sampled, in which case
+	 *         {@link #endPhases()} must be called once it completes.
+	 */
+	public boolean beginPhases(String clazzName, OperationType type);
+
+	/**
+	 * Ends the phases of the sampled operation of the current thread and adds
+	 * them to the metrics of its entity class.
+	 */
+	public void endPhases();
+
+	public Collection<EntityMetrics> getEntityMetrics();
+
+	/**
+	 * Exports the concurrency limit of the namespace and operation type.
+	 * 
+	 * @param namespace
+	 * @param type
+	 * @param limiter
+	 *            holding the limit.
+	 */
+	public void addLimit(String namespace, OperationType type, ConcurrencyLimiter limiter);
+
+	/**
+	 * 
+	 * @return limiter of the limits added so far, null if none has been added.
+	 */
+	public ConcurrencyLimiter getConcurrencyLimiter();
+
+	/**
+	 * Adds a listener of the metrics created from now on.
+	 * 
+	 * @param listener
+	 */
+	public void addListener(MetricsListener listener);
+}
@@ -0,0 +1,147 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.metrics;
+
+import org.springframework.data.aerospike.operations.OperationType;
+
+/**
+ * Divides the time of a sampled operation into {@link OperationPhase}s. The
+ * context is bound to the thread of the operation, so the mapper and the
+ * operations mark phase changes through static calls and no proxies are
+ * involved. Every instant of the operation is attributed to exactly one
+ * phase: entering a phase closes the current one and returns it so the
+ * caller can restore it.
+ * 
+ * <pre>
+ * OperationPhase previous = OperationContext.enter(OperationPhase.SERIALIZATION);
+ * try {
+ * 	...
+ * } finally {
+ * 	OperationContext.enter(previous);
+ * }
+ * </pre>
+ * 
+ * Operations which aren't sampled, or which are nested in another operation,
+ * don't begin a context and the calls are no-ops. One context is reused per
+ * thread, so sampling doesn't allocate.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public final class OperationContext {
+	private static final OperationPhase[]				PHASES	= OperationPhase.values();
+	private static final ThreadLocal<OperationContext>	CONTEXT	= new ThreadLocal<OperationContext>() {
+																	@Override
+																	protected OperationContext initialValue() {
+																		return new OperationContext();
+																	}
+																};
+
+	private final long[]								nanos	= new long[PHASES.length];
+	private String										clazzName;
+	private OperationType								type;
+	private OperationPhase								phase;
+	private long										mark;
+	private boolean										active;
+	private int											untilSample;
+
+	private OperationContext() {
+	}
+
+	/**
+	 * Begins a context on the current thread if this operation is sampled.
+	 * One in sample rate operations of a thread is sampled.
+	 * 
+	 * @param clazzName
+	 * @param type
+	 * @param sampleRate
+	 * @return whether a context was begun, in which case it must be ended by
+	 *         {@link #end()}.
+	 */
+	public static boolean begin(String clazzName, OperationType type, int sampleRate) {
+		OperationContext context = CONTEXT.get();
+		if (context.active || --context.untilSample > 0) {
+			return false;
+		}
+		context.untilSample = sampleRate;
+		context.clazzName = clazzName;
+		context.type = type;
+		for (int i = 0; i < context.nanos.length; i++) {
+			context.nanos[i] = 0;
+		}
+		context.phase = OperationPhase.OTHER;
+		context.active = true;
+		context.mark = System.nanoTime();
+		return true;
+	}
+
+	/**
+	 * Closes the current phase and enters the given one.
+	 * 
+	 * @param phase
+	 *            may be null, in which case nothing is done.
+	 * @return the phase closed, or null if no context is active.
+	 */
+	public static OperationPhase enter(OperationPhase phase) {
+		if (phase == null) {
+			return null;
+		}
+		OperationContext context = CONTEXT.get();
+		if (!context.active) {
+			return null;
+		}
+		long now = System.nanoTime();
+		OperationPhase previous = context.phase;
+		context.nanos[previous.ordinal()] += now - context.mark;
+		context.mark = now;
+		context.phase = phase;
+		return previous;
+	}
+
+	/**
+	 * Closes the current phase and ends the context of the current thread.
+	 * 
+	 * @return the ended context, valid until the next operation of the
+	 *         thread.
+	 */
+	public static OperationContext end() {
+		OperationContext context = CONTEXT.get();
+		if (context.active) {
+			context.nanos[context.phase.ordinal()] += System.nanoTime() - context.mark;
+			context.active = false;
+		}
+		return context;
+	}
+
+	public String getClazzName() {
+		return clazzName;
+	}
+
+	public OperationType getType() {
+		return type;
+	}
+
+	/**
+	 * 
+	 * @param phase
+	 * @return nanos spent in the given phase.
+	 */
+	public long getNanos(OperationPhase phase) {
+		return nanos[phase.ordinal()];
+	}
+}
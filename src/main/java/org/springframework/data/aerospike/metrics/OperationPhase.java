@@ -0,0 +1,49 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.metrics;
+
+/**
+ * Phases an operation's time is divided into by {@link OperationContext}.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public enum OperationPhase {
+	/**
+	 * Limiter, circuit breaker, policies and other bookkeeping of the
+	 * operations layer.
+	 */
+	OTHER,
+	/**
+	 * Reflection over the entity while creating bins from it or setting its
+	 * fields from a record, excluding (de)serialization.
+	 */
+	MAPPING,
+	/**
+	 * Serialization of field values and keys.
+	 */
+	SERIALIZATION,
+	/**
+	 * Calls to the aerospike client, including waiting for query results.
+	 */
+	NETWORK,
+	/**
+	 * Deserialization of bin values.
+	 */
+	DESERIALIZATION;
+}
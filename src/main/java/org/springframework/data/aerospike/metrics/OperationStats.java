@@ -0,0 +1,61 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.aerospike.logger.LatencySnapshot;
+import org.springframework.data.aerospike.logger.RollingLatencyHistogram;
+import org.springframework.data.aerospike.operations.OperationType;
+
+/**
+ * Count, errors and latencies of one {@link OperationType} on one entity
+ * class. Latency percentiles cover the last minute.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class OperationStats {
+	private final LongAdder					count		= new LongAdder();
+	private final LongAdder					errors		= new LongAdder();
+	private final RollingLatencyHistogram	latencies	= new RollingLatencyHistogram(6, 10000);
+
+	void record(long nanos, boolean failed) {
+		count.increment();
+		if (failed) {
+			errors.increment();
+		}
+		latencies.record(nanos);
+	}
+
+	/**
+	 * 
+	 * @return operations completed, including the failed ones.
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getErrors() {
+		return errors.sum();
+	}
+
+	public LatencySnapshot getLatencies() {
+		return latencies.snapshot();
+	}
+}
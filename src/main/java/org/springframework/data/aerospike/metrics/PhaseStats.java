@@ -0,0 +1,53 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.aerospike.logger.LatencySnapshot;
+import org.springframework.data.aerospike.logger.RollingLatencyHistogram;
+
+/**
+ * Time spent in one {@link OperationPhase} by the sampled operations of an
+ * entity class. Percentiles cover the last minute and only operations which
+ * entered the phase.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class PhaseStats {
+	private final LongAdder					totalNanos	= new LongAdder();
+	private final RollingLatencyHistogram	latencies	= new RollingLatencyHistogram(6, 10000);
+
+	void record(long nanos) {
+		totalNanos.add(nanos);
+		latencies.record(nanos);
+	}
+
+	/**
+	 * 
+	 * @return nanos spent in this phase by all the sampled operations.
+	 */
+	public long getTotalNanos() {
+		return totalNanos.sum();
+	}
+
+	public LatencySnapshot getLatencies() {
+		return latencies.snapshot();
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.metrics.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.ReflectionException;
+
+import org.springframework.data.aerospike.logger.LatencySnapshot;
+import org.springframework.data.aerospike.metrics.EntityMetrics;
+import org.springframework.data.aerospike.metrics.OperationPhase;
+import org.springframework.data.aerospike.metrics.OperationStats;
+import org.springframework.data.aerospike.metrics.PhaseStats;
+import org.springframework.data.aerospike.operations.OperationType;
+
+/**
+ * Read-only MBean of the metrics of an entity class. Every operation type
+ * has attributes named after it, e.g. readCount, readErrors and
+ * readP99Micros; latency percentiles cover the last minute. Errors by result
+ * code are exposed as text. Phases of the sampled operations have mean and
+ * 99th percentile attributes, e.g. serializationMeanMicros. Record sizes are
+ * estimated bytes of the records written, largestBins names the bins with the
+ * largest maximum size.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+class EntityMetricsMBean implements DynamicMBean {
+	private static final String[]	OPERATION_ATTRIBUTES	= { "Count", "Errors", "P50Micros", "P95Micros", "P99Micros", "P999Micros" };
+	private static final String[]	ENTITY_ATTRIBUTES		= { "queries", "recordsReturned", "recordsRead", "binsRead", "bytesDeserialized",
+			"recordsWritten", "binsWritten", "bytesSerialized", "recordSizeP50Bytes", "recordSizeP99Bytes", "maxRecordBytes", "oversizeRecords",
+			"rejectedRecords"										};
+	private static final String		LARGEST_BINS			= "largestBins";
+	private static final String[]	PHASE_ATTRIBUTES		= { "MeanMicros", "P99Micros" };
+	private static final String		PHASE_SAMPLES			= "phaseSamples";
+	private static final String		ERRORS_BY_RESULT_CODE	= "errorsByResultCode";
+
+	private final EntityMetrics		metrics;
+	private final MBeanInfo			info;
+
+	EntityMetricsMBean(EntityMetrics metrics) {
+		this.metrics = metrics;
+		List<MBeanAttributeInfo> attributes = new ArrayList<MBeanAttributeInfo>();
+		for (OperationType type : OperationType.values()) {
+			for (String attribute : OPERATION_ATTRIBUTES) {
+				attributes.add(new MBeanAttributeInfo(prefix(type) + attribute, "long", type + " " + attribute, true, false, false));
+			}
+		}
+		for (String attribute : ENTITY_ATTRIBUTES) {
+			attributes.add(new MBeanAttributeInfo(attribute, "long", attribute, true, false, false));
+		}
+		for (OperationPhase phase : OperationPhase.values()) {
+			for (String attribute : PHASE_ATTRIBUTES) {
+				attributes.add(new MBeanAttributeInfo(phase.name().toLowerCase() + attribute, "long", phase + " " + attribute, true, false,
+						false));
+			}
+		}
+		attributes.add(new MBeanAttributeInfo(PHASE_SAMPLES, "long", "Operations whose phases have been sampled", true, false, false));
+		attributes.add(new MBeanAttributeInfo(LARGEST_BINS, "java.lang.String", "Bins with the largest maximum size", true, false, false));
+		attributes.add(new MBeanAttributeInfo(ERRORS_BY_RESULT_CODE, "java.lang.String", "Failed operations by aerospike result code", true,
+				false, false));
+		this.info = new MBeanInfo(EntityMetricsMBean.class.getName(), "Metrics of " + metrics.getClazzName(),
+				attributes.toArray(new MBeanAttributeInfo[attributes.size()]), null, new MBeanOperationInfo[0], null);
+	}
+
+	@Override
+	public Object getAttribute(String attribute) throws AttributeNotFoundException {
+		for (OperationType type : OperationType.values()) {
+			String prefix = prefix(type);
+			if (attribute.startsWith(prefix)) {
+				String name = attribute.substring(prefix.length());
+				OperationStats stats = metrics.findOperationStats(type);
+				if ("Count".equals(name)) {
+					return stats != null ? stats.getCount() : 0L;
+				} else if ("Errors".equals(name)) {
+					return stats != null ? stats.getErrors() : 0L;
+				} else if (name.endsWith("Micros")) {
+					return stats != null ? percentile(stats.getLatencies(), name) / 1000 : 0L;
+				}
+			}
+		}
+		for (OperationPhase phase : OperationPhase.values()) {
+			String prefix = phase.name().toLowerCase();
+			if (attribute.startsWith(prefix)) {
+				String name = attribute.substring(prefix.length());
+				if ("MeanMicros".equals(name)) {
+					return metrics.getPhaseMeanNanos(phase) / 1000;
+				} else if ("P99Micros".equals(name)) {
+					PhaseStats stats = metrics.findPhaseStats(phase);
+					return stats != null ? stats.getLatencies().getP99() / 1000 : 0L;
+				}
+			}
+		}
+		if (PHASE_SAMPLES.equals(attribute)) {
+			return metrics.getPhaseSamples();
+		} else if ("queries".equals(attribute)) {
+			return metrics.getQueries();
+		} else if ("recordsReturned".equals(attribute)) {
+			return metrics.getRecordsReturned();
+		} else if ("recordsRead".equals(attribute)) {
+			return metrics.getRecordsRead();
+		} else if ("binsRead".equals(attribute)) {
+			return metrics.getBinsRead();
+		} else if ("bytesDeserialized".equals(attribute)) {
+			return metrics.getBytesDeserialized();
+		} else if ("recordsWritten".equals(attribute)) {
+			return metrics.getRecordsWritten();
+		} else if ("binsWritten".equals(attribute)) {
+			return metrics.getBinsWritten();
+		} else if ("bytesSerialized".equals(attribute)) {
+			return metrics.getBytesSerialized();
+		} else if ("recordSizeP50Bytes".equals(attribute)) {
+			return metrics.getRecordSizes().getP50();
+		} else if ("recordSizeP99Bytes".equals(attribute)) {
+			return metrics.getRecordSizes().getP99();
+		} else if ("maxRecordBytes".equals(attribute)) {
+			return metrics.getMaxRecordBytes();
+		} else if ("oversizeRecords".equals(attribute)) {
+			return metrics.getOversizeRecords();
+		} else if ("rejectedRecords".equals(attribute)) {
+			return metrics.getRejectedRecords();
+		} else if (LARGEST_BINS.equals(attribute)) {
+			return metrics.getLargestBins(5).toString();
+		} else if (ERRORS_BY_RESULT_CODE.equals(attribute)) {
+			return metrics.getErrorsByResultCode().toString();
+		}
+		throw new AttributeNotFoundException(attribute);
+	}
+
+	private long percentile(LatencySnapshot snapshot, String name) {
+		if (name.startsWith("P50")) {
+			return snapshot.getP50();
+		} else if (name.startsWith("P95")) {
+			return snapshot.getP95();
+		} else if (name.startsWith("P999")) {
+			return snapshot.getP999();
+		}
+		return snapshot.getP99();
+	}
+
+	/**
+	 * 
+	 * @param type
+	 * @return camel case name of the given type, e.g. batchRead.
+	 */
+	private static String prefix(OperationType type) {
+		StringBuilder prefix = new StringBuilder();
+		for (String part : type.name().toLowerCase().split("_")) {
+			prefix.append(prefix.length() == 0 ? part : Character.toUpperCase(part.charAt(0)) + part.substring(1));
+		}
+		return prefix.toString();
+	}
+
+	@Override
+	public AttributeList getAttributes(String[] attributes) {
+		AttributeList values = new AttributeList();
+		for (String attribute : attributes) {
+			try {
+				values.add(new Attribute(attribute, getAttribute(attribute)));
+			} catch (AttributeNotFoundException e) {
+				// Skipped as per DynamicMBean contract
+			}
+		}
+		return values;
+	}
+
+	@Override
+	public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+		throw new AttributeNotFoundException(attribute.getName() + " is read-only");
+	}
+
+	@Override
+	public AttributeList setAttributes(AttributeList attributes) {
+		return new AttributeList();
+	}
+
+	@Override
+	public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+		throw new ReflectionException(new NoSuchMethodException(actionName));
+	}
+
+	@Override
+	public MBeanInfo getMBeanInfo() {
+		return info;
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.metrics.impl;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.ReflectionException;
+
+import org.springframework.data.aerospike.limiter.ConcurrencyLimiter;
+import org.springframework.data.aerospike.limiter.LimiterStats;
+import org.springframework.data.aerospike.operations.OperationType;
+
+/**
+ * Read-only MBean of the concurrency limit of a namespace and operation type:
+ * the current limit, operations in flight, operations rejected since startup
+ * and the baseline latency the limit adapts to.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+class LimitMBean implements DynamicMBean {
+	private static final String[]		ATTRIBUTES	= { "limit", "inFlight", "rejections", "baselineMicros" };
+
+	private final String				namespace;
+	private final OperationType			type;
+	private final ConcurrencyLimiter	limiter;
+	private final MBeanInfo				info;
+
+	LimitMBean(String namespace, OperationType type, ConcurrencyLimiter limiter) {
+		this.namespace = namespace;
+		this.type = type;
+		this.limiter = limiter;
+		MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[ATTRIBUTES.length];
+		for (int i = 0; i < ATTRIBUTES.length; i++) {
+			attributes[i] = new MBeanAttributeInfo(ATTRIBUTES[i], "long", ATTRIBUTES[i], true, false, false);
+		}
+		this.info = new MBeanInfo(LimitMBean.class.getName(), "Concurrency limit of " + type + " operations on namespace " + namespace,
+				attributes, null, new MBeanOperationInfo[0], null);
+	}
+
+	@Override
+	public Object getAttribute(String attribute) throws AttributeNotFoundException {
+		LimiterStats stats = limiter.getStats(namespace, type);
+		if ("limit".equals(attribute)) {
+			return stats != null ? (long) stats.getLimit() : 0L;
+		} else if ("inFlight".equals(attribute)) {
+			return stats != null ? (long) stats.getInFlight() : 0L;
+		} else if ("rejections".equals(attribute)) {
+			return stats != null ? stats.getRejections() : 0L;
+		} else if ("baselineMicros".equals(attribute)) {
+			return stats != null ? stats.getBaselineLatency() / 1000 : 0L;
+		}
+		throw new AttributeNotFoundException(attribute);
+	}
+
+	@Override
+	public AttributeList getAttributes(String[] attributes) {
+		AttributeList values = new AttributeList();
+		for (String attribute : attributes) {
+			try {
+				values.add(new Attribute(attribute, getAttribute(attribute)));
+			} catch (AttributeNotFoundException e) {
+				// Skipped as per DynamicMBean contract
+			}
+		}
+		return values;
+	}
+
+	@Override
+	public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+		throw new AttributeNotFoundException(attribute.getName() + " is read-only");
+	}
+
+	@Override
+	public AttributeList setAttributes(AttributeList attributes) {
+		return new AttributeList();
+	}
+
+	@Override
+	public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+		throw new ReflectionException(new NoSuchMethodException(actionName));
+	}
+
+	@Override
+	public MBeanInfo getMBeanInfo() {
+		return info;
+	}
+}
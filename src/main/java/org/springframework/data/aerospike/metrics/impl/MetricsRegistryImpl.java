@@ -0,0 +1,251 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.metrics.impl;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.aerospike.configuration.AerospikeConfigurations;
+import org.springframework.data.aerospike.limiter.ConcurrencyLimiter;
+import org.springframework.data.aerospike.metrics.EntityMetrics;
+import org.springframework.data.aerospike.metrics.MetricsListener;
+import org.springframework.data.aerospike.metrics.MetricsRegistry;
+import org.springframework.data.aerospike.metrics.OperationContext;
+import org.springframework.data.aerospike.metrics.OperationStats;
+import org.springframework.data.aerospike.operations.OperationType;
+import org.springframework.stereotype.Service;
+
+import com.aerospike.client.Bin;
+
+/**
+ * Keeps an {@link EntityMetrics} per entity class and, if enabled, registers
+ * an {@link EntityMetricsMBean} for each of them with the platform MBean
+ * server, along with a {@link LimitMBean} for each concurrency limit.
+ * Recording is a no-op when metrics are disabled.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@Service("metricsRegistry")
+public class MetricsRegistryImpl implements MetricsRegistry, MetricsListener {
+	private static final Logger								LOGGER		= LoggerFactory.getLogger(MetricsRegistryImpl.class);
+	static final String										JMX_DOMAIN	= "org.springframework.data.aerospike";
+
+	@Autowired
+	private AerospikeConfigurations							aerospikeConfigurations;
+
+	private final ConcurrentHashMap<String, EntityMetrics>	entities	= new ConcurrentHashMap<String, EntityMetrics>();
+	private final List<MetricsListener>						listeners	= new CopyOnWriteArrayList<MetricsListener>();
+	private final List<ObjectName>							mbeans		= new CopyOnWriteArrayList<ObjectName>();
+	private boolean											enabled;
+	private boolean											jmxEnabled;
+	private int												phaseSampleRate;
+	private volatile ConcurrencyLimiter						concurrencyLimiter;
+
+	@PostConstruct
+	public void initialize() {
+		enabled = aerospikeConfigurations.isMetricsEnabled();
+		jmxEnabled = enabled && aerospikeConfigurations.isMetricsJmxEnabled();
+		phaseSampleRate = enabled ? aerospikeConfigurations.getPhaseSampleRate() : 0;
+	}
+
+	@Override
+	public void recordOperation(String clazzName, OperationType type, long nanos) {
+		if (enabled) {
+			getEntityMetrics(clazzName).recordOperation(type, nanos);
+		}
+	}
+
+	@Override
+	public void recordError(String clazzName, OperationType type, long nanos, int resultCode) {
+		if (enabled) {
+			getEntityMetrics(clazzName).recordError(type, nanos, resultCode);
+		}
+	}
+
+	@Override
+	public void recordQuery(String clazzName, int records) {
+		if (enabled) {
+			getEntityMetrics(clazzName).recordQuery(records);
+		}
+	}
+
+	@Override
+	public void recordRead(String clazzName, int bins, long deserializedBytes) {
+		if (enabled) {
+			getEntityMetrics(clazzName).recordRead(bins, deserializedBytes);
+		}
+	}
+
+	@Override
+	public void recordWrite(String clazzName, int bins, long serializedBytes) {
+		if (enabled) {
+			getEntityMetrics(clazzName).recordWrite(bins, serializedBytes);
+		}
+	}
+
+	@Override
+	public void recordSize(String clazzName, Bin[] bins, int[] binBytes, long recordBytes) {
+		if (enabled) {
+			getEntityMetrics(clazzName).recordSize(bins, binBytes, recordBytes);
+		}
+	}
+
+	@Override
+	public void recordOversize(String clazzName, boolean rejected) {
+		if (enabled) {
+			getEntityMetrics(clazzName).recordOversize(rejected);
+		}
+	}
+
+	@Override
+	public boolean beginPhases(String clazzName, OperationType type) {
+		return phaseSampleRate > 0 && OperationContext.begin(clazzName, type, phaseSampleRate);
+	}
+
+	@Override
+	public void endPhases() {
+		OperationContext context = OperationContext.end();
+		getEntityMetrics(context.getClazzName()).recordPhases(context);
+	}
+
+	@Override
+	public Collection<EntityMetrics> getEntityMetrics() {
+		return new ArrayList<EntityMetrics>(entities.values());
+	}
+
+	@Override
+	public void addLimit(String namespace, OperationType type, ConcurrencyLimiter limiter) {
+		if (!enabled) {
+			return;
+		}
+		concurrencyLimiter = limiter;
+		if (jmxEnabled) {
+			register(namespace, type, limiter);
+		}
+		limitAdded(namespace, type, limiter);
+	}
+
+	@Override
+	public ConcurrencyLimiter getConcurrencyLimiter() {
+		return concurrencyLimiter;
+	}
+
+	@Override
+	public void addListener(MetricsListener listener) {
+		listeners.add(listener);
+	}
+
+	private EntityMetrics getEntityMetrics(String clazzName) {
+		EntityMetrics metrics = entities.get(clazzName);
+		if (metrics == null) {
+			EntityMetrics newMetrics = new EntityMetrics(clazzName, this);
+			metrics = entities.putIfAbsent(clazzName, newMetrics);
+			if (metrics == null) {
+				metrics = newMetrics;
+				entityAdded(metrics);
+			}
+		}
+		return metrics;
+	}
+
+	@Override
+	public void entityAdded(EntityMetrics metrics) {
+		if (jmxEnabled) {
+			register(metrics);
+		}
+		for (MetricsListener listener : listeners) {
+			listener.entityAdded(metrics);
+		}
+	}
+
+	@Override
+	public void operationAdded(EntityMetrics metrics, OperationType type, OperationStats stats) {
+		for (MetricsListener listener : listeners) {
+			listener.operationAdded(metrics, type, stats);
+		}
+	}
+
+	@Override
+	public void resultCodeAdded(EntityMetrics metrics, int resultCode, LongAdder errors) {
+		for (MetricsListener listener : listeners) {
+			listener.resultCodeAdded(metrics, resultCode, errors);
+		}
+	}
+
+	@Override
+	public void limitAdded(String namespace, OperationType type, ConcurrencyLimiter limiter) {
+		for (MetricsListener listener : listeners) {
+			listener.limitAdded(namespace, type, limiter);
+		}
+	}
+
+	private void register(EntityMetrics metrics) {
+		try {
+			ObjectName name = new ObjectName(JMX_DOMAIN + ":type=EntityMetrics,entity=" + ObjectName.quote(metrics.getClazzName()));
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			if (!server.isRegistered(name)) {
+				server.registerMBean(new EntityMetricsMBean(metrics), name);
+				mbeans.add(name);
+			}
+		} catch (JMException e) {
+			LOGGER.warn("Failed to register metrics MBean of class: {}. Error was: {}", metrics.getClazzName(), e.getMessage());
+		}
+	}
+
+	private void register(String namespace, OperationType type, ConcurrencyLimiter limiter) {
+		try {
+			ObjectName name = new ObjectName(JMX_DOMAIN + ":type=ConcurrencyLimit,namespace=" + ObjectName.quote(namespace) + ",operation="
+					+ type.name().toLowerCase());
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			if (!server.isRegistered(name)) {
+				server.registerMBean(new LimitMBean(namespace, type, limiter), name);
+				mbeans.add(name);
+			}
+		} catch (JMException e) {
+			LOGGER.warn("Failed to register limit MBean of {} operations on namespace: {}. Error was: {}", type, namespace, e.getMessage());
+		}
+	}
+
+	@PreDestroy
+	public void destroy() {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		for (ObjectName name : mbeans) {
+			try {
+				server.unregisterMBean(name);
+			} catch (JMException e) {
+				LOGGER.debug("Failed to unregister MBean: {}", name, e);
+			}
+		}
+		mbeans.clear();
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.metrics.jfr;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Emits Java Flight Recorder events of the operations, of the mapping of
+ * entities and of the serialization of their fields, so slow calls can be
+ * correlated with GC and thread activity in a recording. The events are in
+ * the Aerospike category with a default threshold of 1 ms and no stack trace;
+ * both can be changed in the JFR settings like for any other event.
+ * <p>
+ * The JFR API (jdk.jfr) is only present from JDK 8u272 and 11 on, so this
+ * class doesn't refer to it and every call is a no-op on a JVM without it.
+ * Events of an operation are begun and committed on the thread of the
+ * operation; mapping and serialization events are returned by the begin
+ * calls and passed back to the commit calls, null meaning not recorded.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public final class FlightRecorderEvents {
+	private static final Logger		LOGGER		= LoggerFactory.getLogger(FlightRecorderEvents.class);
+	private static final boolean	AVAILABLE	= isAvailable();
+
+	private FlightRecorderEvents() {
+	}
+
+	/**
+	 * Begins the operation event of the current thread.
+	 */
+	public static void beginOperation() {
+		if (AVAILABLE) {
+			FlightRecorderSupport.beginOperation();
+		}
+	}
+
+	/**
+	 * Sets the keys of the operation of the current thread. Operations on a
+	 * single key don't need to.
+	 * 
+	 * @param keys
+	 */
+	public static void operationKeys(int keys) {
+		if (AVAILABLE) {
+			FlightRecorderSupport.operationKeys(keys);
+		}
+	}
+
+	/**
+	 * Adds records read or returned to the operation of the current thread.
+	 * 
+	 * @param results
+	 */
+	public static void operationResults(int results) {
+		if (AVAILABLE) {
+			FlightRecorderSupport.operationResults(results);
+		}
+	}
+
+	/**
+	 * Adds serialized or deserialized bytes to the operation of the current
+	 * thread.
+	 * 
+	 * @param bytes
+	 */
+	public static void operationBytes(long bytes) {
+		if (AVAILABLE) {
+			FlightRecorderSupport.operationBytes(bytes);
+		}
+	}
+
+	/**
+	 * Commits the operation event of the current thread if it is above the
+	 * threshold.
+	 * 
+	 * @param operation
+	 * @param namespace
+	 * @param set
+	 * @param entity
+	 * @param keys
+	 *            keys of the operation unless set by
+	 *            {@link #operationKeys(int)}
+	 * @param resultCode
+	 *            aerospike result code of the failure, 0 on success
+	 */
+	public static void commitOperation(String operation, String namespace, String set, String entity, int keys, int resultCode) {
+		if (AVAILABLE) {
+			FlightRecorderSupport.commitOperation(operation, namespace, set, entity, keys, resultCode);
+		}
+	}
+
+	/**
+	 * 
+	 * @return the begun mapping event or null if it isn't recorded.
+	 */
+	public static Object beginMapping() {
+		return AVAILABLE ? FlightRecorderSupport.beginMapping() : null;
+	}
+
+	/**
+	 * 
+	 * @param event
+	 *            returned by {@link #beginMapping()}
+	 * @param entity
+	 * @param direction
+	 *            toBins or fromRecord
+	 * @param bins
+	 * @param bytes
+	 *            bytes of the fields serialized or deserialized
+	 */
+	public static void commitMapping(Object event, String entity, String direction, int bins, long bytes) {
+		if (event != null) {
+			FlightRecorderSupport.commitMapping(event, entity, direction, bins, bytes);
+		}
+	}
+
+	/**
+	 * 
+	 * @return the begun serialization event or null if it isn't recorded.
+	 */
+	public static Object beginSerialization() {
+		return AVAILABLE ? FlightRecorderSupport.beginSerialization() : null;
+	}
+
+	/**
+	 * 
+	 * @param event
+	 *            returned by {@link #beginSerialization()}
+	 * @param entity
+	 * @param field
+	 * @param deserialization
+	 * @param bytes
+	 *            serialized size of the field
+	 */
+	public static void commitSerialization(Object event, String entity, String field, boolean deserialization, long bytes) {
+		if (event != null) {
+			FlightRecorderSupport.commitSerialization(event, entity, field, deserialization, bytes);
+		}
+	}
+
+	private static boolean isAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event");
+			FlightRecorderSupport.initialize();
+			return true;
+		} catch (ClassNotFoundException e) {
+			LOGGER.info("Java Flight Recorder API not found. Aerospike JFR events are disabled");
+		} catch (RuntimeException e) {
+			LOGGER.warn("Failed to register Aerospike JFR events. Error was: {}", e.getMessage());
+		} catch (LinkageError e) {
+			LOGGER.warn("Failed to register Aerospike JFR events. Error was: {}", e.getMessage());
+		}
+		return false;
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.metrics.jfr;
+
+import jdk.jfr.EventType;
+
+/**
+ * The only class using the events, loaded by {@link FlightRecorderEvents}
+ * once the JFR API has been found. Nothing is allocated while the event type
+ * isn't enabled in a recording.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+final class FlightRecorderSupport {
+	private static final EventType						OPERATION		= EventType.getEventType(OperationEvent.class);
+	private static final EventType						MAPPING			= EventType.getEventType(MappingEvent.class);
+	private static final EventType						SERIALIZATION	= EventType.getEventType(SerializationEvent.class);
+	/**
+	 * Operation event of the thread, begun and committed by different
+	 * methods of the operations.
+	 */
+	private static final ThreadLocal<OperationEvent>	OPERATION_EVENT	= new ThreadLocal<OperationEvent>();
+
+	private FlightRecorderSupport() {
+	}
+
+	/**
+	 * Registers the event types through the static initialization.
+	 */
+	static void initialize() {
+	}
+
+	static void beginOperation() {
+		if (OPERATION.isEnabled()) {
+			OperationEvent event = new OperationEvent();
+			event.begin();
+			OPERATION_EVENT.set(event);
+		}
+	}
+
+	static void operationKeys(int keys) {
+		if (OPERATION.isEnabled()) {
+			OperationEvent event = OPERATION_EVENT.get();
+			if (event != null) {
+				event.keys = keys;
+			}
+		}
+	}
+
+	static void operationResults(int results) {
+		if (OPERATION.isEnabled()) {
+			OperationEvent event = OPERATION_EVENT.get();
+			if (event != null) {
+				event.results += results;
+			}
+		}
+	}
+
+	static void operationBytes(long bytes) {
+		if (OPERATION.isEnabled()) {
+			OperationEvent event = OPERATION_EVENT.get();
+			if (event != null) {
+				event.bytes += bytes;
+			}
+		}
+	}
+
+	static void commitOperation(String operation, String namespace, String set, String entity, int keys, int resultCode) {
+		if (!OPERATION.isEnabled()) {
+			return;
+		}
+		OperationEvent event = OPERATION_EVENT.get();
+		if (event == null) {
+			return;
+		}
+		OPERATION_EVENT.remove();
+		event.end();
+		if (event.shouldCommit()) {
+			event.operation = operation;
+			event.namespace = namespace;
+			event.set = set;
+			event.entity = entity;
+			event.keys = event.keys > 0 ? event.keys : keys;
+			event.resultCode = resultCode;
+			event.commit();
+		}
+	}
+
+	static Object beginMapping() {
+		if (!MAPPING.isEnabled()) {
+			return null;
+		}
+		MappingEvent event = new MappingEvent();
+		event.begin();
+		return event;
+	}
+
+	static void commitMapping(Object begun, String entity, String direction, int bins, long bytes) {
+		MappingEvent event = (MappingEvent) begun;
+		event.end();
+		if (event.shouldCommit()) {
+			event.entity = entity;
+			event.direction = direction;
+			event.bins = bins;
+			event.bytes = bytes;
+			event.commit();
+		}
+	}
+
+	static Object beginSerialization() {
+		if (!SERIALIZATION.isEnabled()) {
+			return null;
+		}
+		SerializationEvent event = new SerializationEvent();
+		event.begin();
+		return event;
+	}
+
+	static void commitSerialization(Object begun, String entity, String field, boolean deserialization, long bytes) {
+		SerializationEvent event = (SerializationEvent) begun;
+		event.end();
+		if (event.shouldCommit()) {
+			event.entity = entity;
+			event.field = field;
+			event.deserialization = deserialization;
+			event.bytes = bytes;
+			event.commit();
+		}
+	}
+}
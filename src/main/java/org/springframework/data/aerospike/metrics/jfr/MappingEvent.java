@@ -0,0 +1,57 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Mapping of an entity to bins or of a record to an entity, including the
+ * serialization of its fields.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@Name("org.springframework.data.aerospike.Mapping")
+@Label("Aerospike Mapping")
+@Category("Aerospike")
+@Description("Entity mapped to bins or record mapped to entity by EntityMapper")
+@StackTrace(false)
+@Threshold("1 ms")
+class MappingEvent extends Event {
+	@Label("Entity Class")
+	String	entity;
+
+	@Label("Direction")
+	@Description("toBins or fromRecord")
+	String	direction;
+
+	@Label("Bins")
+	int		bins;
+
+	@Label("Bytes")
+	@Description("Bytes of the fields serialized or deserialized")
+	@DataAmount
+	long	bytes;
+}
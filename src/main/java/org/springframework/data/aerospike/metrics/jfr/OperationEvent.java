@@ -0,0 +1,70 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Database operation of an entity class, from the limiter permit till the
+ * client call returned.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@Name("org.springframework.data.aerospike.Operation")
+@Label("Aerospike Operation")
+@Category("Aerospike")
+@Description("Operation issued by AerospikeOperations")
+@StackTrace(false)
+@Threshold("1 ms")
+class OperationEvent extends Event {
+	@Label("Operation")
+	String	operation;
+
+	@Label("Namespace")
+	String	namespace;
+
+	@Label("Set")
+	String	set;
+
+	@Label("Entity Class")
+	String	entity;
+
+	@Label("Keys")
+	int		keys;
+
+	@Label("Results")
+	@Description("Records read or returned")
+	int		results;
+
+	@Label("Bytes")
+	@Description("Bytes serialized for the write or deserialized from the query results")
+	@DataAmount
+	long	bytes;
+
+	@Label("Result Code")
+	@Description("Aerospike result code of the failure, 0 on success")
+	int		resultCode;
+}
@@ -0,0 +1,54 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Serialization or deserialization of one field of an entity.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@Name("org.springframework.data.aerospike.Serialization")
+@Label("Aerospike Serialization")
+@Category("Aerospike")
+@Description("Field of an entity serialized into or deserialized from a bin")
+@StackTrace(false)
+@Threshold("1 ms")
+class SerializationEvent extends Event {
+	@Label("Entity Class")
+	String	entity;
+
+	@Label("Field")
+	String	field;
+
+	@Label("Deserialization")
+	boolean	deserialization;
+
+	@Label("Bytes")
+	@DataAmount
+	long	bytes;
+}
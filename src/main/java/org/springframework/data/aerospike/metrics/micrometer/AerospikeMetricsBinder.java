@@ -0,0 +1,236 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.metrics.micrometer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.data.aerospike.limiter.ConcurrencyLimiter;
+import org.springframework.data.aerospike.limiter.LimiterStats;
+import org.springframework.data.aerospike.logger.LatencySnapshot;
+import org.springframework.data.aerospike.metrics.EntityMetrics;
+import org.springframework.data.aerospike.metrics.MetricsListener;
+import org.springframework.data.aerospike.metrics.MetricsRegistry;
+import org.springframework.data.aerospike.metrics.OperationPhase;
+import org.springframework.data.aerospike.metrics.OperationStats;
+import org.springframework.data.aerospike.operations.OperationType;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Binds the metrics of {@link MetricsRegistry} to a Micrometer registry.
+ * Micrometer is an optional dependency, so this class isn't a component;
+ * applications which have Micrometer create it with the metrics registry
+ * bean and bind it. Meters are tagged with entity and operation, and meters
+ * of the entities, operations and result codes seen later are registered as
+ * they appear. Concurrency limits are tagged with namespace and operation.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class AerospikeMetricsBinder implements MeterBinder, MetricsListener {
+	private static final String		PREFIX		= "aerospike.";
+	private static final double[]	QUANTILES	= { 0.5, 0.95, 0.99, 0.999 };
+
+	private final MetricsRegistry	metricsRegistry;
+	private volatile MeterRegistry	registry;
+
+	public AerospikeMetricsBinder(MetricsRegistry metricsRegistry) {
+		this.metricsRegistry = metricsRegistry;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		this.registry = registry;
+		metricsRegistry.addListener(this);
+		for (EntityMetrics metrics : metricsRegistry.getEntityMetrics()) {
+			entityAdded(metrics);
+			for (OperationType type : OperationType.values()) {
+				OperationStats stats = metrics.findOperationStats(type);
+				if (stats != null) {
+					operationAdded(metrics, type, stats);
+				}
+			}
+		}
+		ConcurrencyLimiter limiter = metricsRegistry.getConcurrencyLimiter();
+		if (limiter != null) {
+			for (LimiterStats stats : limiter.getStats()) {
+				limitAdded(stats.getNamespace(), stats.getOperationType(), limiter);
+			}
+		}
+	}
+
+	@Override
+	public void entityAdded(EntityMetrics metrics) {
+		String entity = metrics.getClazzName();
+		counter("queries", metrics, entity, new ToDoubleFunction<EntityMetrics>() {
+			@Override
+			public double applyAsDouble(EntityMetrics value) {
+				return value.getQueries();
+			}
+		});
+		counter("records.returned", metrics, entity, new ToDoubleFunction<EntityMetrics>() {
+			@Override
+			public double applyAsDouble(EntityMetrics value) {
+				return value.getRecordsReturned();
+			}
+		});
+		counter("records.read", metrics, entity, new ToDoubleFunction<EntityMetrics>() {
+			@Override
+			public double applyAsDouble(EntityMetrics value) {
+				return value.getRecordsRead();
+			}
+		});
+		counter("bins.read", metrics, entity, new ToDoubleFunction<EntityMetrics>() {
+			@Override
+			public double applyAsDouble(EntityMetrics value) {
+				return value.getBinsRead();
+			}
+		});
+		counter("bytes.deserialized", metrics, entity, new ToDoubleFunction<EntityMetrics>() {
+			@Override
+			public double applyAsDouble(EntityMetrics value) {
+				return value.getBytesDeserialized();
+			}
+		});
+		counter("records.written", metrics, entity, new ToDoubleFunction<EntityMetrics>() {
+			@Override
+			public double applyAsDouble(EntityMetrics value) {
+				return value.getRecordsWritten();
+			}
+		});
+		counter("bins.written", metrics, entity, new ToDoubleFunction<EntityMetrics>() {
+			@Override
+			public double applyAsDouble(EntityMetrics value) {
+				return value.getBinsWritten();
+			}
+		});
+		counter("bytes.serialized", metrics, entity, new ToDoubleFunction<EntityMetrics>() {
+			@Override
+			public double applyAsDouble(EntityMetrics value) {
+				return value.getBytesSerialized();
+			}
+		});
+		counter("records.oversize", metrics, entity, new ToDoubleFunction<EntityMetrics>() {
+			@Override
+			public double applyAsDouble(EntityMetrics value) {
+				return value.getOversizeRecords();
+			}
+		});
+		counter("records.rejected", metrics, entity, new ToDoubleFunction<EntityMetrics>() {
+			@Override
+			public double applyAsDouble(EntityMetrics value) {
+				return value.getRejectedRecords();
+			}
+		});
+		Gauge.builder(PREFIX + "record.size.max", metrics, new ToDoubleFunction<EntityMetrics>() {
+			@Override
+			public double applyAsDouble(EntityMetrics value) {
+				return value.getMaxRecordBytes();
+			}
+		}).tags("entity", entity).baseUnit("bytes").register(registry);
+		Gauge.builder(PREFIX + "record.size", metrics, new ToDoubleFunction<EntityMetrics>() {
+			@Override
+			public double applyAsDouble(EntityMetrics value) {
+				return value.getRecordSizes().getP99();
+			}
+		}).tags("entity", entity, "quantile", "0.99").baseUnit("bytes").register(registry);
+		for (final OperationPhase phase : OperationPhase.values()) {
+			Gauge.builder(PREFIX + "phase.mean", metrics, new ToDoubleFunction<EntityMetrics>() {
+				@Override
+				public double applyAsDouble(EntityMetrics value) {
+					return (double) value.getPhaseMeanNanos(phase) / TimeUnit.SECONDS.toNanos(1);
+				}
+			}).tags("entity", entity, "phase", phase.name().toLowerCase()).baseUnit("seconds").register(registry);
+		}
+	}
+
+	@Override
+	public void operationAdded(EntityMetrics metrics, OperationType type, OperationStats stats) {
+		MeterRegistry meterRegistry = registry;
+		String operation = type.name().toLowerCase();
+		FunctionCounter.builder(PREFIX + "operations", stats, new ToDoubleFunction<OperationStats>() {
+			@Override
+			public double applyAsDouble(OperationStats value) {
+				return value.getCount();
+			}
+		}).tags("entity", metrics.getClazzName(), "operation", operation).register(meterRegistry);
+		FunctionCounter.builder(PREFIX + "operation.errors", stats, new ToDoubleFunction<OperationStats>() {
+			@Override
+			public double applyAsDouble(OperationStats value) {
+				return value.getErrors();
+			}
+		}).tags("entity", metrics.getClazzName(), "operation", operation).register(meterRegistry);
+		for (final double quantile : QUANTILES) {
+			Gauge.builder(PREFIX + "operation.latency", stats, new ToDoubleFunction<OperationStats>() {
+				@Override
+				public double applyAsDouble(OperationStats value) {
+					LatencySnapshot snapshot = value.getLatencies();
+					long nanos = quantile == 0.5 ? snapshot.getP50() : quantile == 0.95 ? snapshot.getP95() : quantile == 0.99 ? snapshot
+							.getP99() : snapshot.getP999();
+					return (double) nanos / TimeUnit.SECONDS.toNanos(1);
+				}
+			}).tags("entity", metrics.getClazzName(), "operation", operation, "quantile", String.valueOf(quantile)).baseUnit("seconds")
+					.register(meterRegistry);
+		}
+	}
+
+	@Override
+	public void resultCodeAdded(EntityMetrics metrics, int resultCode, LongAdder errors) {
+		FunctionCounter.builder(PREFIX + "errors", errors, new ToDoubleFunction<LongAdder>() {
+			@Override
+			public double applyAsDouble(LongAdder value) {
+				return value.sum();
+			}
+		}).tags("entity", metrics.getClazzName(), "resultCode", String.valueOf(resultCode)).register(registry);
+	}
+
+	@Override
+	public void limitAdded(final String namespace, final OperationType type, ConcurrencyLimiter limiter) {
+		String operation = type.name().toLowerCase();
+		Gauge.builder(PREFIX + "limiter.limit", limiter, new ToDoubleFunction<ConcurrencyLimiter>() {
+			@Override
+			public double applyAsDouble(ConcurrencyLimiter value) {
+				LimiterStats stats = value.getStats(namespace, type);
+				return stats != null ? stats.getLimit() : 0;
+			}
+		}).tags("namespace", namespace, "operation", operation).register(registry);
+		Gauge.builder(PREFIX + "limiter.in.flight", limiter, new ToDoubleFunction<ConcurrencyLimiter>() {
+			@Override
+			public double applyAsDouble(ConcurrencyLimiter value) {
+				LimiterStats stats = value.getStats(namespace, type);
+				return stats != null ? stats.getInFlight() : 0;
+			}
+		}).tags("namespace", namespace, "operation", operation).register(registry);
+		FunctionCounter.builder(PREFIX + "limiter.rejections", limiter, new ToDoubleFunction<ConcurrencyLimiter>() {
+			@Override
+			public double applyAsDouble(ConcurrencyLimiter value) {
+				LimiterStats stats = value.getStats(namespace, type);
+				return stats != null ? stats.getRejections() : 0;
+			}
+		}).tags("namespace", namespace, "operation", operation).register(registry);
+	}
+
+	private void counter(String name, EntityMetrics metrics, String entity, ToDoubleFunction<EntityMetrics> function) {
+		FunctionCounter.builder(PREFIX + name, metrics, function).tags("entity", entity).register(registry);
+	}
+}
@@ -21,8 +21,11 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.data.aerospike.annotations.AerospikeKey;
+import org.springframework.data.aerospike.annotations.AerospikeVersion;
+import org.springframework.data.aerospike.exceptions.AerospikeCircuitOpenException;
 import org.springframework.data.aerospike.exceptions.AerospikeException;
 import org.springframework.data.aerospike.exceptions.AerospikeIncompatibleEntityException;
+import org.springframework.data.aerospike.exceptions.AerospikeOptimisticLockingException;
 import org.springframework.data.aerospike.exceptions.AerospikePrimaryKeyNotDefinedException;
 
 import com.aerospike.client.Bin;
@@ -43,10 +46,20 @@ import com.aerospike.client.query.IndexType;
  */
 public interface AerospikeOperations {
 	/**
-	 * Writes an entity in Aerospike database.
+	 * Writes an entity in Aerospike database. If the entity has a field annotated with {@link AerospikeVersion}
+	 * the write fails with {@link AerospikeOptimisticLockingException} when the record has been modified since
+	 * the entity was read. An entity of version 0, not read from the database, is only created and fails the
+	 * same way if the record exists.
+	 * Inside a Spring transaction the write is deferred till commit, see {@link #remove(Serializable, Class)}.
 	 * @param entity
 	 */
 	public void put(Serializable entity) throws AerospikeException;
+	/**
+	 * Same as {@link #put(Serializable)} with the class write policy overridden by the given options.
+	 * @param entity
+	 * @param options
+	 */
+	public void put(Serializable entity, CallOptions options) throws AerospikeException;
 	/**
 	 * Adds the given entity into aerospike db into given namespace and set. The
 	 * key for this entity would be {@link AerospikeKey} annotated field of the
@@ -86,6 +99,27 @@ public interface AerospikeOperations {
 	 * @return
 	 */
 	public <K extends Serializable, V extends Serializable> V get(K key, Class<? extends Serializable> clazz) throws AerospikeException;
+	/**
+	 * Same as {@link #get(Serializable, Class)} with the class read policy overridden by the given options.
+	 * @param key
+	 * @param clazz
+	 * @param options
+	 * @return
+	 */
+	public <K extends Serializable, V extends Serializable> V get(K key, Class<? extends Serializable> clazz, CallOptions options) throws AerospikeException;
+	/**
+	 * Same as {@link #get(Serializable, Class)} but, while the circuit of the
+	 * set is open or the read fails as the cluster is unavailable, returns the
+	 * entity last read by this instance if it isn't older than the configured
+	 * stale age. Such result is flagged as stale.
+	 * 
+	 * @param key
+	 * @param clazz
+	 * @return
+	 * @throws AerospikeCircuitOpenException
+	 *             if the circuit is open and no stale entity is available.
+	 */
+	public <K extends Serializable, V extends Serializable> ReadResult<V> getWithFallback(K key, Class<V> clazz) throws AerospikeException;
 	/**
 	 * Queries for multiple keys in a single n/w I/O if sufficient number of concurrent threads has been defined.
 	 * @param key
@@ -93,15 +127,77 @@ public interface AerospikeOperations {
 	 * @return
 	 */
 	public <K extends Serializable, V extends Serializable> Map<K, V> get(K [] key, Class<? extends Serializable> clazz) throws AerospikeException;
+	/**
+	 * Same as {@link #get(Serializable[], Class)} with the class batch policy overridden by the given options.
+	 * @param key
+	 * @param clazz
+	 * @param options
+	 * @return
+	 */
+	public <K extends Serializable, V extends Serializable> Map<K, V> get(K [] key, Class<? extends Serializable> clazz, CallOptions options) throws AerospikeException;
+	/**
+	 * Reads the entity with the given key, applies the updater and writes the result only if the record has not
+	 * been modified in between. On concurrent modification the entity is read again and the updater re-applied,
+	 * with a bounded and jittered backoff between attempts (aerospike.optimisticLocking.* configuration). The
+	 * class should have a field annotated with {@link AerospikeVersion}.
+	 * 
+	 * @param key
+	 * @param clazz
+	 * @param updater
+	 * @return the written entity
+	 * @throws AerospikeOptimisticLockingException if retries are exhausted
+	 * @throws AerospikeException
+	 */
+	public <K extends Serializable, V extends Serializable> V compute(K key, Class<V> clazz, EntityUpdater<V> updater) throws AerospikeException;
+	/**
+	 * Applies the given field operations atomically on the record with the given key in a single round trip.
+	 * Fields are referred by java field names. The returned entity holds the values after all the operations 
+	 * have been applied for the fields which were modified or read; other fields are left with their default 
+	 * values unless {@link FieldOperation#readAll()} is passed. If only touches are passed no field is read and
+	 * the returned entity only carries the record generation in its version field, if any.
+	 * 
+	 * @param key
+	 * @param clazz
+	 * @param operations
+	 * @return
+	 * @throws AerospikeException
+	 */
+	public <K extends Serializable, V extends Serializable> V operate(K key, Class<? extends Serializable> clazz, FieldOperation... operations) throws AerospikeException;
+	/**
+	 * Same as {@link #operate(Serializable, Class, FieldOperation...)} with the class write policy overridden
+	 * by the given options.
+	 * @param key
+	 * @param clazz
+	 * @param options
+	 * @param operations
+	 * @return
+	 * @throws AerospikeException
+	 */
+	public <K extends Serializable, V extends Serializable> V operate(K key, Class<? extends Serializable> clazz, CallOptions options, FieldOperation... operations) throws AerospikeException;
 	/**
 	 * Removes the entity from the database that matches the given keys. Returns the status whether 
 	 * record is deleted.
+	 * <p>
+	 * Inside a Spring transaction (when aerospike.unitOfWork.enabled) puts and removes are collected
+	 * and written in parallel at commit, or dropped on rollback. A put takes the fields of the entity at
+	 * the time of the put, so changes made to the entity afterwards are not written; an entity too large
+	 * to write is rejected by the put itself. Gets and exists of the changed keys are served from the
+	 * pending changes with a new entity each time. A deferred remove returns whether the record exists as seen
+	 * by the transaction: from its pending change of the key, else by checking the record.
 	 * 
 	 * @param key
 	 * @param clazz
 	 * @return
 	 */
 	public boolean remove(Serializable key, Class<? extends Serializable> clazz) throws AerospikeException;
+	/**
+	 * Same as {@link #remove(Serializable, Class)} with the class write policy overridden by the given options.
+	 * @param key
+	 * @param clazz
+	 * @param options
+	 * @return
+	 */
+	public boolean remove(Serializable key, Class<? extends Serializable> clazz, CallOptions options) throws AerospikeException;
 	/**
 	 * Provides an interface to query aerospike db on the basis of secondary key. It should be ensured that the key
 	 * which is being used for querying has been indexed for performance reasons.
@@ -119,6 +215,124 @@ public interface AerospikeOperations {
 	 * @throws AerospikeException
 	 */
 	public List<? extends Serializable> query(Class clazz, String key, Serializable value) throws AerospikeException;
+	/**
+	 * Same as {@link #query(Class, String, Serializable, Serializable)} except it stops reading the results once
+	 * limit number of entities have been read. A limit less than or equal to zero means no limit.
+	 * 
+	 * @param clazz
+	 * @param key
+	 * @param start
+	 * @param end
+	 * @param limit
+	 * @return
+	 * @throws AerospikeException
+	 */
+	public List<? extends Serializable> query(Class clazz, String key, Serializable start, Serializable end, int limit) throws AerospikeException;
+	/**
+	 * Same as {@link #query(Class, String, Serializable)} except it stops reading the results once limit number 
+	 * of entities have been read. A limit less than or equal to zero means no limit.
+	 * 
+	 * @param clazz
+	 * @param key
+	 * @param value
+	 * @param limit
+	 * @return
+	 * @throws AerospikeException
+	 */
+	public List<? extends Serializable> query(Class clazz, String key, Serializable value, int limit) throws AerospikeException;
+	/**
+	 * Queries aerospike db through the index filter of the given {@link AerospikeQuery}. The predicates of the query
+	 * are evaluated on the server so only the matching records are transferred. Field names used in the query are 
+	 * translated to bin names from the class structure.
+	 * 
+	 * @param clazz
+	 * @param query
+	 * @return
+	 * @throws AerospikeException
+	 */
+	public <T extends Serializable> List<T> query(Class<T> clazz, AerospikeQuery query) throws AerospikeException;
+	/**
+	 * Scans the set of the given class page by page. At most pageSize entities are returned in a page along
+	 * with a resume token. Passing the token back continues the scan where the previous page stopped. Pass
+	 * null token to start from the beginning. Nodes are scanned one after the other in the order of their names
+	 * and the records of a node in the order of their digests, so a page only scans the nodes from where the
+	 * previous page stopped. A record present on the same node for the whole scan is returned exactly once;
+	 * records migrating between nodes meanwhile may be missed or returned twice. Scans use the default scan
+	 * policy of the client and are guarded by the concurrency limiter and circuit breaker like other calls.
+	 * 
+	 * @param clazz
+	 * @param pageSize
+	 *            at least 1, a smaller size or an invalid token is rejected as an invalid query.
+	 * @param resumeToken
+	 * @return
+	 * @throws AerospikeException
+	 */
+	public <T extends Serializable> ScanPage<T> scan(Class<T> clazz, int pageSize, String resumeToken) throws AerospikeException;
+	/**
+	 * Runs a stream UDF aggregation over the records selected by the given query. The lua module should either
+	 * be registered through aerospike.udf.modules configuration or be available to the client in the lua 
+	 * source directory. The values returned by the final reduce phase are returned as is.
+	 * 
+	 * @param clazz
+	 * @param query
+	 * @param module
+	 * @param function
+	 * @param args
+	 * @return
+	 * @throws AerospikeException
+	 */
+	public List<Object> aggregate(Class clazz, AerospikeQuery query, String module, String function, Serializable... args) throws AerospikeException;
+	/**
+	 * Counts the records matching the given query on the server.
+	 * 
+	 * @param clazz
+	 * @param query
+	 * @return
+	 * @throws AerospikeException
+	 */
+	public long count(Class clazz, AerospikeQuery query) throws AerospikeException;
+	/**
+	 * Sums the given numeric field over the records matching the given query on the server.
+	 * 
+	 * @param clazz
+	 * @param query
+	 * @param field
+	 * @return
+	 * @throws AerospikeException
+	 */
+	public long sum(Class clazz, AerospikeQuery query, String field) throws AerospikeException;
+	/**
+	 * Returns the minimum value of the given field over the records matching the given query. Returns null
+	 * if no record matches.
+	 * 
+	 * @param clazz
+	 * @param query
+	 * @param field
+	 * @return
+	 * @throws AerospikeException
+	 */
+	public Object min(Class clazz, AerospikeQuery query, String field) throws AerospikeException;
+	/**
+	 * Returns the maximum value of the given field over the records matching the given query. Returns null
+	 * if no record matches.
+	 * 
+	 * @param clazz
+	 * @param query
+	 * @param field
+	 * @return
+	 * @throws AerospikeException
+	 */
+	public Object max(Class clazz, AerospikeQuery query, String field) throws AerospikeException;
+	/**
+	 * Counts the records matching the given query per distinct value of the given field.
+	 * 
+	 * @param clazz
+	 * @param query
+	 * @param field
+	 * @return
+	 * @throws AerospikeException
+	 */
+	public Map<Object, Long> groupBy(Class clazz, AerospikeQuery query, String field) throws AerospikeException;
 	/**
 	 * Adds index for the given bin in given namespace and set. The type of index and name will also be used from the arguments.
 	 * 
@@ -140,6 +354,16 @@ public interface AerospikeOperations {
 	 * @throws AerospikeException
 	 */
 	public boolean exists(Serializable key, Class clazz) throws AerospikeException;
+	/**
+	 * Same as {@link #exists(Serializable, Class)} with the class read policy overridden by the given options.
+	 * 
+	 * @param key
+	 * @param clazz
+	 * @param options
+	 * @return
+	 * @throws AerospikeException
+	 */
+	public boolean exists(Serializable key, Class clazz, CallOptions options) throws AerospikeException;
 	
 	/**
 	 * Checks whether connection to underlying aerospike db is intact.
@@ -0,0 +1,195 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.operations;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Builds a secondary index query which can be executed through
+ * {@link AerospikeOperations#query(Class, AerospikeQuery)}. A query is made of
+ * exactly one index filter (equality or range on an indexed field) and any
+ * number of predicates on other fields. Predicates are evaluated on the server
+ * so records which do not match are never sent over the network.
+ * <p>
+ * All the fields are referred by their java field names; translation to bin
+ * names is done through the entity structure. Only fields stored natively
+ * (Integer, Long, String) can be used in predicates.
+ *
+ * <pre>
+ * AerospikeQuery query = new AerospikeQuery().equal("primaryValue", "Primary Value")
+ * 		.and("secondaryValue", Operator.EQUAL, "Secondary Value");
+ * List&lt;Entity&gt; entities = operations.query(Entity.class, query);
+ * </pre>
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class AerospikeQuery {
+	/**
+	 * Indexed field on which the index filter will be applied.
+	 */
+	private String					indexField;
+	/**
+	 * Start value of the index filter. For equality filter it holds the value
+	 * to be matched.
+	 */
+	private Serializable			begin;
+	/**
+	 * End value of the index filter. It is null for equality filter.
+	 */
+	private Serializable			end;
+	/**
+	 * Predicates which will be evaluated on the server for the records
+	 * selected through index filter. All the predicates are combined with
+	 * logical AND.
+	 */
+	private final List<Predicate>	predicates	= new ArrayList<Predicate>();
+	/**
+	 * Maximum number of entities to be returned. Zero means no limit.
+	 */
+	private int						limit;
+
+	/**
+	 * Operators supported in predicates.
+	 */
+	public static enum Operator {
+		EQUAL, NOT_EQUAL, GREATER, GREATER_EQUAL, LESS, LESS_EQUAL, REGEX;
+	}
+
+	/**
+	 * Sets an equality index filter on the given indexed field.
+	 *
+	 * @param field
+	 * @param value
+	 * @return
+	 */
+	public AerospikeQuery equal(String field, Serializable value) {
+		this.indexField = field;
+		this.begin = value;
+		this.end = null;
+		return this;
+	}
+
+	/**
+	 * Sets a range index filter on the given indexed field. Both the ends are
+	 * inclusive.
+	 *
+	 * @param field
+	 * @param begin
+	 * @param end
+	 * @return
+	 */
+	public AerospikeQuery range(String field, Serializable begin, Serializable end) {
+		this.indexField = field;
+		this.begin = begin;
+		this.end = end;
+		return this;
+	}
+
+	/**
+	 * Adds a server side predicate on the given field.
+	 *
+	 * @param field
+	 * @param operator
+	 * @param value
+	 * @return
+	 */
+	public AerospikeQuery and(String field, Operator operator, Serializable value) {
+		predicates.add(new Predicate(field, operator, value));
+		return this;
+	}
+
+	/**
+	 * Limits the number of entities returned by the query. The underlying
+	 * record set is closed as soon as the limit is reached.
+	 *
+	 * @param limit
+	 * @return
+	 */
+	public AerospikeQuery limit(int limit) {
+		this.limit = limit;
+		return this;
+	}
+
+	public String getIndexField() {
+		return indexField;
+	}
+
+	public Serializable getBegin() {
+		return begin;
+	}
+
+	public Serializable getEnd() {
+		return end;
+	}
+
+	public boolean isRange() {
+		return end != null;
+	}
+
+	public List<Predicate> getPredicates() {
+		return Collections.unmodifiableList(predicates);
+	}
+
+	public int getLimit() {
+		return limit;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("AerospikeQuery [indexField=").append(indexField).append(", begin=").append(begin).append(", end=").append(end)
+				.append(", predicates=").append(predicates).append(", limit=").append(limit).append("]");
+		return builder.toString();
+	}
+
+	/**
+	 * A single server side condition on an entity field.
+	 */
+	public static class Predicate {
+		private final String		field;
+		private final Operator		operator;
+		private final Serializable	value;
+
+		public Predicate(String field, Operator operator, Serializable value) {
+			this.field = field;
+			this.operator = operator;
+			this.value = value;
+		}
+
+		public String getField() {
+			return field;
+		}
+
+		public Operator getOperator() {
+			return operator;
+		}
+
+		public Serializable getValue() {
+			return value;
+		}
+
+		@Override
+		public String toString() {
+			return field + " " + operator + " " + value;
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.operations;
+
+import com.aerospike.client.policy.RecordExistsAction;
+
+/**
+ * Overrides of the class policy for a single operation. Options are immutable
+ * and can be kept as constants; each of the with methods returns a new
+ * instance. Settings which aren't overridden are taken from the class policy.
+ * <p>
+ * Operations don't build a policy per call; the class policy with the options
+ * applied is built once and reused for all the calls with equal options.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public final class CallOptions {
+	/**
+	 * No overrides; the class policy is used as is.
+	 */
+	public static final CallOptions		NONE	= new CallOptions(null, null, null);
+	/**
+	 * Total timeout in millis.
+	 */
+	private final Integer				timeout;
+	/**
+	 * Action of writes when the record exists.
+	 */
+	private final RecordExistsAction	recordExistsAction;
+	/**
+	 * Expiration in seconds of the written records. -1 means never expire.
+	 */
+	private final Integer				expiration;
+
+	private CallOptions(Integer timeout, RecordExistsAction recordExistsAction, Integer expiration) {
+		this.timeout = timeout;
+		this.recordExistsAction = recordExistsAction;
+		this.expiration = expiration;
+	}
+
+	public CallOptions withTimeout(int timeout) {
+		return new CallOptions(timeout, recordExistsAction, expiration);
+	}
+
+	public CallOptions withRecordExistsAction(RecordExistsAction recordExistsAction) {
+		return new CallOptions(timeout, recordExistsAction, expiration);
+	}
+
+	public CallOptions withExpiration(int expiration) {
+		return new CallOptions(timeout, recordExistsAction, expiration);
+	}
+
+	public Integer getTimeout() {
+		return timeout;
+	}
+
+	public RecordExistsAction getRecordExistsAction() {
+		return recordExistsAction;
+	}
+
+	public Integer getExpiration() {
+		return expiration;
+	}
+
+	/**
+	 * 
+	 * @return whether any of the settings is overridden.
+	 */
+	public boolean isEmpty() {
+		return timeout == null && recordExistsAction == null && expiration == null;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof CallOptions)) {
+			return false;
+		}
+		CallOptions other = (CallOptions) obj;
+		return equal(timeout, other.timeout) && recordExistsAction == other.recordExistsAction && equal(expiration, other.expiration);
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = timeout != null ? timeout : 0;
+		hash = 31 * hash + (recordExistsAction != null ? recordExistsAction.hashCode() : 0);
+		return 31 * hash + (expiration != null ? expiration : 0);
+	}
+
+	@Override
+	public String toString() {
+		return "CallOptions [timeout=" + timeout + ", recordExistsAction=" + recordExistsAction + ", expiration=" + expiration + "]";
+	}
+
+	private static boolean equal(Integer value1, Integer value2) {
+		return value1 == null ? value2 == null : value1.equals(value2);
+	}
+}
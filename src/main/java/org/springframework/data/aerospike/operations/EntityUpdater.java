@@ -0,0 +1,40 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.operations;
+
+import java.io.Serializable;
+
+/**
+ * Computes the new state of an entity from its current state. Used by
+ * {@link AerospikeOperations#compute(Serializable, Class, EntityUpdater)}, it
+ * may be invoked several times if the record is concurrently modified, so it
+ * should not have side effects.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public interface EntityUpdater<T extends Serializable> {
+	/**
+	 * Returns the entity to be written. Current entity is null if the record
+	 * doesn't exist. Returning null skips the write.
+	 * 
+	 * @param current
+	 * @return
+	 */
+	public T update(T current);
+}
@@ -0,0 +1,126 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.operations;
+
+import java.io.Serializable;
+
+/**
+ * Describes an operation on a single entity field which can be executed
+ * atomically along with other operations on the same record through
+ * {@link AerospikeOperations#operate(Serializable, Class, FieldOperation...)}.
+ * Fields are referred by their java field names.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class FieldOperation {
+	/**
+	 * Type of the operation.
+	 */
+	public static enum Type {
+		ADD, APPEND, PREPEND, TOUCH, READ, READ_ALL;
+	}
+
+	private final Type			type;
+	private final String		field;
+	private final Serializable	value;
+
+	private FieldOperation(Type type, String field, Serializable value) {
+		this.type = type;
+		this.field = field;
+		this.value = value;
+	}
+
+	/**
+	 * Adds the given value to a numeric (Integer/Long) field.
+	 *
+	 * @param field
+	 * @param value
+	 * @return
+	 */
+	public static FieldOperation add(String field, long value) {
+		return new FieldOperation(Type.ADD, field, value);
+	}
+
+	/**
+	 * Appends the given value to a String field.
+	 *
+	 * @param field
+	 * @param value
+	 * @return
+	 */
+	public static FieldOperation append(String field, String value) {
+		return new FieldOperation(Type.APPEND, field, value);
+	}
+
+	/**
+	 * Prepends the given value to a String field.
+	 *
+	 * @param field
+	 * @param value
+	 * @return
+	 */
+	public static FieldOperation prepend(String field, String value) {
+		return new FieldOperation(Type.PREPEND, field, value);
+	}
+
+	/**
+	 * Resets the expiration of the record as per write policy of the entity.
+	 *
+	 * @return
+	 */
+	public static FieldOperation touch() {
+		return new FieldOperation(Type.TOUCH, null, null);
+	}
+
+	/**
+	 * Reads the given field after all the write operations have been applied.
+	 *
+	 * @param field
+	 * @return
+	 */
+	public static FieldOperation read(String field) {
+		return new FieldOperation(Type.READ, field, null);
+	}
+
+	/**
+	 * Reads all the fields after all the write operations have been applied.
+	 *
+	 * @return
+	 */
+	public static FieldOperation readAll() {
+		return new FieldOperation(Type.READ_ALL, null, null);
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	public String getField() {
+		return field;
+	}
+
+	public Serializable getValue() {
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		return type + (field != null ? " " + field : "") + (value != null ? " " + value : "");
+	}
+}
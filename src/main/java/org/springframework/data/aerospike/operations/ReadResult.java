@@ -0,0 +1,55 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.operations;
+
+import java.io.Serializable;
+
+/**
+ * Entity returned by
+ * {@link AerospikeOperations#getWithFallback(Serializable, Class)} along with
+ * whether it has been served from the locally kept copy because the cluster
+ * couldn't be reached.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class ReadResult<V extends Serializable> {
+	private final V			value;
+	/**
+	 * True if the value is a copy read earlier and may be outdated.
+	 */
+	private final boolean	stale;
+
+	public ReadResult(V value, boolean stale) {
+		this.value = value;
+		this.stale = stale;
+	}
+
+	public V getValue() {
+		return value;
+	}
+
+	public boolean isStale() {
+		return stale;
+	}
+
+	@Override
+	public String toString() {
+		return "ReadResult [value=" + value + ", stale=" + stale + "]";
+	}
+}
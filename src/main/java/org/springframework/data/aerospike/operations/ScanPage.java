@@ -0,0 +1,60 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.operations;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A page of entities returned by
+ * {@link AerospikeOperations#scan(Class, int, String)}. The resume token is an
+ * opaque value which should be passed back to fetch the next page. It is null
+ * once the whole set has been scanned. The token holds the node being scanned
+ * and the digest of the last record returned from it. If that node leaves the
+ * cluster the scan resumes from the next node.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class ScanPage<T extends Serializable> {
+	/**
+	 * Entities read in this page.
+	 */
+	private final List<T>	entities;
+	/**
+	 * Token to resume the scan from where this page has stopped.
+	 */
+	private final String	resumeToken;
+
+	public ScanPage(List<T> entities, String resumeToken) {
+		this.entities = entities;
+		this.resumeToken = resumeToken;
+	}
+
+	public List<T> getEntities() {
+		return entities;
+	}
+
+	public String getResumeToken() {
+		return resumeToken;
+	}
+
+	public boolean hasNext() {
+		return resumeToken != null;
+	}
+}
@@ -17,30 +17,99 @@
 package org.springframework.data.aerospike.operations.impl;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.aerospike.breaker.CircuitBreaker;
+import org.springframework.data.aerospike.breaker.CircuitState;
+import org.springframework.data.aerospike.cache.LocalCache;
 import org.springframework.data.aerospike.client.Client;
+import org.springframework.data.aerospike.configuration.AerospikeConfigurations;
+import org.springframework.data.aerospike.configuration.BackoffPolicy;
+import org.springframework.data.aerospike.configuration.CircuitBreakerPolicy;
+import org.springframework.data.aerospike.configuration.PolicyUtils;
+import org.springframework.data.aerospike.exceptions.AerospikeCircuitOpenException;
 import org.springframework.data.aerospike.exceptions.AerospikeException;
+import org.springframework.data.aerospike.exceptions.AerospikeIncompatibleEntityException;
+import org.springframework.data.aerospike.exceptions.AerospikeInvalidQueryException;
+import org.springframework.data.aerospike.exceptions.AerospikeLimitExceededException;
+import org.springframework.data.aerospike.exceptions.AerospikeOptimisticLockingException;
 import org.springframework.data.aerospike.exceptions.AerospikePrimaryKeyNotDefinedException;
+import org.springframework.data.aerospike.exceptions.AerospikeRecordTooLargeException;
+import org.springframework.data.aerospike.limiter.ConcurrencyLimiter;
+import org.springframework.data.aerospike.limiter.Permit;
 import org.springframework.data.aerospike.logger.PerformanceMonitor;
 import org.springframework.data.aerospike.mapper.EntityMapper;
+import org.springframework.data.aerospike.metrics.MetricsRegistry;
+import org.springframework.data.aerospike.metrics.OperationContext;
+import org.springframework.data.aerospike.metrics.OperationPhase;
+import org.springframework.data.aerospike.metrics.jfr.FlightRecorderEvents;
 import org.springframework.data.aerospike.mapper.EntityStructure;
 import org.springframework.data.aerospike.mapper.EntityStructure.Index;
+import org.springframework.data.aerospike.mapper.PersistableField;
 import org.springframework.data.aerospike.operations.AerospikeOperations;
+import org.springframework.data.aerospike.operations.AerospikeQuery;
+import org.springframework.data.aerospike.operations.AerospikeQuery.Predicate;
+import org.springframework.data.aerospike.operations.CallOptions;
+import org.springframework.data.aerospike.operations.EntityUpdater;
+import org.springframework.data.aerospike.operations.FieldOperation;
+import org.springframework.data.aerospike.operations.OperationType;
+import org.springframework.data.aerospike.operations.ReadResult;
+import org.springframework.data.aerospike.operations.ScanPage;
+import org.springframework.data.aerospike.operations.impl.UnitOfWork.PendingWrite;
+import org.springframework.data.aerospike.slowlog.SlowOperationLog;
+import org.springframework.data.aerospike.udf.UdfModuleRegistry;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.aerospike.client.Bin;
 import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
 import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.ScanCallback;
 import com.aerospike.client.Value;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.GenerationPolicy;
 import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.ScanPolicy;
+import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.client.query.Filter;
 import com.aerospike.client.query.IndexType;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.PredExp;
+import com.aerospike.client.query.RegexFlag;
+import com.aerospike.client.query.ResultSet;
 import com.aerospike.client.query.Statement;
 
 /**
@@ -56,6 +125,10 @@ public class AerospikeOperationsImpl implements AerospikeOperations {
 	 * 
 	 */
 	private static final Logger	LOGGER			= LoggerFactory.getLogger(AerospikeOperations.class);
+	/**
+	 * Lua module holding built-in aggregations.
+	 */
+	private static final String	BUILT_IN_AGGREGATIONS	= "aggregations";
 
 	@Autowired
 	private EntityMapper		entityMapper;
@@ -63,15 +136,94 @@ public class AerospikeOperationsImpl implements AerospikeOperations {
 	@Autowired
 	private Client				client;
 
+	@Autowired
+	private UdfModuleRegistry	udfModuleRegistry;
+
+	@Autowired
+	private AerospikeConfigurations	aerospikeConfigurations;
+
+	@Autowired
+	private HedgedReadExecutor	hedgedReadExecutor;
+
+	@Autowired
+	private ConcurrencyLimiter	concurrencyLimiter;
+
+	@Autowired
+	private CircuitBreaker		circuitBreaker;
+
+	@Autowired
+	private MetricsRegistry		metricsRegistry;
+
+	@Autowired
+	private SlowOperationLog	slowOperationLog;
+	/**
+	 * Backoff between retries of {@link #compute(Serializable, Class, EntityUpdater)}.
+	 */
+	private BackoffPolicy		optimisticLockingBackoff;
+	/**
+	 * Writes the changes of a unit of work in parallel at commit. Null if
+	 * unit of work is disabled.
+	 */
+	private ExecutorService		unitOfWorkExecutor;
+	/**
+	 * Entities recently read per class, served by
+	 * {@link #getWithFallback(Serializable, Class)} while the circuit is open.
+	 * Null if circuit breaker or stale reads are disabled.
+	 */
+	private ConcurrentHashMap<String, LocalCache>	staleCaches;
+	private CircuitBreakerPolicy	circuitBreakerPolicy;
+	/**
+	 * Class policies with per call options applied.
+	 */
+	private final PolicyVariants	policyVariants	= new PolicyVariants();
+
+	@PostConstruct
+	public void initialize() {
+		optimisticLockingBackoff = aerospikeConfigurations.optimisticLockingBackoff();
+		circuitBreakerPolicy = aerospikeConfigurations.circuitBreakerPolicy();
+		if (circuitBreakerPolicy.isEnabled() && circuitBreakerPolicy.getStaleMaxEntries() > 0) {
+			staleCaches = new ConcurrentHashMap<String, LocalCache>();
+		}
+		if (aerospikeConfigurations.isUnitOfWorkEnabled()) {
+			unitOfWorkExecutor = Executors.newFixedThreadPool(aerospikeConfigurations.getUnitOfWorkFlushThreads(), new ThreadFactory() {
+				private final AtomicInteger	counter	= new AtomicInteger();
+
+				@Override
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable, "aerospike-unit-of-work-" + counter.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+	}
+
+	@PreDestroy
+	public void destroy() {
+		if (unitOfWorkExecutor != null) {
+			unitOfWorkExecutor.shutdown();
+		}
+	}
+
 	@Override
 	public void put(Serializable entity) throws AerospikeException {
+		put(entity, CallOptions.NONE);
+	}
+
+	@Override
+	public void put(Serializable entity, CallOptions options) throws AerospikeException {
 		EntityStructure structure = entityMapper.getEntityStructure(entity.getClass());
 		// Create indexes in database
 		if (!structure.isIndexesInitialized()) {
 			addEntityIndex(structure);
 		}
-		client.getAerospikeClient().put(structure.getWritePolicy(), createKey(structure, entityMapper.getPrimaryKey(structure, entity)),
-				entityMapper.getBins(entity));
+		Key key = createKey(structure, entityMapper.getPrimaryKey(structure, entity));
+		UnitOfWork unitOfWork = currentUnitOfWork();
+		if (unitOfWork != null) {
+			defer(unitOfWork, structure, key, entity, options);
+			return;
+		}
+		write(structure, key, entity, options);
 	}
 
 	@Override
@@ -81,8 +233,13 @@ public class AerospikeOperationsImpl implements AerospikeOperations {
 		if (!structure.isIndexesInitialized()) {
 			addEntityIndex(structure);
 		}
-		client.getAerospikeClient().put(structure.getWritePolicy(), createKey(namespace, set, entityMapper.getPrimaryKey(structure, entity)),
-				entityMapper.getBins(entity));
+		Key key = createKey(namespace, set, entityMapper.getPrimaryKey(structure, entity));
+		UnitOfWork unitOfWork = currentUnitOfWork();
+		if (unitOfWork != null) {
+			defer(unitOfWork, structure, key, entity, CallOptions.NONE);
+			return;
+		}
+		write(structure, key, entity, CallOptions.NONE);
 	}
 
 	@Override
@@ -93,77 +250,416 @@ public class AerospikeOperationsImpl implements AerospikeOperations {
 
 	@Override
 	public <T extends Serializable> T get(String namespace, String set, Serializable key, Class clazz) {
-		Record record = client.getAerospikeClient().get(client.getAerospikeClient().readPolicyDefault, createKey(namespace, set, key));
+		Record record = client.getAerospikeClient().get(client.getAerospikeClient().getReadPolicyDefault(), createKey(namespace, set, key));
 		return entityMapper.reverseMap(record, clazz);
 	}
 
 	@Override
 	public <K extends Serializable, V extends Serializable> V get(K key, Class<? extends Serializable> clazz) throws AerospikeException {
+		return get(key, clazz, CallOptions.NONE);
+	}
+
+	@Override
+	public <K extends Serializable, V extends Serializable> V get(K key, Class<? extends Serializable> clazz, CallOptions options)
+			throws AerospikeException {
 		EntityStructure structure = entityMapper.getEntityStructure(clazz);
-		Record record = client.getAerospikeClient().get(structure.getPolicy(), createKey(structure, key));
-		return entityMapper.reverseMap(record, clazz);
+		Key recordKey = createKey(structure, key);
+		PendingWrite pending = getPendingWrite(recordKey);
+		if (pending != null && (pending.isRemove() || clazz.isInstance(pending.getEntity()))) {
+			return getPendingEntity(pending);
+		}
+		V value;
+		// Begun here so the mapping of the record read is part of the operation
+		boolean phased = metricsRegistry.beginPhases(structure.getClazzName(), OperationType.READ);
+		try {
+			value = entityMapper.reverseMap(read(structure, recordKey, options), clazz);
+		} finally {
+			if (phased) {
+				metricsRegistry.endPhases();
+			}
+		}
+		if (staleCaches != null) {
+			getStaleCache(structure).put(recordKey, value);
+		}
+		return value;
+	}
+
+	@Override
+	public <K extends Serializable, V extends Serializable> ReadResult<V> getWithFallback(K key, Class<V> clazz) throws AerospikeException {
+		try {
+			return new ReadResult<V>(this.<K, V> get(key, clazz), false);
+		} catch (AerospikeCircuitOpenException e) {
+			return readStale(key, clazz, e);
+		} catch (com.aerospike.client.AerospikeException e) {
+			EntityStructure structure = entityMapper.getEntityStructure(clazz);
+			if (circuitBreaker.getState(structure.getNameSpace(), structure.getSet()) != CircuitState.OPEN) {
+				throw e;
+			}
+			// This failure has opened the circuit
+			return readStale(key, clazz, new AerospikeCircuitOpenException("Read of key: " + key + " of class: " + clazz.getName() + " failed", e));
+		}
 	}
 
 	@Override
 	public <K extends Serializable, V extends Serializable> Map<K, V> get(K[] key, Class<? extends Serializable> clazz) throws AerospikeException {
+		return get(key, clazz, CallOptions.NONE);
+	}
+
+	@Override
+	public <K extends Serializable, V extends Serializable> Map<K, V> get(K[] key, Class<? extends Serializable> clazz, CallOptions options)
+			throws AerospikeException {
 		EntityStructure structure = entityMapper.getEntityStructure(clazz);
-		Key[] keys = new Key[key.length];
+		final Key[] keys = new Key[key.length];
 		for (int i = 0; i < key.length; i++) {
 			keys[i] = createKey(structure, key[i]);
 		}
-		Record[] records = client.getAerospikeClient().get(structure.getBatchPolicy(), keys);
-		if (records != null) {
-			return entityMapper.reverseMap(key, records, clazz);
+		final BatchPolicy policy = policyVariants.get(structure.getBatchPolicy(), options);
+		Map<K, V> values;
+		// Begun here so the mapping of the records read is part of the operation
+		boolean phased = metricsRegistry.beginPhases(structure.getClazzName(), OperationType.BATCH_READ);
+		try {
+			Record[] records = call(structure, OperationType.BATCH_READ, keys, new Call<Record[]>() {
+				@Override
+				Record[] execute() {
+					Record[] records = client.getAerospikeClient().get(policy, keys);
+					FlightRecorderEvents.operationKeys(keys.length);
+					return records;
+				}
+
+				@Override
+				int records(Record[] records) {
+					return found(records);
+				}
+			});
+			if (records == null) {
+				return null;
+			}
+			values = entityMapper.reverseMap(key, records, clazz);
+		} finally {
+			if (phased) {
+				metricsRegistry.endPhases();
+			}
+		}
+		UnitOfWork unitOfWork = getUnitOfWork();
+		if (unitOfWork == null) {
+			return values;
+		}
+		// Overlay the changes pending in the transaction
+		Map<K, V> merged = null;
+		for (int i = 0; i < key.length; i++) {
+			PendingWrite pending = unitOfWork.get(keys[i]);
+			if (pending != null && (pending.isRemove() || clazz.isInstance(pending.getEntity()))) {
+				if (merged == null) {
+					merged = new HashMap<K, V>(values);
+				}
+				if (pending.isRemove()) {
+					merged.remove(key[i]);
+				} else {
+					merged.put(key[i], this.<V> getPendingEntity(pending));
+				}
+			}
+		}
+		return merged != null ? merged : values;
+	}
+
+	@Override
+	public <K extends Serializable, V extends Serializable> V compute(K key, Class<V> clazz, EntityUpdater<V> updater) throws AerospikeException {
+		EntityStructure structure = entityMapper.getEntityStructure(clazz);
+		if (structure.getVersionField() == null) {
+			throw new AerospikeIncompatibleEntityException(clazz.getName() + " doesn't have a field annotated with @AerospikeVersion. Can't compute");
+		}
+		if (!structure.isIndexesInitialized()) {
+			addEntityIndex(structure);
+		}
+		flushPendingWrite(createKey(structure, key));
+		for (int retry = 0;; retry++) {
+			V current = get(key, clazz);
+			int version = current != null ? entityMapper.getVersion(structure, current) : 0;
+			V updated = updater.update(current);
+			if (updated == null) {
+				return current;
+			}
+			// Updater may return a new instance, write it against the generation read
+			entityMapper.setVersion(structure, updated, version);
+			try {
+				write(structure, createKey(structure, key), updated, CallOptions.NONE);
+				return updated;
+			} catch (AerospikeOptimisticLockingException e) {
+				if (retry >= optimisticLockingBackoff.getMaxRetries()) {
+					throw e;
+				}
+				long delay = optimisticLockingBackoff.delay(retry);
+				LOGGER.debug("Key: {} of class: {} modified concurrently. Retry: {} after {}ms", key, clazz, retry + 1, delay);
+				try {
+					Thread.sleep(delay);
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					throw new AerospikeOptimisticLockingException("Interrupted while retrying compute for key: " + key + " of class: "
+							+ clazz.getName(), ie);
+				}
+			}
+		}
+	}
+
+	@Override
+	public <K extends Serializable, V extends Serializable> V operate(K key, Class<? extends Serializable> clazz, FieldOperation... operations)
+			throws AerospikeException {
+		return operate(key, clazz, CallOptions.NONE, operations);
+	}
+
+	@Override
+	public <K extends Serializable, V extends Serializable> V operate(K key, Class<? extends Serializable> clazz, CallOptions options,
+			FieldOperation... operations) throws AerospikeException {
+		EntityStructure structure = entityMapper.getEntityStructure(clazz);
+		List<Operation> ops = new ArrayList<Operation>(operations.length * 2);
+		Set<String> readBins = new LinkedHashSet<String>();
+		boolean readAll = false;
+		for (FieldOperation operation : operations) {
+			switch (operation.getType()) {
+			case ADD:
+				String binName = getOperationBinName(structure, operation, true);
+				ops.add(Operation.add(new Bin(binName, ((Number) operation.getValue()).longValue())));
+				readBins.add(binName);
+				break;
+			case APPEND:
+				binName = getOperationBinName(structure, operation, false);
+				ops.add(Operation.append(new Bin(binName, (String) operation.getValue())));
+				readBins.add(binName);
+				break;
+			case PREPEND:
+				binName = getOperationBinName(structure, operation, false);
+				ops.add(Operation.prepend(new Bin(binName, (String) operation.getValue())));
+				readBins.add(binName);
+				break;
+			case TOUCH:
+				ops.add(Operation.touch());
+				break;
+			case READ:
+				if (structure.getPersistableField(operation.getField()) == null) {
+					throw new AerospikeInvalidQueryException("Field: " + operation.getField() + " is not persisted for class: " + structure.getClazzName());
+				}
+				readBins.add(structure.getBinName(operation.getField()));
+				break;
+			case READ_ALL:
+				readAll = true;
+				break;
+			}
+		}
+		// Reads are placed after writes so the updated values are returned
+		if (readAll) {
+			ops.add(Operation.get());
+		} else if (readBins.isEmpty()) {
+			ops.add(Operation.getHeader());
+		} else {
+			for (String binName : readBins) {
+				ops.add(Operation.get(binName));
+			}
 		}
-		return null;
+		final Key recordKey = createKey(structure, key);
+		flushPendingWrite(recordKey);
+		final WritePolicy policy = policyVariants.get(structure.getWritePolicy(), options);
+		final Operation[] operationArray = ops.toArray(new Operation[ops.size()]);
+		Record record = call(structure, OperationType.OPERATE, recordKey, new Call<Record>() {
+			@Override
+			Record execute() {
+				return client.getAerospikeClient().operate(policy, recordKey, operationArray);
+			}
+		});
+		return entityMapper.reverseMap(record, clazz);
 	}
 
 	@Override
 	public List<? extends Serializable> query(Class clazz, String key, Serializable start, Serializable end) throws AerospikeException {
+		return query(clazz, key, start, end, 0);
+	}
+
+	@Override
+	public List<? extends Serializable> query(Class clazz, String key, Serializable value) throws AerospikeException {
+		return query(clazz, key, value, 0);
+	}
+
+	@Override
+	public List<? extends Serializable> query(Class clazz, String key, Serializable start, Serializable end, int limit) throws AerospikeException {
 		EntityStructure structure = entityMapper.getEntityStructure(clazz);
 		Index index = structure.getSecondaryIndexes().get(key);
 		if (index == null) {
 			LOGGER.warn("Querying key: {} for class: {} hasn't been indexed. It is advised to add index before querying...", key, clazz);
 			return null;
 		}
-		Statement stmt = new Statement();
-		stmt.setNamespace(structure.getNameSpace());
-		stmt.setSetName(structure.getSet());
-		if (start instanceof Integer || start instanceof Long) {
-			stmt.setFilters(Filter.range(key, ((Number) start).longValue(), ((Number) end).longValue()));
-		} else {
-			stmt.setFilters(Filter.range(key, Value.get(start), Value.get(end)));
-		}
+		Statement stmt = createStatement(structure);
+		stmt.setFilters(createRangeFilter(structure.getBinName(key), start, end));
 		// Execute the query and return results
-		return entityMapper.reverseMap(client.getAerospikeClient().query(null, stmt), clazz);
+		return query(structure, clazz, stmt, new AerospikeQuery().range(key, start, end).limit(limit));
 	}
 
 	@Override
-	public List<? extends Serializable> query(Class clazz, String key, Serializable value) throws AerospikeException {
+	public List<? extends Serializable> query(Class clazz, String key, Serializable value, int limit) throws AerospikeException {
 		EntityStructure structure = entityMapper.getEntityStructure(clazz);
 		Index index = structure.getSecondaryIndexes().get(key);
 		if (index == null) {
 			LOGGER.warn("Querying key: {} for class: {} hasn't been indexed. It is advised to add index before querying...", key, clazz);
 			return null;
 		}
-		Statement stmt = new Statement();
-		stmt.setNamespace(structure.getNameSpace());
-		stmt.setSetName(structure.getSet());
-		if (value instanceof Integer || value instanceof Long) {
-			stmt.setFilters(Filter.equal(key, ((Number) value).longValue()));
-		} else if (value instanceof String) {
-			stmt.setFilters(Filter.equal(key, (String) value));
-		} else {
-			stmt.setFilters(Filter.equal(key, Value.get(value)));
+		Statement stmt = createStatement(structure);
+		stmt.setFilters(createEqualFilter(structure.getBinName(key), value));
+		// Execute the query and return results
+		return query(structure, clazz, stmt, new AerospikeQuery().equal(key, value).limit(limit));
+	}
+
+	@Override
+	public <T extends Serializable> List<T> query(Class<T> clazz, AerospikeQuery query) throws AerospikeException {
+		EntityStructure structure = entityMapper.getEntityStructure(clazz);
+		String key = query.getIndexField();
+		Index index = key != null ? structure.getSecondaryIndexes().get(key) : null;
+		if (index == null) {
+			LOGGER.warn("Querying key: {} for class: {} hasn't been indexed. It is advised to add index before querying...", key, clazz);
+			return null;
 		}
 		// Execute the query and return results
-		return entityMapper.reverseMap(client.getAerospikeClient().query(null, stmt), clazz);
+		return query(structure, clazz, createStatement(structure, query), query);
+	}
+
+	@Override
+	public <T extends Serializable> ScanPage<T> scan(final Class<T> clazz, final int pageSize, String resumeToken) throws AerospikeException {
+		if (pageSize < 1) {
+			throw new AerospikeInvalidQueryException("Page size of scan should be at least 1, found: " + pageSize);
+		}
+		final EntityStructure structure = entityMapper.getEntityStructure(clazz);
+		// Nodes are scanned one after the other in the order of their names.
+		// The cursor is the node being scanned and the last digest returned
+		// from it, so a page only scans the nodes from the cursor onwards.
+		final List<String> nodeNames = getScanNodeNames();
+		ScanCursor cursor = resumeToken != null ? decodeResumeToken(resumeToken) : new ScanCursor(nodeNames.get(0), null);
+		int node = 0;
+		while (node < nodeNames.size() && nodeNames.get(node).compareTo(cursor.nodeName) < 0) {
+			node++;
+		}
+		final int startNode = node;
+		// Node of the cursor has left the cluster, resume from the next one
+		final byte[] startAfter = node < nodeNames.size() && nodeNames.get(node).equals(cursor.nodeName) ? cursor.digest : null;
+		return call(structure, OperationType.SCAN, scanTarget(pageSize), new Call<ScanPage<T>>() {
+			@Override
+			ScanPage<T> execute() {
+				List<T> values = new ArrayList<T>(Math.min(pageSize, 1024));
+				int node = startNode;
+				for (byte[] after = startAfter; node < nodeNames.size() && values.size() < pageSize; node++, after = null) {
+					int remaining = pageSize - values.size();
+					AtomicLong matched = new AtomicLong();
+					List<KeyRecord> records = scanNode(structure, nodeNames.get(node), after, remaining, matched);
+					for (KeyRecord record : records) {
+						values.add(entityMapper.<T> reverseMap(record.record, clazz));
+					}
+					if (matched.get() > remaining) {
+						return new ScanPage<T>(values, encodeResumeToken(new ScanCursor(nodeNames.get(node), records.get(records.size() - 1).key.digest)));
+					}
+				}
+				// Page filled up at the end of a node
+				return new ScanPage<T>(values, node < nodeNames.size() ? encodeResumeToken(new ScanCursor(nodeNames.get(node), null)) : null);
+			}
+
+			@Override
+			int records(ScanPage<T> page) {
+				return page.getEntities().size();
+			}
+		});
+	}
+
+	@Override
+	public List<Object> aggregate(Class clazz, AerospikeQuery query, String module, String function, Serializable... args) throws AerospikeException {
+		EntityStructure structure = entityMapper.getEntityStructure(clazz);
+		if (query.getIndexField() == null || !structure.getSecondaryIndexes().containsKey(query.getIndexField())) {
+			throw new AerospikeInvalidQueryException("Aggregation on class: " + structure.getClazzName() + " requires filter on an indexed field, found: "
+					+ query.getIndexField());
+		}
+		Statement stmt = createStatement(structure, query);
+		Value[] functionArgs = new Value[args.length];
+		for (int i = 0; i < args.length; i++) {
+			functionArgs[i] = Value.get(args[i]);
+		}
+		// Final reduce runs in the client so the module source is needed locally
+		String resourcePath = udfModuleRegistry.getResourcePath(module);
+		if (resourcePath != null) {
+			stmt.setAggregateFunction(Thread.currentThread().getContextClassLoader(), resourcePath, module, function, functionArgs);
+		} else {
+			stmt.setAggregateFunction(module, function, functionArgs);
+		}
+		final Statement aggregation = stmt;
+		return call(structure, OperationType.QUERY, query, new Call<List<Object>>() {
+			@Override
+			List<Object> execute() {
+				List<Object> results = new ArrayList<Object>();
+				ResultSet resultSet = client.getAerospikeClient().queryAggregate(null, aggregation);
+				try {
+					while (resultSet.next()) {
+						results.add(resultSet.getObject());
+					}
+				} finally {
+					resultSet.close();
+				}
+				return results;
+			}
+
+			@Override
+			int records(List<Object> results) {
+				return results.size();
+			}
+		});
+	}
+
+	@Override
+	public long count(Class clazz, AerospikeQuery query) throws AerospikeException {
+		Object result = aggregateSingle(clazz, query, "count");
+		return result != null ? ((Number) result).longValue() : 0;
+	}
+
+	@Override
+	public long sum(Class clazz, AerospikeQuery query, String field) throws AerospikeException {
+		Object result = aggregateSingle(clazz, query, "sum", getNativeBinName(entityMapper.getEntityStructure(clazz), field));
+		return result != null ? ((Number) result).longValue() : 0;
+	}
+
+	@Override
+	public Object min(Class clazz, AerospikeQuery query, String field) throws AerospikeException {
+		return aggregateSingle(clazz, query, "min", getNativeBinName(entityMapper.getEntityStructure(clazz), field));
+	}
+
+	@Override
+	public Object max(Class clazz, AerospikeQuery query, String field) throws AerospikeException {
+		return aggregateSingle(clazz, query, "max", getNativeBinName(entityMapper.getEntityStructure(clazz), field));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Map<Object, Long> groupBy(Class clazz, AerospikeQuery query, String field) throws AerospikeException {
+		Object result = aggregateSingle(clazz, query, "group_by", getNativeBinName(entityMapper.getEntityStructure(clazz), field));
+		if (result == null) {
+			return Collections.emptyMap();
+		}
+		Map<Object, Long> groups = new HashMap<Object, Long>();
+		for (Entry<Object, Object> entry : ((Map<Object, Object>) result).entrySet()) {
+			groups.put(entry.getKey(), ((Number) entry.getValue()).longValue());
+		}
+		return groups;
 	}
 
 	@Override
 	public boolean remove(Serializable key, Class<? extends Serializable> clazz) throws AerospikeException {
+		return remove(key, clazz, CallOptions.NONE);
+	}
+
+	@Override
+	public boolean remove(Serializable key, Class<? extends Serializable> clazz, CallOptions options) throws AerospikeException {
 		EntityStructure structure = entityMapper.getEntityStructure(clazz);
-		return client.getAerospikeClient().delete(structure.getWritePolicy(), createKey(structure, key));
+		Key recordKey = createKey(structure, key);
+		UnitOfWork unitOfWork = currentUnitOfWork();
+		if (unitOfWork != null) {
+			PendingWrite pending = unitOfWork.get(recordKey);
+			// Existence as seen by this transaction: its pending change, else the record
+			boolean existed = pending != null ? !pending.isRemove() : exists(key, clazz, options);
+			unitOfWork.remove(structure, recordKey, options);
+			return existed;
+		}
+		return delete(structure, recordKey, options);
 	}
 
 	@Override
@@ -173,8 +669,30 @@ public class AerospikeOperationsImpl implements AerospikeOperations {
 
 	@Override
 	public boolean exists(Serializable key, Class clazz) throws AerospikeException {
+		return exists(key, clazz, CallOptions.NONE);
+	}
+
+	@Override
+	public boolean exists(Serializable key, Class clazz, CallOptions options) throws AerospikeException {
 		EntityStructure structure = entityMapper.getEntityStructure(clazz);
-		return client.getAerospikeClient().exists(structure.getPolicy(), createKey(structure, key));
+		Key recordKey = createKey(structure, key);
+		PendingWrite pending = getPendingWrite(recordKey);
+		if (pending != null) {
+			return !pending.isRemove();
+		}
+		final Policy policy = policyVariants.get(structure.getPolicy(), options);
+		final Key existsKey = recordKey;
+		return call(structure, OperationType.READ, recordKey, new Call<Boolean>() {
+			@Override
+			Boolean execute() {
+				return client.getAerospikeClient().exists(policy, existsKey);
+			}
+
+			@Override
+			int records(Boolean exists) {
+				return exists ? 1 : 0;
+			}
+		});
 	}
 
 	@Override
@@ -183,50 +701,1017 @@ public class AerospikeOperationsImpl implements AerospikeOperations {
 	}
 
 	/**
-	 * Replicates all the indexes defined in the entity to database.
+	 * Writes the bins of the given entity. If the entity has a version field
+	 * the write succeeds only if the record generation is still the one the
+	 * entity was read with (or the record doesn't exist for version 0), and
+	 * the version is advanced on success.
 	 * 
 	 * @param structure
+	 * @param key
+	 * @param entity
+	 * @param options
+	 * @throws AerospikeOptimisticLockingException
+	 * @throws AerospikeLimitExceededException
+	 * @throws AerospikeCircuitOpenException
+	 * @throws AerospikeRecordTooLargeException
 	 */
-	private void addEntityIndex(EntityStructure structure) {
-		for (Entry<String, Index> entry : structure.getSecondaryIndexes().entrySet()) {
-			//Check if indexes have already been done. This is done using a new set
-			// and using entity namespace and index set. If index is already set no need 
-			//to do any thing. Otherwise create index and set in the database
-			String indexName = entry.getValue().getIndexName();
-			Record record = client.getAerospikeClient().get(null, createKey(structure.getNameSpace(), "indexes", indexName));
-			if(record != null && 1 == record.getInt(indexName)) {
-				LOGGER.warn("Index: {} for class: {} has already been created. Skipping index creation for this field", entry.getValue().getIndexName(), structure.getClazzName());
-				continue;
+	private void write(EntityStructure structure, Key key, Serializable entity, CallOptions options) throws AerospikeOptimisticLockingException,
+			AerospikeLimitExceededException, AerospikeCircuitOpenException, AerospikeRecordTooLargeException {
+		// Bins first so an entity too large to write doesn't take a call of the circuit
+		Bin[] bins = entityMapper.getBins(entity);
+		int version = entityMapper.getVersion(structure, entity);
+		write(structure, key, bins, version, options);
+		if (version >= 0) {
+			entityMapper.setVersion(structure, entity, version + 1);
+		}
+	}
+
+	/**
+	 * Writes the given bins of an entity of the given version, -1 if the
+	 * entity isn't versioned.
+	 * 
+	 * @param structure
+	 * @param key
+	 * @param bins
+	 * @param version
+	 * @param options
+	 * @throws AerospikeOptimisticLockingException
+	 * @throws AerospikeLimitExceededException
+	 * @throws AerospikeCircuitOpenException
+	 */
+	private void write(EntityStructure structure, Key key, Bin[] bins, int version, CallOptions options) throws AerospikeOptimisticLockingException,
+			AerospikeLimitExceededException, AerospikeCircuitOpenException {
+		evictStale(structure, key);
+		WritePolicy writePolicy = policyVariants.get(structure.getWritePolicy(), options);
+		if (version < 0) {
+			put(structure, key, writePolicy, bins);
+			return;
+		}
+		WritePolicy policy = PolicyUtils.copy(writePolicy);
+		if (version == 0) {
+			policy.generationPolicy = GenerationPolicy.NONE;
+			policy.recordExistsAction = RecordExistsAction.CREATE_ONLY;
+		} else {
+			policy.generationPolicy = GenerationPolicy.EXPECT_GEN_EQUAL;
+			policy.generation = version;
+		}
+		try {
+			put(structure, key, policy, bins);
+		} catch (com.aerospike.client.AerospikeException e) {
+			if (e.getResultCode() == ResultCode.GENERATION_ERROR || e.getResultCode() == ResultCode.KEY_EXISTS_ERROR) {
+				throw new AerospikeOptimisticLockingException("Entity of class: " + structure.getClazzName() + " with version: " + version
+						+ " has been modified concurrently", e);
 			}
-			addIndex(structure.getPolicy(), structure.getNameSpace(), structure.getSet(), entry.getKey(), entry.getValue().getIndexName(), entry
-					.getValue().getIndexType());	
-			client.getAerospikeClient().put(null, createKey(structure.getNameSpace(), "indexes", indexName), new Bin(indexName, 1));
-			LOGGER.info("Index: {} for class: {} has been created", entry.getValue().getIndexName(), structure.getClazzName());
+			throw e;
 		}
-		structure.setIndexesInitialized(true);
 	}
 
 	/**
+	 * Puts the bins of the given key with the given policy.
 	 * 
-	 * @param namespace
-	 * @param set
+	 * @param structure
+	 * @param key
+	 * @param policy
+	 * @param bins
+	 * @throws AerospikeLimitExceededException
+	 * @throws AerospikeCircuitOpenException
+	 */
+	private void put(EntityStructure structure, final Key key, final WritePolicy policy, final Bin[] bins) throws AerospikeLimitExceededException,
+			AerospikeCircuitOpenException {
+		call(structure, OperationType.WRITE, key, new Call<Void>() {
+			@Override
+			Void execute() {
+				client.getAerospikeClient().put(policy, key, bins);
+				return null;
+			}
+
+			@Override
+			int records(Void result) {
+				return 1;
+			}
+		});
+	}
+
+	/**
+	 * Reads the record of the given key guarded by the circuit of its set.
+	 * 
+	 * @param structure
 	 * @param key
+	 * @param options
 	 * @return
+	 * @throws AerospikeLimitExceededException
+	 * @throws AerospikeCircuitOpenException
 	 */
-	private Key createKey(String namespace, String set, Object key) {
-		if (key instanceof Integer) {
-			return new Key(namespace, set, (Integer) key);
-		} else if (key instanceof Long) {
-			return new Key(namespace, set, (Long) key);
-		} else if (key instanceof String) {
-			return new Key(namespace, set, (String) key);
-		} else if (key instanceof byte[]) {
-			return new Key(namespace, set, (byte[]) key);
-		} else {
-			return new Key(namespace, set, Value.get(key));
+	private Record read(final EntityStructure structure, final Key key, CallOptions options) throws AerospikeLimitExceededException,
+			AerospikeCircuitOpenException {
+		final Policy policy = policyVariants.get(structure.getPolicy(), options);
+		return call(structure, OperationType.READ, key, new Call<Record>() {
+			@Override
+			Record execute() {
+				if (structure.getHedgePolicy().isEnabled()) {
+					return hedgedReadExecutor.get(structure, policy, key);
+				}
+				return client.getAerospikeClient().get(policy, key);
+			}
+		});
+	}
+
+	/**
+	 * Deletes the record of the given key guarded by the circuit of its set.
+	 * 
+	 * @param structure
+	 * @param key
+	 * @param options
+	 * @return whether the record existed.
+	 * @throws AerospikeLimitExceededException
+	 * @throws AerospikeCircuitOpenException
+	 */
+	private boolean delete(EntityStructure structure, final Key key, CallOptions options) throws AerospikeLimitExceededException,
+			AerospikeCircuitOpenException {
+		evictStale(structure, key);
+		final WritePolicy policy = policyVariants.get(structure.getWritePolicy(), options);
+		return call(structure, OperationType.DELETE, key, new Call<Boolean>() {
+			@Override
+			Boolean execute() {
+				return client.getAerospikeClient().delete(policy, key);
+			}
+
+			@Override
+			int records(Boolean existed) {
+				return existed ? 1 : 0;
+			}
+		});
+	}
+
+	/**
+	 * Runs the given statement and maps the records found.
+	 * 
+	 * @param structure
+	 * @param clazz
+	 * @param stmt
+	 * @param query
+	 *            the statement has been created from, for the slow operation
+	 *            log, and the limit of the records mapped.
+	 * @return
+	 */
+	private <T extends Serializable> List<T> query(EntityStructure structure, final Class clazz, final Statement stmt, final AerospikeQuery query)
+			throws AerospikeLimitExceededException, AerospikeCircuitOpenException {
+		return call(structure, OperationType.QUERY, query, new Call<List<T>>() {
+			@Override
+			List<T> execute() {
+				return entityMapper.reverseMap(client.query(null, stmt), clazz, query.getLimit());
+			}
+
+			@Override
+			int records(List<T> values) {
+				return values.size();
+			}
+		});
+	}
+
+	/**
+	 * 
+	 * @param records
+	 * @return records which have been found.
+	 */
+	private int found(Record[] records) {
+		int found = 0;
+		if (records != null) {
+			for (Record record : records) {
+				if (record != null) {
+					found++;
+				}
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Makes the given call of an operation to the cluster. The call takes a
+	 * permit of the concurrency limiter and, unless it is a query, a call of
+	 * the circuit of the set of the structure. Its latency, phases, outcome,
+	 * slow log entry and flight recorder event are recorded.
+	 * 
+	 * @param structure
+	 * @param type
+	 * @param target
+	 *            key, keys, query or scan the operation runs on; logged if
+	 *            the operation is slow.
+	 * @param call
+	 * @return result of the call.
+	 * @throws AerospikeLimitExceededException
+	 * @throws AerospikeCircuitOpenException
+	 */
+	private <T> T call(EntityStructure structure, OperationType type, Object target, Call<T> call) throws AerospikeLimitExceededException,
+			AerospikeCircuitOpenException {
+		boolean guarded = isGuarded(type);
+		Permit permit = guarded ? acquire(structure, type) : concurrencyLimiter.acquire(structure.getNameSpace(), type);
+		long startTime = started();
+		boolean phased = metricsRegistry.beginPhases(structure.getClazzName(), type);
+		OperationPhase previous = OperationContext.enter(OperationPhase.NETWORK);
+		try {
+			T result = call.execute();
+			succeeded(structure, type, startTime, target, call.records(result));
+			return result;
+		} catch (com.aerospike.client.AerospikeException e) {
+			failed(structure, type, startTime, target, e);
+			throw e;
+		} catch (Throwable e) {
+			if (guarded) {
+				circuitBreaker.onAbandoned(structure.getNameSpace(), structure.getSet());
+			}
+			throw e;
+		} finally {
+			OperationContext.enter(previous);
+			permit.release();
+			if (phased) {
+				metricsRegistry.endPhases();
+			}
 		}
 	}
 
+	/**
+	 * 
+	 * @param type
+	 * @return whether operations of the given type are guarded by the circuit
+	 *         breaker. Queries aren't, their failures often come from the
+	 *         query rather than from the health of the cluster.
+	 */
+	private boolean isGuarded(OperationType type) {
+		return type != OperationType.QUERY;
+	}
+
+	/**
+	 * Marks the start of an operation, once its permit has been acquired, and
+	 * begins its flight recorder event.
+	 * 
+	 * @return nano time the operation started at.
+	 */
+	private long started() {
+		FlightRecorderEvents.beginOperation();
+		return System.nanoTime();
+	}
+
+	/**
+	 * Records the success of an operation started at the given nano time.
+	 * Only the metrics are recorded for operations which aren't guarded by the
+	 * circuit breaker.
+	 * 
+	 * @param structure
+	 * @param type
+	 * @param start
+	 * @param target
+	 *            key, keys, query or scan the operation ran on; logged if the
+	 *            operation was slow.
+	 * @param records
+	 *            read, written or deleted by the operation.
+	 */
+	private void succeeded(EntityStructure structure, OperationType type, long start, Object target, int records) {
+		long nanos = System.nanoTime() - start;
+		metricsRegistry.recordOperation(structure.getClazzName(), type, nanos);
+		slowOperationLog.record(structure, type, nanos, target, records, ResultCode.OK);
+		FlightRecorderEvents.operationResults(records);
+		FlightRecorderEvents.commitOperation(type.name(), structure.getNameSpace(), structure.getSet(), structure.getClazzName(), keys(type),
+				ResultCode.OK);
+		if (isGuarded(type)) {
+			circuitBreaker.onSuccess(structure.getNameSpace(), structure.getSet());
+		}
+	}
+
+	/**
+	 * Records the failure of an operation started at the given nano time.
+	 * 
+	 * @param structure
+	 * @param type
+	 * @param start
+	 * @param target
+	 * @param error
+	 */
+	private void failed(EntityStructure structure, OperationType type, long start, Object target,
+			com.aerospike.client.AerospikeException error) {
+		long nanos = System.nanoTime() - start;
+		metricsRegistry.recordError(structure.getClazzName(), type, nanos, error.getResultCode());
+		slowOperationLog.record(structure, type, nanos, target, 0, error.getResultCode());
+		FlightRecorderEvents.commitOperation(type.name(), structure.getNameSpace(), structure.getSet(), structure.getClazzName(), keys(type),
+				error.getResultCode());
+		if (isGuarded(type)) {
+			circuitBreaker.onError(structure.getNameSpace(), structure.getSet(), error);
+		}
+	}
+
+	/**
+	 * 
+	 * @param pageSize
+	 * @return description of a scan page for the slow operation log.
+	 */
+	private String scanTarget(int pageSize) {
+		return "scan page of " + pageSize;
+	}
+
+	/**
+	 * 
+	 * @param type
+	 * @return keys of an operation of the given type, unless set by the
+	 *         operation itself.
+	 */
+	private int keys(OperationType type) {
+		return type == OperationType.QUERY || type == OperationType.SCAN ? 0 : 1;
+	}
+
+	/**
+	 * Acquires a permit of the concurrency limiter, then a call of the circuit
+	 * of the set of the structure, so a call rejected by the limiter never
+	 * takes a trial call of a half open circuit. An open circuit is checked
+	 * before so its rejections neither take nor count against limiter slots.
+	 * A call taken must end with {@link #succeeded}, {@link #failed} or, on
+	 * any other exit, {@link CircuitBreaker#onAbandoned(String, String)}.
+	 * 
+	 * @param structure
+	 * @param type
+	 * @return permit to release once the operation ends.
+	 * @throws AerospikeLimitExceededException
+	 * @throws AerospikeCircuitOpenException
+	 */
+	private Permit acquire(EntityStructure structure, OperationType type) throws AerospikeLimitExceededException,
+			AerospikeCircuitOpenException {
+		if (circuitBreaker.getState(structure.getNameSpace(), structure.getSet()) == CircuitState.OPEN) {
+			circuitBreaker.onRejected(structure.getNameSpace(), structure.getSet());
+			throw circuitOpen(structure);
+		}
+		Permit permit = concurrencyLimiter.acquire(structure.getNameSpace(), type);
+		try {
+			checkCircuit(structure);
+		} catch (AerospikeCircuitOpenException e) {
+			// Not sent to the cluster, its latency would skew the limit
+			permit.cancel();
+			throw e;
+		}
+		return permit;
+	}
+
+	/**
+	 * 
+	 * @param structure
+	 * @throws AerospikeCircuitOpenException
+	 *             if the circuit of the set of the structure is open.
+	 */
+	private void checkCircuit(EntityStructure structure) throws AerospikeCircuitOpenException {
+		if (!circuitBreaker.isCallPermitted(structure.getNameSpace(), structure.getSet())) {
+			throw circuitOpen(structure);
+		}
+	}
+
+	/**
+	 * 
+	 * @param structure
+	 * @return rejection of a call on the open circuit of the set of the
+	 *         structure.
+	 */
+	private AerospikeCircuitOpenException circuitOpen(EntityStructure structure) {
+		return new AerospikeCircuitOpenException("Circuit of set: " + structure.getSet() + " of namespace: " + structure.getNameSpace() + " is open");
+	}
+
+	/**
+	 * Returns the entity of the given key read before the circuit opened,
+	 * flagged as stale.
+	 * 
+	 * @param key
+	 * @param clazz
+	 * @param cause
+	 * @return
+	 * @throws AerospikeException
+	 *             the given cause if no entity is available.
+	 */
+	private <K extends Serializable, V extends Serializable> ReadResult<V> readStale(K key, Class<V> clazz, AerospikeCircuitOpenException cause)
+			throws AerospikeException {
+		if (staleCaches == null) {
+			throw cause;
+		}
+		EntityStructure structure = entityMapper.getEntityStructure(clazz);
+		LocalCache.Entry entry = getStaleCache(structure).get(createKey(structure, key));
+		if (entry == null) {
+			throw cause;
+		}
+		LOGGER.debug("Serving stale entity of key: {} for class: {}", key, clazz);
+		return new ReadResult<V>((V) entry.getValue(), true);
+	}
+
+	/**
+	 * 
+	 * @param structure
+	 * @return
+	 */
+	private LocalCache getStaleCache(EntityStructure structure) {
+		LocalCache cache = staleCaches.get(structure.getClazzName());
+		if (cache == null) {
+			LocalCache newCache = new LocalCache(circuitBreakerPolicy.getStaleMaxEntries(), circuitBreakerPolicy.getStaleMaxAge());
+			cache = staleCaches.putIfAbsent(structure.getClazzName(), newCache);
+			if (cache == null) {
+				cache = newCache;
+			}
+		}
+		return cache;
+	}
+
+	/**
+	 * Drops the entity of the given key so a stale read never returns a
+	 * version older than a write made through this instance.
+	 * 
+	 * @param structure
+	 * @param key
+	 */
+	private void evictStale(EntityStructure structure, Key key) {
+		LocalCache cache = staleCaches != null ? staleCaches.get(structure.getClazzName()) : null;
+		if (cache != null) {
+			cache.remove(key);
+		}
+	}
+
+	/**
+	 * Returns the unit of work of the current transaction, starting one if
+	 * the transaction doesn't have it yet. Returns null if there is no
+	 * transaction or unit of work is disabled.
+	 * 
+	 * @return
+	 */
+	private UnitOfWork currentUnitOfWork() {
+		if (unitOfWorkExecutor == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+		UnitOfWork unitOfWork = (UnitOfWork) TransactionSynchronizationManager.getResource(this);
+		if (unitOfWork == null) {
+			unitOfWork = new UnitOfWork();
+			TransactionSynchronizationManager.bindResource(this, unitOfWork);
+			TransactionSynchronizationManager.registerSynchronization(new UnitOfWorkSynchronization(unitOfWork));
+		}
+		return unitOfWork;
+	}
+
+	/**
+	 * Returns the unit of work of the current transaction without starting
+	 * one.
+	 * 
+	 * @return
+	 */
+	private UnitOfWork getUnitOfWork() {
+		if (unitOfWorkExecutor == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+		return (UnitOfWork) TransactionSynchronizationManager.getResource(this);
+	}
+
+	/**
+	 * 
+	 * @param key
+	 * @return change of the given key pending in the current transaction.
+	 */
+	private PendingWrite getPendingWrite(Key key) {
+		UnitOfWork unitOfWork = getUnitOfWork();
+		return unitOfWork != null ? unitOfWork.get(key) : null;
+	}
+
+	/**
+	 * Applies the change of the given key pending in the current transaction
+	 * right away. Used before atomic operations on the record so they aren't
+	 * overwritten by the pending change at commit.
+	 * 
+	 * @param key
+	 * @throws AerospikeException
+	 */
+	private void flushPendingWrite(Key key) throws AerospikeException {
+		UnitOfWork unitOfWork = getUnitOfWork();
+		PendingWrite pending = unitOfWork != null ? unitOfWork.take(key) : null;
+		if (pending != null) {
+			apply(pending);
+		}
+	}
+
+	/**
+	 * Writes all the changes of the unit of work in parallel and waits for
+	 * them to complete.
+	 * 
+	 * @param unitOfWork
+	 * @throws TransactionSystemException
+	 *             if any of the changes fails. The changes which succeeded
+	 *             are not reverted.
+	 */
+	private void flushUnitOfWork(UnitOfWork unitOfWork) {
+		Collection<PendingWrite> writes = unitOfWork.drain();
+		List<Future<Void>> futures = new ArrayList<Future<Void>>(writes.size());
+		for (final PendingWrite pending : writes) {
+			futures.add(unitOfWorkExecutor.submit(new Callable<Void>() {
+				@Override
+				public Void call() throws Exception {
+					apply(pending);
+					return null;
+				}
+			}));
+		}
+		int failed = 0;
+		Throwable failure = null;
+		for (Future<Void> future : futures) {
+			try {
+				future.get();
+			} catch (ExecutionException e) {
+				failed++;
+				failure = failure != null ? failure : e.getCause();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new TransactionSystemException("Interrupted while writing unit of work", e);
+			}
+		}
+		if (failed > 0) {
+			throw new TransactionSystemException(failed + " of " + writes.size() + " writes of unit of work failed", failure);
+		}
+	}
+
+	/**
+	 * 
+	 * @param pending
+	 * @throws AerospikeException
+	 */
+	private void apply(PendingWrite pending) throws AerospikeException {
+		if (pending.isRemove()) {
+			delete(pending.getStructure(), pending.getKey(), pending.getOptions());
+			return;
+		}
+		write(pending.getStructure(), pending.getKey(), pending.getBins(), pending.getVersion(), pending.getOptions());
+		if (pending.getVersion() >= 0) {
+			entityMapper.setVersion(pending.getStructure(), pending.getEntity(), pending.getVersion() + 1);
+		}
+	}
+
+	/**
+	 * Defers the write of the given entity to the commit of the transaction.
+	 * Its bins are taken now, so an entity too large to write is rejected
+	 * here and later changes of the entity are not written.
+	 * 
+	 * @param unitOfWork
+	 * @param structure
+	 * @param key
+	 * @param entity
+	 * @param options
+	 * @throws AerospikeRecordTooLargeException
+	 */
+	private void defer(UnitOfWork unitOfWork, EntityStructure structure, Key key, Serializable entity, CallOptions options)
+			throws AerospikeRecordTooLargeException {
+		unitOfWork.put(structure, key, entity, entityMapper.getBins(entity), entityMapper.getVersion(structure, entity), options);
+	}
+
+	/**
+	 * 
+	 * @param pending
+	 * @return new entity from the bins of the pending write, null for a
+	 *         pending remove.
+	 */
+	private <V extends Serializable> V getPendingEntity(PendingWrite pending) {
+		if (pending.isRemove()) {
+			return null;
+		}
+		Map<String, Object> bins = new HashMap<String, Object>();
+		for (Bin bin : pending.getBins()) {
+			if (bin != null) {
+				bins.put(bin.name, bin.value.getObject());
+			}
+		}
+		return entityMapper.reverseMap(new Record(bins, Math.max(pending.getVersion(), 0), 0), pending.getEntity().getClass());
+	}
+
+	/**
+	 * Ties a unit of work to the transaction; flushes it before commit and
+	 * discards it on completion.
+	 */
+	private class UnitOfWorkSynchronization extends TransactionSynchronizationAdapter {
+		private final UnitOfWork	unitOfWork;
+
+		private UnitOfWorkSynchronization(UnitOfWork unitOfWork) {
+			this.unitOfWork = unitOfWork;
+		}
+
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResource(AerospikeOperationsImpl.this);
+		}
+
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(AerospikeOperationsImpl.this, unitOfWork);
+		}
+
+		@Override
+		public void beforeCommit(boolean readOnly) {
+			flushUnitOfWork(unitOfWork);
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(AerospikeOperationsImpl.this);
+			if (status != TransactionSynchronization.STATUS_COMMITTED) {
+				LOGGER.debug("Discarding unit of work of transaction completed with status: {}", status);
+			}
+			unitOfWork.clear();
+		}
+	}
+
+	/**
+	 * Call of an operation to the cluster made by
+	 * {@link AerospikeOperationsImpl#call(EntityStructure, OperationType, Object, Call)}.
+	 */
+	private abstract static class Call<T> {
+		abstract T execute();
+
+		/**
+		 * 
+		 * @param result
+		 * @return records read, written or deleted by the call.
+		 */
+		int records(T result) {
+			return result != null ? 1 : 0;
+		}
+	}
+
+	/**
+	 * Position of a scan: the node being scanned and the digest of the last
+	 * record returned from it.
+	 */
+	private static class ScanCursor {
+		private final String	nodeName;
+		private final byte[]	digest;
+
+		private ScanCursor(String nodeName, byte[] digest) {
+			this.nodeName = nodeName;
+			this.digest = digest;
+		}
+	}
+
+	/**
+	 * Replicates all the indexes defined in the entity to database.
+	 * 
+	 * @param structure
+	 */
+	private void addEntityIndex(EntityStructure structure) {
+		for (Entry<String, Index> entry : structure.getSecondaryIndexes().entrySet()) {
+			//Check if indexes have already been done. This is done using a new set
+			// and using entity namespace and index set. If index is already set no need 
+			//to do any thing. Otherwise create index and set in the database
+			String indexName = entry.getValue().getIndexName();
+			Record record = client.getAerospikeClient().get(null, createKey(structure.getNameSpace(), "indexes", indexName));
+			if(record != null && 1 == record.getInt(indexName)) {
+				LOGGER.warn("Index: {} for class: {} has already been created. Skipping index creation for this field", entry.getValue().getIndexName(), structure.getClazzName());
+				continue;
+			}
+			// On the bin the field is stored in, which the query filters use
+			addIndex(structure.getPolicy(), structure.getNameSpace(), structure.getSet(), structure.getBinName(entry.getKey()), entry
+					.getValue().getIndexName(), entry.getValue().getIndexType());
+			client.getAerospikeClient().put(null, createKey(structure.getNameSpace(), "indexes", indexName), new Bin(indexName, 1));
+			LOGGER.info("Index: {} for class: {} has been created", entry.getValue().getIndexName(), structure.getClazzName());
+		}
+		structure.setIndexesInitialized(true);
+	}
+
+	/**
+	 * Creates query {@link Statement} for the namespace and set of the given
+	 * structure.
+	 * 
+	 * @param structure
+	 * @return
+	 */
+	private Statement createStatement(EntityStructure structure) {
+		Statement stmt = new Statement();
+		stmt.setNamespace(structure.getNameSpace());
+		stmt.setSetName(structure.getSet());
+		return stmt;
+	}
+
+	/**
+	 * Creates query {@link Statement} from the index filter and predicates of
+	 * the given query. Index on the filter field should be checked by caller.
+	 * 
+	 * @param structure
+	 * @param query
+	 * @return
+	 * @throws AerospikeInvalidQueryException
+	 */
+	private Statement createStatement(EntityStructure structure, AerospikeQuery query) throws AerospikeInvalidQueryException {
+		Statement stmt = createStatement(structure);
+		String binName = structure.getBinName(query.getIndexField());
+		if (query.isRange()) {
+			stmt.setFilters(createRangeFilter(binName, query.getBegin(), query.getEnd()));
+		} else {
+			stmt.setFilters(createEqualFilter(binName, query.getBegin()));
+		}
+		// Predicates are evaluated on the server on top of index filter
+		if (!query.getPredicates().isEmpty()) {
+			stmt.setPredExp(createPredExp(structure, query.getPredicates()));
+		}
+		return stmt;
+	}
+
+	/**
+	 * Runs one of the built-in aggregations and returns its single result or
+	 * null if no record has matched.
+	 * 
+	 * @param clazz
+	 * @param query
+	 * @param function
+	 * @param args
+	 * @return
+	 * @throws AerospikeException
+	 */
+	private Object aggregateSingle(Class clazz, AerospikeQuery query, String function, Serializable... args) throws AerospikeException {
+		List<Object> results = aggregate(clazz, query, BUILT_IN_AGGREGATIONS, function, args);
+		return results.isEmpty() ? null : results.get(0);
+	}
+
+	/**
+	 * Returns the bin name of the given field. The field should be persisted
+	 * natively in order to be evaluated on the server.
+	 * 
+	 * @param structure
+	 * @param fieldName
+	 * @return
+	 * @throws AerospikeInvalidQueryException
+	 */
+	private String getNativeBinName(EntityStructure structure, String fieldName) throws AerospikeInvalidQueryException {
+		PersistableField field = structure.getPersistableField(fieldName);
+		if (field == null) {
+			throw new AerospikeInvalidQueryException("Field: " + fieldName + " is not persisted for class: " + structure.getClazzName());
+		}
+		if (field.isSerializerRequired()) {
+			throw new AerospikeInvalidQueryException("Field: " + fieldName + " of class: " + structure.getClazzName()
+					+ " is stored serialized and can not be evaluated on server");
+		}
+		return structure.getBinName(fieldName);
+	}
+
+	/**
+	 * Returns the bin name for the field of the given write operation. Numeric
+	 * operations are allowed on Integer/Long fields and String operations on
+	 * String fields only.
+	 * 
+	 * @param structure
+	 * @param operation
+	 * @param numeric
+	 * @return
+	 * @throws AerospikeInvalidQueryException
+	 */
+	private String getOperationBinName(EntityStructure structure, FieldOperation operation, boolean numeric) throws AerospikeInvalidQueryException {
+		String binName = getNativeBinName(structure, operation.getField());
+		Class<?> type = structure.getPersistableField(operation.getField()).getType();
+		boolean compatible = numeric ? (Integer.TYPE == type || Long.TYPE == type || Integer.class == type || Long.class == type)
+				: String.class == type;
+		if (!compatible) {
+			throw new AerospikeInvalidQueryException("Operation: " + operation.getType() + " is not supported on field: " + operation.getField()
+					+ " of type: " + type.getName() + " of class: " + structure.getClazzName());
+		}
+		return binName;
+	}
+
+	/**
+	 * 
+	 * @param binName
+	 * @param value
+	 * @return
+	 */
+	private Filter createEqualFilter(String binName, Serializable value) {
+		if (value instanceof Integer || value instanceof Long) {
+			return Filter.equal(binName, ((Number) value).longValue());
+		} else if (value instanceof String) {
+			return Filter.equal(binName, (String) value);
+		}
+		return Filter.equal(binName, Value.get(value));
+	}
+
+	/**
+	 * 
+	 * @param binName
+	 * @param start
+	 * @param end
+	 * @return
+	 */
+	private Filter createRangeFilter(String binName, Serializable start, Serializable end) {
+		if (start instanceof Integer || start instanceof Long) {
+			return Filter.range(binName, ((Number) start).longValue(), ((Number) end).longValue());
+		}
+		return Filter.range(binName, Value.get(start), Value.get(end));
+	}
+
+	/**
+	 * Translates query predicates to predicate expressions evaluated by the
+	 * server. Expressions are in postfix notation and all the predicates are
+	 * combined with AND.
+	 * 
+	 * @param structure
+	 * @param predicates
+	 * @return
+	 * @throws AerospikeInvalidQueryException
+	 */
+	private PredExp[] createPredExp(EntityStructure structure, List<Predicate> predicates) throws AerospikeInvalidQueryException {
+		List<PredExp> predExps = new ArrayList<PredExp>(predicates.size() * 3 + 1);
+		for (Predicate predicate : predicates) {
+			String binName = getNativeBinName(structure, predicate.getField());
+			PersistableField field = structure.getPersistableField(predicate.getField());
+			if (String.class == field.getType()) {
+				predExps.add(PredExp.stringBin(binName));
+				predExps.add(PredExp.stringValue(String.valueOf(predicate.getValue())));
+				predExps.add(stringOperator(structure, predicate));
+			} else {
+				if (!(predicate.getValue() instanceof Integer || predicate.getValue() instanceof Long)) {
+					throw new AerospikeInvalidQueryException("Field: " + predicate.getField() + " of class: " + structure.getClazzName()
+							+ " can only be compared with Integer or Long values");
+				}
+				predExps.add(PredExp.integerBin(binName));
+				predExps.add(PredExp.integerValue(((Number) predicate.getValue()).longValue()));
+				predExps.add(integerOperator(structure, predicate));
+			}
+		}
+		if (predicates.size() > 1) {
+			predExps.add(PredExp.and(predicates.size()));
+		}
+		return predExps.toArray(new PredExp[predExps.size()]);
+	}
+
+	/**
+	 * 
+	 * @param structure
+	 * @param predicate
+	 * @return
+	 * @throws AerospikeInvalidQueryException
+	 */
+	private PredExp stringOperator(EntityStructure structure, Predicate predicate) throws AerospikeInvalidQueryException {
+		switch (predicate.getOperator()) {
+		case EQUAL:
+			return PredExp.stringEqual();
+		case NOT_EQUAL:
+			return PredExp.stringUnequal();
+		case REGEX:
+			return PredExp.stringRegex(RegexFlag.NONE);
+		default:
+			throw new AerospikeInvalidQueryException("Operator: " + predicate.getOperator() + " is not supported on String field: "
+					+ predicate.getField() + " of class: " + structure.getClazzName());
+		}
+	}
+
+	/**
+	 * 
+	 * @param structure
+	 * @param predicate
+	 * @return
+	 * @throws AerospikeInvalidQueryException
+	 */
+	private PredExp integerOperator(EntityStructure structure, Predicate predicate) throws AerospikeInvalidQueryException {
+		switch (predicate.getOperator()) {
+		case EQUAL:
+			return PredExp.integerEqual();
+		case NOT_EQUAL:
+			return PredExp.integerUnequal();
+		case GREATER:
+			return PredExp.integerGreater();
+		case GREATER_EQUAL:
+			return PredExp.integerGreaterEq();
+		case LESS:
+			return PredExp.integerLess();
+		case LESS_EQUAL:
+			return PredExp.integerLessEq();
+		default:
+			throw new AerospikeInvalidQueryException("Operator: " + predicate.getOperator() + " is not supported on numeric field: "
+					+ predicate.getField() + " of class: " + structure.getClazzName());
+		}
+	}
+
+	/**
+	 * 
+	 * @return names of the nodes of the cluster in the order they are scanned
+	 *         in. A single empty name, scanning the whole set at once, if the
+	 *         client doesn't expose its nodes.
+	 */
+	private List<String> getScanNodeNames() {
+		Node[] nodes = client.getAerospikeClient().getNodes();
+		List<String> names = new ArrayList<String>(nodes != null ? nodes.length : 1);
+		if (nodes != null) {
+			for (Node node : nodes) {
+				names.add(node.getName());
+			}
+		}
+		if (names.isEmpty()) {
+			names.add("");
+		}
+		Collections.sort(names);
+		return names;
+	}
+
+	/**
+	 * Scans the set of the structure on the given node and keeps the records
+	 * with the smallest digests after the given one. Digests decide the order
+	 * within a node as the node returns its records in no particular order.
+	 * 
+	 * @param structure
+	 * @param nodeName
+	 *            or empty name to scan all the nodes.
+	 * @param after
+	 *            digest of the last record returned from this node, null to
+	 *            start from its first record.
+	 * @param limit
+	 *            records to keep.
+	 * @param matched
+	 *            counts the records found after the given digest.
+	 * @return records kept in the order of their digests.
+	 */
+	private List<KeyRecord> scanNode(EntityStructure structure, String nodeName, final byte[] after, final int limit, final AtomicLong matched) {
+		final PriorityQueue<KeyRecord> page = new PriorityQueue<KeyRecord>(Math.min(limit, 1024) + 1, new Comparator<KeyRecord>() {
+			@Override
+			public int compare(KeyRecord record1, KeyRecord record2) {
+				// Largest digest on the head to be evicted first
+				return compareDigests(record2.key.digest, record1.key.digest);
+			}
+		});
+		ScanCallback callback = new ScanCallback() {
+			@Override
+			public void scanCallback(Key key, Record record) throws com.aerospike.client.AerospikeException {
+				if (after != null && compareDigests(key.digest, after) <= 0) {
+					// Returned in previous pages
+					return;
+				}
+				matched.incrementAndGet();
+				synchronized (page) {
+					page.offer(new KeyRecord(key, record));
+					if (page.size() > limit) {
+						page.poll();
+					}
+				}
+			}
+		};
+		ScanPolicy policy = client.getAerospikeClient().getScanPolicyDefault();
+		if (nodeName.isEmpty()) {
+			client.getAerospikeClient().scanAll(policy, structure.getNameSpace(), structure.getSet(), callback);
+		} else {
+			client.getAerospikeClient().scanNode(policy, nodeName, structure.getNameSpace(), structure.getSet(), callback);
+		}
+		List<KeyRecord> records = new ArrayList<KeyRecord>(page);
+		Collections.sort(records, Collections.reverseOrder(page.comparator()));
+		return records;
+	}
+
+	/**
+	 * 
+	 * @param cursor
+	 *            where the next page of a scan starts.
+	 * @return token to resume the scan from the given cursor.
+	 */
+	private String encodeResumeToken(ScanCursor cursor) {
+		String digest = cursor.digest != null ? Base64.getUrlEncoder().encodeToString(cursor.digest) : "";
+		return cursor.nodeName + ":" + digest;
+	}
+
+	/**
+	 * Decodes the token created by {@link #encodeResumeToken(ScanCursor)}.
+	 * 
+	 * @param resumeToken
+	 * @return
+	 * @throws AerospikeInvalidQueryException
+	 */
+	private ScanCursor decodeResumeToken(String resumeToken) throws AerospikeInvalidQueryException {
+		int separator = resumeToken.lastIndexOf(':');
+		if (separator < 0) {
+			throw new AerospikeInvalidQueryException("Invalid scan resume token: " + resumeToken);
+		}
+		String digest = resumeToken.substring(separator + 1);
+		try {
+			return new ScanCursor(resumeToken.substring(0, separator), digest.isEmpty() ? null : Base64.getUrlDecoder().decode(digest));
+		} catch (IllegalArgumentException e) {
+			throw new AerospikeInvalidQueryException("Invalid scan resume token: " + resumeToken, e);
+		}
+	}
+
+	/**
+	 * Compares digests as unsigned bytes.
+	 * 
+	 * @param digest1
+	 * @param digest2
+	 * @return
+	 */
+	private static int compareDigests(byte[] digest1, byte[] digest2) {
+		int length = Math.min(digest1.length, digest2.length);
+		for (int i = 0; i < length; i++) {
+			int compare = (digest1[i] & 0xff) - (digest2[i] & 0xff);
+			if (compare != 0) {
+				return compare;
+			}
+		}
+		return digest1.length - digest2.length;
+	}
+
+	/**
+	 * 
+	 * @param namespace
+	 * @param set
+	 * @param key
+	 * @return
+	 */
+	private Key createKey(String namespace, String set, Object key) {
+		return entityMapper.createKey(namespace, set, key);
+	}
+
 	/**
 	 * 
 	 * @param structure
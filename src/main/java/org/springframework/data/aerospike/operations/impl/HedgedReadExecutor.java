@@ -0,0 +1,339 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.operations.impl;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.aerospike.client.Client;
+import org.springframework.data.aerospike.configuration.AerospikeConfigurations;
+import org.springframework.data.aerospike.configuration.HedgePolicy;
+import org.springframework.data.aerospike.mapper.EntityStructure;
+import org.springframework.stereotype.Service;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.Policy;
+
+/**
+ * Executes reads of entity classes for which hedged reads are enabled. If the
+ * read hasn't completed within the hedge delay, the same read is sent to a
+ * replica chosen among master and prole nodes and the first successful
+ * response is returned. The client can't exclude the master from the replica
+ * choice, so a hedge may go to the same node as the read; see
+ * {@link PolicyVariants#getHedge(Policy)}.
+ * <p>
+ * The hedge delay is either configured or the observed 95th percentile of the
+ * read latency of the class. Hedged reads are limited by a budget which is
+ * earned by every read as a percentage of a hedge, so hedges can never exceed
+ * the configured share of the reads.
+ * <p>
+ * A read takes its hedge from the budget before it starts. Reads which can't
+ * (no budget, or no percentile observed yet) run on the calling thread and
+ * are never hedged. The others run on a pool of at most
+ * aerospike.hedgedReads.threads threads, as the caller must be free to take
+ * the first of the two responses, and give the hedge back if the read
+ * completes within the delay. When the pool is saturated a read runs on the
+ * calling thread and a hedge isn't sent. The read which loses keeps its pool
+ * thread until it completes or times out as per its policy, since the client
+ * can't abandon a read in flight.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@Service("hedgedReadExecutor")
+public class HedgedReadExecutor {
+	private static final Logger								LOGGER			= LoggerFactory.getLogger(HedgedReadExecutor.class);
+
+	@Autowired
+	private Client											client;
+	@Autowired
+	private AerospikeConfigurations							aerospikeConfigurations;
+	/**
+	 * Read statistics and hedge budget per entity class.
+	 */
+	private final ConcurrentHashMap<String, ReadStats>		readStats		= new ConcurrentHashMap<String, ReadStats>();
+	/**
+	 * Hedge policies by read policy.
+	 */
+	private final PolicyVariants							policyVariants	= new PolicyVariants();
+	/**
+	 * Threads executing the hedged reads and their primary reads. Rejects
+	 * tasks once all the threads are busy, without queueing.
+	 */
+	private ThreadPoolExecutor								executor;
+
+	@PostConstruct
+	public void initialize() {
+		int threads = aerospikeConfigurations.getHedgedReadThreads();
+		executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), new ThreadFactory() {
+			private final AtomicInteger	counter	= new AtomicInteger();
+
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "aerospike-hedged-read-" + counter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Reads the record for the given key as per the hedge policy of the
+	 * structure.
+	 *
+	 * @param structure
+	 * @param key
+	 * @return
+	 */
+	public Record get(EntityStructure structure, Key key) {
+		return get(structure, structure.getPolicy(), key);
+	}
+
+	/**
+	 * Reads the record for the given key with the given read policy as per
+	 * the hedge policy of the structure.
+	 *
+	 * @param structure
+	 * @param policy
+	 * @param key
+	 * @return
+	 */
+	public Record get(EntityStructure structure, final Policy policy, final Key key) {
+		HedgePolicy hedgePolicy = structure.getHedgePolicy();
+		final IAerospikeClient aerospikeClient = client.getAerospikeClient();
+		final ReadStats stats = getReadStats(structure.getClazzName());
+		stats.earnBudget(hedgePolicy.getBudgetPercent());
+		long delay = hedgePolicy.getDelay() > 0 ? TimeUnit.MILLISECONDS.toNanos(hedgePolicy.getDelay()) : stats.getP95();
+		if (delay < 0 || !stats.tryAcquireHedge()) {
+			return read(aerospikeClient, policy, key, stats);
+		}
+		CompletionService<Record> reads = new ExecutorCompletionService<Record>(executor);
+		Future<Record> primary;
+		try {
+			primary = reads.submit(new Callable<Record>() {
+				@Override
+				public Record call() throws Exception {
+					return read(aerospikeClient, policy, key, stats);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			stats.releaseHedge();
+			return read(aerospikeClient, policy, key, stats);
+		}
+		try {
+			Future<Record> completed = reads.poll(delay, TimeUnit.NANOSECONDS);
+			if (completed != null) {
+				stats.releaseHedge();
+				return completed.get();
+			}
+			LOGGER.debug("Read of key: {} for class: {} is slower than {}ns. Sending hedged read", key, structure.getClazzName(), delay);
+			final Policy replicaPolicy = policyVariants.getHedge(policy);
+			try {
+				reads.submit(new Callable<Record>() {
+					@Override
+					public Record call() throws Exception {
+						return aerospikeClient.get(replicaPolicy, key);
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				stats.releaseHedge();
+				return primary.get();
+			}
+			return awaitFirst(reads);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AerospikeException("Interrupted while reading key: " + key, e);
+		} catch (ExecutionException e) {
+			throw unwrap(e);
+		}
+	}
+
+	/**
+	 * Reads the record on the calling thread and records its latency.
+	 *
+	 * @param aerospikeClient
+	 * @param policy
+	 * @param key
+	 * @param stats
+	 * @return
+	 */
+	private Record read(IAerospikeClient aerospikeClient, Policy policy, Key key, ReadStats stats) {
+		long start = System.nanoTime();
+		Record record = aerospikeClient.get(policy, key);
+		stats.record(System.nanoTime() - start);
+		return record;
+	}
+
+	/**
+	 * Returns the result of the first of the primary and hedged reads which
+	 * completes successfully. Fails only if both the reads fail.
+	 *
+	 * @param reads
+	 *            with both the reads submitted
+	 * @return
+	 * @throws InterruptedException
+	 * @throws ExecutionException
+	 *             failure of the last read if both fail.
+	 */
+	private Record awaitFirst(CompletionService<Record> reads) throws InterruptedException, ExecutionException {
+		ExecutionException failure = null;
+		for (int i = 0; i < 2; i++) {
+			try {
+				return reads.take().get();
+			} catch (ExecutionException e) {
+				failure = e;
+			}
+		}
+		throw failure;
+	}
+
+	/**
+	 *
+	 * @param e
+	 * @return
+	 */
+	private RuntimeException unwrap(ExecutionException e) {
+		if (e.getCause() instanceof RuntimeException) {
+			return (RuntimeException) e.getCause();
+		}
+		return new AerospikeException(e.getCause());
+	}
+
+	/**
+	 *
+	 * @param clazzName
+	 * @return
+	 */
+	private ReadStats getReadStats(String clazzName) {
+		ReadStats stats = readStats.get(clazzName);
+		if (stats == null) {
+			ReadStats newStats = new ReadStats();
+			stats = readStats.putIfAbsent(clazzName, newStats);
+			if (stats == null) {
+				stats = newStats;
+			}
+		}
+		return stats;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Recent read latencies and hedge budget of an entity class.
+	 */
+	private static class ReadStats {
+		/**
+		 * Number of recent latencies kept. Should be a power of 2.
+		 */
+		private static final int		SAMPLES				= 1024;
+		/**
+		 * Reads to be observed before the percentile is trusted.
+		 */
+		private static final int		MIN_SAMPLES			= 100;
+		/**
+		 * Percentile is recalculated after these many reads.
+		 */
+		private static final int		RECALCULATE_EVERY	= 128;
+		/**
+		 * Budget unit for a single hedged read. A read earns budget percent of
+		 * this unit.
+		 */
+		private static final long		HEDGE_COST			= 100;
+		/**
+		 * Maximum hedged reads which may be sent in a burst.
+		 */
+		private static final long		MAX_BUDGET			= 10 * HEDGE_COST;
+
+		private final AtomicLongArray	samples				= new AtomicLongArray(SAMPLES);
+		private final AtomicLong		count				= new AtomicLong();
+		private final AtomicLong		budget				= new AtomicLong();
+		private volatile long			p95					= -1;
+
+		public void record(long latency) {
+			long n = count.getAndIncrement();
+			samples.set((int) (n & (SAMPLES - 1)), latency);
+			if (n >= MIN_SAMPLES && n % RECALCULATE_EVERY == 0) {
+				int size = (int) Math.min(n + 1, SAMPLES);
+				long[] sorted = new long[size];
+				for (int i = 0; i < size; i++) {
+					sorted[i] = samples.get(i);
+				}
+				Arrays.sort(sorted);
+				p95 = sorted[(int) (size * 0.95)];
+			}
+		}
+
+		public long getP95() {
+			return p95;
+		}
+
+		public void earnBudget(int budgetPercent) {
+			long current;
+			do {
+				current = budget.get();
+				if (current >= MAX_BUDGET) {
+					return;
+				}
+			} while (!budget.compareAndSet(current, Math.min(MAX_BUDGET, current + budgetPercent)));
+		}
+
+		public boolean tryAcquireHedge() {
+			long current;
+			do {
+				current = budget.get();
+				if (current < HEDGE_COST) {
+					return false;
+				}
+			} while (!budget.compareAndSet(current, current - HEDGE_COST));
+			return true;
+		}
+
+		/**
+		 * Gives back a hedge taken but not sent.
+		 */
+		public void releaseHedge() {
+			budget.addAndGet(HEDGE_COST);
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.operations.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.aerospike.configuration.PolicyUtils;
+import org.springframework.data.aerospike.operations.CallOptions;
+
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.Replica;
+import com.aerospike.client.policy.WritePolicy;
+
+/**
+ * Cache of class policies with {@link CallOptions} applied. A variant is
+ * built on first use of the options with a policy and then shared, so it
+ * must never be modified. Variants are keyed by the identity of the base
+ * policy; when class policies are reloaded the variants of the old policies
+ * are no more looked up and are dropped once the cache is full. The policies
+ * of hedged reads derived from read policies are cached the same way.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+class PolicyVariants {
+	/**
+	 * Maximum number of variants kept. Reached only if options are built
+	 * from unbounded values such as computed timeouts.
+	 */
+	private static final int								MAX_VARIANTS	= 4096;
+
+	private final ConcurrentHashMap<VariantKey, Policy>	variants		= new ConcurrentHashMap<VariantKey, Policy>();
+
+	Policy get(Policy policy, CallOptions options) {
+		if (options.isEmpty()) {
+			return policy;
+		}
+		VariantKey key = new VariantKey(policy, options);
+		Policy variant = variants.get(key);
+		if (variant == null) {
+			variant = PolicyUtils.copy(policy);
+			applyTimeout(variant, options);
+			variant = cache(key, variant);
+		}
+		return variant;
+	}
+
+	WritePolicy get(WritePolicy policy, CallOptions options) {
+		if (options.isEmpty()) {
+			return policy;
+		}
+		VariantKey key = new VariantKey(policy, options);
+		WritePolicy variant = (WritePolicy) variants.get(key);
+		if (variant == null) {
+			variant = PolicyUtils.copy(policy);
+			applyTimeout(variant, options);
+			if (options.getRecordExistsAction() != null) {
+				variant.recordExistsAction = options.getRecordExistsAction();
+			}
+			if (options.getExpiration() != null) {
+				variant.expiration = options.getExpiration();
+			}
+			variant = (WritePolicy) cache(key, variant);
+		}
+		return variant;
+	}
+
+	BatchPolicy get(BatchPolicy policy, CallOptions options) {
+		if (options.isEmpty()) {
+			return policy;
+		}
+		VariantKey key = new VariantKey(policy, options);
+		BatchPolicy variant = (BatchPolicy) variants.get(key);
+		if (variant == null) {
+			variant = PolicyUtils.copy(policy);
+			applyTimeout(variant, options);
+			variant = (BatchPolicy) cache(key, variant);
+		}
+		return variant;
+	}
+
+	/**
+	 * Returns the policy of the hedged reads of the given read policy. Hedges
+	 * are sent with {@link Replica#MASTER_PROLES}, the only replica choice of
+	 * the client which reaches a prole. It round-robins over the master and
+	 * the proles, so with a replication factor of 2 about half the hedges go
+	 * to the node of the master; the client can't exclude it.
+	 * 
+	 * @param policy
+	 * @return
+	 */
+	Policy getHedge(Policy policy) {
+		VariantKey key = new VariantKey(policy, CallOptions.NONE, true);
+		Policy variant = variants.get(key);
+		if (variant == null) {
+			variant = PolicyUtils.copy(policy);
+			variant.replica = Replica.MASTER_PROLES;
+			variant = cache(key, variant);
+		}
+		return variant;
+	}
+
+	private void applyTimeout(Policy variant, CallOptions options) {
+		if (options.getTimeout() != null) {
+			variant.timeout = options.getTimeout();
+		}
+	}
+
+	private Policy cache(VariantKey key, Policy variant) {
+		if (variants.size() >= MAX_VARIANTS) {
+			variants.clear();
+		}
+		Policy existing = variants.putIfAbsent(key, variant);
+		return existing != null ? existing : variant;
+	}
+
+	/**
+	 * Base policy by identity and the options applied to it, or whether it is
+	 * the hedge of the base policy.
+	 */
+	private static class VariantKey {
+		private final Policy		policy;
+		private final CallOptions	options;
+		private final boolean		hedge;
+
+		private VariantKey(Policy policy, CallOptions options) {
+			this(policy, options, false);
+		}
+
+		private VariantKey(Policy policy, CallOptions options, boolean hedge) {
+			this.policy = policy;
+			this.options = options;
+			this.hedge = hedge;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof VariantKey)) {
+				return false;
+			}
+			VariantKey other = (VariantKey) obj;
+			return policy == other.policy && options.equals(other.options) && hedge == other.hedge;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * System.identityHashCode(policy) + options.hashCode()) + (hedge ? 1 : 0);
+		}
+	}
+}
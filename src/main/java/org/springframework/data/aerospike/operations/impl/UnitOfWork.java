@@ -0,0 +1,158 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.operations.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.aerospike.mapper.EntityStructure;
+import org.springframework.data.aerospike.operations.CallOptions;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+
+/**
+ * Writes and removes collected during a Spring transaction. Only the last
+ * write or remove of a key is kept. A write keeps the bins and version of the
+ * entity as of the put, so later changes of the entity neither get written
+ * nor are seen by the reads of the transaction. Bound to the transaction
+ * synchronization of the thread, hence accessed by a single thread till it is
+ * flushed.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+class UnitOfWork {
+	/**
+	 * Pending change per key in the order keys were first changed.
+	 */
+	private final Map<Key, PendingWrite>	pending	= new LinkedHashMap<Key, PendingWrite>();
+
+	/**
+	 * 
+	 * @param structure
+	 * @param key
+	 * @param entity
+	 *            whose version is advanced once written.
+	 * @param bins
+	 *            of the entity as of the put.
+	 * @param version
+	 *            of the entity as of the put.
+	 * @param options
+	 */
+	void put(EntityStructure structure, Key key, Serializable entity, Bin[] bins, int version, CallOptions options) {
+		pending.put(key, new PendingWrite(structure, key, entity, bins, version, options));
+	}
+
+	void remove(EntityStructure structure, Key key, CallOptions options) {
+		pending.put(key, new PendingWrite(structure, key, null, null, -1, options));
+	}
+
+	/**
+	 * Returns the pending change of the given key or null if the key hasn't
+	 * been changed in this unit of work.
+	 *
+	 * @param key
+	 * @return
+	 */
+	PendingWrite get(Key key) {
+		return pending.get(key);
+	}
+
+	/**
+	 * Removes and returns the pending change of the given key.
+	 *
+	 * @param key
+	 * @return
+	 */
+	PendingWrite take(Key key) {
+		return pending.remove(key);
+	}
+
+	/**
+	 * Removes and returns all the pending changes.
+	 *
+	 * @return
+	 */
+	Collection<PendingWrite> drain() {
+		Collection<PendingWrite> writes = new ArrayList<PendingWrite>(pending.values());
+		pending.clear();
+		return writes;
+	}
+
+	void clear() {
+		pending.clear();
+	}
+
+	/**
+	 * Latest change of a key. Bins are null for remove.
+	 */
+	static class PendingWrite {
+		private final EntityStructure	structure;
+		private final Key				key;
+		private final Serializable		entity;
+		private final Bin[]				bins;
+		private final int				version;
+		private final CallOptions		options;
+
+		PendingWrite(EntityStructure structure, Key key, Serializable entity, Bin[] bins, int version, CallOptions options) {
+			this.structure = structure;
+			this.key = key;
+			this.entity = entity;
+			this.bins = bins;
+			this.version = version;
+			this.options = options;
+		}
+
+		EntityStructure getStructure() {
+			return structure;
+		}
+
+		Key getKey() {
+			return key;
+		}
+
+		/**
+		 * 
+		 * @return entity put, only to advance its version once written. Its
+		 *         fields may have changed since.
+		 */
+		Serializable getEntity() {
+			return entity;
+		}
+
+		Bin[] getBins() {
+			return bins;
+		}
+
+		int getVersion() {
+			return version;
+		}
+
+		CallOptions getOptions() {
+			return options;
+		}
+
+		boolean isRemove() {
+			return bins == null;
+		}
+	}
+}
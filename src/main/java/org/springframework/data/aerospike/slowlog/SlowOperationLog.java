@@ -0,0 +1,49 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.slowlog;
+
+import org.springframework.data.aerospike.mapper.EntityStructure;
+import org.springframework.data.aerospike.operations.OperationType;
+
+/**
+ * Logs the operations slower than the threshold of their type with what they
+ * operated on, so a slow call can be traced to its key, index or filter.
+ * Entries go to the logger org.springframework.data.aerospike.SlowOperations
+ * as key=value pairs and are rate limited.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public interface SlowOperationLog {
+	/**
+	 * Logs the operation if it is slower than the threshold of its type. The
+	 * target is only described when the operation is logged.
+	 * 
+	 * @param structure
+	 * @param type
+	 * @param nanos
+	 *            elapsed time of the operation
+	 * @param target
+	 *            key, keys or query of the operation
+	 * @param records
+	 *            records read, returned or written
+	 * @param resultCode
+	 *            aerospike result code of the failure, 0 on success
+	 */
+	public void record(EntityStructure structure, OperationType type, long nanos, Object target, int records, int resultCode);
+}
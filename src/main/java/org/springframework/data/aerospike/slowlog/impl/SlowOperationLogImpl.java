@@ -0,0 +1,128 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.slowlog.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.aerospike.configuration.AerospikeConfigurations;
+import org.springframework.data.aerospike.configuration.SlowLogPolicy;
+import org.springframework.data.aerospike.mapper.EntityStructure;
+import org.springframework.data.aerospike.operations.OperationType;
+import org.springframework.data.aerospike.slowlog.SlowOperationLog;
+import org.springframework.stereotype.Service;
+
+import com.aerospike.client.Key;
+
+/**
+ * Logs slow operations at most {@link SlowLogPolicy#getMaxPerSecond()} times
+ * per second. Operations over the limit are counted and the count is logged
+ * with the next entry, so bursts are visible without flooding the log.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@Service("slowOperationLog")
+public class SlowOperationLogImpl implements SlowOperationLog {
+	private static final Logger		LOGGER			= LoggerFactory.getLogger(SlowOperationLogImpl.class);
+	private static final Logger		SLOW_LOGGER		= LoggerFactory.getLogger("org.springframework.data.aerospike.SlowOperations");
+	/**
+	 * Keys of a batch described in an entry.
+	 */
+	private static final int		LOGGED_KEYS		= 3;
+
+	@Autowired
+	private AerospikeConfigurations	aerospikeConfigurations;
+
+	private SlowLogPolicy			policy			= SlowLogPolicy.DISABLED;
+	/**
+	 * Second of the current rate limiting window.
+	 */
+	private final AtomicLong		windowSecond	= new AtomicLong();
+	private final AtomicInteger		logged			= new AtomicInteger();
+	private final AtomicLong		suppressed		= new AtomicLong();
+
+	@PostConstruct
+	public void initialize() {
+		policy = aerospikeConfigurations.slowLogPolicy();
+		if (policy.isEnabled()) {
+			LOGGER.info("Logging slow operations to {}, at most {} per second", SLOW_LOGGER.getName(), policy.getMaxPerSecond());
+		}
+	}
+
+	@Override
+	public void record(EntityStructure structure, OperationType type, long nanos, Object target, int records, int resultCode) {
+		if (!policy.isEnabled() || nanos < policy.getThresholdNanos(type) || !SLOW_LOGGER.isWarnEnabled()) {
+			return;
+		}
+		if (!tryAcquire()) {
+			suppressed.incrementAndGet();
+			return;
+		}
+		StringBuilder entry = new StringBuilder(256);
+		entry.append("type=").append(type);
+		entry.append(" namespace=").append(structure.getNameSpace());
+		entry.append(" set=").append(structure.getSet());
+		entry.append(" entity=").append(structure.getClazzName());
+		entry.append(" target=\"");
+		describe(target, entry);
+		entry.append("\" records=").append(records);
+		entry.append(" elapsedMs=").append(TimeUnit.NANOSECONDS.toMillis(nanos));
+		entry.append(" thresholdMs=").append(policy.getThreshold(type));
+		entry.append(" resultCode=").append(resultCode);
+		long skipped = suppressed.getAndSet(0);
+		if (skipped > 0) {
+			entry.append(" suppressed=").append(skipped);
+		}
+		SLOW_LOGGER.warn(entry.toString());
+	}
+
+	/**
+	 * 
+	 * @return whether an entry may be logged in the current second.
+	 */
+	private boolean tryAcquire() {
+		long second = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+		long current = windowSecond.get();
+		if (second != current && windowSecond.compareAndSet(current, second)) {
+			logged.set(0);
+		}
+		return logged.incrementAndGet() <= policy.getMaxPerSecond();
+	}
+
+	private void describe(Object target, StringBuilder entry) {
+		if (target instanceof Key[]) {
+			Key[] keys = (Key[]) target;
+			entry.append(keys.length).append(" keys: ");
+			for (int i = 0; i < keys.length && i < LOGGED_KEYS; i++) {
+				entry.append(i > 0 ? ", " : "").append(keys[i]);
+			}
+			if (keys.length > LOGGED_KEYS) {
+				entry.append(", ...");
+			}
+		} else {
+			entry.append(target);
+		}
+	}
+}
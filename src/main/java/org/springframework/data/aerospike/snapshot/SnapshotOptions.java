@@ -0,0 +1,143 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.snapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Options of {@link SnapshotService} export and restore.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class SnapshotOptions {
+	/**
+	 * Whether the exported file is gzip compressed.
+	 */
+	private boolean			compress;
+	/**
+	 * Records buffered between the scan and the file writer, or between the
+	 * file reader and the restore writers.
+	 */
+	private int				bufferSize		= 10000;
+	/**
+	 * Nodes scanned in parallel on export (0 means all) and concurrent writes
+	 * on restore.
+	 */
+	private int				parallelism		= 16;
+	/**
+	 * Namespace to restore into. Defaults to the exported namespace.
+	 */
+	private String			targetNamespace;
+	/**
+	 * Set to restore into. Defaults to the exported set. Restoring into a
+	 * different set requires the user keys to have been stored since the key
+	 * digest depends on the set name.
+	 */
+	private String			targetSet;
+	/**
+	 * Whether restored records keep the time to live they had at export or
+	 * get the default expiration of the namespace.
+	 */
+	private boolean			keepTtl			= true;
+	/**
+	 * Whether restore fails if a record already exists.
+	 */
+	private boolean			createOnly;
+	/**
+	 * Packages or classes of java serialized bin values which may be read on
+	 * restore, besides the ones of java.lang, java.util, java.math and
+	 * java.time. A value of any other class fails the restore.
+	 */
+	private List<String>	allowedClasses	= new ArrayList<String>();
+
+	public SnapshotOptions compress(boolean compress) {
+		this.compress = compress;
+		return this;
+	}
+
+	public SnapshotOptions bufferSize(int bufferSize) {
+		this.bufferSize = bufferSize;
+		return this;
+	}
+
+	public SnapshotOptions parallelism(int parallelism) {
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	public SnapshotOptions targetNamespace(String targetNamespace) {
+		this.targetNamespace = targetNamespace;
+		return this;
+	}
+
+	public SnapshotOptions targetSet(String targetSet) {
+		this.targetSet = targetSet;
+		return this;
+	}
+
+	public SnapshotOptions keepTtl(boolean keepTtl) {
+		this.keepTtl = keepTtl;
+		return this;
+	}
+
+	public SnapshotOptions createOnly(boolean createOnly) {
+		this.createOnly = createOnly;
+		return this;
+	}
+
+	public SnapshotOptions allowedClasses(String... allowedClasses) {
+		this.allowedClasses.addAll(Arrays.asList(allowedClasses));
+		return this;
+	}
+
+	public boolean isCompress() {
+		return compress;
+	}
+
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	public String getTargetNamespace() {
+		return targetNamespace;
+	}
+
+	public String getTargetSet() {
+		return targetSet;
+	}
+
+	public boolean isKeepTtl() {
+		return keepTtl;
+	}
+
+	public boolean isCreateOnly() {
+		return createOnly;
+	}
+
+	public List<String> getAllowedClasses() {
+		return Collections.unmodifiableList(allowedClasses);
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.snapshot;
+
+/**
+ * Outcome of a {@link SnapshotService} export or restore.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class SnapshotResult {
+	private final String	namespace;
+	private final String	set;
+	/**
+	 * Records exported or restored.
+	 */
+	private final long		records;
+	/**
+	 * Size of the file in bytes.
+	 */
+	private final long		fileSize;
+	private final long		elapsedMillis;
+
+	public SnapshotResult(String namespace, String set, long records, long fileSize, long elapsedMillis) {
+		this.namespace = namespace;
+		this.set = set;
+		this.records = records;
+		this.fileSize = fileSize;
+		this.elapsedMillis = elapsedMillis;
+	}
+
+	public String getNamespace() {
+		return namespace;
+	}
+
+	public String getSet() {
+		return set;
+	}
+
+	public long getRecords() {
+		return records;
+	}
+
+	public long getFileSize() {
+		return fileSize;
+	}
+
+	public long getElapsedMillis() {
+		return elapsedMillis;
+	}
+
+	public double getRecordsPerSecond() {
+		return elapsedMillis > 0 ? records * 1000.0 / elapsedMillis : records;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("SnapshotResult [namespace=").append(namespace).append(", set=").append(set).append(", records=").append(records)
+				.append(", fileSize=").append(fileSize).append(", elapsedMillis=").append(elapsedMillis).append("]");
+		return builder.toString();
+	}
+}
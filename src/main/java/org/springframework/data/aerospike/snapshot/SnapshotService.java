@@ -0,0 +1,81 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.snapshot;
+
+import java.io.Serializable;
+import java.nio.file.Path;
+
+import org.springframework.data.aerospike.exceptions.AerospikeException;
+
+/**
+ * Exports sets to local files and restores them back. Records are exported as
+ * raw bins along with the key digest, user key (if stored) and remaining time
+ * to live, so a restore recreates the records irrespective of the entity
+ * classes mapped to the set.
+ * <p>
+ * Export is a parallel scan of the set and hence not a point in time snapshot;
+ * records modified during the export may or may not be included with the
+ * modification. Both export and restore stream the records with a bounded
+ * buffer so memory use doesn't depend on the size of the set.
+ *
+ * <pre>
+ * snapshotService.export(User.class, Paths.get("/backup/users.snap.gz"), new SnapshotOptions().compress(true));
+ * snapshotService.restore(Paths.get("/backup/users.snap.gz"), new SnapshotOptions().targetSet("users_copy"));
+ * </pre>
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public interface SnapshotService {
+	/**
+	 * Exports all the records of the given set to the file.
+	 *
+	 * @param namespace
+	 * @param set
+	 * @param file
+	 * @param options
+	 * @return
+	 * @throws AerospikeException
+	 */
+	public SnapshotResult export(String namespace, String set, Path file, SnapshotOptions options) throws AerospikeException;
+
+	/**
+	 * Exports all the records of the set mapped to the given entity class.
+	 *
+	 * @param clazz
+	 * @param file
+	 * @param options
+	 * @return
+	 * @throws AerospikeException
+	 */
+	public SnapshotResult export(Class<? extends Serializable> clazz, Path file, SnapshotOptions options) throws AerospikeException;
+
+	/**
+	 * Restores the records from a file created by export. Records are written
+	 * to the namespace and set they were exported from unless overridden
+	 * through the options. Compressed files are detected automatically.
+	 * Records exported without bins are skipped. Java serialized bin values
+	 * are read only for the classes allowed through the options.
+	 *
+	 * @param file
+	 * @param options
+	 * @return
+	 * @throws AerospikeException
+	 */
+	public SnapshotResult restore(Path file, SnapshotOptions options) throws AerospikeException;
+}
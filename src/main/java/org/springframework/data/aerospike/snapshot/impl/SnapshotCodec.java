@@ -0,0 +1,260 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.snapshot.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Encodes bin values in a compact tagged binary form. Every value is written
+ * as a single byte type tag followed by the value. Values other than the
+ * native aerospike types are written with java serialization and only the
+ * allowed classes are read back.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+final class SnapshotCodec {
+	/**
+	 * "ASNP"
+	 */
+	static final int					MAGIC				= 0x41534E50;
+	/**
+	 * Version 2 added sorted maps.
+	 */
+	static final byte					VERSION				= 2;
+	static final byte					RECORD				= 1;
+	static final byte					END					= 0;
+
+	private static final byte			NULL				= 0;
+	private static final byte			LONG				= 1;
+	private static final byte			STRING				= 2;
+	private static final byte			BYTES				= 3;
+	private static final byte			DOUBLE				= 4;
+	private static final byte			LIST				= 5;
+	private static final byte			MAP					= 6;
+	private static final byte			OBJECT				= 7;
+	private static final byte			SORTED_MAP			= 8;
+	private static final Charset		UTF8				= Charset.forName("UTF-8");
+	/**
+	 * Bound of any length or element count read from a file, above the size
+	 * of the largest record an aerospike server accepts.
+	 */
+	static final int					MAX_LENGTH			= 128 * 1024 * 1024;
+	/**
+	 * Packages of the serialized values which are always allowed.
+	 */
+	private static final List<String>	ALLOWED_PACKAGES	= Arrays.asList("java.lang.", "java.util.", "java.math.", "java.time.");
+
+	private SnapshotCodec() {
+	}
+
+	static void writeValue(DataOutput out, Object value) throws IOException {
+		if (value == null) {
+			out.writeByte(NULL);
+		} else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			out.writeByte(LONG);
+			out.writeLong(((Number) value).longValue());
+		} else if (value instanceof String) {
+			out.writeByte(STRING);
+			writeString(out, (String) value);
+		} else if (value instanceof byte[]) {
+			out.writeByte(BYTES);
+			writeBytes(out, (byte[]) value);
+		} else if (value instanceof Double || value instanceof Float) {
+			out.writeByte(DOUBLE);
+			out.writeDouble(((Number) value).doubleValue());
+		} else if (value instanceof List) {
+			List<?> list = (List<?>) value;
+			out.writeByte(LIST);
+			out.writeInt(list.size());
+			for (Object element : list) {
+				writeValue(out, element);
+			}
+		} else if (value instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			out.writeByte(value instanceof SortedMap ? SORTED_MAP : MAP);
+			out.writeInt(map.size());
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				writeValue(out, entry.getKey());
+				writeValue(out, entry.getValue());
+			}
+		} else if (value instanceof Serializable) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			ObjectOutputStream objectOut = new ObjectOutputStream(bytes);
+			objectOut.writeObject(value);
+			objectOut.close();
+			out.writeByte(OBJECT);
+			writeBytes(out, bytes.toByteArray());
+		} else {
+			throw new IOException("Unsupported value type: " + value.getClass().getName());
+		}
+	}
+
+	/**
+	 * 
+	 * @param in
+	 * @param allowedClasses
+	 *            packages or classes of the serialized values allowed besides
+	 *            {@link #ALLOWED_PACKAGES}.
+	 * @return
+	 * @throws IOException
+	 */
+	static Object readValue(DataInput in, Collection<String> allowedClasses) throws IOException {
+		byte type = in.readByte();
+		switch (type) {
+		case NULL:
+			return null;
+		case LONG:
+			return in.readLong();
+		case STRING:
+			return readString(in);
+		case BYTES:
+			return readBytes(in);
+		case DOUBLE:
+			return in.readDouble();
+		case LIST:
+			// Not pre-sized from counts read from the file
+			int size = readCount(in);
+			List<Object> list = new ArrayList<Object>();
+			for (int i = 0; i < size; i++) {
+				list.add(readValue(in, allowedClasses));
+			}
+			return list;
+		case MAP:
+		case SORTED_MAP:
+			int entries = readCount(in);
+			// Entries are read back in the order they were written
+			Map<Object, Object> map = type == SORTED_MAP ? new TreeMap<Object, Object>() : new LinkedHashMap<Object, Object>();
+			for (int i = 0; i < entries; i++) {
+				map.put(readValue(in, allowedClasses), readValue(in, allowedClasses));
+			}
+			return map;
+		case OBJECT:
+			ObjectInputStream objectIn = new AllowedClassesInputStream(new ByteArrayInputStream(readBytes(in)), allowedClasses);
+			try {
+				return objectIn.readObject();
+			} catch (ClassNotFoundException e) {
+				throw new IOException("Class of exported value not found", e);
+			} finally {
+				objectIn.close();
+			}
+		default:
+			throw new IOException("Corrupt file, unknown value type: " + type);
+		}
+	}
+
+	static void writeString(DataOutput out, String value) throws IOException {
+		writeBytes(out, value.getBytes(UTF8));
+	}
+
+	static String readString(DataInput in) throws IOException {
+		return new String(readBytes(in), UTF8);
+	}
+
+	static void writeBytes(DataOutput out, byte[] value) throws IOException {
+		out.writeInt(value.length);
+		out.write(value);
+	}
+
+	static byte[] readBytes(DataInput in) throws IOException {
+		byte[] value = new byte[readCount(in)];
+		in.readFully(value);
+		return value;
+	}
+
+	/**
+	 * Reads a length or an element count.
+	 * 
+	 * @param in
+	 * @return
+	 * @throws IOException
+	 *             if the count is negative or larger than {@link #MAX_LENGTH}.
+	 */
+	static int readCount(DataInput in) throws IOException {
+		int count = in.readInt();
+		if (count < 0 || count > MAX_LENGTH) {
+			throw new IOException("Corrupt file, invalid length: " + count);
+		}
+		return count;
+	}
+
+	/**
+	 * Deserializes only the classes of {@link SnapshotCodec#ALLOWED_PACKAGES}
+	 * and of the allowed classes, so a crafted file can't instantiate
+	 * arbitrary classes of the classpath.
+	 */
+	private static class AllowedClassesInputStream extends ObjectInputStream {
+		private final Collection<String>	allowedClasses;
+
+		AllowedClassesInputStream(InputStream in, Collection<String> allowedClasses) throws IOException {
+			super(in);
+			this.allowedClasses = allowedClasses;
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			String name = desc.getName();
+			// Arrays are allowed when their component type is
+			int dimensions = 0;
+			while (dimensions < name.length() && name.charAt(dimensions) == '[') {
+				dimensions++;
+			}
+			String component = name.substring(dimensions);
+			if (dimensions > 0) {
+				component = component.startsWith("L") && component.endsWith(";") ? component.substring(1, component.length() - 1) : null;
+			}
+			if (component != null && !isAllowed(component)) {
+				throw new InvalidClassException(name, "Class is not allowed in restored values, see SnapshotOptions.allowedClasses");
+			}
+			return super.resolveClass(desc);
+		}
+
+		private boolean isAllowed(String className) {
+			for (String prefix : ALLOWED_PACKAGES) {
+				if (className.startsWith(prefix)) {
+					return true;
+				}
+			}
+			for (String allowed : allowedClasses) {
+				if (className.equals(allowed) || (className.startsWith(allowed) && (allowed.endsWith(".") || className.charAt(allowed.length()) == '.'))) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
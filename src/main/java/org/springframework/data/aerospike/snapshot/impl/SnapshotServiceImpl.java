@@ -0,0 +1,406 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.snapshot.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.aerospike.client.Client;
+import org.springframework.data.aerospike.configuration.PolicyUtils;
+import org.springframework.data.aerospike.exceptions.AerospikeException;
+import org.springframework.data.aerospike.exceptions.AerospikeSnapshotException;
+import org.springframework.data.aerospike.mapper.EntityMapper;
+import org.springframework.data.aerospike.mapper.EntityStructure;
+import org.springframework.data.aerospike.snapshot.SnapshotOptions;
+import org.springframework.data.aerospike.snapshot.SnapshotResult;
+import org.springframework.data.aerospike.snapshot.SnapshotService;
+import org.springframework.stereotype.Service;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.ScanCallback;
+import com.aerospike.client.Value;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.ScanPolicy;
+import com.aerospike.client.policy.WritePolicy;
+
+/**
+ * Export runs the scan on a separate thread which hands the records to the
+ * calling thread through a bounded queue; the calling thread encodes them to
+ * the file. When the queue is full the scan callbacks block, which slows down
+ * the scan instead of buffering the set in memory. Restore reads the file on
+ * the calling thread and writes the records through a pool of writers, bounded
+ * the same way.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@Service("snapshotService")
+public class SnapshotServiceImpl implements SnapshotService {
+	private static final Logger	LOGGER			= LoggerFactory.getLogger(SnapshotService.class);
+	/**
+	 * Marks end of the scan in the export queue.
+	 */
+	private static final Object	END_OF_SCAN		= new Object();
+	private static final int	IO_BUFFER_SIZE	= 64 * 1024;
+
+	@Autowired
+	private Client				client;
+
+	@Autowired
+	private EntityMapper		entityMapper;
+
+	@Override
+	public SnapshotResult export(Class<? extends Serializable> clazz, Path file, SnapshotOptions options) throws AerospikeException {
+		EntityStructure structure = entityMapper.getEntityStructure(clazz);
+		return export(structure.getNameSpace(), structure.getSet(), file, options);
+	}
+
+	@Override
+	public SnapshotResult export(final String namespace, final String set, Path file, SnapshotOptions options) throws AerospikeException {
+		long start = System.currentTimeMillis();
+		final BlockingQueue<Object> queue = new ArrayBlockingQueue<Object>(options.getBufferSize());
+		final AtomicBoolean cancelled = new AtomicBoolean();
+		final AtomicReference<Throwable> scanFailure = new AtomicReference<Throwable>();
+		final ScanPolicy scanPolicy = new ScanPolicy();
+		scanPolicy.concurrentNodes = true;
+		scanPolicy.maxConcurrentNodes = options.getParallelism();
+		Thread scanner = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					client.getAerospikeClient().scanAll(scanPolicy, namespace, set, new ScanCallback() {
+						@Override
+						public void scanCallback(Key key, Record record) throws com.aerospike.client.AerospikeException {
+							if (!enqueue(queue, new Object[] { key, record }, cancelled)) {
+								throw new com.aerospike.client.AerospikeException("Export of set: " + set + " cancelled");
+							}
+						}
+					});
+				} catch (Throwable t) {
+					scanFailure.set(t);
+				} finally {
+					enqueue(queue, END_OF_SCAN, cancelled);
+				}
+			}
+		}, "aerospike-export-" + set);
+		scanner.setDaemon(true);
+		scanner.start();
+		long records = 0;
+		DataOutputStream out = null;
+		try {
+			OutputStream stream = Channels.newOutputStream(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+					StandardOpenOption.WRITE));
+			if (options.isCompress()) {
+				stream = new GZIPOutputStream(stream, IO_BUFFER_SIZE);
+			}
+			out = new DataOutputStream(new BufferedOutputStream(stream, IO_BUFFER_SIZE));
+			out.writeInt(SnapshotCodec.MAGIC);
+			out.writeByte(SnapshotCodec.VERSION);
+			SnapshotCodec.writeString(out, namespace);
+			SnapshotCodec.writeString(out, set);
+			Object item;
+			while ((item = queue.take()) != END_OF_SCAN) {
+				Object[] scanned = (Object[]) item;
+				writeRecord(out, (Key) scanned[0], (Record) scanned[1]);
+				records++;
+			}
+			if (scanFailure.get() != null) {
+				throw new AerospikeSnapshotException("Scan of set: " + set + " failed after " + records + " records", scanFailure.get());
+			}
+			out.writeByte(SnapshotCodec.END);
+			out.close();
+			out = null;
+		} catch (IOException e) {
+			throw exportFailed(file, out, new AerospikeSnapshotException("Failed to write file: " + file, e));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw exportFailed(file, out, new AerospikeSnapshotException("Interrupted while exporting set: " + set, e));
+		} catch (AerospikeSnapshotException e) {
+			throw exportFailed(file, out, e);
+		} finally {
+			cancelled.set(true);
+			closeQuietly(out);
+		}
+		SnapshotResult result = new SnapshotResult(namespace, set, records, fileSize(file), System.currentTimeMillis() - start);
+		LOGGER.info("Exported set: {} of namespace: {} to file: {}. {} records/sec. {}", set, namespace, file, (long) result.getRecordsPerSecond(),
+				result);
+		return result;
+	}
+
+	@Override
+	public SnapshotResult restore(Path file, SnapshotOptions options) throws AerospikeException {
+		long start = System.currentTimeMillis();
+		final AtomicReference<Throwable> writeFailure = new AtomicReference<Throwable>();
+		final AtomicLong restored = new AtomicLong();
+		final Semaphore inFlight = new Semaphore(options.getBufferSize());
+		ExecutorService writers = Executors.newFixedThreadPool(options.getParallelism(), new ThreadFactory() {
+			private final AtomicInteger	counter	= new AtomicInteger();
+
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "aerospike-restore-" + counter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		String namespace = null;
+		String set = null;
+		long skipped = 0;
+		DataInputStream in = null;
+		try {
+			in = openForRead(file);
+			if (in.readInt() != SnapshotCodec.MAGIC) {
+				throw new AerospikeSnapshotException("File: " + file + " is not an exported set");
+			}
+			byte version = in.readByte();
+			// Files of earlier versions are a subset of the current format
+			if (version < 1 || version > SnapshotCodec.VERSION) {
+				throw new AerospikeSnapshotException("Unsupported version: " + version + " of file: " + file);
+			}
+			String exportedNamespace = SnapshotCodec.readString(in);
+			String exportedSet = SnapshotCodec.readString(in);
+			namespace = options.getTargetNamespace() != null ? options.getTargetNamespace() : exportedNamespace;
+			set = options.getTargetSet() != null ? options.getTargetSet() : exportedSet;
+			boolean setChanged = !set.equals(exportedSet);
+			WritePolicy defaultPolicy = PolicyUtils.copy(client.getDefaultWritePolicy());
+			defaultPolicy.recordExistsAction = options.isCreateOnly() ? RecordExistsAction.CREATE_ONLY : RecordExistsAction.REPLACE;
+			LOGGER.info("Restoring set: {} of namespace: {} from file: {} into set: {} of namespace: {}", exportedSet, exportedNamespace, file, set,
+					namespace);
+			byte marker;
+			while (writeFailure.get() == null && (marker = in.readByte()) != SnapshotCodec.END) {
+				if (marker != SnapshotCodec.RECORD) {
+					throw new AerospikeSnapshotException("Corrupt file: " + file);
+				}
+				byte[] digest = SnapshotCodec.readBytes(in);
+				Object userKey = SnapshotCodec.readValue(in, options.getAllowedClasses());
+				int ttl = in.readInt();
+				int binCount = SnapshotCodec.readCount(in);
+				List<Bin> bins = new ArrayList<Bin>();
+				for (int i = 0; i < binCount; i++) {
+					String name = SnapshotCodec.readString(in);
+					Object value = SnapshotCodec.readValue(in, options.getAllowedClasses());
+					if (value != null) {
+						bins.add(new Bin(name, Value.get(value)));
+					}
+				}
+				if (bins.isEmpty()) {
+					// Aerospike has no records without bins, nothing to restore
+					skipped++;
+					continue;
+				}
+				final Key key;
+				if (setChanged) {
+					if (userKey == null) {
+						throw new AerospikeSnapshotException("Record without stored user key can't be restored into a different set: " + set);
+					}
+					key = new Key(namespace, set, Value.get(userKey));
+				} else {
+					key = new Key(namespace, digest, set, userKey != null ? Value.get(userKey) : null);
+				}
+				final WritePolicy writePolicy = PolicyUtils.copy(defaultPolicy);
+				writePolicy.sendKey = userKey != null;
+				if (options.isKeepTtl()) {
+					writePolicy.expiration = ttl;
+				}
+				final Bin[] recordBins = bins.toArray(new Bin[bins.size()]);
+				inFlight.acquire();
+				writers.execute(new Runnable() {
+					@Override
+					public void run() {
+						try {
+							client.getAerospikeClient().put(writePolicy, key, recordBins);
+							restored.incrementAndGet();
+						} catch (Throwable t) {
+							writeFailure.compareAndSet(null, t);
+						} finally {
+							inFlight.release();
+						}
+					}
+				});
+			}
+		} catch (EOFException e) {
+			throw new AerospikeSnapshotException("File: " + file + " is truncated", e);
+		} catch (IOException e) {
+			throw new AerospikeSnapshotException("Failed to read file: " + file, e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AerospikeSnapshotException("Interrupted while restoring file: " + file, e);
+		} finally {
+			closeQuietly(in);
+			writers.shutdown();
+			awaitTermination(writers);
+		}
+		if (writeFailure.get() != null) {
+			throw new AerospikeSnapshotException("Restore of file: " + file + " failed after " + restored.get() + " records", writeFailure.get());
+		}
+		if (skipped > 0) {
+			LOGGER.info("Skipped {} records without bins in file: {}", skipped, file);
+		}
+		SnapshotResult result = new SnapshotResult(namespace, set, restored.get(), fileSize(file), System.currentTimeMillis() - start);
+		LOGGER.info("Restored file: {} into set: {} of namespace: {}. {} records/sec. {}", file, set, namespace, (long) result.getRecordsPerSecond(),
+				result);
+		return result;
+	}
+
+	/**
+	 * Opens the file for reading, detecting gzip compression from its first
+	 * bytes.
+	 *
+	 * @param file
+	 * @return
+	 * @throws IOException
+	 */
+	private DataInputStream openForRead(Path file) throws IOException {
+		InputStream stream = new BufferedInputStream(Channels.newInputStream(FileChannel.open(file, StandardOpenOption.READ)), IO_BUFFER_SIZE);
+		stream.mark(2);
+		int first = stream.read();
+		int second = stream.read();
+		stream.reset();
+		if (first == (GZIPInputStream.GZIP_MAGIC & 0xff) && second == (GZIPInputStream.GZIP_MAGIC >> 8)) {
+			stream = new BufferedInputStream(new GZIPInputStream(stream, IO_BUFFER_SIZE), IO_BUFFER_SIZE);
+		}
+		return new DataInputStream(stream);
+	}
+
+	/**
+	 *
+	 * @param out
+	 * @param key
+	 * @param record
+	 * @throws IOException
+	 */
+	private void writeRecord(DataOutputStream out, Key key, Record record) throws IOException {
+		out.writeByte(SnapshotCodec.RECORD);
+		SnapshotCodec.writeBytes(out, key.digest);
+		SnapshotCodec.writeValue(out, key.userKey != null ? key.userKey.getObject() : null);
+		out.writeInt(record.getTimeToLive());
+		Map<String, Object> bins = record.bins;
+		if (bins == null) {
+			out.writeInt(0);
+			return;
+		}
+		out.writeInt(bins.size());
+		for (Map.Entry<String, Object> bin : bins.entrySet()) {
+			SnapshotCodec.writeString(out, bin.getKey());
+			SnapshotCodec.writeValue(out, bin.getValue());
+		}
+	}
+
+	/**
+	 * Puts the item in queue, waiting for space. Returns false if export has
+	 * been cancelled while waiting.
+	 *
+	 * @param queue
+	 * @param item
+	 * @param cancelled
+	 * @return
+	 */
+	private boolean enqueue(BlockingQueue<Object> queue, Object item, AtomicBoolean cancelled) {
+		try {
+			while (!queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+				if (cancelled.get()) {
+					return false;
+				}
+			}
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * Closes and removes partially written file.
+	 *
+	 * @param file
+	 * @param out
+	 * @param e
+	 * @return
+	 */
+	private AerospikeSnapshotException exportFailed(Path file, Closeable out, AerospikeSnapshotException e) {
+		closeQuietly(out);
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException ioe) {
+			LOGGER.error("Failed to delete partially exported file: {}", file, ioe);
+		}
+		return e;
+	}
+
+	private long fileSize(Path file) {
+		try {
+			return Files.size(file);
+		} catch (IOException e) {
+			return -1;
+		}
+	}
+
+	private void awaitTermination(ExecutorService executor) {
+		try {
+			while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+				LOGGER.info("Waiting for restore writes to complete");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void closeQuietly(Closeable closeable) {
+		if (closeable != null) {
+			try {
+				closeable.close();
+			} catch (IOException e) {
+				LOGGER.debug("Failed to close {}", closeable, e);
+			}
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.udf;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.aerospike.client.Client;
+import org.springframework.data.aerospike.configuration.AerospikeConfigurations;
+import org.springframework.stereotype.Service;
+
+import com.aerospike.client.Language;
+import com.aerospike.client.task.RegisterTask;
+
+/**
+ * Registers lua UDF modules from the classpath with the cluster at startup and
+ * keeps track of the classpath location of every module. The location is
+ * needed by stream aggregations since the final reduce phase runs in the
+ * client.
+ * 
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@Service("udfModuleRegistry")
+public class UdfModuleRegistry {
+	private static final Logger							LOGGER	= LoggerFactory.getLogger(UdfModuleRegistry.class);
+
+	@Autowired
+	private Client										client;
+
+	@Autowired
+	private AerospikeConfigurations						aerospikeConfigurations;
+	/**
+	 * Module (package) name to classpath resource of the module.
+	 */
+	private final ConcurrentHashMap<String, String>	modules	= new ConcurrentHashMap<String, String>();
+
+	@PostConstruct
+	public void registerModules() {
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		for (String resourcePath : aerospikeConfigurations.getUdfModules()) {
+			String serverPath = resourcePath.substring(resourcePath.lastIndexOf('/') + 1);
+			String packageName = serverPath.endsWith(".lua") ? serverPath.substring(0, serverPath.length() - 4) : serverPath;
+			modules.put(packageName, resourcePath);
+			if (aerospikeConfigurations.isUdfRegistrationSkipped()) {
+				LOGGER.info("Skipping registration of udf module: {} from: {}", packageName, resourcePath);
+				continue;
+			}
+			try {
+				RegisterTask task = client.getAerospikeClient().register(null, classLoader, resourcePath, serverPath, Language.LUA);
+				task.waitTillComplete();
+				LOGGER.info("Udf module: {} has been registered from: {}", packageName, resourcePath);
+			} catch (com.aerospike.client.AerospikeException e) {
+				LOGGER.error("Failed to register udf module: {} from: {}", packageName, resourcePath, e);
+			}
+		}
+	}
+
+	/**
+	 * Returns the classpath resource of the given module or null if module is
+	 * not known.
+	 * 
+	 * @param packageName
+	 * @return
+	 */
+	public String getResourcePath(String packageName) {
+		return modules.get(packageName);
+	}
+}
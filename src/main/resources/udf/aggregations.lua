@@ -0,0 +1,68 @@
+-- Built-in stream aggregations used by AerospikeOperations.
+-- Bin names are passed by the caller after field name translation.
+
+local function add(value1, value2)
+	return value1 + value2
+end
+
+local function smaller(value1, value2)
+	if value1 < value2 then
+		return value1
+	end
+	return value2
+end
+
+local function greater(value1, value2)
+	if value1 > value2 then
+		return value1
+	end
+	return value2
+end
+
+local function has_bin(bin)
+	return function(rec)
+		return rec[bin] ~= nil
+	end
+end
+
+local function bin_value(bin)
+	return function(rec)
+		return rec[bin]
+	end
+end
+
+-- Number of records in the stream.
+function count(stream)
+	local function one(rec)
+		return 1
+	end
+	return stream : map(one) : reduce(add)
+end
+
+-- Sum of the numeric bin over the stream. Records without the bin are skipped.
+function sum(stream, bin)
+	return stream : filter(has_bin(bin)) : map(bin_value(bin)) : reduce(add)
+end
+
+-- Minimum value of the bin over the stream.
+function min(stream, bin)
+	return stream : filter(has_bin(bin)) : map(bin_value(bin)) : reduce(smaller)
+end
+
+-- Maximum value of the bin over the stream.
+function max(stream, bin)
+	return stream : filter(has_bin(bin)) : map(bin_value(bin)) : reduce(greater)
+end
+
+-- Number of records per distinct value of the bin.
+function group_by(stream, bin)
+	local function accumulate(groups, rec)
+		local value = rec[bin]
+		groups[value] = (groups[value] or 0) + 1
+		return groups
+	end
+	local function merge(groups1, groups2)
+		return map.merge(groups1, groups2, add)
+	end
+	return stream : filter(has_bin(bin)) : aggregate(map(), accumulate) : reduce(merge)
+end
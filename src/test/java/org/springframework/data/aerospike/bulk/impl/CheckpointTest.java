@@ -0,0 +1,116 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.bulk.impl;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+import org.springframework.data.aerospike.exceptions.AerospikeBulkLoadException;
+
+/**
+ * Checkpoint of parallel writes by {@link CheckpointTracker} and its saving and
+ * resuming through {@link CheckpointFile}.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class CheckpointTest extends TestCase {
+	private Path	directory;
+	private Path	file;
+	private Path	checkpoint;
+
+	@Override
+	protected void setUp() throws Exception {
+		directory = Files.createTempDirectory("checkpoint");
+		file = directory.resolve("users.csv");
+		checkpoint = directory.resolve("users.checkpoint");
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		Files.deleteIfExists(checkpoint);
+		Files.deleteIfExists(directory);
+	}
+
+	public void testCheckpointStopsBeforeFirstPendingLine() {
+		CheckpointTracker tracker = new CheckpointTracker(0);
+		tracker.skip(1);
+		tracker.start(2);
+		tracker.start(3);
+		tracker.start(4);
+		assertEquals(1, tracker.getCheckpoint());
+		tracker.complete(3);
+		tracker.complete(4);
+		assertEquals(1, tracker.getCheckpoint());
+		tracker.complete(2);
+		assertEquals(4, tracker.getCheckpoint());
+	}
+
+	public void testCheckpointStartsAtResumedLine() {
+		CheckpointTracker tracker = new CheckpointTracker(10);
+		assertEquals(10, tracker.getCheckpoint());
+		tracker.start(11);
+		assertEquals(10, tracker.getCheckpoint());
+	}
+
+	public void testMissingCheckpointStartsFromBeginning() throws Exception {
+		assertEquals(0, new CheckpointFile(checkpoint, file).read());
+	}
+
+	public void testWriteAndResume() throws Exception {
+		new CheckpointFile(checkpoint, file).write(42);
+		assertFalse(Files.exists(checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp")));
+		assertEquals(42, new CheckpointFile(checkpoint, file).read());
+		new CheckpointFile(checkpoint, file).write(84);
+		assertEquals(84, new CheckpointFile(checkpoint, file).read());
+	}
+
+	public void testDelete() throws Exception {
+		CheckpointFile checkpointFile = new CheckpointFile(checkpoint, file);
+		checkpointFile.write(42);
+		checkpointFile.delete();
+		assertFalse(Files.exists(checkpoint));
+		assertEquals(0, checkpointFile.read());
+	}
+
+	public void testCheckpointOfOtherFileRejected() throws Exception {
+		new CheckpointFile(checkpoint, directory.resolve("orders.csv")).write(42);
+		try {
+			new CheckpointFile(checkpoint, file).read();
+			fail("Checkpoint of other file should be rejected");
+		} catch (AerospikeBulkLoadException e) {
+			// Expected
+		}
+	}
+
+	public void testCorruptCheckpointRejected() throws IOException {
+		Files.write(checkpoint, Arrays.asList("file=" + file.toAbsolutePath().toString().replace("\\", "\\\\"), "line=abc"),
+				Charset.forName("UTF-8"));
+		try {
+			new CheckpointFile(checkpoint, file).read();
+			fail("Invalid line should be rejected");
+		} catch (AerospikeBulkLoadException e) {
+			// Expected
+		}
+	}
+}
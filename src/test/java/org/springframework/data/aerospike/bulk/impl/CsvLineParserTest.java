@@ -0,0 +1,86 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.bulk.impl;
+
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+/**
+ * Splitting of delimited lines by {@link CsvLineParser}.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class CsvLineParserTest extends TestCase {
+
+	public void testPlainValues() {
+		assertEquals(Arrays.asList("1", "john", "30"), CsvLineParser.parse("1,john,30", ','));
+	}
+
+	public void testEmptyUnquotedValuesAreNull() {
+		assertEquals(Arrays.asList(null, "john", null), CsvLineParser.parse(",john,", ','));
+	}
+
+	public void testEmptyQuotedValueIsEmpty() {
+		assertEquals(Arrays.asList("1", "", "30"), CsvLineParser.parse("1,\"\",30", ','));
+	}
+
+	public void testQuotedValueWithDelimiter() {
+		assertEquals(Arrays.asList("1", "Doe, John", "30"), CsvLineParser.parse("1,\"Doe, John\",30", ','));
+	}
+
+	public void testDoubledQuoteIsEscapedQuote() {
+		assertEquals(Arrays.asList("say \"hi\"", "x"), CsvLineParser.parse("\"say \"\"hi\"\"\",x", ','));
+	}
+
+	public void testQuoteWithinUnquotedValueIsKept() {
+		assertEquals(Arrays.asList("5\" disk", "x"), CsvLineParser.parse("5\" disk,x", ','));
+	}
+
+	public void testOtherDelimiter() {
+		assertEquals(Arrays.asList("a,b", "c"), CsvLineParser.parse("a,b;c", ';'));
+	}
+
+	public void testEmbeddedNewline() {
+		String first = "1,\"first line";
+		String second = "second, line\",30";
+		assertFalse(CsvLineParser.isComplete(first, ','));
+		String record = first + "\n" + second;
+		assertTrue(CsvLineParser.isComplete(record, ','));
+		List<String> values = CsvLineParser.parse(record, ',');
+		assertEquals(Arrays.asList("1", "first line\nsecond, line", "30"), values);
+	}
+
+	public void testIsComplete() {
+		assertTrue(CsvLineParser.isComplete("1,john,30", ','));
+		assertTrue(CsvLineParser.isComplete("\"a \"\"quoted\"\" value\",b", ','));
+		assertTrue(CsvLineParser.isComplete("5\" disk,x", ','));
+		assertFalse(CsvLineParser.isComplete("1,\"a \"\",b", ','));
+	}
+
+	public void testUnterminatedQuote() {
+		try {
+			CsvLineParser.parse("1,\"john,30", ',');
+			fail("Unterminated quote should be rejected");
+		} catch (IllegalArgumentException e) {
+			// Expected
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.bulk.impl;
+
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+/**
+ * Parsing of flat JSON objects by {@link JsonLineParser}.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class JsonLineParserTest extends TestCase {
+
+	public void testValueTypes() {
+		Map<String, Object> values = JsonLineParser.parse(" { \"id\" : 7, \"name\":\"john\", \"score\": -1.5e2, \"active\": true, \"note\": null } ");
+		assertEquals(Long.valueOf(7), values.get("id"));
+		assertEquals("john", values.get("name"));
+		assertEquals(Double.valueOf(-150), values.get("score"));
+		assertEquals(Boolean.TRUE, values.get("active"));
+		assertTrue(values.containsKey("note"));
+		assertNull(values.get("note"));
+	}
+
+	public void testEmptyObject() {
+		assertTrue(JsonLineParser.parse("{}").isEmpty());
+	}
+
+	public void testEscapes() {
+		Map<String, Object> values = JsonLineParser.parse("{\"text\":\"a\\\"b\\\\c\\nd\\u0041\"}");
+		assertEquals("a\"b\\c\ndA", values.get("text"));
+	}
+
+	public void testMalformed() {
+		assertRejected("");
+		assertRejected("[1, 2]");
+		assertRejected("{\"id\": 1");
+		assertRejected("{\"id\" 1}");
+		assertRejected("{id: 1}");
+		assertRejected("{\"id\": 1,}");
+		assertRejected("{\"id\": 1} trailing");
+		assertRejected("{\"name\": \"john}");
+		assertRejected("{\"id\": 1-2}");
+		assertRejected("{\"id\": abc}");
+		assertRejected("{\"text\": \"\\u00\"}");
+	}
+
+	public void testNestedValuesRejected() {
+		assertRejected("{\"address\": {\"city\": \"x\"}}");
+		assertRejected("{\"tags\": [\"a\"]}");
+	}
+
+	private void assertRejected(String line) {
+		try {
+			JsonLineParser.parse(line);
+			fail("Line should be rejected: " + line);
+		} catch (IllegalArgumentException e) {
+			// Expected
+		}
+	}
+}
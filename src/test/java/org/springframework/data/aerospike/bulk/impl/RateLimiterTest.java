@@ -0,0 +1,51 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.bulk.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+/**
+ * Spacing of permits by {@link RateLimiter}.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class RateLimiterTest extends TestCase {
+
+	public void testPermitsAreSpaced() throws Exception {
+		RateLimiter rateLimiter = new RateLimiter(100);
+		long start = System.nanoTime();
+		for (int i = 0; i < 11; i++) {
+			rateLimiter.acquire();
+		}
+		// First permit is immediate, the other 10 are 10ms apart
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(95));
+	}
+
+	public void testUnusedPermitsAreNotAccumulated() throws Exception {
+		RateLimiter rateLimiter = new RateLimiter(100);
+		Thread.sleep(100);
+		long start = System.nanoTime();
+		for (int i = 0; i < 6; i++) {
+			rateLimiter.acquire();
+		}
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(45));
+	}
+}
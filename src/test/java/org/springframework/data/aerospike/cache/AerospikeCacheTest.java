@@ -0,0 +1,122 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.cache;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.data.aerospike.client.Client;
+import org.springframework.data.aerospike.client.memory.InMemoryStore;
+import org.springframework.data.aerospike.configuration.AerospikeConfigurations;
+import org.springframework.data.aerospike.serializer.Serializer;
+import org.springframework.data.aerospike.test.InMemoryContext;
+
+/**
+ * {@link AerospikeCache} against the in-memory stand-in.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class AerospikeCacheTest extends TestCase {
+	private AerospikeCache	cache;
+	private InMemoryStore	store;
+
+	@Override
+	protected void setUp() throws Exception {
+		cache = InMemoryContext.getBean(AerospikeCacheManager.class).getCache("people");
+		store = InMemoryContext.getStore();
+		store.clear();
+	}
+
+	public void testConfiguredCacheIsCreated() {
+		assertTrue(InMemoryContext.getBean(AerospikeCacheManager.class).getCacheNames().contains("people"));
+	}
+
+	public void testPutAndGet() {
+		assertNull(cache.get("alice"));
+		cache.put("alice", "paris");
+		cache.put(1, 30L);
+		assertEquals("paris", cache.get("alice").get());
+		assertEquals("paris", cache.get("alice", String.class));
+		assertEquals(30L, cache.get(1).get());
+		assertEquals(2, store.size("test", "people"));
+	}
+
+	public void testNullValueIsCached() {
+		cache.put("alice", null);
+		ValueWrapper wrapper = cache.get("alice");
+		assertNotNull(wrapper);
+		assertNull(wrapper.get());
+	}
+
+	public void testGetOfOtherTypeFails() {
+		cache.put("alice", "paris");
+		try {
+			cache.get("alice", Long.class);
+			fail("Read cached text as a number");
+		} catch (IllegalStateException e) {
+			// Expected
+		}
+	}
+
+	public void testPutIfAbsentKeepsExistingValue() {
+		assertNull(cache.putIfAbsent("alice", "paris"));
+		ValueWrapper existing = cache.putIfAbsent("alice", "rome");
+		assertEquals("paris", existing.get());
+		assertEquals("paris", cache.get("alice").get());
+	}
+
+	public void testGetAllReturnsCachedKeysOnly() {
+		cache.put("alice", "paris");
+		cache.put("bob", "rome");
+		Map<Object, Object> values = cache.getAll(Arrays.asList("alice", "carol", "bob"));
+		assertEquals(2, values.size());
+		assertEquals("paris", values.get("alice"));
+		assertEquals("rome", values.get("bob"));
+		assertFalse(values.containsKey("carol"));
+	}
+
+	public void testEvictAndClear() {
+		cache.put("alice", "paris");
+		cache.put("bob", "rome");
+		cache.put("carol", "oslo");
+		cache.evict("alice");
+		assertNull(cache.get("alice"));
+		assertEquals("rome", cache.get("bob").get());
+		cache.clear();
+		assertNull(cache.get("bob"));
+		assertEquals(0, store.size("test", "people"));
+	}
+
+	public void testLocalTierServesValuesTillTheyExpire() throws Exception {
+		AerospikeConfigurations configurations = InMemoryContext.getBean(AerospikeConfigurations.class);
+		AerospikeCache localCache = new AerospikeCache("local", "test", InMemoryContext.getBean(Client.class),
+				InMemoryContext.getBean(Serializer.class), configurations.readPolicy(), configurations.batchPolicy(),
+				configurations.cacheWritePolicy("local"), new LocalCache(10, 100));
+		localCache.put("alice", "paris");
+		// Removed behind the back of the local tier
+		store.clear();
+		assertEquals("paris", localCache.get("alice").get());
+		assertEquals("paris", localCache.getAll(Arrays.asList("alice")).get("alice"));
+		Thread.sleep(150);
+		assertNull(localCache.get("alice"));
+	}
+}
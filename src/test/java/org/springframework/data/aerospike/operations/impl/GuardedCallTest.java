@@ -0,0 +1,276 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.operations.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import junit.framework.TestCase;
+
+import org.springframework.data.aerospike.breaker.CircuitBreaker;
+import org.springframework.data.aerospike.breaker.CircuitState;
+import org.springframework.data.aerospike.breaker.CircuitStats;
+import org.springframework.data.aerospike.client.memory.InMemoryStore;
+import org.springframework.data.aerospike.configuration.InMemoryPolicy;
+import org.springframework.data.aerospike.exceptions.AerospikeCircuitOpenException;
+import org.springframework.data.aerospike.exceptions.AerospikeLimitExceededException;
+import org.springframework.data.aerospike.limiter.ConcurrencyLimiter;
+import org.springframework.data.aerospike.limiter.Permit;
+import org.springframework.data.aerospike.operations.AerospikeOperations;
+import org.springframework.data.aerospike.operations.OperationType;
+import org.springframework.data.aerospike.test.Account;
+import org.springframework.data.aerospike.test.InMemoryContext;
+
+import com.aerospike.client.ResultCode;
+
+/**
+ * Circuit breaker and concurrency limiter guarding the calls of the
+ * operations, against the in-memory stand-in with injected failures and
+ * latency. Uses a set of its own since its circuit is tripped, and the
+ * circuit is closed again before every test.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class GuardedCallTest extends TestCase {
+	private static final InMemoryPolicy	HEALTHY	= new InMemoryPolicy(true, 0, 0, 0, ResultCode.TIMEOUT);
+	private static final InMemoryPolicy	FAILING	= new InMemoryPolicy(true, 0, 0, 100, ResultCode.TIMEOUT);
+	/**
+	 * Slow enough for a test to act while the calls are in flight.
+	 */
+	private static final InMemoryPolicy	SLOW	= new InMemoryPolicy(true, 500000, 0, 0, ResultCode.TIMEOUT);
+
+	private AerospikeOperations			operations;
+	private CircuitBreaker				circuitBreaker;
+	private ConcurrencyLimiter			concurrencyLimiter;
+	private InMemoryStore				store;
+
+	@Override
+	protected void setUp() throws Exception {
+		operations = InMemoryContext.getBean(AerospikeOperations.class);
+		circuitBreaker = InMemoryContext.getBean(CircuitBreaker.class);
+		concurrencyLimiter = InMemoryContext.getBean(ConcurrencyLimiter.class);
+		store = InMemoryContext.getStore();
+		store.clear();
+		store.setPolicy(HEALTHY);
+		closeCircuit();
+		operations.put(new Account(1, "alice", 10));
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		store.setPolicy(HEALTHY);
+	}
+
+	public void testClusterFailuresOpenCircuit() throws Exception {
+		trip();
+		assertEquals(CircuitState.OPEN, getState());
+		try {
+			operations.get(1, Account.class);
+			fail("Read through an open circuit");
+		} catch (AerospikeCircuitOpenException e) {
+			// Expected
+		}
+	}
+
+	public void testOpenCircuitRejectsWithoutTakingPermit() throws Exception {
+		operations.get(1, Account.class);
+		trip();
+		long rejections = getStats().getRejections();
+		long limiterRejections = concurrencyLimiter.getStats("test", OperationType.READ).getRejections();
+		// Even with every permit held the call is rejected by the circuit, not the limiter
+		List<Permit> permits = holdPermits();
+		try {
+			operations.get(1, Account.class);
+			fail("Read through an open circuit");
+		} catch (AerospikeCircuitOpenException e) {
+			// Expected
+		} finally {
+			release(permits);
+		}
+		assertEquals(rejections + 1, getStats().getRejections());
+		assertEquals(limiterRejections, concurrencyLimiter.getStats("test", OperationType.READ).getRejections());
+		assertEquals(0, concurrencyLimiter.getStats("test", OperationType.READ).getInFlight());
+	}
+
+	public void testFailuresOfRequestAreNotCounted() throws Exception {
+		store.setPolicy(new InMemoryPolicy(true, 0, 0, 100, ResultCode.KEY_NOT_FOUND_ERROR));
+		for (int i = 0; i < 10; i++) {
+			try {
+				operations.get(1, Account.class);
+				fail("Injected failure not thrown");
+			} catch (com.aerospike.client.AerospikeException e) {
+				assertEquals(ResultCode.KEY_NOT_FOUND_ERROR, e.getResultCode());
+			}
+		}
+		assertEquals(CircuitState.CLOSED, getState());
+	}
+
+	public void testCircuitClosesAfterTrialCalls() throws Exception {
+		trip();
+		awaitHalfOpen();
+		assertNotNull(operations.get(1, Account.class));
+		assertEquals(CircuitState.HALF_OPEN, getState());
+		assertNotNull(operations.get(1, Account.class));
+		assertEquals(CircuitState.CLOSED, getState());
+	}
+
+	public void testFailedTrialCallReopensCircuit() throws Exception {
+		trip();
+		awaitHalfOpen();
+		store.setPolicy(FAILING);
+		try {
+			operations.get(1, Account.class);
+			fail("Injected failure not thrown");
+		} catch (com.aerospike.client.AerospikeException e) {
+			assertEquals(ResultCode.TIMEOUT, e.getResultCode());
+		}
+		assertEquals(CircuitState.OPEN, getState());
+	}
+
+	public void testCallRejectedAfterPermitGivesPermitBack() throws Exception {
+		trip();
+		awaitHalfOpen();
+		store.setPolicy(SLOW);
+		// Both trial calls of the half open circuit are kept in flight
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			List<Future<Account>> trials = new ArrayList<Future<Account>>();
+			for (int i = 0; i < 2; i++) {
+				trials.add(executor.submit(new Callable<Account>() {
+					@Override
+					public Account call() throws Exception {
+						return operations.get(1, Account.class);
+					}
+				}));
+			}
+			awaitInFlight(2);
+			try {
+				operations.get(1, Account.class);
+				fail("Read beyond the trial calls of a half open circuit");
+			} catch (AerospikeCircuitOpenException e) {
+				// Expected
+			}
+			assertEquals(2, concurrencyLimiter.getStats("test", OperationType.READ).getInFlight());
+			for (Future<Account> trial : trials) {
+				assertNotNull(trial.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(0, concurrencyLimiter.getStats("test", OperationType.READ).getInFlight());
+		assertEquals(CircuitState.CLOSED, getState());
+	}
+
+	public void testCallsBeyondLimitAreRejected() throws Exception {
+		operations.get(1, Account.class);
+		List<Permit> permits = holdPermits();
+		try {
+			operations.get(1, Account.class);
+			fail("Read beyond the concurrency limit");
+		} catch (AerospikeLimitExceededException e) {
+			// Expected
+		} finally {
+			release(permits);
+		}
+		assertNotNull(operations.get(1, Account.class));
+		assertEquals(0, concurrencyLimiter.getStats("test", OperationType.READ).getInFlight());
+	}
+
+	/**
+	 * Fails reads till the circuit opens.
+	 */
+	private void trip() throws Exception {
+		store.setPolicy(FAILING);
+		try {
+			for (int i = 0; i < 20 && getState() != CircuitState.OPEN; i++) {
+				try {
+					operations.get(1, Account.class);
+					fail("Injected failure not thrown");
+				} catch (com.aerospike.client.AerospikeException e) {
+					assertEquals(ResultCode.TIMEOUT, e.getResultCode());
+				}
+			}
+		} finally {
+			store.setPolicy(HEALTHY);
+		}
+		assertEquals(CircuitState.OPEN, getState());
+	}
+
+	/**
+	 * Closes the circuit tripped by an earlier test through successful trial
+	 * calls.
+	 */
+	private void closeCircuit() throws Exception {
+		while (getState() != CircuitState.CLOSED) {
+			awaitHalfOpen();
+			operations.get(1, Account.class);
+		}
+	}
+
+	private void awaitHalfOpen() throws InterruptedException {
+		while (getState() == CircuitState.OPEN) {
+			Thread.sleep(20);
+		}
+	}
+
+	private void awaitInFlight(int inFlight) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (concurrencyLimiter.getStats("test", OperationType.READ).getInFlight() < inFlight) {
+			assertTrue("Calls not in flight in time", System.currentTimeMillis() < deadline);
+			Thread.sleep(5);
+		}
+		// Past the limiter, the calls claim their trial right after
+		Thread.sleep(50);
+	}
+
+	/**
+	 * 
+	 * @return all the permits of reads of the namespace.
+	 */
+	private List<Permit> holdPermits() throws AerospikeLimitExceededException {
+		List<Permit> permits = new ArrayList<Permit>();
+		for (int i = 0; i < concurrencyLimiter.getStats("test", OperationType.READ).getLimit(); i++) {
+			permits.add(concurrencyLimiter.acquire("test", OperationType.READ));
+		}
+		return permits;
+	}
+
+	private void release(List<Permit> permits) {
+		for (Permit permit : permits) {
+			permit.release();
+		}
+	}
+
+	private CircuitState getState() {
+		return circuitBreaker.getState("test", "account");
+	}
+
+	private CircuitStats getStats() {
+		for (CircuitStats stats : circuitBreaker.getStats()) {
+			if ("test".equals(stats.getNamespace()) && "account".equals(stats.getSet())) {
+				return stats;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.operations.impl;
+
+import junit.framework.TestCase;
+
+import org.springframework.data.aerospike.exceptions.AerospikeInvalidQueryException;
+import org.springframework.data.aerospike.operations.AerospikeOperations;
+import org.springframework.data.aerospike.operations.FieldOperation;
+import org.springframework.data.aerospike.test.InMemoryContext;
+import org.springframework.data.aerospike.test.Person;
+
+import com.aerospike.client.ResultCode;
+
+/**
+ * Atomic operations on single fields against the in-memory stand-in.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class OperateTest extends TestCase {
+	private AerospikeOperations	operations;
+
+	@Override
+	protected void setUp() throws Exception {
+		operations = InMemoryContext.getBean(AerospikeOperations.class);
+		InMemoryContext.getStore().clear();
+		operations.put(new Person(1, "alice", 30, "paris"));
+	}
+
+	public void testAddReturnsUpdatedField() throws Exception {
+		Person person = operations.operate(1, Person.class, FieldOperation.add("visits", 2));
+		assertEquals(2, person.getVisits());
+		// Only the fields operated on are read
+		assertNull(person.getName());
+		person = operations.operate(1, Person.class, FieldOperation.add("visits", 3));
+		assertEquals(5, person.getVisits());
+		assertEquals(3, person.getVersion());
+	}
+
+	public void testAppendPrependAndReadAll() throws Exception {
+		Person person = operations.operate(1, Person.class, FieldOperation.append("name", "!"), FieldOperation.prepend("city", "new "),
+				FieldOperation.readAll());
+		assertEquals("alice!", person.getName());
+		assertEquals("new paris", person.getCity());
+		assertEquals(30, person.getAge());
+	}
+
+	public void testReadOfOtherField() throws Exception {
+		Person person = operations.operate(1, Person.class, FieldOperation.add("visits", 1), FieldOperation.read("city"));
+		assertEquals(1, person.getVisits());
+		assertEquals("paris", person.getCity());
+		assertNull(person.getName());
+	}
+
+	public void testTouchOnlyReadsHeader() throws Exception {
+		Person person = operations.operate(1, Person.class, FieldOperation.touch());
+		assertNotNull(person);
+		assertEquals(2, person.getVersion());
+		assertNull(person.getName());
+		// Record is kept as it was
+		assertEquals("alice", operations.<Integer, Person> get(1, Person.class).getName());
+	}
+
+	public void testTouchOfMissingRecordFails() throws Exception {
+		try {
+			operations.operate(2, Person.class, FieldOperation.touch());
+			fail("Touched a missing record");
+		} catch (com.aerospike.client.AerospikeException e) {
+			assertEquals(ResultCode.KEY_NOT_FOUND_ERROR, e.getResultCode());
+		}
+	}
+
+	public void testAddOnTextFieldIsRejected() throws Exception {
+		try {
+			operations.operate(1, Person.class, FieldOperation.add("name", 1));
+			fail("Added to a text field");
+		} catch (AerospikeInvalidQueryException e) {
+			// Expected
+		}
+	}
+
+	public void testReadOfUnknownFieldIsRejected() throws Exception {
+		try {
+			operations.operate(1, Person.class, FieldOperation.read("unknown"));
+			fail("Read an unknown field");
+		} catch (AerospikeInvalidQueryException e) {
+			// Expected
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.operations.impl;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import org.springframework.data.aerospike.exceptions.AerospikeInvalidQueryException;
+import org.springframework.data.aerospike.mapper.EntityMapper;
+import org.springframework.data.aerospike.mapper.EntityStructure;
+import org.springframework.data.aerospike.operations.AerospikeOperations;
+import org.springframework.data.aerospike.operations.AerospikeQuery;
+import org.springframework.data.aerospike.operations.AerospikeQuery.Operator;
+import org.springframework.data.aerospike.test.InMemoryContext;
+import org.springframework.data.aerospike.test.Person;
+
+import com.aerospike.client.query.IndexType;
+
+/**
+ * Queries built with {@link AerospikeQuery} against the in-memory stand-in.
+ * Predicates aren't evaluated by the stand-in, so only their validation is
+ * tested.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class QueryTest extends TestCase {
+	private AerospikeOperations	operations;
+
+	@Override
+	protected void setUp() throws Exception {
+		operations = InMemoryContext.getBean(AerospikeOperations.class);
+		InMemoryContext.getStore().clear();
+		// Store is cleared for every test, so the index is created here instead of on the first put
+		EntityStructure structure = InMemoryContext.getBean(EntityMapper.class).getEntityStructure(Person.class);
+		structure.setIndexesInitialized(true);
+		operations.addIndex(null, structure.getNameSpace(), structure.getSet(), structure.getBinName("age"), "person_age", IndexType.NUMERIC);
+		for (int id = 1; id <= 10; id++) {
+			operations.put(new Person(id, "person" + id, 20 + id % 5, id % 2 == 0 ? "paris" : "rome"));
+		}
+	}
+
+	public void testEqual() throws Exception {
+		List<Person> persons = operations.query(Person.class, new AerospikeQuery().equal("age", 22));
+		assertEquals(ids(2, 7), ids(persons));
+	}
+
+	public void testRangeIsInclusive() throws Exception {
+		List<Person> persons = operations.query(Person.class, new AerospikeQuery().range("age", 23, 24));
+		assertEquals(ids(3, 4, 8, 9), ids(persons));
+	}
+
+	public void testLimit() throws Exception {
+		List<Person> persons = operations.query(Person.class, new AerospikeQuery().range("age", 20, 24).limit(3));
+		assertEquals(3, persons.size());
+	}
+
+	public void testNoMatch() throws Exception {
+		assertTrue(operations.query(Person.class, new AerospikeQuery().equal("age", 99)).isEmpty());
+	}
+
+	public void testFieldWithoutIndexIsNotQueried() throws Exception {
+		assertNull(operations.query(Person.class, new AerospikeQuery().equal("city", "paris")));
+		assertNull(operations.query(Person.class, new AerospikeQuery()));
+	}
+
+	public void testPredicateOnUnknownFieldIsRejected() throws Exception {
+		try {
+			operations.query(Person.class, new AerospikeQuery().equal("age", 22).and("unknown", Operator.EQUAL, "x"));
+			fail("Queried with a predicate on an unknown field");
+		} catch (AerospikeInvalidQueryException e) {
+			// Expected
+		}
+	}
+
+	public void testPredicateOnIntegerFieldWithTextIsRejected() throws Exception {
+		try {
+			operations.query(Person.class, new AerospikeQuery().equal("age", 22).and("visits", Operator.GREATER, "x"));
+			fail("Queried with a text predicate on an integer field");
+		} catch (AerospikeInvalidQueryException e) {
+			// Expected
+		}
+	}
+
+	private Set<Integer> ids(int... ids) {
+		Set<Integer> set = new HashSet<Integer>();
+		for (int id : ids) {
+			set.add(id);
+		}
+		return set;
+	}
+
+	private Set<Integer> ids(List<Person> persons) {
+		Set<Integer> set = new HashSet<Integer>();
+		for (Person person : persons) {
+			set.add(person.getId());
+		}
+		return set;
+	}
+}
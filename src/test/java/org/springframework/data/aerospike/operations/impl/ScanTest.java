@@ -0,0 +1,120 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.operations.impl;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import org.springframework.data.aerospike.exceptions.AerospikeInvalidQueryException;
+import org.springframework.data.aerospike.operations.AerospikeOperations;
+import org.springframework.data.aerospike.operations.ScanPage;
+import org.springframework.data.aerospike.test.Account;
+import org.springframework.data.aerospike.test.InMemoryContext;
+import org.springframework.data.aerospike.test.Person;
+
+/**
+ * Paged scans against the in-memory stand-in, which scans its records as a
+ * single node.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class ScanTest extends TestCase {
+	private AerospikeOperations	operations;
+
+	@Override
+	protected void setUp() throws Exception {
+		operations = InMemoryContext.getBean(AerospikeOperations.class);
+		InMemoryContext.getStore().clear();
+	}
+
+	public void testPagesReturnEveryRecordOnce() throws Exception {
+		for (int id = 1; id <= 25; id++) {
+			operations.put(new Person(id, "person" + id, id, "paris"));
+		}
+		// Records of other sets are not scanned
+		operations.put(new Account(1, "alice", 10));
+		Set<Integer> ids = new HashSet<Integer>();
+		int pages = 0;
+		String resumeToken = null;
+		do {
+			ScanPage<Person> page = operations.scan(Person.class, 10, resumeToken);
+			pages++;
+			assertTrue(page.getEntities().size() <= 10);
+			for (Person person : page.getEntities()) {
+				assertTrue("Person returned twice: " + person, ids.add(person.getId()));
+			}
+			resumeToken = page.getResumeToken();
+			assertEquals(resumeToken != null, page.hasNext());
+		} while (resumeToken != null);
+		assertEquals(25, ids.size());
+		assertEquals(3, pages);
+	}
+
+	public void testPageOfExactSize() throws Exception {
+		for (int id = 1; id <= 10; id++) {
+			operations.put(new Person(id, "person" + id, id, "paris"));
+		}
+		ScanPage<Person> page = operations.scan(Person.class, 10, null);
+		assertEquals(10, page.getEntities().size());
+		assertFalse(page.hasNext());
+	}
+
+	public void testScanOfEmptySet() throws Exception {
+		ScanPage<Person> page = operations.scan(Person.class, 10, null);
+		assertTrue(page.getEntities().isEmpty());
+		assertFalse(page.hasNext());
+	}
+
+	public void testSecondPageResumesAfterFirst() throws Exception {
+		for (int id = 1; id <= 20; id++) {
+			operations.put(new Person(id, "person" + id, id, "paris"));
+		}
+		ScanPage<Person> first = operations.scan(Person.class, 10, null);
+		ScanPage<Person> second = operations.scan(Person.class, 10, first.getResumeToken());
+		Set<Integer> ids = new HashSet<Integer>();
+		for (Person person : first.getEntities()) {
+			ids.add(person.getId());
+		}
+		for (Person person : second.getEntities()) {
+			assertTrue("Person returned twice: " + person, ids.add(person.getId()));
+		}
+		assertEquals(20, ids.size());
+		assertFalse(second.hasNext());
+	}
+
+	public void testInvalidPageSizeIsRejected() throws Exception {
+		try {
+			operations.scan(Person.class, 0, null);
+			fail("Scanned with page size 0");
+		} catch (AerospikeInvalidQueryException e) {
+			// Expected
+		}
+	}
+
+	public void testInvalidResumeTokenIsRejected() throws Exception {
+		try {
+			operations.scan(Person.class, 10, "no-separator");
+			fail("Scanned with an invalid resume token");
+		} catch (AerospikeInvalidQueryException e) {
+			// Expected
+		}
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.operations.impl;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import junit.framework.TestCase;
+
+import org.springframework.data.aerospike.client.memory.InMemoryStore;
+import org.springframework.data.aerospike.operations.AerospikeOperations;
+import org.springframework.data.aerospike.operations.FieldOperation;
+import org.springframework.data.aerospike.test.InMemoryContext;
+import org.springframework.data.aerospike.test.Person;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Writes deferred to the end of a transaction against the in-memory
+ * stand-in. The transaction synchronization is driven the way a transaction
+ * manager does it.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class UnitOfWorkTest extends TestCase {
+	private AerospikeOperations	operations;
+	private InMemoryStore		store;
+
+	@Override
+	protected void setUp() throws Exception {
+		operations = InMemoryContext.getBean(AerospikeOperations.class);
+		store = InMemoryContext.getStore();
+		store.clear();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+		}
+	}
+
+	public void testWritesAreDeferredToCommit() throws Exception {
+		TransactionSynchronizationManager.initSynchronization();
+		Person person = new Person(1, "alice", 30, "paris");
+		operations.put(person);
+		assertEquals(0, store.size("test", "person"));
+		// Reads of the transaction see its own writes
+		assertEquals("alice", operations.<Integer, Person> get(1, Person.class).getName());
+		assertTrue(operations.exists(1, Person.class));
+		commit();
+		assertEquals(1, store.size("test", "person"));
+		assertEquals(1, person.getVersion());
+		assertEquals("alice", operations.<Integer, Person> get(1, Person.class).getName());
+	}
+
+	public void testRollbackDiscardsChanges() throws Exception {
+		operations.put(new Person(1, "alice", 30, "paris"));
+		TransactionSynchronizationManager.initSynchronization();
+		operations.put(new Person(2, "bob", 40, "rome"));
+		assertTrue(operations.remove(1, Person.class));
+		complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+		assertNotNull(operations.get(1, Person.class));
+		assertNull(operations.get(2, Person.class));
+	}
+
+	public void testChangesAfterPutAreNotWritten() throws Exception {
+		TransactionSynchronizationManager.initSynchronization();
+		Person person = new Person(1, "alice", 30, "paris");
+		operations.put(person);
+		person.setCity("oslo");
+		assertEquals("paris", operations.<Integer, Person> get(1, Person.class).getCity());
+		commit();
+		assertEquals("paris", operations.<Integer, Person> get(1, Person.class).getCity());
+	}
+
+	public void testLastChangeOfKeyWins() throws Exception {
+		TransactionSynchronizationManager.initSynchronization();
+		operations.put(new Person(1, "alice", 30, "paris"));
+		assertTrue(operations.remove(1, Person.class));
+		assertNull(operations.get(1, Person.class));
+		assertFalse(operations.exists(1, Person.class));
+		commit();
+		assertEquals(0, store.size("test", "person"));
+	}
+
+	public void testRemoveIsDeferredToCommit() throws Exception {
+		operations.put(new Person(1, "alice", 30, "paris"));
+		TransactionSynchronizationManager.initSynchronization();
+		assertTrue(operations.remove(1, Person.class));
+		assertFalse(operations.remove(1, Person.class));
+		assertEquals(1, store.size("test", "person"));
+		commit();
+		assertEquals(0, store.size("test", "person"));
+	}
+
+	public void testOperateWritesPendingChangeFirst() throws Exception {
+		TransactionSynchronizationManager.initSynchronization();
+		operations.put(new Person(1, "alice", 30, "paris"));
+		Person person = operations.operate(1, Person.class, FieldOperation.add("visits", 1));
+		assertEquals(1, person.getVisits());
+		assertEquals(1, store.size("test", "person"));
+		commit();
+		// Pending change has been written before the operation, not over it
+		Person read = operations.get(1, Person.class);
+		assertEquals("alice", read.getName());
+		assertEquals(1, read.getVisits());
+	}
+
+	public void testCommitFailsOnConcurrentUpdate() throws Exception {
+		operations.put(new Person(1, "alice", 30, "paris"));
+		TransactionSynchronizationManager.initSynchronization();
+		Person person = operations.get(1, Person.class);
+		person.setCity("rome");
+		operations.put(person);
+		// Written outside the transaction, which is bound to this thread
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			executor.submit(new Callable<Void>() {
+				@Override
+				public Void call() throws Exception {
+					Person other = operations.get(1, Person.class);
+					other.setCity("oslo");
+					operations.put(other);
+					return null;
+				}
+			}).get();
+		} finally {
+			executor.shutdown();
+		}
+		try {
+			commit();
+			fail("Committed over a concurrent update");
+		} catch (TransactionSystemException e) {
+			// Expected
+		}
+		assertEquals("oslo", operations.<Integer, Person> get(1, Person.class).getCity());
+	}
+
+	/**
+	 * Flushes the unit of work and completes the transaction as committed.
+	 * A failed flush rolls the transaction back and is thrown.
+	 */
+	private void commit() {
+		try {
+			for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+				synchronization.beforeCommit(false);
+			}
+		} catch (RuntimeException e) {
+			complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+			throw e;
+		}
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+	}
+
+	private void complete(int status) {
+		try {
+			for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+				synchronization.afterCompletion(status);
+			}
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+}
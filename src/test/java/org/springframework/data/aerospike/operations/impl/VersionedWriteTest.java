@@ -0,0 +1,168 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.operations.impl;
+
+import junit.framework.TestCase;
+
+import org.springframework.data.aerospike.exceptions.AerospikeIncompatibleEntityException;
+import org.springframework.data.aerospike.exceptions.AerospikeOptimisticLockingException;
+import org.springframework.data.aerospike.operations.AerospikeOperations;
+import org.springframework.data.aerospike.operations.EntityUpdater;
+import org.springframework.data.aerospike.test.Entity;
+import org.springframework.data.aerospike.test.InMemoryContext;
+import org.springframework.data.aerospike.test.Person;
+
+/**
+ * Puts and computes of versioned entities against the in-memory stand-in.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class VersionedWriteTest extends TestCase {
+	private AerospikeOperations	operations;
+
+	@Override
+	protected void setUp() throws Exception {
+		operations = InMemoryContext.getBean(AerospikeOperations.class);
+		InMemoryContext.getStore().clear();
+	}
+
+	public void testPutOfNewEntityCreatesRecord() throws Exception {
+		Person person = new Person(1, "alice", 30, "paris");
+		operations.put(person);
+		assertEquals(1, person.getVersion());
+		Person read = operations.get(1, Person.class);
+		assertEquals("alice", read.getName());
+		assertEquals(1, read.getVersion());
+	}
+
+	public void testPutOfNewEntityOverExistingRecordFails() throws Exception {
+		operations.put(new Person(1, "alice", 30, "paris"));
+		try {
+			operations.put(new Person(1, "bob", 40, "rome"));
+			fail("New entity overwrote an existing record");
+		} catch (AerospikeOptimisticLockingException e) {
+			// Expected
+		}
+		assertEquals("alice", operations.<Integer, Person> get(1, Person.class).getName());
+	}
+
+	public void testPutOfReadEntityAdvancesVersion() throws Exception {
+		operations.put(new Person(1, "alice", 30, "paris"));
+		Person read = operations.get(1, Person.class);
+		read.setCity("rome");
+		operations.put(read);
+		assertEquals(2, read.getVersion());
+		Person updated = operations.get(1, Person.class);
+		assertEquals("rome", updated.getCity());
+		assertEquals(2, updated.getVersion());
+	}
+
+	public void testPutOfStaleEntityFails() throws Exception {
+		operations.put(new Person(1, "alice", 30, "paris"));
+		Person first = operations.get(1, Person.class);
+		Person second = operations.get(1, Person.class);
+		first.setCity("rome");
+		operations.put(first);
+		second.setCity("oslo");
+		try {
+			operations.put(second);
+			fail("Stale entity overwrote a newer record");
+		} catch (AerospikeOptimisticLockingException e) {
+			// Expected
+		}
+		assertEquals("rome", operations.<Integer, Person> get(1, Person.class).getCity());
+	}
+
+	public void testPutOfUnversionedEntityOverwrites() throws Exception {
+		Entity entity = new Entity();
+		entity.setId(1);
+		entity.setPrimaryValue("first");
+		operations.put(entity);
+		Entity other = new Entity();
+		other.setId(1);
+		other.setPrimaryValue("second");
+		operations.put(other);
+		assertEquals("second", operations.<Integer, Entity> get(1, Entity.class).getPrimaryValue());
+	}
+
+	public void testComputeCreatesMissingRecord() throws Exception {
+		Person computed = operations.compute(1, Person.class, new EntityUpdater<Person>() {
+			@Override
+			public Person update(Person current) {
+				assertNull(current);
+				return new Person(1, "alice", 30, "paris");
+			}
+		});
+		assertEquals(1, computed.getVersion());
+		assertEquals("alice", operations.<Integer, Person> get(1, Person.class).getName());
+	}
+
+	public void testComputeRetriesOnConcurrentUpdate() throws Exception {
+		operations.put(new Person(1, "alice", 30, "paris"));
+		final int[] calls = new int[1];
+		Person computed = operations.compute(1, Person.class, new EntityUpdater<Person>() {
+			@Override
+			public Person update(Person current) {
+				calls[0]++;
+				if (calls[0] == 1) {
+					// Another writer updates the record in between the read and the write
+					try {
+						Person other = operations.get(1, Person.class);
+						other.setAge(other.getAge() + 10);
+						operations.put(other);
+					} catch (Exception e) {
+						throw new IllegalStateException(e);
+					}
+				}
+				current.setAge(current.getAge() + 1);
+				return current;
+			}
+		});
+		assertEquals(2, calls[0]);
+		assertEquals(41, computed.getAge());
+		assertEquals(3, computed.getVersion());
+		assertEquals(41, operations.<Integer, Person> get(1, Person.class).getAge());
+	}
+
+	public void testComputeReturningNullDoesNotWrite() throws Exception {
+		operations.put(new Person(1, "alice", 30, "paris"));
+		Person computed = operations.compute(1, Person.class, new EntityUpdater<Person>() {
+			@Override
+			public Person update(Person current) {
+				return null;
+			}
+		});
+		assertEquals(1, computed.getVersion());
+		assertEquals(1, operations.<Integer, Person> get(1, Person.class).getVersion());
+	}
+
+	public void testComputeOfUnversionedEntityFails() throws Exception {
+		try {
+			operations.compute(1, Entity.class, new EntityUpdater<Entity>() {
+				@Override
+				public Entity update(Entity current) {
+					return current;
+				}
+			});
+			fail("Computed an entity without version");
+		} catch (AerospikeIncompatibleEntityException e) {
+			// Expected
+		}
+	}
+}
@@ -0,0 +1,201 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.snapshot.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import junit.framework.TestCase;
+
+/**
+ * Round trip of every value type of {@link SnapshotCodec} and rejection of
+ * corrupt files and of classes which aren't allowed.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class SnapshotCodecTest extends TestCase {
+	private static final Collection<String>	NONE	= Collections.emptyList();
+
+	public void testNull() throws IOException {
+		assertNull(roundTrip(null, NONE));
+	}
+
+	public void testIntegralNumbersAreReadAsLong() throws IOException {
+		assertEquals(Long.valueOf(Long.MIN_VALUE), roundTrip(Long.MIN_VALUE, NONE));
+		assertEquals(Long.valueOf(42), roundTrip(42, NONE));
+		assertEquals(Long.valueOf(-7), roundTrip((short) -7, NONE));
+		assertEquals(Long.valueOf(3), roundTrip((byte) 3, NONE));
+	}
+
+	public void testString() throws IOException {
+		assertEquals("", roundTrip("", NONE));
+		assertEquals("na\u00efve \u65e5\u672c", roundTrip("na\u00efve \u65e5\u672c", NONE));
+	}
+
+	public void testBytes() throws IOException {
+		byte[] bytes = { 0, -1, 127, -128 };
+		assertTrue(Arrays.equals(bytes, (byte[]) roundTrip(bytes, NONE)));
+	}
+
+	public void testFloatingNumbersAreReadAsDouble() throws IOException {
+		assertEquals(Double.valueOf(2.5), roundTrip(2.5d, NONE));
+		assertEquals(Double.valueOf(1.5), roundTrip(1.5f, NONE));
+	}
+
+	public void testList() throws IOException {
+		List<Object> list = Arrays.<Object> asList(1L, "two", null, Arrays.asList(3L, 4L));
+		assertEquals(list, roundTrip(list, NONE));
+	}
+
+	public void testMapKeepsOrder() throws IOException {
+		Map<Object, Object> map = new LinkedHashMap<Object, Object>();
+		map.put("z", 1L);
+		map.put("a", Arrays.asList("x"));
+		map.put(5L, null);
+		Object read = roundTrip(map, NONE);
+		assertEquals(map, read);
+		assertEquals(Arrays.asList(map.keySet().toArray()), Arrays.asList(((Map<?, ?>) read).keySet().toArray()));
+	}
+
+	public void testSortedMapIsReadSorted() throws IOException {
+		TreeMap<Object, Object> map = new TreeMap<Object, Object>();
+		map.put("b", 2L);
+		map.put("a", 1L);
+		Object read = roundTrip(map, NONE);
+		assertTrue(read instanceof TreeMap);
+		assertEquals(map, read);
+	}
+
+	public void testObjectOfAllowedPackage() throws IOException {
+		assertEquals(new BigDecimal("12.50"), roundTrip(new BigDecimal("12.50"), NONE));
+	}
+
+	public void testObjectOfAllowedClass() throws IOException {
+		Point point = new Point(1, 2);
+		assertEquals(point, roundTrip(point, Collections.singletonList(Point.class.getName())));
+		assertEquals(point, roundTrip(point, Collections.singletonList("org.springframework.data.aerospike.snapshot")));
+		Point[] points = { point };
+		assertTrue(Arrays.equals(points, (Point[]) roundTrip(points, Collections.singletonList(Point.class.getName()))));
+	}
+
+	public void testObjectOfOtherClassRejected() throws IOException {
+		assertRejected(write(new Point(1, 2)), NONE, InvalidClassException.class);
+		assertRejected(write(new Point[] { new Point(1, 2) }), NONE, InvalidClassException.class);
+		// Prefix of a package name doesn't allow the package
+		assertRejected(write(new Point(1, 2)), Collections.singletonList("org.springframework.data.aero"), InvalidClassException.class);
+	}
+
+	public void testUnknownTypeRejected() throws IOException {
+		assertRejected(new byte[] { 99 }, NONE, IOException.class);
+	}
+
+	public void testNegativeLengthRejected() throws IOException {
+		assertRejected(tagged(3, -1), NONE, IOException.class);
+		assertRejected(tagged(2, Integer.MIN_VALUE), NONE, IOException.class);
+	}
+
+	public void testOversizedLengthRejected() throws IOException {
+		assertRejected(tagged(3, SnapshotCodec.MAX_LENGTH + 1), NONE, IOException.class);
+	}
+
+	public void testInvalidCountsRejected() throws IOException {
+		assertRejected(tagged(5, -1), NONE, IOException.class);
+		assertRejected(tagged(5, Integer.MAX_VALUE), NONE, IOException.class);
+		assertRejected(tagged(6, -1), NONE, IOException.class);
+		assertRejected(tagged(8, Integer.MAX_VALUE), NONE, IOException.class);
+	}
+
+	private Object roundTrip(Object value, Collection<String> allowedClasses) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(write(value)));
+		Object read = SnapshotCodec.readValue(in, allowedClasses);
+		assertEquals("Unread bytes", 0, in.available());
+		return read;
+	}
+
+	private byte[] write(Object value) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		SnapshotCodec.writeValue(out, value);
+		out.close();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * 
+	 * @param type
+	 * @param count
+	 * @return value of the given type tag followed by the given length or
+	 *         count and nothing else.
+	 * @throws IOException
+	 */
+	private byte[] tagged(int type, int count) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeByte(type);
+		out.writeInt(count);
+		out.close();
+		return bytes.toByteArray();
+	}
+
+	private void assertRejected(byte[] bytes, Collection<String> allowedClasses, Class<? extends IOException> expected) {
+		try {
+			SnapshotCodec.readValue(new DataInputStream(new ByteArrayInputStream(bytes)), allowedClasses);
+			fail("Value should be rejected");
+		} catch (IOException e) {
+			assertTrue("Unexpected " + e, expected.isInstance(e));
+			if (expected == IOException.class) {
+				assertTrue("Unexpected " + e, e.getMessage().startsWith("Corrupt file"));
+			}
+		}
+	}
+
+	private static class Point implements Serializable {
+		private static final long	serialVersionUID	= 1L;
+		private final int			x;
+		private final int			y;
+
+		private Point(int x, int y) {
+			this.x = x;
+			this.y = y;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Point && ((Point) obj).x == x && ((Point) obj).y == y;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * x + y;
+		}
+	}
+}
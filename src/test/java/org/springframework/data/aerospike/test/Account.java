@@ -0,0 +1,78 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.test;
+
+import java.io.Serializable;
+
+import org.springframework.data.aerospike.annotations.AerospikeEntity;
+import org.springframework.data.aerospike.annotations.AerospikeKey;
+
+/**
+ * Entity of a set of its own, so the tests tripping its circuit don't affect
+ * the other tests.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@AerospikeEntity(nameSpace = "test", setName = "account")
+public class Account implements Serializable {
+	@AerospikeKey
+	private int		id;
+	private String	owner;
+	private long	balance;
+
+	public Account() {
+	}
+
+	public Account(int id, String owner, long balance) {
+		this.id = id;
+		this.owner = owner;
+		this.balance = balance;
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public void setId(int id) {
+		this.id = id;
+	}
+
+	public String getOwner() {
+		return owner;
+	}
+
+	public void setOwner(String owner) {
+		this.owner = owner;
+	}
+
+	public long getBalance() {
+		return balance;
+	}
+
+	public void setBalance(long balance) {
+		this.balance = balance;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("Account [id=").append(id).append(", owner=").append(owner).append(", balance=").append(balance).append("]");
+		return builder.toString();
+	}
+}
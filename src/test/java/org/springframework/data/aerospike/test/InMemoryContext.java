@@ -0,0 +1,58 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.test;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.ClassPathXmlApplicationContext;
+import org.springframework.data.aerospike.client.Client;
+import org.springframework.data.aerospike.client.memory.InMemoryClient;
+import org.springframework.data.aerospike.client.memory.InMemoryStore;
+
+/**
+ * Application context of the tests run against the in-memory stand-in of the
+ * cluster, configured by aerospike-memory.config. The context is created once
+ * and shared by the tests, which clear the store they use.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public final class InMemoryContext {
+	private static ApplicationContext	applicationContext;
+
+	private InMemoryContext() {
+	}
+
+	public static synchronized ApplicationContext get() {
+		if (applicationContext == null) {
+			applicationContext = new ClassPathXmlApplicationContext("classpath:inMemoryContext.xml");
+		}
+		return applicationContext;
+	}
+
+	public static <T> T getBean(Class<T> type) {
+		return get().getBean(type);
+	}
+
+	/**
+	 * 
+	 * @return store holding the records of the stand-in.
+	 */
+	public static InMemoryStore getStore() {
+		return ((InMemoryClient) getBean(Client.class)).getStore();
+	}
+}
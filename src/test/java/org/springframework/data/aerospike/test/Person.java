@@ -0,0 +1,112 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.test;
+
+import java.io.Serializable;
+
+import org.springframework.data.aerospike.annotations.AerospikeEntity;
+import org.springframework.data.aerospike.annotations.AerospikeIndex;
+import org.springframework.data.aerospike.annotations.AerospikeKey;
+import org.springframework.data.aerospike.annotations.AerospikeVersion;
+
+import com.aerospike.client.query.IndexType;
+
+/**
+ * Versioned entity of the tests run against the in-memory stand-in.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+@AerospikeEntity(nameSpace = "test", setName = "person")
+public class Person implements Serializable {
+	@AerospikeKey
+	private int		id;
+	private String	name;
+	@AerospikeIndex(name = "person_age", indexType = IndexType.NUMERIC)
+	private int		age;
+	private String	city;
+	private long	visits;
+	@AerospikeVersion
+	private int		version;
+
+	public Person() {
+	}
+
+	public Person(int id, String name, int age, String city) {
+		this.id = id;
+		this.name = name;
+		this.age = age;
+		this.city = city;
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public void setId(int id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public int getAge() {
+		return age;
+	}
+
+	public void setAge(int age) {
+		this.age = age;
+	}
+
+	public String getCity() {
+		return city;
+	}
+
+	public void setCity(String city) {
+		this.city = city;
+	}
+
+	public long getVisits() {
+		return visits;
+	}
+
+	public void setVisits(long visits) {
+		this.visits = visits;
+	}
+
+	public int getVersion() {
+		return version;
+	}
+
+	public void setVersion(int version) {
+		this.version = version;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("Person [id=").append(id).append(", name=").append(name).append(", age=").append(age).append(", city=").append(city)
+				.append(", visits=").append(visits).append(", version=").append(version).append("]");
+		return builder.toString();
+	}
+}
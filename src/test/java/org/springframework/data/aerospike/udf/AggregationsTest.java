@@ -0,0 +1,134 @@
+/*
+ *   Copyright (C) 2014-2015 the original author or authors.
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License as published by
+ *   the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with this program.  If not, see <http://www.gnu.org/licenses/>.      
+ */
+package org.springframework.data.aerospike.udf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+import junit.framework.TestCase;
+
+import org.luaj.vm2.Globals;
+import org.luaj.vm2.LuaTable;
+import org.luaj.vm2.LuaValue;
+import org.luaj.vm2.lib.jse.JsePlatform;
+
+/**
+ * Runs the built-in aggregations of udf/aggregations.lua on LuaJ with the
+ * stream stand-in of udf/stream.lua.
+ *
+ * @author fanendra
+ * @createdOn 19-Oct-2026
+ * @since
+ */
+public class AggregationsTest extends TestCase {
+	private Globals	globals;
+
+	@Override
+	protected void setUp() throws Exception {
+		globals = JsePlatform.standardGlobals();
+		load("udf/stream.lua");
+		load("udf/aggregations.lua");
+	}
+
+	public void testCount() {
+		LuaTable results = aggregate("count", records(person("a", 10), person("b", 20), person("c", 30)));
+		assertEquals(1, results.length());
+		assertEquals(3, results.get(1).toint());
+	}
+
+	public void testCountOfNoRecords() {
+		assertEquals(0, aggregate("count", records()).length());
+	}
+
+	public void testSumSkipsRecordsWithoutBin() {
+		LuaTable results = aggregate("sum", records(person("a", 10), person("b", 20), person("c", null), person("d", 5)), "age");
+		assertEquals(35, results.get(1).toint());
+	}
+
+	public void testMin() {
+		LuaTable results = aggregate("min", records(person("a", 10), person("b", 4), person("c", null), person("d", 7)), "age");
+		assertEquals(4, results.get(1).toint());
+	}
+
+	public void testMax() {
+		LuaTable results = aggregate("max", records(person("a", 10), person("b", 40), person("c", null), person("d", 7)), "age");
+		assertEquals(40, results.get(1).toint());
+	}
+
+	public void testMinOfNoValues() {
+		assertEquals(0, aggregate("min", records(person("a", null)), "age").length());
+	}
+
+	public void testGroupByMergesNodes() {
+		LuaTable results = aggregate("group_by", records(person("a", 10), person("b", 20), person("a", 30), person("a", null), person(null, 50)),
+				"name");
+		assertEquals(1, results.length());
+		LuaValue groups = results.get(1);
+		assertEquals(3, groups.get("a").toint());
+		assertEquals(1, groups.get("b").toint());
+		// Records without the bin are not grouped
+		int keys = 0;
+		for (LuaValue key = groups.next(LuaValue.NIL).arg1(); !key.isnil(); key = groups.next(key).arg1()) {
+			keys++;
+		}
+		assertEquals(2, keys);
+	}
+
+	/**
+	 * Calls the aggregation with the stream of the given records.
+	 *
+	 * @param function
+	 * @param records
+	 * @param bin
+	 *            passed to the aggregation when not null.
+	 * @return values left in the stream by the aggregation.
+	 */
+	private LuaTable aggregate(String function, LuaValue records, String... bin) {
+		LuaValue stream = globals.get("records").call(records);
+		LuaValue result = bin.length == 0 ? globals.get(function).call(stream) : globals.get(function).call(stream, LuaValue.valueOf(bin[0]));
+		return globals.get("results").call(result).checktable();
+	}
+
+	private LuaValue records(LuaValue... records) {
+		return LuaValue.listOf(records);
+	}
+
+	private LuaValue person(String name, Integer age) {
+		LuaTable record = new LuaTable();
+		if (name != null) {
+			record.set("name", name);
+		}
+		if (age != null) {
+			record.set("age", age);
+		}
+		return record;
+	}
+
+	private void load(String resource) throws IOException {
+		InputStream in = getClass().getClassLoader().getResourceAsStream(resource);
+		assertNotNull("Missing resource: " + resource, in);
+		Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+		try {
+			globals.load(reader, resource).call();
+		} finally {
+			reader.close();
+		}
+	}
+}
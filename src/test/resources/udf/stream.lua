@@ -0,0 +1,117 @@
+-- Stand-in of the aerospike stream and map types for running stream UDFs
+-- outside a cluster. Operations are applied eagerly on lists of values.
+-- Records are spread over two nodes, aggregate yields one value per node
+-- and reduce merges them as the client does with the values of the nodes.
+
+local Stream = {}
+Stream.__index = Stream
+
+local function stream_of(nodes)
+	return setmetatable({ nodes = nodes }, Stream)
+end
+
+local function each_node(stream, apply)
+	local nodes = {}
+	for i, values in ipairs(stream.nodes) do
+		nodes[i] = apply(values)
+	end
+	return stream_of(nodes)
+end
+
+function Stream:filter(test)
+	return each_node(self, function(values)
+		local result = {}
+		for _, value in ipairs(values) do
+			if test(value) then
+				result[#result + 1] = value
+			end
+		end
+		return result
+	end)
+end
+
+function Stream:map(transform)
+	return each_node(self, function(values)
+		local result = {}
+		for i, value in ipairs(values) do
+			result[i] = transform(value)
+		end
+		return result
+	end)
+end
+
+function Stream:aggregate(initial, accumulate)
+	return each_node(self, function(values)
+		if #values == 0 then
+			return {}
+		end
+		-- Every node accumulates on its own copy of the initial value
+		local result = initial
+		if type(initial) == "table" then
+			result = {}
+			for key, value in pairs(initial) do
+				result[key] = value
+			end
+		end
+		for _, value in ipairs(values) do
+			result = accumulate(result, value)
+		end
+		return { result }
+	end)
+end
+
+function Stream:reduce(merge)
+	local result
+	for _, values in ipairs(self.nodes) do
+		for _, value in ipairs(values) do
+			if result == nil then
+				result = value
+			else
+				result = merge(result, value)
+			end
+		end
+	end
+	return stream_of({ { result } })
+end
+
+-- Values left in the stream after the last operation.
+function results(stream)
+	local result = {}
+	for _, values in ipairs(stream.nodes) do
+		for _, value in ipairs(values) do
+			result[#result + 1] = value
+		end
+	end
+	return result
+end
+
+-- Stream of the given records spread over two nodes.
+function records(list)
+	local nodes = { {}, {} }
+	for i, rec in ipairs(list) do
+		local node = nodes[i % 2 + 1]
+		node[#node + 1] = rec
+	end
+	return stream_of(nodes)
+end
+
+map = setmetatable({}, {
+	__call = function()
+		return {}
+	end
+})
+
+function map.merge(map1, map2, merge)
+	local result = {}
+	for key, value in pairs(map1) do
+		result[key] = value
+	end
+	for key, value in pairs(map2) do
+		if result[key] == nil then
+			result[key] = value
+		else
+			result[key] = merge(result[key], value)
+		end
+	end
+	return result
+end